@@ -3,8 +3,15 @@ package com.whooa.blog;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.whooa.blog.comment.property.CommentBufferProperty;
+import com.whooa.blog.comment.property.CommentStreamProperty;
 import com.whooa.blog.file.property.FileProperty;
+import com.whooa.blog.post.property.PostCacheProperty;
+import com.whooa.blog.user.property.PasswordHashingProperty;
+import com.whooa.blog.user.property.SignInLimitProperty;
+import com.whooa.blog.user.property.UserCacheProperty;
 
 /*
  * @SpringBootApplication 어노테이션은 다음 3개의 어노테이션을 활성화한다.
@@ -13,10 +20,18 @@ import com.whooa.blog.file.property.FileProperty;
  * 3. @Configuration
  * 
  * @EnableConfigurationProperties 어노테이션은 ConfigurationProperties 기능을 활성화한다.
+ * @EnableScheduling 어노테이션은 @Scheduled 어노테이션이 지정된 메서드를 주기적으로 실행한다.
  */
 @EnableConfigurationProperties({
-	FileProperty.class
+	CommentBufferProperty.class,
+	CommentStreamProperty.class,
+	FileProperty.class,
+	PasswordHashingProperty.class,
+	PostCacheProperty.class,
+	SignInLimitProperty.class,
+	UserCacheProperty.class
 })
+@EnableScheduling
 @SpringBootApplication
 public class WhooaBlogApplication {
 
@@ -1,9 +1,13 @@
 package com.whooa.blog.admin.controller;
 
+import java.io.InputStream;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -13,6 +17,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.whooa.blog.admin.service.AdminPostService;
 import com.whooa.blog.common.api.ApiResponse;
 import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.CurrentUser;
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.post.dto.PostDto.PostImportResponse;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 
@@ -47,6 +54,20 @@ public class AdminPostController {
 		return ApiResponse.handleSuccess(Code.NO_CONTENT.getCode(), Code.NO_CONTENT.getMessage(), null, new String[] {"포스트를 삭제했습니다."});
 	}
 	
+	@Operation(
+		summary = "포스트 대량 가져오기(관리자)",
+		description = "한 줄에 포스트 하나({\"categoryName\", \"content\", \"title\"})를 담은 NDJSON 스트림을 가져오고 줄 번호별 오류를 반환한다. 포스트의 작성자는 로그인한 관리자이다."
+	)
+	@SecurityRequirement(
+		name = "JWT Cookie Authentication"
+	)
+	/* InputStream 매개변수는 요청 본문을 메모리에 올리지 않고 스트림으로 읽는다. */
+	@ResponseStatus(value = HttpStatus.OK)
+	@PostMapping(value = "/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE })
+	public ApiResponse<PostImportResponse> importPosts(InputStream inputStream, @CurrentUser UserDetailsImpl userDetailsImpl) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), adminPostService.importPosts(inputStream, userDetailsImpl), new String[] {"포스트를 가져왔습니다."});
+	}
+	
 	@Operation(
 		summary = "포스트 수정(관리자)"
 	)
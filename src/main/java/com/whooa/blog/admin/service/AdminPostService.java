@@ -1,11 +1,17 @@
 package com.whooa.blog.admin.service;
 
+import java.io.InputStream;
+
 import org.springframework.web.multipart.MultipartFile;
 
+import com.whooa.blog.common.security.UserDetailsImpl;
+
+import com.whooa.blog.post.dto.PostDto.PostImportResponse;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 
 public interface AdminPostService {
 	public abstract void delete(Long id);
+	public abstract PostImportResponse importPosts(InputStream inputStream, UserDetailsImpl userDetailsImpl);
 	public abstract PostResponse update(Long id, PostUpdateRequest postUpdate, MultipartFile[] uploadFiles);
 }
\ No newline at end of file
@@ -1,16 +1,20 @@
 package com.whooa.blog.admin.service.impl;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.whooa.blog.admin.service.AdminCommentService;
+import com.whooa.blog.comment.buffer.CommentBuffer;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.comment.entity.CommentEntity;
 import com.whooa.blog.comment.exception.CommentNotBelongingToPostException;
 import com.whooa.blog.comment.exception.CommentNotFoundException;
 import com.whooa.blog.comment.mapper.CommentMapper;
+import com.whooa.blog.comment.repository.CommentCountRepository;
 import com.whooa.blog.comment.repository.CommentRepository;
 import com.whooa.blog.common.code.Code;
+import com.whooa.blog.post.cache.PostCache;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.repository.PostRepository;
@@ -18,19 +22,31 @@ import com.whooa.blog.util.StringUtil;
 
 @Service
 public class AdminCommentServiceImpl implements AdminCommentService {
+	private CommentBuffer commentBuffer;
 	private CommentRepository commentRepository;
+	private CommentCountRepository commentCountRepository;
 	private PostRepository postRepository;
+	private PostCache postCache;
 
-	public AdminCommentServiceImpl(CommentRepository commentRepository, PostRepository postRepository) {
+	public AdminCommentServiceImpl(CommentBuffer commentBuffer, CommentRepository commentRepository, CommentCountRepository commentCountRepository, PostRepository postRepository, PostCache postCache) {
+		this.commentBuffer = commentBuffer;
 		this.commentRepository = commentRepository;
+		this.commentCountRepository = commentCountRepository;
 		this.postRepository = postRepository;
+		this.postCache = postCache;
 	}
 
+	@Transactional
 	@Override
 	public void delete(Long id, Long postId) {
 		CommentEntity commentEntity;
 		PostEntity postEntity;
 		
+		/* 버퍼 모드에서는 방금 생성한 댓글도 찾을 수 있도록 트랜잭션이 처음 읽기 전에 버퍼에 남은 댓글을 먼저 반영한다. */
+		if (commentBuffer.isEnabled()) {
+			commentBuffer.awaitWritten(id);
+		}
+		
 		postEntity = postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 		commentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
 		
@@ -39,15 +55,28 @@ public class AdminCommentServiceImpl implements AdminCommentService {
 		}
 		
 		commentRepository.delete(commentEntity);
+		commentCountRepository.increaseCommentCount(postId, -1);
+		
+		if (commentEntity.getRootId() != null) {
+			commentCountRepository.increaseReplyCount(commentEntity.getRootId(), -1);
+		}
 		
+		/* 포스트 상세 응답은 댓글 목록을 포함하기 때문에 댓글이 바뀌면 포스트 캐시를 무효화한다. */
+		postCache.invalidate(postId);
 	}
 
+	@Transactional
 	@Override
 	public CommentResponse update(Long id, Long postId, CommentUpdateRequest commentUpdate) {
 		CommentEntity commentEntity;
+		CommentResponse comment;
 		String content;
 		PostEntity postEntity;
 		
+		if (commentBuffer.isEnabled()) {
+			commentBuffer.awaitWritten(id);
+		}
+		
 		postEntity = postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 		commentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
 
@@ -61,6 +90,10 @@ public class AdminCommentServiceImpl implements AdminCommentService {
 			commentEntity.content(content);
 		}
 		
-		return CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		comment = CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		commentCountRepository.touchComments(postId);
+		postCache.invalidate(postId);
+		
+		return comment;
 	}
 }
\ No newline at end of file
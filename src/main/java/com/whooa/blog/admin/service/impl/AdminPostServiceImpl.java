@@ -1,41 +1,100 @@
 package com.whooa.blog.admin.service.impl;
 
-import java.util.Arrays;
-
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.whooa.blog.admin.service.AdminPostService;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
+import com.whooa.blog.category.registry.CategoryRegistry;
 import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.category.repository.CategorySummaryRepository;
 import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.file.service.FileService;
 import com.whooa.blog.file.value.File;
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.counter.PostViewCounter;
+import com.whooa.blog.post.dto.PostDto.PostCreateRequest;
+import com.whooa.blog.post.dto.PostDto.PostImportResponse;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
+import com.whooa.blog.post.exception.PostNotImportedException;
 import com.whooa.blog.post.mapper.PostMapper;
 import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.post.search.PostSearchIndex;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.util.StringUtil;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 @Service
 public class AdminPostServiceImpl implements AdminPostService {
 	private PostRepository postRepository;
 	private CategoryRepository categoryRepository;
+	private CategoryRegistry categoryRegistry;
+	private CategorySummaryRepository categorySummaryRepository;
 	private FileService fileService;
+	private PostCache postCache;
+	private PostViewCounter postViewCounter;
+	private PostSearchIndex postSearchIndex;
+	private UserRepository userRepository;
+	private EntityManager entityManager;
+	private TransactionTemplate transactionTemplate;
+	private Validator validator;
+	private ObjectMapper objectMapper;
+	
+	/* 대량 가져오기에서 하나의 트랜잭션으로 저장하는 행의 개수. 메모리에는 청크 하나만 존재한다. */
+	private static final int CHUNK_SIZE = 500;
+	/* 대량 가져오기에서 한 줄의 최대 길이(문자). 본문(2000자)과 제목(300자)을 이스케이프해도 충분하다. */
+	private static final int MAX_LINE_LENGTH = 16 * 1024;
+	private static final int END_OF_STREAM = -1;
+	private static final int LINE_TOO_LONG = -2;
 
-	public AdminPostServiceImpl(PostRepository postRepository, CategoryRepository categoryRepository,
-			FileService fileService) {
+	public AdminPostServiceImpl(PostRepository postRepository, CategoryRepository categoryRepository, CategoryRegistry categoryRegistry, CategorySummaryRepository categorySummaryRepository,
+			FileService fileService, PostCache postCache, PostViewCounter postViewCounter, PostSearchIndex postSearchIndex, UserRepository userRepository,
+			EntityManager entityManager, PlatformTransactionManager transactionManager, Validator validator, ObjectMapper objectMapper) {
 		this.postRepository = postRepository;
 		this.categoryRepository = categoryRepository;
+		this.categoryRegistry = categoryRegistry;
+		this.categorySummaryRepository = categorySummaryRepository;
 		this.fileService = fileService;
+		this.postCache = postCache;
+		this.postViewCounter = postViewCounter;
+		this.postSearchIndex = postSearchIndex;
+		this.userRepository = userRepository;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.validator = validator;
+		this.objectMapper = objectMapper;
 	}
 
+	@Transactional
 	@Override
 	public void delete(Long id) {
 		PostEntity postEntity;
@@ -43,22 +102,233 @@ public class AdminPostServiceImpl implements AdminPostService {
 		postEntity = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 				
 		postRepository.delete(postEntity);
+		categorySummaryRepository.removePost(postEntity.getCategory().getId(), id);
+		postCache.invalidate(id);
+		postViewCounter.remove(id);
+		postSearchIndex.remove(id);
 	}
 
+	/*
+	 * NDJSON 스트림을 한 줄씩 읽어서 CHUNK_SIZE개마다 트랜잭션 하나로 저장한다.
+	 * 1. JSON 형식과 검증 오류는 해당 줄만 실패로 기록하고 계속 진행한다.
+	 * 2. 카테고리 이름은 청크마다 처음 보는 이름만 IN 절 쿼리 하나로 조회하고 가져오기가 끝날 때까지 재사용한다.
+	 * 3. 청크의 트랜잭션이 실패하면 청크 전체가 롤백되기 때문에 행마다 다시 저장해서 실패한 행만 기록한다.
+	 * 4. MAX_LINE_LENGTH 문자를 넘는 줄은 버퍼에 담지 않고 버리며 실패로 기록한다.
+	 * 웹 요청에서는 OSIV(open-in-view) 때문에 청크의 트랜잭션이 요청 범위의 영속성 컨텍스트에 참여하고 커밋해도 영속성 컨텍스트는 비워지지 않는다.
+	 * 청크를 저장할 때마다 영속성 컨텍스트를 비우기 때문에 입력의 크기와 상관없이 메모리 사용량이 일정하다.
+	 */
+	@Override
+	public PostImportResponse importPosts(InputStream inputStream, UserDetailsImpl userDetailsImpl) {
+		PostImportResponse postImport;
+		Map<String, Long> categoryIds;
+		List<PostImportRow> chunk;
+		PostCreateRequest postCreate;
+		Set<ConstraintViolation<PostCreateRequest>> violations;
+		StringBuilder buffer;
+		String line;
+		long lineNo;
+		int length;
+		
+		postImport = new PostImportResponse();
+		categoryIds = new HashMap<String, Long>();
+		chunk = new ArrayList<PostImportRow>(CHUNK_SIZE);
+		buffer = new StringBuilder();
+		lineNo = 0;
+		
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			while ((length = readLine(reader, buffer)) != END_OF_STREAM) {
+				lineNo++;
+				
+				if (length == LINE_TOO_LONG) {
+					postImport.read();
+					postImport.fail(lineNo, "줄이 너무 깁니다.");
+					continue;
+				}
+				
+				line = buffer.toString();
+				
+				if (line.isBlank()) {
+					continue;
+				}
+				
+				postImport.read();
+				
+				try {
+					postCreate = objectMapper.readValue(line, PostCreateRequest.class);
+				} catch (JsonProcessingException exception) {
+					postImport.fail(lineNo, "JSON 형식이 올바르지 않습니다.");
+					continue;
+				}
+				
+				violations = validator.validate(postCreate);
+				
+				if (!violations.isEmpty()) {
+					postImport.fail(lineNo, violations.iterator().next().getMessage());
+					continue;
+				}
+				
+				chunk.add(new PostImportRow(lineNo, postCreate));
+				
+				if (chunk.size() == CHUNK_SIZE) {
+					importChunk(chunk, categoryIds, userDetailsImpl.getId(), postImport);
+					chunk.clear();
+				}
+			}
+		} catch (IOException exception) {
+			throw new PostNotImportedException(Code.POST_NOT_IMPORTED, new String[] {"NDJSON 스트림을 읽을 수 없습니다."});
+		}
+		
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, categoryIds, userDetailsImpl.getId(), postImport);
+		}
+		
+		return postImport;
+	}
+	
+	/*
+	 * BufferedReader.readLine() 메서드는 줄의 길이를 제한하지 않기 때문에 줄바꿈이 없는 거대한 줄을 전부 메모리에 읽는다.
+	 * 최대 MAX_LINE_LENGTH 문자까지만 buffer에 담고 넘는 부분은 줄바꿈까지 읽고 버린다.
+	 * 줄의 길이를 반환하고 줄이 너무 길면 LINE_TOO_LONG, 스트림이 끝나면 END_OF_STREAM을 반환한다.
+	 */
+	private static int readLine(Reader reader, StringBuilder buffer) throws IOException {
+		boolean tooLong;
+		int ch;
+		
+		buffer.setLength(0);
+		tooLong = false;
+		
+		while ((ch = reader.read()) != -1 && ch != '\n') {
+			if (buffer.length() < MAX_LINE_LENGTH) {
+				buffer.append((char) ch);
+			} else {
+				tooLong = true;
+			}
+		}
+		
+		if (tooLong) {
+			return LINE_TOO_LONG;
+		}
+		
+		if (ch == -1 && buffer.length() == 0) {
+			return END_OF_STREAM;
+		}
+		
+		if (buffer.length() > 0 && buffer.charAt(buffer.length() - 1) == '\r') {
+			buffer.setLength(buffer.length() - 1);
+		}
+		
+		return buffer.length();
+	}
+	
+	private void importChunk(List<PostImportRow> chunk, Map<String, Long> categoryIds, Long userId, PostImportResponse postImport) {
+		List<String> names;
+		List<PostImportRow> rows;
+		List<PostEntity> postEntities;
+		
+		names = chunk.stream()
+				.map((row) -> row.postCreate.getCategoryName())
+				.filter((name) -> !categoryIds.containsKey(name))
+				.distinct()
+				.collect(Collectors.toList());
+		
+		if (!names.isEmpty()) {
+			/* 존재하지 않는 카테고리도 null로 기록해서 다음 청크에서 다시 조회하지 않는다. */
+			names.forEach((name) -> categoryIds.put(name, null));
+			categoryRepository.findByNameIn(names).forEach((categoryEntity) -> categoryIds.put(categoryEntity.getName(), categoryEntity.getId()));
+		}
+		
+		rows = new ArrayList<PostImportRow>(chunk.size());
+		
+		for (PostImportRow row : chunk) {
+			if (categoryIds.get(row.postCreate.getCategoryName()) == null) {
+				postImport.fail(row.line, "카테고리가 존재하지 않습니다.");
+			} else {
+				rows.add(row);
+			}
+		}
+		
+		if (rows.isEmpty()) {
+			return;
+		}
+		
+		try {
+			postEntities = transactionTemplate.execute((status) -> savePosts(rows, categoryIds, userId));
+			
+			postImport.succeed(postEntities.size());
+			postEntities.forEach((postEntity) -> postSearchIndex.index(postEntity.getId(), postEntity.getTitle(), postEntity.getContent()));
+		} catch (RuntimeException exception) {
+			for (PostImportRow row : rows) {
+				try {
+					postEntities = transactionTemplate.execute((status) -> savePosts(List.of(row), categoryIds, userId));
+					
+					postImport.succeed(postEntities.size());
+					postEntities.forEach((postEntity) -> postSearchIndex.index(postEntity.getId(), postEntity.getTitle(), postEntity.getContent()));
+				} catch (RuntimeException rowException) {
+					postImport.fail(row.line, "포스트를 저장할 수 없습니다.");
+				}
+			}
+		}
+	}
+	
+	/*
+	 * 아이디가 null인 엔티티는 merge() 메서드가 아닌 persist() 메서드로 저장되기 때문에 행마다 SELECT 문장이 실행되지 않는다.
+	 * 카테고리와 사용자는 프록시로 참조해서 조회하지 않는다.
+	 * 카테고리 요약은 청크의 포스트를 카테고리마다 모아서 카테고리 하나에 UPSERT 문장 하나로 갱신한다.
+	 * 저장한 포스트와 카테고리, 사용자 프록시가 요청이 끝날 때까지 영속성 컨텍스트에 남지 않도록 플러시하고 비운다. 반환한 엔티티는 준영속 상태이다.
+	 */
+	private List<PostEntity> savePosts(List<PostImportRow> rows, Map<String, Long> categoryIds, Long userId) {
+		UserEntity userEntity;
+		List<PostEntity> postEntities;
+		Map<Long, List<PostEntity>> categoryPosts;
+		
+		userEntity = userRepository.getReferenceById(userId);
+		postEntities = new ArrayList<PostEntity>(rows.size());
+		
+		for (PostImportRow row : rows) {
+			PostEntity postEntity = new PostEntity(null, row.postCreate.getContent(), row.postCreate.getTitle());
+			
+			postEntity.setCategory(categoryRepository.getReferenceById(categoryIds.get(row.postCreate.getCategoryName())));
+			postEntity.setUser(userEntity);
+			postEntities.add(postEntity);
+		}
+		
+		postEntities = postRepository.saveAll(postEntities);
+		categoryPosts = postEntities.stream().collect(Collectors.groupingBy((postEntity) -> postEntity.getCategory().getId()));
+		
+		categoryPosts.forEach((categoryId, posts) -> {
+			PostEntity latest = posts.stream().max(Comparator.comparing(PostEntity::getId)).get();
+			
+			categorySummaryRepository.addPosts(categoryId, posts.size(), latest.getId(), latest.getTitle());
+		});
+		
+		entityManager.flush();
+		entityManager.clear();
+		
+		return postEntities;
+	}
+
+	/*
+	 * 첨부 파일은 트랜잭션을 시작하기 전에 저장하고 포스트 UPDATE 문장과 카테고리 요약 UPDATE 문장만 하나의 트랜잭션으로 실행한다.
+	 * 포스트는 파일 목록과 함께 조회하기 때문에 준영속 상태에서도 첨부 파일을 추가할 수 있다.
+	 */
 	@Override
 	public PostResponse update(Long id, PostUpdateRequest postUpdate, MultipartFile[] uploadFiles) {
 		CategoryEntity categoryEntity;
-		String categoryName, content, title;
+		String categoryName, content, title, previousTitle;
+		Long previousCategoryId;
 		List<File> files = null;
 		PostResponse post;
 		PostEntity postEntity;
 		
-		postEntity = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
-		categoryEntity = categoryRepository.findByName(postUpdate.getCategoryName()).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
+		postEntity = postRepository.findDetailById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+		categoryEntity = categoryRegistry.findByName(postUpdate.getCategoryName()).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
 
 		categoryName = postUpdate.getCategoryName();
 		content = postUpdate.getTitle();
 		title = postUpdate.getContent();
+		
+		previousCategoryId = postEntity.getCategory().getId();
+		previousTitle = postEntity.getTitle();
 
 		if (StringUtil.notEmpty(categoryName)) {
 			postEntity.category(categoryEntity);
@@ -73,14 +343,40 @@ public class AdminPostServiceImpl implements AdminPostService {
 		}
 
 		if (uploadFiles != null && uploadFiles.length > 0) {
-			files = Arrays.stream(uploadFiles)
-					.map(uploadFile -> fileService.upload(postEntity, uploadFile))
-					.collect(Collectors.toList());
+			files = fileService.uploadAll(postEntity, uploadFiles);
+		}
+		
+		try {
+			post = transactionTemplate.execute((status) -> {
+				PostResponse savedPost = PostMapper.INSTANCE.toDto(postRepository.save(postEntity));
+				
+				if (!previousCategoryId.equals(postEntity.getCategory().getId()) || !previousTitle.equals(savedPost.getTitle())) {
+					categorySummaryRepository.updatePost(previousCategoryId, postEntity.getCategory().getId(), id, savedPost.getTitle());
+				}
+				
+				return savedPost;
+			});
+		} catch (RuntimeException exception) {
+			/* 포스트를 저장하지 못하거나 커밋에 실패하면 이미 저장한 첨부 파일을 삭제한다. */
+			fileService.deleteAll(files);
+			throw exception;
 		}
 		
-		post = PostMapper.INSTANCE.toDto(postRepository.save(postEntity));
 		post.setFiles(files);
 		
+		postCache.invalidate(id);
+		postSearchIndex.index(id, post.getTitle(), post.getContent());
+		
 		return post;
 	}
+	
+	private static class PostImportRow {
+		private long line;
+		private PostCreateRequest postCreate;
+		
+		private PostImportRow(long line, PostCreateRequest postCreate) {
+			this.line = line;
+			this.postCreate = postCreate;
+		}
+	}
 }
\ No newline at end of file
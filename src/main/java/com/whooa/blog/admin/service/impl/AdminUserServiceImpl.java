@@ -11,24 +11,33 @@ import org.springframework.stereotype.Service;
 import com.whooa.blog.admin.service.AdminUserService;
 import com.whooa.blog.common.api.PageResponse;
 import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.jwt.JwtVersionTable;
+import com.whooa.blog.user.cache.UserDetailsCache;
 import com.whooa.blog.user.dto.UserDto.UserAdminUpdateRequest;
 import com.whooa.blog.user.dto.UserDto.UserResponse;
 import com.whooa.blog.user.entity.UserEntity;
 import com.whooa.blog.user.exception.DuplicateUserException;
 import com.whooa.blog.user.exception.UserNotFoundException;
 import com.whooa.blog.user.mapper.UserMapper;
+import com.whooa.blog.user.password.PasswordHasher;
 import com.whooa.blog.user.repository.UserRepository;
+import com.whooa.blog.user.type.UserRole;
 import com.whooa.blog.util.PaginationUtil;
-import com.whooa.blog.util.PasswordUtil;
 import com.whooa.blog.util.StringUtil;
 import com.whooa.blog.util.UserRoleMapper;
 
 @Service
 public class AdminUserServiceImpl implements AdminUserService {
 	private UserRepository userRepository;
+	private UserDetailsCache userDetailsCache;
+	private JwtVersionTable jwtVersionTable;
+	private PasswordHasher passwordHasher;
 
-	public AdminUserServiceImpl(UserRepository userRepository) {
+	public AdminUserServiceImpl(UserRepository userRepository, UserDetailsCache userDetailsCache, JwtVersionTable jwtVersionTable, PasswordHasher passwordHasher) {
 		this.userRepository = userRepository;
+		this.userDetailsCache = userDetailsCache;
+		this.jwtVersionTable = jwtVersionTable;
+		this.passwordHasher = passwordHasher;
 	}
 
 	@Override
@@ -36,9 +45,11 @@ public class AdminUserServiceImpl implements AdminUserService {
 		UserEntity userEntity;
 		
 		userEntity = userRepository.findByIdAndActiveTrue(id).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"아이디에 해당하는 사용자가 존재하지 않습니다."}));
-		userEntity.active(false);
+		userEntity.active(false).tokenVersion(userEntity.getTokenVersion() + 1);
 		
 		userRepository.save(userEntity);
+		userDetailsCache.invalidate(userEntity.getEmail());
+		jwtVersionTable.update(id, userEntity.getTokenVersion());
 	}
 
 	@Override
@@ -76,10 +87,14 @@ public class AdminUserServiceImpl implements AdminUserService {
 
 	@Override
 	public UserResponse update(Long id, UserAdminUpdateRequest userAdminUpdate) {
-		String email, name, password, userRole;
+		String email, name, password, userRole, previousEmail;
 		UserEntity userEntity;
+		UserResponse user;
+		UserRole previousUserRole;
 		
 		userEntity = userRepository.findByIdAndActiveTrue(id).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"아이디에 해당하는 사용자가 존재하지 않습니다."}));
+		previousEmail = userEntity.getEmail();
+		previousUserRole = userEntity.getUserRole();
 
 		email = userAdminUpdate.getEmail();
 		name = userAdminUpdate.getName();
@@ -99,13 +114,23 @@ public class AdminUserServiceImpl implements AdminUserService {
 		}
 		
 		if (StringUtil.notEmpty(password)) {
-			userEntity.password(PasswordUtil.hash(password));
+			userEntity.password(passwordHasher.encode(password));
 		}
 		
 		if (!StringUtil.notEmpty(userRole)) {
 			userEntity.userRole(UserRoleMapper.map(userRole));
 		}
 		
-		return UserMapper.INSTANCE.toDto(userRepository.save(userEntity));
+		/* 이름만 바뀐 경우를 제외하고 이전에 발급한 접근 토큰을 폐기한다. */
+		if (StringUtil.notEmpty(email) || StringUtil.notEmpty(password) || previousUserRole != userEntity.getUserRole()) {
+			userEntity.tokenVersion(userEntity.getTokenVersion() + 1);
+		}
+		
+		user = UserMapper.INSTANCE.toDto(userRepository.save(userEntity));
+		/* 역할, 비밀번호, 이메일이 바뀐 인증 주체를 캐시에서 제거해서 다음 요청부터 바뀐 정보로 인증한다. */
+		userDetailsCache.invalidate(previousEmail);
+		jwtVersionTable.update(id, userEntity.getTokenVersion());
+		
+		return user;
 	}
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.whooa.blog.category.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,13 +12,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.whooa.blog.category.dto.CategoryDto.CategoryCreateRequest;
 import com.whooa.blog.category.dto.CategoryDto.CategoryResponse;
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
 import com.whooa.blog.category.dto.CategoryDto.CategoryUpdateRequest;
 import com.whooa.blog.category.service.CategoryService;
 import com.whooa.blog.common.api.ApiResponse;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.util.PaginationUtil;
 
@@ -65,11 +70,23 @@ public class CategoryController {
 	}	
 
 	@Operation(
-		summary = "카테고리 조회"
+		summary = "카테고리 조회",
+		description = "ETag와 Last-Modified 헤더를 반환하고 If-None-Match 혹은 If-Modified-Since 헤더가 일치하면 본문 없이 304를 반환한다."
 	)
-	@ResponseStatus(value = HttpStatus.OK)
+	/*
+	 * 조건부 GET 요청은 검증자만 조회해서 비교하고 일치하면 본문을 만들지 않고 304(Not Modified)를 반환한다.
+	 * checkNotModified() 메서드가 304 상태 코드를 설정하기 때문에 @ResponseStatus 어노테이션을 사용하지 않는다(200이 기본값이다).
+	 */
 	@GetMapping("/{id}")
-	public ApiResponse<CategoryResponse> getCategory(@PathVariable Long id) {
+	public ApiResponse<CategoryResponse> getCategory(@PathVariable Long id, WebRequest webRequest) {
+		ResourceVersion version;
+		
+		version = categoryService.findVersion(id);
+		
+		if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+			return null;
+		}
+		
 		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), categoryService.find(id), new String[] {"카테고리를 조회했습니다."});
 	}
 
@@ -82,6 +99,16 @@ public class CategoryController {
 		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), categoryService.findAll(paginationUtil), new String[] {"카테고리 목록을 조회했습니다."});
 	}
 
+	@Operation(
+		summary = "카테고리 요약 목록 조회",
+		description = "모든 카테고리의 포스트 개수와 최신 포스트 제목을 반환한다."
+	)	
+	@ResponseStatus(value = HttpStatus.OK)
+	@GetMapping("/summaries")
+	public ApiResponse<List<CategorySummaryResponse>> getCategorySummaries() {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), categoryService.findSummaries(), new String[] {"카테고리 요약 목록을 조회했습니다."});
+	}
+
 	@Operation(
 		summary = "카테고리 수정"
 	)
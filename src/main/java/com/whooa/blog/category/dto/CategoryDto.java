@@ -125,4 +125,89 @@ public class CategoryDto {
 			return "CategoryResponse [id=" + id + ", name=" + name + "]";
 		}
 	}
+	
+	@Schema(
+		description = "카테고리 요약 응답 DTO"
+	)	
+	public static class CategorySummaryResponse {
+		@Schema(
+			description = "카테고리 아이디"
+		)
+		private Long id;
+		
+		@Schema(
+			description = "카테고리 이름"
+		)
+		private String name;
+		
+		@Schema(
+			description = "포스트 개수"
+		)
+		private long postCount;
+		
+		@Schema(
+			description = "최신 포스트 아이디"
+		)
+		private Long latestPostId;
+		
+		@Schema(
+			description = "최신 포스트 제목"
+		)
+		private String latestPostTitle;
+		
+		public CategorySummaryResponse(Long id, String name, long postCount, Long latestPostId, String latestPostTitle) {
+			this.id = id;
+			this.name = name;
+			this.postCount = postCount;
+			this.latestPostId = latestPostId;
+			this.latestPostTitle = latestPostTitle;
+		}
+		
+		public CategorySummaryResponse() {}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getPostCount() {
+			return postCount;
+		}
+
+		public void setPostCount(long postCount) {
+			this.postCount = postCount;
+		}
+
+		public Long getLatestPostId() {
+			return latestPostId;
+		}
+
+		public void setLatestPostId(Long latestPostId) {
+			this.latestPostId = latestPostId;
+		}
+
+		public String getLatestPostTitle() {
+			return latestPostTitle;
+		}
+
+		public void setLatestPostTitle(String latestPostTitle) {
+			this.latestPostTitle = latestPostTitle;
+		}
+
+		@Override
+		public String toString() {
+			return "CategorySummaryResponse [id=" + id + ", name=" + name + ", postCount=" + postCount + ", latestPostId=" + latestPostId + ", latestPostTitle=" + latestPostTitle + "]";
+		}
+	}
 }
\ No newline at end of file
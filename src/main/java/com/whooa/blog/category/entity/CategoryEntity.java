@@ -27,7 +27,7 @@ public class CategoryEntity extends CoreEntity {
 	}
 
 	public CategoryEntity() {
-		super(-1L);
+		super(null);
 	}
 	
 	public CategoryEntity name(String name) {
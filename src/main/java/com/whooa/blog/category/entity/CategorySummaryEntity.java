@@ -0,0 +1,79 @@
+package com.whooa.blog.category.entity;
+
+import com.whooa.blog.common.entity.CoreEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+/*
+ * 카테고리마다 포스트 개수와 최신 포스트(아이디가 가장 큰 포스트)를 집계한다. 카테고리 요약 목록을 조회할 때 post 테이블을 읽지 않는다.
+ * 행은 포스트를 생성, 수정, 삭제할 때 CategorySummaryRepository 클래스가 category_id 유일 인덱스에 대해 UPSERT 문장으로 생성하거나 갱신한다.
+ */
+@Table(name = "category_summary", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_category_summary_category", columnNames = {"category_id"})
+})
+public class CategorySummaryEntity extends CoreEntity {
+	@Column(name = "category_id", nullable = false)
+	private Long categoryId;
+
+	@Column(name = "post_count", nullable = false)
+	private long postCount;
+
+	@Column(name = "latest_post_id")
+	private Long latestPostId;
+
+	@Column(name = "latest_post_title", length = 300)
+	private String latestPostTitle;
+
+	public CategorySummaryEntity() {
+		super(null);
+	}
+
+	public Long getId() {
+		return super.getId();
+	}
+
+	public void setId(Long id) {
+		super.setId(id);
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public long getPostCount() {
+		return postCount;
+	}
+
+	public void setPostCount(long postCount) {
+		this.postCount = postCount;
+	}
+
+	public Long getLatestPostId() {
+		return latestPostId;
+	}
+
+	public void setLatestPostId(Long latestPostId) {
+		this.latestPostId = latestPostId;
+	}
+
+	public String getLatestPostTitle() {
+		return latestPostTitle;
+	}
+
+	public void setLatestPostTitle(String latestPostTitle) {
+		this.latestPostTitle = latestPostTitle;
+	}
+
+	@Override
+	public String toString() {
+		return "CategorySummaryEntity [id=" + super.getId() + ", categoryId=" + categoryId + ", postCount=" + postCount + ", latestPostId=" + latestPostId + ", latestPostTitle=" + latestPostTitle + "]";
+	}
+}
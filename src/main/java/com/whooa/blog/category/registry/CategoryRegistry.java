@@ -0,0 +1,142 @@
+package com.whooa.blog.category.registry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.whooa.blog.category.entity.CategoryEntity;
+import com.whooa.blog.category.repository.CategoryRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/*
+ * 카테고리 이름과 아이디를 메모리에 보관해서 포스트를 생성하거나 수정할 때 카테고리를 조회하지 않는다.
+ * 카테고리는 개수가 적고 거의 바뀌지 않기 때문에 시작 시 모두 읽는다.
+ *
+ * 읽기는 잠금 없이 volatile 필드의 불변 스냅샷을 사용한다. 쓰기는 스냅샷을 복사해서 바꾼 후 통째로 교체한다(copy-on-write).
+ * 두 맵을 스냅샷 하나에 담기 때문에 읽는 쪽은 항상 서로 일치하는 이름→아이디, 아이디→이름 맵을 본다.
+ *
+ * CategoryService 클래스를 거치지 않고 추가된 카테고리(다른 인스턴스, 직접 삽입한 데이터)는 처음 조회할 때 데이터베이스에서 읽고 등록한다.
+ */
+@Component
+public class CategoryRegistry {
+	private CategoryRepository categoryRepository;
+	private volatile Snapshot snapshot;
+
+	public CategoryRegistry(CategoryRepository categoryRepository) {
+		this.categoryRepository = categoryRepository;
+		this.snapshot = new Snapshot(Map.of(), Map.of());
+	}
+
+	@PostConstruct
+	public void initialize() {
+		refresh();
+	}
+
+	/* 모든 카테고리를 다시 읽어서 스냅샷을 교체한다. */
+	public synchronized void refresh() {
+		List<CategoryEntity> categoryEntities;
+		Map<String, Long> ids;
+		Map<Long, String> names;
+
+		categoryEntities = categoryRepository.findAll();
+		ids = new HashMap<String, Long>();
+		names = new HashMap<Long, String>();
+
+		categoryEntities.forEach((categoryEntity) -> {
+			ids.put(categoryEntity.getName(), categoryEntity.getId());
+			names.put(categoryEntity.getId(), categoryEntity.getName());
+		});
+
+		snapshot = new Snapshot(ids, names);
+	}
+
+	/*
+	 * 이름에 해당하는 카테고리를 아이디와 이름만 채운 준영속 엔티티로 반환한다. 포스트의 외래 키와 응답 DTO에는 아이디와 이름만 필요하기 때문이다.
+	 * 호출마다 새 엔티티를 반환하기 때문에 호출자가 엔티티를 바꿔도 레지스트리에 영향이 없다.
+	 */
+	public Optional<CategoryEntity> findByName(String name) {
+		Long id;
+		CategoryEntity categoryEntity;
+
+		if (name == null) {
+			return Optional.empty();
+		}
+
+		id = snapshot.ids.get(name);
+
+		if (id != null) {
+			return Optional.of(new CategoryEntity(id, name));
+		}
+
+		categoryEntity = categoryRepository.findByName(name).orElse(null);
+
+		if (categoryEntity == null) {
+			return Optional.empty();
+		}
+
+		put(categoryEntity.getId(), categoryEntity.getName());
+
+		return Optional.of(new CategoryEntity(categoryEntity.getId(), categoryEntity.getName()));
+	}
+
+	public Optional<String> findNameById(Long id) {
+		return Optional.ofNullable(snapshot.names.get(id));
+	}
+
+	/* 카테고리를 등록한다. 이름이 바뀐 카테고리는 이전 이름을 제거한다. */
+	public synchronized void put(Long id, String name) {
+		Map<String, Long> ids;
+		Map<Long, String> names;
+		String previous;
+
+		ids = new HashMap<String, Long>(snapshot.ids);
+		names = new HashMap<Long, String>(snapshot.names);
+
+		previous = names.put(id, name);
+
+		if (previous != null) {
+			ids.remove(previous);
+		}
+
+		ids.put(name, id);
+
+		snapshot = new Snapshot(ids, names);
+	}
+
+	public synchronized void remove(Long id) {
+		Map<String, Long> ids;
+		Map<Long, String> names;
+		String previous;
+
+		ids = new HashMap<String, Long>(snapshot.ids);
+		names = new HashMap<Long, String>(snapshot.names);
+
+		previous = names.remove(id);
+
+		if (previous == null) {
+			return;
+		}
+
+		ids.remove(previous);
+
+		snapshot = new Snapshot(ids, names);
+	}
+
+	public int size() {
+		return snapshot.ids.size();
+	}
+
+	private static class Snapshot {
+		private final Map<String, Long> ids;
+		private final Map<Long, String> names;
+
+		private Snapshot(Map<String, Long> ids, Map<Long, String> names) {
+			this.ids = Map.copyOf(ids);
+			this.names = Map.copyOf(names);
+		}
+	}
+}
@@ -1,12 +1,20 @@
 package com.whooa.blog.category.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.whooa.blog.category.entity.CategoryEntity;
 
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>  {
 	public abstract Boolean existsByName(String email);
 	public abstract Optional<CategoryEntity> findByName(String name);
+	public abstract List<CategoryEntity> findByNameIn(Collection<String> names);
+	@Query(value = "SELECT c.updatedAt FROM CategoryEntity c WHERE c.id = :id")
+	public abstract Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 }
\ No newline at end of file
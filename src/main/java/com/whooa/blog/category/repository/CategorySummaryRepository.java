@@ -0,0 +1,84 @@
+package com.whooa.blog.category.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
+
+/*
+ * 카테고리 요약(category_summary)을 포스트 변경마다 증분으로 갱신한다. 카테고리 요약 목록은 SELECT 문장 하나로 조회한다.
+ * JdbcTemplate 클래스는 현재 트랜잭션의 커넥션을 사용하기 때문에 포스트 INSERT/UPDATE/DELETE 문장과 함께 커밋되거나 롤백된다.
+ *
+ * 최신 포스트는 아이디가 가장 큰 포스트이다. 아이디는 AUTO_INCREMENT로 생성되기 때문에 생성 순서와 같다.
+ */
+@Repository
+public class CategorySummaryRepository {
+	/*
+	 * 처음 집계하는 카테고리는 행을 생성하고 이미 집계한 카테고리는 상대적으로 갱신한다.
+	 * MySQL은 SET 절을 왼쪽부터 적용하기 때문에 latest_post_id 열을 바꾸기 전에 latest_post_title 열을 먼저 비교해서 바꾼다.
+	 */
+	private static final String ADD_POSTS = "INSERT INTO category_summary (category_id, post_count, latest_post_id, latest_post_title, created_at, updated_at) VALUES (?, ?, ?, ?, NOW(), NOW()) "
+			+ "ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count), "
+			+ "latest_post_title = IF(latest_post_id IS NULL OR latest_post_id < VALUES(latest_post_id), VALUES(latest_post_title), latest_post_title), "
+			+ "latest_post_id = IF(latest_post_id IS NULL OR latest_post_id < VALUES(latest_post_id), VALUES(latest_post_id), latest_post_id), updated_at = NOW()";
+	private static final String DECREASE_POST_COUNT = "UPDATE category_summary SET post_count = post_count - 1, updated_at = NOW() WHERE category_id = ?";
+	/*
+	 * 제거한 포스트가 최신 포스트인 경우에만 다음 최신 포스트를 (category_id, id) 인덱스로 한 행만 읽어서 교체한다.
+	 * 포스트의 DELETE/UPDATE 문장은 플러시할 때 실행되기 때문에 제거한 포스트는 아이디로 제외한다.
+	 */
+	private static final String REPLACE_LATEST_POST = "UPDATE category_summary s SET "
+			+ "s.latest_post_id = (SELECT p.id FROM post p WHERE p.category_id = s.category_id AND p.id <> ? ORDER BY p.id DESC LIMIT 1), "
+			+ "s.latest_post_title = (SELECT p.title FROM post p WHERE p.category_id = s.category_id AND p.id <> ? ORDER BY p.id DESC LIMIT 1), "
+			+ "s.updated_at = NOW() WHERE s.category_id = ? AND s.latest_post_id = ?";
+	private static final String RENAME_LATEST_POST = "UPDATE category_summary SET latest_post_title = ?, updated_at = NOW() WHERE category_id = ? AND latest_post_id = ?";
+	private static final String DELETE_BY_CATEGORY_ID = "DELETE FROM category_summary WHERE category_id = ?";
+	/* 포스트가 없는 카테고리는 요약 행이 없을 수 있기 때문에 LEFT JOIN으로 읽는다. */
+	private static final String FIND_ALL = "SELECT c.id, c.name, COALESCE(s.post_count, 0) AS post_count, s.latest_post_id, s.latest_post_title FROM category c LEFT JOIN category_summary s ON s.category_id = c.id ORDER BY c.id";
+
+	private JdbcTemplate jdbcTemplate;
+
+	public CategorySummaryRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void addPost(Long categoryId, Long postId, String title) {
+		addPosts(categoryId, 1, postId, title);
+	}
+
+	/* 대량 가져오기는 카테고리마다 포스트 개수와 아이디가 가장 큰 포스트를 모아서 한 번에 반영한다. */
+	public void addPosts(Long categoryId, long count, Long latestPostId, String latestPostTitle) {
+		jdbcTemplate.update(ADD_POSTS, categoryId, count, latestPostId, latestPostTitle);
+	}
+
+	public void removePost(Long categoryId, Long postId) {
+		jdbcTemplate.update(DECREASE_POST_COUNT, categoryId);
+		jdbcTemplate.update(REPLACE_LATEST_POST, postId, postId, categoryId, postId);
+	}
+
+	/* 카테고리가 바뀌면 이전 카테고리에서 제거하고 새 카테고리에 추가한다. 제목만 바뀌면 최신 포스트인 경우에만 제목을 바꾼다. */
+	public void updatePost(Long fromCategoryId, Long toCategoryId, Long postId, String title) {
+		if (fromCategoryId.equals(toCategoryId)) {
+			jdbcTemplate.update(RENAME_LATEST_POST, title, toCategoryId, postId);
+			return;
+		}
+
+		removePost(fromCategoryId, postId);
+		addPost(toCategoryId, postId, title);
+	}
+
+	public void deleteByCategoryId(Long categoryId) {
+		jdbcTemplate.update(DELETE_BY_CATEGORY_ID, categoryId);
+	}
+
+	public List<CategorySummaryResponse> findAll() {
+		return jdbcTemplate.query(FIND_ALL, (resultSet, rowNum) -> new CategorySummaryResponse(
+			resultSet.getLong("id"),
+			resultSet.getString("name"),
+			resultSet.getLong("post_count"),
+			resultSet.getObject("latest_post_id", Long.class),
+			resultSet.getString("latest_post_title")
+		));
+	}
+}
@@ -1,9 +1,13 @@
 package com.whooa.blog.category.service;
 
+import java.util.List;
+
 import com.whooa.blog.category.dto.CategoryDto.CategoryCreateRequest;
 import com.whooa.blog.category.dto.CategoryDto.CategoryResponse;
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
 import com.whooa.blog.category.dto.CategoryDto.CategoryUpdateRequest;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.util.PaginationUtil;
 
 public interface CategoryService {
@@ -11,5 +15,7 @@ public interface CategoryService {
 	public abstract void delete(Long id);
 	public abstract CategoryResponse find(Long id);
 	public abstract PageResponse<CategoryResponse> findAll(PaginationUtil paginationUtil);
+	public abstract List<CategorySummaryResponse> findSummaries();
+	public abstract ResourceVersion findVersion(Long id);
 	public abstract CategoryResponse update(Long id, CategoryUpdateRequest categoryUpdate);
 }
@@ -9,14 +9,18 @@ import org.springframework.stereotype.Service;
 
 import com.whooa.blog.category.dto.CategoryDto.CategoryCreateRequest;
 import com.whooa.blog.category.dto.CategoryDto.CategoryResponse;
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
 import com.whooa.blog.category.dto.CategoryDto.CategoryUpdateRequest;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
 import com.whooa.blog.category.exception.DuplicateCategoryException;
 import com.whooa.blog.category.mapper.CategoryMapper;
+import com.whooa.blog.category.registry.CategoryRegistry;
 import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.category.repository.CategorySummaryRepository;
 import com.whooa.blog.category.service.CategoryService;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.util.StringUtil;
 import com.whooa.blog.util.PaginationUtil;
@@ -24,9 +28,13 @@ import com.whooa.blog.util.PaginationUtil;
 @Service
 public class CategoryServiceImpl implements CategoryService {
 	private CategoryRepository categoryRepository;
+	private CategoryRegistry categoryRegistry;
+	private CategorySummaryRepository categorySummaryRepository;
 		
-	public CategoryServiceImpl(CategoryRepository categoryRepository) {
+	public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryRegistry categoryRegistry, CategorySummaryRepository categorySummaryRepository) {
 		this.categoryRepository = categoryRepository;
+		this.categoryRegistry = categoryRegistry;
+		this.categorySummaryRepository = categorySummaryRepository;
 	}
 
 	@Override
@@ -37,6 +45,9 @@ public class CategoryServiceImpl implements CategoryService {
 		
 		CategoryEntity categoryEntity = categoryRepository.save(CategoryMapper.INSTANCE.toEntity(categoryCreate));
 		
+		/* 저장한 후에 레지스트리를 갱신한다. 포스트가 저장되지 않은 카테고리를 참조하지 않기 위해서이다. */
+		categoryRegistry.put(categoryEntity.getId(), categoryEntity.getName());
+		
 		return CategoryMapper.INSTANCE.toDto(categoryEntity);
 	}
 
@@ -44,7 +55,9 @@ public class CategoryServiceImpl implements CategoryService {
 	public void delete(Long id) {
 		CategoryEntity categoryEntity = categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
 
-		categoryRepository.delete(categoryEntity);		
+		categoryRepository.delete(categoryEntity);
+		categorySummaryRepository.deleteByCategoryId(id);
+		categoryRegistry.remove(id);
 	}
 	
 	@Override
@@ -54,6 +67,11 @@ public class CategoryServiceImpl implements CategoryService {
 		return CategoryMapper.INSTANCE.toDto(categoryEntity);
 	}
 
+	@Override
+	public ResourceVersion findVersion(Long id) {
+		return categoryRepository.findUpdatedAtById(id).map((updatedAt) -> new ResourceVersion(updatedAt, 0L)).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
+	}
+
 	@Override
 	public PageResponse<CategoryResponse> findAll(PaginationUtil pagination) {
 		Pageable pageable;
@@ -80,6 +98,12 @@ public class CategoryServiceImpl implements CategoryService {
 		return PageResponse.handleResponse(categoryResponse, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
 	}
 
+	/* 포스트 개수와 최신 포스트는 포스트를 변경할 때 집계해 두었기 때문에 카테고리마다 포스트를 조회하지 않는다. */
+	@Override
+	public List<CategorySummaryResponse> findSummaries() {
+		return categorySummaryRepository.findAll();
+	}
+
 	@Override
 	public CategoryResponse update(Long id, CategoryUpdateRequest categoryUpdate) {
 		CategoryEntity categoryEntity;
@@ -93,6 +117,9 @@ public class CategoryServiceImpl implements CategoryService {
 			categoryEntity.name(name);
 		}
 		
-		return CategoryMapper.INSTANCE.toDto(categoryRepository.save(categoryEntity));
+		categoryEntity = categoryRepository.save(categoryEntity);
+		categoryRegistry.put(categoryEntity.getId(), categoryEntity.getName());
+		
+		return CategoryMapper.INSTANCE.toDto(categoryEntity);
 	}
 }
\ No newline at end of file
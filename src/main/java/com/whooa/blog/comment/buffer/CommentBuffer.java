@@ -0,0 +1,367 @@
+package com.whooa.blog.comment.buffer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.whooa.blog.comment.entity.CommentEntity;
+import com.whooa.blog.comment.exception.CommentBufferFullException;
+import com.whooa.blog.comment.mapper.CommentMapper;
+import com.whooa.blog.comment.property.CommentBufferProperty;
+import com.whooa.blog.comment.repository.CommentBatchRepository;
+import com.whooa.blog.comment.repository.CommentCountRepository;
+import com.whooa.blog.comment.stream.CommentStreamHub;
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.post.cache.PostCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/*
+ * 댓글 버퍼 모드(comment.buffer.enabled). 댓글이 폭증할 때 댓글마다 INSERT 문장을 실행하지 않고 메모리에 모은 후 일괄 처리로 반영한다.
+ * 1. 요청 스레드는 아이디를 부여한 댓글을 크기가 제한된 링 버퍼(ArrayBlockingQueue)에 넣고 바로 응답한다.
+ * 2. 전용 스레드가 일괄 처리 크기를 채우거나 첫 댓글이 들어온 후 flush-interval이 지나면 댓글 INSERT 문장과 댓글 개수 UPDATE 문장을 하나의 트랜잭션으로 반영한다.
+ *    댓글 스트림의 구독자에게는 반영에 성공한 댓글만 발행한다.
+ * 3. 버퍼가 가득 차면 offer-timeout만큼 기다린 후 CommentBufferFullException 예외를 던져서 클라이언트가 재시도하게 한다(배압).
+ * 4. 애플리케이션 종료 시 새 댓글을 받지 않고 남은 댓글을 모두 반영한다.
+ * 5. 반영하지 못한 댓글은 버퍼에 다시 넣고 max-retries번까지 재시도한 후 버린다(comment.buffer.failed, comment.buffer.dropped 지표).
+ *
+ * 아이디는 시작 시 댓글 테이블의 최대 아이디부터 메모리에서 부여하기 때문에 버퍼 모드에서는 모든 댓글 생성이 버퍼를 거쳐야 하고 애플리케이션 인스턴스는 하나여야 한다.
+ * pooled-id 프로필에서는 Hibernate가 id_generator 테이블로 아이디를 부여하고 이 테이블은 버퍼가 부여한 아이디를 모르기 때문에 버퍼 모드를 끈 후에 아이디가 충돌한다.
+ * 따라서 두 설정을 함께 켜면 시작할 때 IllegalStateException 예외를 던진다.
+ * 반영하기 전의 댓글은 목록 조회에 나타나지 않으며 대댓글의 부모 댓글로만 조회할 수 있다. 수정하거나 삭제하려면 awaitWritten() 메서드로 먼저 반영한다.
+ */
+@Component
+public class CommentBuffer {
+	private static Logger logger = LoggerFactory.getLogger(CommentBuffer.class);
+
+	private static final String POOLED_ID_PROFILE = "pooled-id";
+
+	private CommentBufferProperty commentBufferProperty;
+	private CommentBatchRepository commentBatchRepository;
+	private CommentCountRepository commentCountRepository;
+	private TransactionTemplate transactionTemplate;
+	private PostCache postCache;
+	private CommentStreamHub commentStreamHub;
+	private Counter failedCounter;
+	private Counter droppedCounter;
+
+	private BlockingQueue<CommentEntity> queue;
+	/* 반영하기 전의 댓글. 대댓글을 생성할 때 부모 댓글을 찾는 데 사용한다. 반영하거나 버리면 제거하고 기다리는 스레드를 깨운다. */
+	private Map<Long, CommentEntity> pending;
+	/* 반영하지 못한 댓글의 실패 횟수. */
+	private Map<Long, Integer> attempts;
+	private AtomicLong lastId;
+	private volatile boolean seeded;
+	private volatile boolean accepting;
+	private Thread flusher;
+
+	public CommentBuffer(CommentBufferProperty commentBufferProperty, Environment environment, CommentBatchRepository commentBatchRepository, CommentCountRepository commentCountRepository, PlatformTransactionManager transactionManager, PostCache postCache, CommentStreamHub commentStreamHub, MeterRegistry meterRegistry) {
+		if (commentBufferProperty.isEnabled() && environment.acceptsProfiles(Profiles.of(POOLED_ID_PROFILE))) {
+			throw new IllegalStateException("pooled-id 프로필에서는 댓글 버퍼 모드(comment.buffer.enabled)를 사용할 수 없습니다.");
+		}
+
+		this.commentBufferProperty = commentBufferProperty;
+		this.commentBatchRepository = commentBatchRepository;
+		this.commentCountRepository = commentCountRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		/* 요청 스레드가 awaitWritten() 메서드로 반영할 때 요청의 트랜잭션과 함께 롤백되지 않도록 항상 새 트랜잭션을 사용한다. */
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.postCache = postCache;
+		this.commentStreamHub = commentStreamHub;
+
+		this.queue = new ArrayBlockingQueue<CommentEntity>(commentBufferProperty.getCapacity());
+		this.pending = new ConcurrentHashMap<Long, CommentEntity>();
+		this.attempts = new ConcurrentHashMap<Long, Integer>();
+		this.lastId = new AtomicLong();
+		this.accepting = commentBufferProperty.isEnabled();
+		this.failedCounter = Counter.builder("comment.buffer.failed")
+				.description("반영하지 못한 댓글의 개수(재시도 포함)")
+				.register(meterRegistry);
+		this.droppedCounter = Counter.builder("comment.buffer.dropped")
+				.description("재시도한 후에도 반영하지 못해서 버린 댓글의 개수")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!commentBufferProperty.isEnabled()) {
+			return;
+		}
+
+		flusher = new Thread(this::run, "comment-buffer");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	public boolean isEnabled() {
+		return commentBufferProperty.isEnabled();
+	}
+
+	/* 아이디와 생성 시각을 부여하고 버퍼에 넣는다. 버퍼가 가득 차서 offer-timeout 안에 넣지 못하면 예외를 던진다. */
+	public CommentEntity offer(CommentEntity commentEntity) {
+		LocalDateTime now;
+		boolean offered;
+
+		if (!accepting) {
+			throw new CommentBufferFullException(Code.COMMENT_BUFFER_FULL, new String[] {"댓글을 받을 수 없습니다. 잠시 후 다시 시도하세요."});
+		}
+
+		now = LocalDateTime.now();
+
+		commentEntity.setId(nextId());
+		commentEntity.setCreatedAt(now);
+		commentEntity.setUpdateddAt(now);
+
+		pending.put(commentEntity.getId(), commentEntity);
+
+		try {
+			offered = queue.offer(commentEntity, commentBufferProperty.getOfferTimeout(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			offered = false;
+		}
+
+		if (!offered) {
+			pending.remove(commentEntity.getId());
+			throw new CommentBufferFullException(Code.COMMENT_BUFFER_FULL, new String[] {"댓글이 너무 많습니다. 잠시 후 다시 시도하세요."});
+		}
+
+		return commentEntity;
+	}
+
+	/* 반영하기 전의 댓글을 반환한다. 없으면 null을 반환한다. */
+	public CommentEntity find(Long id) {
+		return pending.get(id);
+	}
+
+	public int size() {
+		return queue.size();
+	}
+
+	/*
+	 * 댓글이 아직 반영되지 않았으면 버퍼를 반영하고 댓글이 반영되거나 버려질 때까지 최대 await-timeout만큼 기다린다.
+	 * 응답한 댓글을 바로 수정하거나 삭제해도 데이터베이스에서 찾을 수 있도록 수정과 삭제 전에 호출한다.
+	 * 전용 스레드가 이미 꺼낸 댓글은 버퍼에 없기 때문에 반영이 끝날 때까지 기다린다.
+	 */
+	public void awaitWritten(Long id) {
+		long deadline, remaining;
+
+		if (!pending.containsKey(id)) {
+			return;
+		}
+
+		flush();
+
+		deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commentBufferProperty.getAwaitTimeout());
+
+		synchronized (pending) {
+			while (pending.containsKey(id)) {
+				remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0) {
+					throw new CommentBufferFullException(Code.COMMENT_BUFFER_FULL, new String[] {"댓글을 아직 반영하지 않았습니다. 잠시 후 다시 시도하세요."});
+				}
+
+				try {
+					TimeUnit.NANOSECONDS.timedWait(pending, remaining);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					throw new CommentBufferFullException(Code.COMMENT_BUFFER_FULL, new String[] {"댓글을 아직 반영하지 않았습니다. 잠시 후 다시 시도하세요."});
+				}
+			}
+		}
+	}
+
+	/* 버퍼에 남은 댓글을 일괄 처리 크기 단위로 모두 반영한다. */
+	public void flush() {
+		List<CommentEntity> batch;
+
+		batch = new ArrayList<CommentEntity>(commentBufferProperty.getBatchSize());
+
+		while (queue.drainTo(batch, commentBufferProperty.getBatchSize()) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	/* 새 댓글을 받지 않고 전용 스레드가 남은 댓글을 반영할 때까지 기다린다. 전용 스레드가 끝난 후 들어온 댓글은 종료하는 스레드가 반영한다. */
+	@PreDestroy
+	public void stop() {
+		accepting = false;
+
+		if (flusher != null) {
+			flusher.interrupt();
+
+			try {
+				flusher.join(commentBufferProperty.getShutdownTimeout());
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		flush();
+	}
+
+	/*
+	 * 아이디는 첫 댓글을 받을 때 댓글 테이블의 최대 아이디로 초기화한다.
+	 * 빈 생성 시점에는 Hibernate가 아직 스키마를 만들지 않았을 수 있기 때문이다.
+	 */
+	private long nextId() {
+		if (!seeded) {
+			synchronized (this) {
+				if (!seeded) {
+					lastId.set(commentCountRepository.findMaxCommentId());
+					seeded = true;
+				}
+			}
+		}
+
+		return lastId.incrementAndGet();
+	}
+
+	private void run() {
+		List<CommentEntity> batch;
+
+		batch = new ArrayList<CommentEntity>(commentBufferProperty.getBatchSize());
+
+		while (accepting || !queue.isEmpty()) {
+			try {
+				collect(batch);
+			} catch (InterruptedException exception) {
+				/* stop() 메서드가 대기를 깨운다. 이미 모은 댓글은 아래에서 반영하고 남은 댓글은 다음 반복에서 반영한다. */
+			}
+
+			if (!batch.isEmpty()) {
+				write(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	/* 첫 댓글을 기다린 후 일괄 처리 크기를 채우거나 flush-interval이 지날 때까지 댓글을 모은다. */
+	private void collect(List<CommentEntity> batch) throws InterruptedException {
+		CommentEntity commentEntity;
+		long deadline, remaining;
+		int batchSize;
+
+		batchSize = commentBufferProperty.getBatchSize();
+		commentEntity = queue.poll(commentBufferProperty.getFlushInterval(), TimeUnit.MILLISECONDS);
+
+		if (commentEntity == null) {
+			return;
+		}
+
+		batch.add(commentEntity);
+		deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commentBufferProperty.getFlushInterval());
+
+		while (batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+			remaining = deadline - System.nanoTime();
+
+			if (batch.size() >= batchSize || remaining <= 0) {
+				return;
+			}
+
+			commentEntity = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+			if (commentEntity == null) {
+				return;
+			}
+
+			batch.add(commentEntity);
+		}
+	}
+
+	/*
+	 * 일괄 처리에 실패하면(예를 들어, 그 사이 포스트가 삭제되어 외래 키 제약 조건을 위반하면) 댓글 하나씩 다시 반영해서 나머지 댓글을 잃지 않는다.
+	 * 그래도 실패한 댓글은 retry() 메서드가 버퍼에 다시 넣거나 버린다.
+	 */
+	private void write(List<CommentEntity> batch) {
+		List<CommentEntity> written;
+
+		try {
+			transactionTemplate.executeWithoutResult((status) -> insert(batch));
+			written = batch;
+		} catch (RuntimeException exception) {
+			logger.error("[CommentBuffer] 댓글 {}개를 일괄 처리하지 못해서 하나씩 반영합니다: {}", batch.size(), exception.getMessage());
+
+			written = new ArrayList<CommentEntity>(batch.size());
+
+			for (CommentEntity commentEntity : batch) {
+				try {
+					transactionTemplate.executeWithoutResult((status) -> insert(List.of(commentEntity)));
+					written.add(commentEntity);
+				} catch (RuntimeException retryException) {
+					retry(commentEntity, retryException);
+				}
+			}
+		}
+
+		written.forEach((commentEntity) -> {
+			attempts.remove(commentEntity.getId());
+			pending.remove(commentEntity.getId());
+		});
+		written.stream().map((commentEntity) -> commentEntity.getPost().getId()).distinct().forEach((postId) -> postCache.invalidate(postId));
+		written.forEach((commentEntity) -> commentStreamHub.publishCommitted(commentEntity.getPost().getId(), CommentMapper.INSTANCE.toDto(commentEntity)));
+
+		synchronized (pending) {
+			pending.notifyAll();
+		}
+	}
+
+	/*
+	 * 반영하지 못한 댓글을 버퍼의 끝에 다시 넣는다. 일시적인 장애(예를 들어, 데이터베이스 연결 실패)가 지나면 다음 일괄 처리에서 반영된다.
+	 * max-retries번 재시도해도 실패하거나 버퍼가 가득 차면 버린다. 기다리지 않기 때문에 전용 스레드가 막히지 않는다.
+	 */
+	private void retry(CommentEntity commentEntity, RuntimeException exception) {
+		int attempt;
+
+		failedCounter.increment();
+		attempt = attempts.merge(commentEntity.getId(), 1, Integer::sum);
+
+		if (attempt <= commentBufferProperty.getMaxRetries() && queue.offer(commentEntity)) {
+			logger.warn("[CommentBuffer] 댓글(아이디: {})을 반영하지 못해서 다시 시도합니다({}번째): {}", commentEntity.getId(), attempt, exception.getMessage());
+			return;
+		}
+
+		attempts.remove(commentEntity.getId());
+		pending.remove(commentEntity.getId());
+		droppedCounter.increment();
+
+		logger.error("[CommentBuffer] 댓글(아이디: {})을 반영하지 못해서 버립니다: {}", commentEntity.getId(), exception.getMessage());
+	}
+
+	private void insert(List<CommentEntity> batch) {
+		Map<Long, Long> commentCounts, replyCounts;
+
+		commentCounts = batch.stream().collect(Collectors.groupingBy((commentEntity) -> commentEntity.getPost().getId(), Collectors.counting()));
+		replyCounts = batch.stream().map(CommentEntity::getRootId).filter(Objects::nonNull).collect(Collectors.groupingBy((rootId) -> rootId, Collectors.counting()));
+
+		commentBatchRepository.insertAll(batch);
+		commentCountRepository.increaseCommentCounts(commentCounts);
+
+		if (!replyCounts.isEmpty()) {
+			commentCountRepository.increaseReplyCounts(replyCounts);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.whooa.blog.comment.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -10,13 +11,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.whooa.blog.comment.dto.CommentDto.CommentCreateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.dto.CommentDto.CommentThreadResponse;
 import com.whooa.blog.comment.service.CommentService;
 import com.whooa.blog.common.api.ApiResponse;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.security.CurrentUser;
 import com.whooa.blog.common.security.UserDetailsImpl;
@@ -66,14 +71,55 @@ public class CommentController {
 	}
 
 	@Operation(
-		summary = "댓글 목록 조회"
+		summary = "댓글 목록 조회",
+		description = "ETag와 Last-Modified 헤더를 반환하고 If-None-Match 혹은 If-Modified-Since 헤더가 일치하면 본문 없이 304를 반환한다. cursor 파라미터를 전달하면(첫 페이지는 빈 문자열) COUNT 쿼리 없이 아이디 기준 키셋 페이지네이션으로 조회한다."
 	)
-	@ResponseStatus(value = HttpStatus.OK)
+	/*
+	 * 조건부 GET 요청은 검증자만 조회해서 비교하고 일치하면 본문을 만들지 않고 304(Not Modified)를 반환한다.
+	 * checkNotModified() 메서드가 304 상태 코드를 설정하기 때문에 @ResponseStatus 어노테이션을 사용하지 않는다(200이 기본값이다).
+	 */
 	@GetMapping("/{post-id}/comments")
-	public ApiResponse<PageResponse<CommentResponse>> getCommentsByPostId(@PathVariable("post-id") Long postId, PaginationUtil paginationUtil) {		
+	public ApiResponse<PageResponse<CommentResponse>> getCommentsByPostId(@PathVariable("post-id") Long postId, PaginationUtil paginationUtil, WebRequest webRequest) {
+		ResourceVersion version;
+		
+		version = commentService.findVersionByPostId(postId);
+		
+		if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+			return null;
+		}
+		
 		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), commentService.findAllByPostId(postId, paginationUtil), new String[] {"포스트의 댓글 목록을 조회했습니다."});
 	}
 	
+	@Operation(
+		summary = "댓글 스레드 조회",
+		description = "루트 댓글 페이지와 루트 댓글마다 최대 20개의 대댓글을 트리로 반환한다. 나머지 대댓글은 대댓글 목록 조회 API로 조회한다."
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@GetMapping("/{post-id}/comments/threads")
+	public ApiResponse<PageResponse<CommentThreadResponse>> getCommentThreadsByPostId(@PathVariable("post-id") Long postId, PaginationUtil paginationUtil) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), commentService.findThreadsByPostId(postId, paginationUtil), new String[] {"포스트의 댓글 스레드를 조회했습니다."});
+	}
+	
+	@Operation(
+		summary = "댓글 스트림 구독",
+		description = "포스트에 생성되는 댓글을 Server-Sent Events(comment 이벤트)로 전달한다. 전송이 밀린 연결은 끊기 때문에 클라이언트는 다시 연결한 후 댓글 목록 조회 API로 놓친 댓글을 조회한다."
+	)
+	@GetMapping(value = "/{post-id}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeComments(@PathVariable("post-id") Long postId) {
+		return commentService.subscribe(postId);
+	}
+	
+	@Operation(
+		summary = "대댓글 목록 조회",
+		description = "댓글의 모든 자손을 페이지 단위로 조회하고 페이지 안에서 트리로 반환한다."
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@GetMapping("/{post-id}/comments/{id}/replies")
+	public ApiResponse<PageResponse<CommentThreadResponse>> getRepliesByCommentId(@PathVariable("id") Long id, @PathVariable("post-id") Long postId, PaginationUtil paginationUtil) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), commentService.findRepliesById(id, postId, paginationUtil), new String[] {"댓글의 대댓글 목록을 조회했습니다."});
+	}
+	
 	@Operation(
 		summary = "대댓글 생성"
 	)
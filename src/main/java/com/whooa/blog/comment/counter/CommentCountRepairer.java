@@ -0,0 +1,47 @@
+package com.whooa.blog.comment.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.whooa.blog.comment.repository.CommentCountRepository;
+
+/*
+ * 비정규화한 댓글 개수와 대댓글 개수를 주기적으로 다시 센다.
+ * 상대적인 UPDATE 문장은 증가분을 잃지 않지만 직접 수정한 데이터나 실패한 배포로 어긋난 값은 스스로 맞춰지지 않기 때문이다.
+ * 아이디 범위마다 UPDATE 문장 하나를 자동 커밋으로 실행하기 때문에 잠금을 짧게 유지하고 테이블 전체를 한 번에 잠그지 않는다.
+ */
+@Component
+public class CommentCountRepairer {
+	private static Logger logger = LoggerFactory.getLogger(CommentCountRepairer.class);
+
+	private CommentCountRepository commentCountRepository;
+	private int batchSize;
+
+	public CommentCountRepairer(CommentCountRepository commentCountRepository, @Value("${comment.count.repair-batch-size}") int batchSize) {
+		this.commentCountRepository = commentCountRepository;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(cron = "${comment.count.repair-cron}")
+	public synchronized void repair() {
+		long maxId;
+		int commentCounts = 0, replyCounts = 0;
+
+		maxId = commentCountRepository.findMaxPostId();
+
+		for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+			commentCounts += commentCountRepository.repairCommentCounts(fromId, fromId + batchSize);
+		}
+
+		maxId = commentCountRepository.findMaxCommentId();
+
+		for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+			replyCounts += commentCountRepository.repairReplyCounts(fromId, fromId + batchSize);
+		}
+
+		logger.info("[CommentCountRepairer] 댓글 개수 {}개, 대댓글 개수 {}개를 다시 셌습니다.", commentCounts, replyCounts);
+	}
+}
@@ -1,5 +1,8 @@
 package com.whooa.blog.comment.dto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 
@@ -94,6 +97,11 @@ public class CommentDto {
 			description = "대댓글 아이디"
 		)		
 		private Long parentId;
+		
+		@Schema(
+			description = "대댓글 개수(루트 댓글만 해당)"
+		)
+		private long replyCount;
 
 		public CommentResponse(Long id, String content, Long parentId) {
 			this.id = id;
@@ -136,10 +144,18 @@ public class CommentDto {
 		public void setParentId(Long parentId) {
 			this.parentId = parentId;
 		}
+		
+		public long getReplyCount() {
+			return replyCount;
+		}
+
+		public void setReplyCount(long replyCount) {
+			this.replyCount = replyCount;
+		}
 
 		@Override
 		public String toString() {
-			return "CommentResponse [id=" + id + ", content=" + content + ", parentId=" + parentId + "]";
+			return "CommentResponse [id=" + id + ", content=" + content + ", parentId=" + parentId + ", replyCount=" + replyCount + "]";
 		}
 
 		/* 
@@ -153,4 +169,115 @@ public class CommentDto {
 		 * }
 		 */
 	}
+	
+	@Schema(
+		description = "댓글 스레드 응답 DTO"
+	)
+	public static class CommentThreadResponse {
+		@Schema(
+			description = "댓글 아이디"
+		)
+		private Long id;
+		
+		@Schema(
+			description = "댓글 내용"
+		)
+		private String content;
+		
+		@Schema(
+			description = "부모 댓글 아이디"
+		)
+		private Long parentId;
+		
+		@Schema(
+			description = "댓글 깊이(루트 댓글은 0)"
+		)
+		private int depth;
+		
+		@Schema(
+			description = "대댓글 개수(루트 댓글만 해당)"
+		)
+		private long replyCount;
+		
+		@Schema(
+			description = "대댓글 목록"
+		)
+		private List<CommentThreadResponse> replies = new ArrayList<CommentThreadResponse>();
+		
+		@Schema(
+			description = "응답에 포함하지 않은 대댓글의 존재 여부. 대댓글 목록 조회 API로 이어서 조회한다."
+		)
+		private boolean moreReplies;
+
+		public CommentThreadResponse(Long id, String content, Long parentId, int depth, long replyCount) {
+			this.id = id;
+			this.content = content;
+			this.parentId = parentId;
+			this.depth = depth;
+			this.replyCount = replyCount;
+		}
+
+		public CommentThreadResponse() {}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		public void setContent(String content) {
+			this.content = content;
+		}
+
+		public Long getParentId() {
+			return parentId;
+		}
+
+		public void setParentId(Long parentId) {
+			this.parentId = parentId;
+		}
+
+		public int getDepth() {
+			return depth;
+		}
+
+		public void setDepth(int depth) {
+			this.depth = depth;
+		}
+
+		public long getReplyCount() {
+			return replyCount;
+		}
+
+		public void setReplyCount(long replyCount) {
+			this.replyCount = replyCount;
+		}
+
+		public List<CommentThreadResponse> getReplies() {
+			return replies;
+		}
+
+		public void setReplies(List<CommentThreadResponse> replies) {
+			this.replies = replies;
+		}
+
+		public boolean isMoreReplies() {
+			return moreReplies;
+		}
+
+		public void setMoreReplies(boolean moreReplies) {
+			this.moreReplies = moreReplies;
+		}
+
+		@Override
+		public String toString() {
+			return "CommentThreadResponse [id=" + id + ", content=" + content + ", parentId=" + parentId + ", depth=" + depth + ", replyCount=" + replyCount + ", replies=" + replies + ", moreReplies=" + moreReplies + "]";
+		}
+	}
 }
\ No newline at end of file
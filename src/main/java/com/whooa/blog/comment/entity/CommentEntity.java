@@ -1,5 +1,7 @@
 package com.whooa.blog.comment.entity;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.whooa.blog.common.entity.CoreEntity;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.user.entity.UserEntity;
@@ -7,12 +9,26 @@ import com.whooa.blog.user.entity.UserEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "comment")
+/*
+ * 조회용 인덱스.
+ * 1. 댓글 목록(키셋 페이지네이션): post_id, id
+ * 2. 루트 댓글 페이지: post_id, parent_id
+ * 3. 루트별 대댓글: root_id, id
+ * 4. 대댓글 서브트리: path(접두사 LIKE 검색)
+ * (post_id, parent_id) 인덱스가 외래 키 인덱스를 대신하면 post_id로 걸러서 id로 정렬할 인덱스가 없기 때문에 (post_id, id) 인덱스를 명시한다.
+ */
+@Table(name = "comment", indexes = {
+	@Index(name = "idx_comment_post_id_id", columnList = "post_id, id"),
+	@Index(name = "idx_comment_post_id_parent_id", columnList = "post_id, parent_id"),
+	@Index(name = "idx_comment_root_id_id", columnList = "root_id, id"),
+	@Index(name = "idx_comment_path", columnList = "path")
+})
 public class CommentEntity extends CoreEntity {
 	@Column(length = 500, nullable = false)
 	private String content;
@@ -21,6 +37,30 @@ public class CommentEntity extends CoreEntity {
 	@Column(name = "parent_id", nullable = true)
 	private Long parentId;
 	
+	/*
+	 * 구체화된 경로(materialized path). 루트 댓글부터 부모 댓글까지의 아이디를 /로 구분한다(예: /1/5/). 루트 댓글은 /이다.
+	 * 자신의 아이디는 IDENTITY 전략에서 INSERT 문장을 실행해야 알 수 있기 때문에 경로에 포함하지 않는다.
+	 * 댓글 X의 서브트리는 경로가 X의 경로 + X의 아이디 + /로 시작하는 댓글이다.
+	 */
+	@Column(length = 500, nullable = false)
+	private String path = "/";
+	
+	/* 루트 댓글의 아이디. 루트 댓글은 null이다. 루트 댓글 페이지의 대댓글을 쿼리 하나로 조회할 때 사용한다. */
+	@Column(name = "root_id", nullable = true)
+	private Long rootId;
+	
+	/* 루트 댓글은 0, 대댓글은 부모 댓글의 깊이 + 1이다. */
+	@Column(nullable = false)
+	private int depth;
+	
+	/*
+	 * 루트 댓글의 스레드에 속한 대댓글 개수. 대댓글을 생성하거나 삭제할 때 상대적인 UPDATE 문장으로 갱신한다. 대댓글은 0이다.
+	 * 댓글을 수정할 때 읽어 온 이전 개수로 덮어쓰지 않도록 INSERT/UPDATE 문장에서 제외한다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+	private long replyCount;
+	
 	/* 
 	 * 지연 로딩(FetchType.LAZY)은 연관된 데이터를 실제 사용 시 조회한다. 
 	 * 즉시 로딩(FetchType.EAGER)는 엔티티 조회 시 연관된 엔티티도 함께 조회한다.
@@ -43,7 +83,7 @@ public class CommentEntity extends CoreEntity {
 	}
 
 	public CommentEntity() {
-		super(-1L);
+		super(null);
 	}
 	
 	public CommentEntity content(String content) {
@@ -56,24 +96,30 @@ public class CommentEntity extends CoreEntity {
 		return this;
 	}
 	
+	/* 부모 댓글로부터 부모 아이디, 루트 아이디, 깊이, 경로를 정한다. */
+	public CommentEntity parent(CommentEntity parent) {
+		this.parentId = parent.getId();
+		this.rootId = parent.getRootId() != null ? parent.getRootId() : parent.getId();
+		this.depth = parent.getDepth() + 1;
+		this.path = parent.getSubtreePath();
+		
+		return this;
+	}
+	
 	public CommentEntity post(PostEntity post) {
-		if (this.post != null) {
-			this.post.getComments().remove(this);
-		}
+		removeChild(this.post, PostEntity::getComments, this);
 		
 		this.post = post;
-		post.getComments().add(this);
+		addChild(post, PostEntity::getComments, this);
 		
 		return this;
 	}
 	
 	public CommentEntity user(UserEntity user) {
-		if (this.user != null) {
-			this.user.getComments().remove(this);
-		}
+		removeChild(this.user, UserEntity::getComments, this);
 
 		this.user = user;
-		user.getComments().add(this);
+		addChild(user, UserEntity::getComments, this);
 		
 		return this;
 	}
@@ -102,17 +148,45 @@ public class CommentEntity extends CoreEntity {
 		this.parentId = parentId;
 	}
 	
+	public String getPath() {
+		return path;
+	}
+
+	public void setPath(String path) {
+		this.path = path;
+	}
+	
+	/* 자식 댓글의 경로이자 서브트리를 조회할 때 사용하는 접두사. */
+	public String getSubtreePath() {
+		return path + super.getId() + "/";
+	}
+
+	public Long getRootId() {
+		return rootId;
+	}
+
+	public void setRootId(Long rootId) {
+		this.rootId = rootId;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public void setDepth(int depth) {
+		this.depth = depth;
+	}
+	
+	public long getReplyCount() {
+		return replyCount;
+	}
+	
 	public PostEntity getPost() {
 		return post;
 	}
 
 	public void setPost(PostEntity post) {
-		if (this.post != null) {
-			this.post.getComments().remove(this);
-		}
-		
-		this.post = post;
-		post.getComments().add(this);
+		post(post);
 	}
 	
 	public UserEntity getUser() {
@@ -120,16 +194,11 @@ public class CommentEntity extends CoreEntity {
 	}
 
 	public void setUser(UserEntity user) {
-		if (this.user != null) {
-			this.user.getComments().remove(this);
-		}
-
-		this.user = user;
-		user.getComments().add(this);
+		user(user);
 	}
 
 	@Override
 	public String toString() {
-		return "CommentEntity [id=" + super.getId() + ", content=" + content + ", parentId=" + parentId + ", post=" + post + ", user=" + user + "]";
+		return "CommentEntity [id=" + super.getId() + ", content=" + content + ", parentId=" + parentId + ", path=" + path + ", rootId=" + rootId + ", depth=" + depth + ", replyCount=" + replyCount + ", post=" + post + ", user=" + user + "]";
 	}
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.whooa.blog.comment.exception;
+
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.exception.CoreException;
+
+public class CommentBufferFullException extends CoreException {
+	private static final long serialVersionUID = 1L;
+
+	public CommentBufferFullException(Code code, String[] details) {
+		super(code, details);
+	}
+}
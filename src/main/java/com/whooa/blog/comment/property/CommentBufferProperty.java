@@ -0,0 +1,90 @@
+package com.whooa.blog.comment.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * 댓글 버퍼 모드의 속성을 comment.buffer 속성에 바인딩한다.
+ * 버퍼 모드는 기본적으로 비활성화되어 있으며 댓글이 폭증하는 상황에서만 활성화한다.
+ */
+@ConfigurationProperties(prefix = "comment.buffer")
+public class CommentBufferProperty {
+	private boolean enabled = false;
+	/* 버퍼에 담을 수 있는 댓글의 최대 개수. */
+	private int capacity = 10000;
+	/* INSERT 문장을 일괄 처리하는 댓글의 최대 개수. */
+	private int batchSize = 500;
+	/* 첫 댓글이 들어온 후 일괄 처리 크기를 채우지 못해도 반영하는 주기(밀리초). */
+	private long flushInterval = 200;
+	/* 버퍼가 가득 찼을 때 요청 스레드가 빈 자리를 기다리는 시간(밀리초). */
+	private long offerTimeout = 50;
+	/* 애플리케이션 종료 시 남은 댓글을 반영하는 최대 시간(밀리초). */
+	private long shutdownTimeout = 10000;
+	/* 반영하지 못한 댓글을 버퍼에 다시 넣는 최대 횟수. */
+	private int maxRetries = 3;
+	/* 수정하거나 삭제할 댓글이 아직 버퍼에 있으면 반영될 때까지 기다리는 최대 시간(밀리초). */
+	private long awaitTimeout = 1000;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public long getFlushInterval() {
+		return flushInterval;
+	}
+
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	public long getOfferTimeout() {
+		return offerTimeout;
+	}
+
+	public void setOfferTimeout(long offerTimeout) {
+		this.offerTimeout = offerTimeout;
+	}
+
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	public void setMaxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
+	}
+
+	public long getAwaitTimeout() {
+		return awaitTimeout;
+	}
+
+	public void setAwaitTimeout(long awaitTimeout) {
+		this.awaitTimeout = awaitTimeout;
+	}
+}
@@ -0,0 +1,58 @@
+package com.whooa.blog.comment.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/* 댓글 스트림(SSE)의 속성을 comment.stream 속성에 바인딩한다. */
+@ConfigurationProperties(prefix = "comment.stream")
+public class CommentStreamProperty {
+	/* 구독자마다 아직 전송하지 않은 댓글을 담는 큐의 크기. 가득 차면 구독자를 끊는다. */
+	private int queueCapacity = 64;
+	/* 연결을 유지하는 최대 시간(밀리초). 지나면 연결을 끊고 클라이언트(EventSource)가 다시 연결한다. */
+	private long timeout = 1800000;
+	/* 구독자에게 댓글을 전송하는 스레드의 개수. */
+	private int threads = 4;
+	/* 전송이 멈춘 구독자가 점유한 스레드를 대신해서 늘릴 수 있는 스레드의 최대 개수. */
+	private int maxThreads = 16;
+	/* 이벤트 하나의 전송이 이 시간(밀리초)보다 오래 걸리면 멈춘 구독자로 보고 끊는다. */
+	private long sendTimeout = 5000;
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public long getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+	public void setMaxThreads(int maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+
+	public long getSendTimeout() {
+		return sendTimeout;
+	}
+
+	public void setSendTimeout(long sendTimeout) {
+		this.sendTimeout = sendTimeout;
+	}
+}
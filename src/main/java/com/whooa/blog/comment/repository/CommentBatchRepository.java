@@ -0,0 +1,46 @@
+package com.whooa.blog.comment.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.whooa.blog.comment.entity.CommentEntity;
+
+/*
+ * 버퍼에 모은 댓글을 JDBC 일괄 처리로 삽입한다.
+ * 아이디는 버퍼가 미리 부여하기 때문에 IDENTITY 전략과 달리 INSERT 문장을 일괄 처리할 수 있고 rewriteBatchedStatements 속성에 따라 다중 행 INSERT 문장 하나로 전송된다.
+ * 명시한 아이디가 AUTO_INCREMENT 값보다 크면 InnoDB가 AUTO_INCREMENT 값을 올리기 때문에 IDENTITY 전략에서는 버퍼 모드를 끈 후에도 아이디가 충돌하지 않는다.
+ * pooled-id 프로필의 id_generator 테이블은 올라가지 않기 때문에 이 프로필에서는 버퍼 모드를 사용할 수 없다(CommentBuffer 클래스 참고).
+ */
+@Repository
+public class CommentBatchRepository {
+	private static final String INSERT_COMMENT = "INSERT INTO comment (id, content, parent_id, path, root_id, depth, reply_count, post_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+
+	private JdbcTemplate jdbcTemplate;
+
+	public CommentBatchRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void insertAll(List<CommentEntity> commentEntities) {
+		List<Object[]> arguments;
+
+		arguments = commentEntities.stream().map((commentEntity) -> new Object[] {
+			commentEntity.getId(),
+			commentEntity.getContent(),
+			commentEntity.getParentId(),
+			commentEntity.getPath(),
+			commentEntity.getRootId(),
+			commentEntity.getDepth(),
+			commentEntity.getPost().getId(),
+			commentEntity.getUser().getId(),
+			Timestamp.valueOf(commentEntity.getCreatedAt()),
+			Timestamp.valueOf(commentEntity.getUpdateddAt())
+		}).collect(Collectors.toList());
+
+		jdbcTemplate.batchUpdate(INSERT_COMMENT, arguments);
+	}
+}
@@ -0,0 +1,81 @@
+package com.whooa.blog.comment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 포스트의 댓글 개수(post.comment_count)와 루트 댓글의 대댓글 개수(comment.reply_count)를 갱신한다.
+ * 포스트의 댓글이 바뀌면 같은 UPDATE 문장으로 댓글 버전(post.comment_version)과 시간(post.commented_at)도 갱신해서 조건부 GET 요청의 검증자로 사용한다.
+ * 상대적인 UPDATE 문장(x = x + ?)을 사용하기 때문에 동시에 댓글을 생성하거나 삭제해도 증가분을 잃지 않고 행을 먼저 읽지 않는다.
+ * JdbcTemplate 클래스는 현재 트랜잭션의 커넥션을 사용하기 때문에 댓글 INSERT/DELETE 문장과 함께 커밋되거나 롤백된다.
+ */
+@Repository
+public class CommentCountRepository {
+	private static final String INCREASE_COMMENT_COUNT = "UPDATE post SET comment_count = comment_count + ?, comment_version = comment_version + 1, commented_at = ? WHERE id = ?";
+	private static final String TOUCH_COMMENTS = "UPDATE post SET comment_version = comment_version + 1, commented_at = ? WHERE id = ?";
+	private static final String INCREASE_REPLY_COUNT = "UPDATE comment SET reply_count = reply_count + ? WHERE id = ?";
+	private static final String FIND_MAX_POST_ID = "SELECT COALESCE(MAX(id), 0) FROM post";
+	private static final String FIND_MAX_COMMENT_ID = "SELECT COALESCE(MAX(id), 0) FROM comment";
+	private static final String REPAIR_COMMENT_COUNTS = "UPDATE post p SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id) WHERE p.id > ? AND p.id <= ?";
+	/* MySQL은 UPDATE 대상 테이블을 서브쿼리에서 직접 참조할 수 없기 때문에(오류 1093) 파생 테이블로 먼저 집계한다. */
+	private static final String REPAIR_REPLY_COUNTS = "UPDATE comment r LEFT JOIN (SELECT root_id, COUNT(*) AS reply_count FROM comment WHERE root_id > ? AND root_id <= ? GROUP BY root_id) c ON c.root_id = r.id SET r.reply_count = COALESCE(c.reply_count, 0) WHERE r.parent_id IS NULL AND r.id > ? AND r.id <= ?";
+
+	private JdbcTemplate jdbcTemplate;
+
+	public CommentCountRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public void increaseCommentCount(Long postId, long delta) {
+		jdbcTemplate.update(INCREASE_COMMENT_COUNT, delta, LocalDateTime.now(), postId);
+	}
+	
+	/* 댓글 개수를 바꾸지 않는 수정은 댓글 버전과 시간만 갱신한다. */
+	public void touchComments(Long postId) {
+		jdbcTemplate.update(TOUCH_COMMENTS, LocalDateTime.now(), postId);
+	}
+
+	public void increaseReplyCount(Long rootId, long delta) {
+		jdbcTemplate.update(INCREASE_REPLY_COUNT, delta, rootId);
+	}
+
+	/* 버퍼에서 반영하는 댓글의 증가분을 포스트(루트 댓글)마다 UPDATE 문장 하나로 모아서 일괄 처리한다. */
+	public void increaseCommentCounts(Map<Long, Long> deltas) {
+		LocalDateTime now;
+		
+		now = LocalDateTime.now();
+		
+		jdbcTemplate.batchUpdate(INCREASE_COMMENT_COUNT, deltas.entrySet().stream().map((entry) -> new Object[] {entry.getValue(), now, entry.getKey()}).collect(Collectors.toList()));
+	}
+
+	public void increaseReplyCounts(Map<Long, Long> deltas) {
+		jdbcTemplate.batchUpdate(INCREASE_REPLY_COUNT, toArguments(deltas));
+	}
+
+	public long findMaxPostId() {
+		return jdbcTemplate.queryForObject(FIND_MAX_POST_ID, Long.class);
+	}
+
+	public long findMaxCommentId() {
+		return jdbcTemplate.queryForObject(FIND_MAX_COMMENT_ID, Long.class);
+	}
+
+	/* 아이디가 (fromId, toId] 범위인 포스트의 댓글 개수를 다시 센다. */
+	public int repairCommentCounts(long fromId, long toId) {
+		return jdbcTemplate.update(REPAIR_COMMENT_COUNTS, fromId, toId);
+	}
+
+	/* 아이디가 (fromId, toId] 범위인 루트 댓글의 대댓글 개수를 다시 센다. */
+	public int repairReplyCounts(long fromId, long toId) {
+		return jdbcTemplate.update(REPAIR_REPLY_COUNTS, fromId, toId, fromId, toId);
+	}
+
+	private List<Object[]> toArguments(Map<Long, Long> deltas) {
+		return deltas.entrySet().stream().map((entry) -> new Object[] {entry.getValue(), entry.getKey()}).collect(Collectors.toList());
+	}
+}
@@ -1,12 +1,32 @@
 package com.whooa.blog.comment.repository;
 
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.whooa.blog.comment.entity.CommentEntity;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
+	/* 댓글을 읽지 않고 (post_id, id) 인덱스만으로 댓글이 포스트에 속하는지 확인한다. */
+	public abstract boolean existsByIdAndPostId(Long id, Long postId);
 	public abstract Page<CommentEntity> findByPostId(Long postId, Pageable pageable);
+	/* (post_id, id) 인덱스를 따라 키셋 조건으로 읽기 때문에 COUNT 쿼리와 OFFSET이 없다. */
+	public abstract Window<CommentEntity> findByPostId(Long postId, ScrollPosition scrollPosition, Sort sort, Limit limit);
+	public abstract Page<CommentEntity> findByPostIdAndParentIdIsNull(Long postId, Pageable pageable);
+	/* 접두사 LIKE 검색이기 때문에 path 인덱스를 사용한다. */
+	public abstract Page<CommentEntity> findByPathStartingWith(String path, Pageable pageable);
+	/*
+	 * 루트 댓글마다 아이디 순으로 최대 limit개의 대댓글을 쿼리 하나로 조회한다(MySQL 8 윈도우 함수).
+	 * 부모 댓글의 아이디는 항상 자식 댓글의 아이디보다 작기 때문에 조회한 대댓글의 부모 댓글도 항상 함께 조회된다.
+	 */
+	@Query(value = "SELECT r.* FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.root_id ORDER BY c.id) AS reply_no FROM comment c WHERE c.root_id IN (:rootIds)) r WHERE r.reply_no <= :limit ORDER BY r.id", nativeQuery = true)
+	public abstract List<CommentEntity> findRepliesByRootIdIn(@Param("rootIds") List<Long> rootIds, @Param("limit") int limit);
 }
\ No newline at end of file
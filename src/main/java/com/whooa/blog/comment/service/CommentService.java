@@ -1,9 +1,12 @@
 package com.whooa.blog.comment.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.whooa.blog.comment.dto.CommentDto.CommentCreateRequest;
+import com.whooa.blog.comment.dto.CommentDto.CommentThreadResponse;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.util.PaginationUtil;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
@@ -12,6 +15,10 @@ public interface CommentService {
 	public abstract CommentResponse create(Long postId, CommentCreateRequest commentCreate, UserDetailsImpl userDetailsImpl);
 	public abstract void delete(Long id, Long postId, UserDetailsImpl userDetailsImpl);
 	public abstract PageResponse<CommentResponse> findAllByPostId(Long postId, PaginationUtil paginationUtil);
+	public abstract ResourceVersion findVersionByPostId(Long postId);
+	public abstract PageResponse<CommentThreadResponse> findThreadsByPostId(Long postId, PaginationUtil paginationUtil);
+	public abstract PageResponse<CommentThreadResponse> findRepliesById(Long id, Long postId, PaginationUtil paginationUtil);
+	public abstract SseEmitter subscribe(Long postId);
 	public abstract CommentResponse reply(Long id, Long postId, CommentCreateRequest commentCreate, UserDetailsImpl userDetailsImpl);
 	public abstract CommentResponse update(Long id, Long postId, CommentUpdateRequest commentUpdate, UserDetailsImpl userDetailsImpl);
 }
\ No newline at end of file
@@ -1,24 +1,39 @@
 package com.whooa.blog.comment.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.whooa.blog.comment.buffer.CommentBuffer;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentCreateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.dto.CommentDto.CommentThreadResponse;
 import com.whooa.blog.comment.entity.CommentEntity;
 import com.whooa.blog.comment.exception.CommentNotBelongingToPostException;
 import com.whooa.blog.comment.exception.CommentNotFoundException;
 import com.whooa.blog.comment.mapper.CommentMapper;
+import com.whooa.blog.comment.repository.CommentCountRepository;
 import com.whooa.blog.comment.repository.CommentRepository;
 import com.whooa.blog.comment.service.CommentService;
+import com.whooa.blog.comment.stream.CommentStreamHub;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.exception.InvalidCursorException;
 import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.post.cache.PostCache;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.repository.PostRepository;
@@ -26,25 +41,40 @@ import com.whooa.blog.user.entity.UserEntity;
 import com.whooa.blog.user.exception.UserNotFoundException;
 import com.whooa.blog.user.exception.UserNotMatchedException;
 import com.whooa.blog.user.repository.UserRepository;
+import com.whooa.blog.util.CursorUtil;
 import com.whooa.blog.util.StringUtil;
 import com.whooa.blog.util.PaginationUtil;
 
 @Service
 public class CommentServiceImpl implements CommentService {
+	/* 스레드 조회에서 루트 댓글마다 함께 반환하는 대댓글의 최대 개수. */
+	private static final int REPLY_LIMIT = 20;
+	
+	private CommentBuffer commentBuffer;
 	private CommentRepository commentRepository;
+	private CommentCountRepository commentCountRepository;
+	private CommentStreamHub commentStreamHub;
 	private PostRepository postRepository;
 	private UserRepository userRepository;
+	private PostCache postCache;
 
-	public CommentServiceImpl(CommentRepository commentRepository, PostRepository postRepository, UserRepository userRepository) {
+	public CommentServiceImpl(CommentBuffer commentBuffer, CommentRepository commentRepository, CommentCountRepository commentCountRepository, CommentStreamHub commentStreamHub, PostRepository postRepository, UserRepository userRepository, PostCache postCache) {
+		this.commentBuffer = commentBuffer;
 		this.commentRepository = commentRepository;
+		this.commentCountRepository = commentCountRepository;
+		this.commentStreamHub = commentStreamHub;
 		this.postRepository = postRepository;
 		this.userRepository = userRepository;
+		this.postCache = postCache;
 	}
 	
+	/* 댓글 INSERT 문장과 댓글 개수 UPDATE 문장을 하나의 트랜잭션으로 실행한다. */
+	@Transactional
 	@Override
 	public CommentResponse create(Long postId, CommentCreateRequest commentCreate, UserDetailsImpl userDetailsImpl) {
 		Long userId;
 		CommentEntity commentEntity;
+		CommentResponse comment;
 		PostEntity postEntity;
 		UserEntity userEntity;
 		
@@ -55,16 +85,37 @@ public class CommentServiceImpl implements CommentService {
 		commentEntity = CommentMapper.INSTANCE.toEntity(commentCreate);
 		
 		commentEntity.post(postEntity).user(userEntity);
+		
+		/* 버퍼 모드에서는 검증한 댓글을 버퍼에 넣고 바로 응답한다. 댓글 개수와 포스트 캐시는 버퍼를 반영할 때 갱신하고 구독자에게는 반영한 후에 발행한다. */
+		if (commentBuffer.isEnabled()) {
+			return CommentMapper.INSTANCE.toDto(commentBuffer.offer(commentEntity));
+		}
+		
+		comment = CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		commentCountRepository.increaseCommentCount(postId, 1);
+		/* 포스트 상세 응답은 댓글 목록을 포함하기 때문에 댓글이 바뀌면 포스트 캐시를 무효화한다. */
+		postCache.invalidate(postId);
+		/* 구독자에게 응답 DTO를 그대로 전달하기 때문에 구독자 수와 무관하게 데이터베이스를 다시 읽지 않는다. */
+		commentStreamHub.publish(postId, comment);
 	
-		return CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		return comment;
 	}
 	
+	@Transactional
 	@Override
 	public void delete(Long id, Long postId, UserDetailsImpl userDetailsImpl) {
 		Long userId;
 		CommentEntity commentEntity;
 		PostEntity postEntity;
 		
+		/*
+		 * 버퍼 모드에서는 방금 생성한 댓글도 찾을 수 있도록 버퍼에 남은 댓글을 먼저 반영한다.
+		 * 버퍼는 별도의 트랜잭션으로 커밋하기 때문에 이 트랜잭션이 처음 읽기 전에(MySQL의 REPEATABLE READ 스냅숏을 만들기 전에) 반영해야 보인다.
+		 */
+		if (commentBuffer.isEnabled()) {
+			commentBuffer.awaitWritten(id);
+		}
+		
 		postEntity = postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 		commentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
 
@@ -79,6 +130,13 @@ public class CommentServiceImpl implements CommentService {
 		}
 		
 		commentRepository.delete(commentEntity);
+		commentCountRepository.increaseCommentCount(postId, -1);
+		
+		if (commentEntity.getRootId() != null) {
+			commentCountRepository.increaseReplyCount(commentEntity.getRootId(), -1);
+		}
+		
+		postCache.invalidate(postId);
 	}
 	
 	@Override
@@ -91,9 +149,16 @@ public class CommentServiceImpl implements CommentService {
 		long totalElements;
 		boolean isLast, isFirst;
 		
+		if (paginationUtil.isCursorMode()) {
+			return scroll(postId, paginationUtil);
+		}
+		
 		pageable = paginationUtil.makePageable();
 
-		postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+		/* 존재 여부만 확인하기 때문에 포스트를 읽지 않고 기본키 인덱스만 사용한다. */
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."});
+		}
 		
 		page = commentRepository.findByPostId(postId, pageable);
 
@@ -110,10 +175,136 @@ public class CommentServiceImpl implements CommentService {
 		return PageResponse.handleResponse(commentResponse, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
 	}
 	
+	/*
+	 * 키셋 페이지네이션으로 포스트의 댓글 목록을 조회한다. 정렬 기준은 아이디만 지원한다.
+	 * 댓글이 있으면 포스트가 존재하기 때문에 윈도우가 비어 있을 때만 포스트의 존재 여부를 확인한다. 대부분의 요청은 SQL 문장 하나로 끝난다.
+	 */
+	private PageResponse<CommentResponse> scroll(Long postId, PaginationUtil paginationUtil) {
+		KeysetScrollPosition keysetScrollPosition;
+		Window<CommentEntity> window;
+		List<CommentResponse> commentResponse;
+		String sortBy, prevCursor, nextCursor;
+		boolean isLast, isFirst;
+		
+		sortBy = paginationUtil.getSortBy();
+		
+		if (!sortBy.equals("id")) {
+			throw new InvalidCursorException(Code.INVALID_CURSOR, new String[] {"댓글 커서 페이지네이션은 아이디 정렬만 지원합니다."});
+		}
+		
+		keysetScrollPosition = paginationUtil.makeScrollPosition();
+		window = commentRepository.findByPostId(postId, keysetScrollPosition, paginationUtil.makeSort(), paginationUtil.makeLimit());
+		
+		if (window.isEmpty() && !postRepository.existsById(postId)) {
+			throw new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."});
+		}
+		
+		prevCursor = CursorUtil.prev(window, keysetScrollPosition, sortBy);
+		nextCursor = CursorUtil.next(window, keysetScrollPosition, sortBy);
+		isLast = CursorUtil.isLast(window, keysetScrollPosition);
+		isFirst = CursorUtil.isFirst(window, keysetScrollPosition);
+		
+		commentResponse = window.getContent().stream().map((commentEntity) -> CommentMapper.INSTANCE.toDto(commentEntity)).collect(Collectors.toList());
+		
+		return PageResponse.handleResponse(commentResponse, paginationUtil.getPageSize(), prevCursor, nextCursor, isLast, isFirst);
+	}
+	
+	@Override
+	public SseEmitter subscribe(Long postId) {
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."});
+		}
+		
+		return commentStreamHub.subscribe(postId);
+	}
+	
+	@Override
+	public ResourceVersion findVersionByPostId(Long postId) {
+		return postRepository.findCommentVersionById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+	}
+
+	/*
+	 * 루트 댓글 페이지(COUNT 쿼리 포함)와 루트 댓글마다 최대 REPLY_LIMIT개의 대댓글(쿼리 하나)을 조회하고 메모리에서 트리를 만든다.
+	 * REPLY_LIMIT + 1개를 조회해서 남은 대댓글의 존재 여부를 COUNT 쿼리 없이 판단한다.
+	 */
+	@Override
+	public PageResponse<CommentThreadResponse> findThreadsByPostId(Long postId, PaginationUtil paginationUtil) {
+		Pageable pageable;
+		Page<CommentEntity> page;
+		List<CommentEntity> rootCommentEntities, replyCommentEntities, commentEntities;
+		List<Long> rootIds;
+		Map<Long, Integer> replyCounts;
+		List<CommentThreadResponse> threads;
+		Map<Long, CommentThreadResponse> threadMap;
+		int replyCount;
+		
+		pageable = paginationUtil.makePageable();
+
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."});
+		}
+		
+		page = commentRepository.findByPostIdAndParentIdIsNull(postId, pageable);
+		rootCommentEntities = page.getContent();
+		rootIds = rootCommentEntities.stream().map(CommentEntity::getId).collect(Collectors.toList());
+		
+		commentEntities = new ArrayList<CommentEntity>(rootCommentEntities);
+		replyCounts = new HashMap<Long, Integer>();
+		
+		if (!rootIds.isEmpty()) {
+			replyCommentEntities = commentRepository.findRepliesByRootIdIn(rootIds, REPLY_LIMIT + 1);
+			
+			/* 아이디 순으로 정렬되어 있기 때문에 루트 댓글마다 REPLY_LIMIT + 1번째 대댓글은 가장 마지막 대댓글이고 자식이 없다. */
+			for (CommentEntity replyCommentEntity : replyCommentEntities) {
+				replyCount = replyCounts.merge(replyCommentEntity.getRootId(), 1, Integer::sum);
+				
+				if (replyCount <= REPLY_LIMIT) {
+					commentEntities.add(replyCommentEntity);
+				}
+			}
+		}
+		
+		threadMap = new LinkedHashMap<Long, CommentThreadResponse>();
+		threads = buildTree(commentEntities, threadMap);
+		
+		replyCounts.forEach((rootId, count) -> {
+			if (count > REPLY_LIMIT) {
+				threadMap.get(rootId).setMoreReplies(true);
+			}
+		});
+		
+		return PageResponse.handleResponse(threads, page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages(), page.isLast(), page.isFirst());
+	}
+	
+	/* 댓글의 서브트리(모든 자손)를 경로 접두사로 페이지 단위 조회한다. 부모 댓글이 페이지에 없는 댓글은 최상위 항목이 된다. */
+	@Override
+	public PageResponse<CommentThreadResponse> findRepliesById(Long id, Long postId, PaginationUtil paginationUtil) {
+		Pageable pageable;
+		Page<CommentEntity> page;
+		CommentEntity commentEntity;
+		List<CommentThreadResponse> replies;
+		
+		pageable = paginationUtil.makePageable();
+
+		/* 댓글이 존재하면 포스트도 존재하기 때문에 포스트는 읽지 않고 댓글의 외래키(지연 로딩 프록시의 아이디)만 비교한다. */
+		commentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
+		
+		if (!commentEntity.getPost().getId().equals(postId)) {
+			throw new CommentNotBelongingToPostException(Code.COMMENT_NOT_IN_POST, new String[] {"댓글이 포스트에 속하지 않습니다."});
+		}
+		
+		page = commentRepository.findByPathStartingWith(commentEntity.getSubtreePath(), pageable);
+		replies = buildTree(page.getContent(), new LinkedHashMap<Long, CommentThreadResponse>());
+		
+		return PageResponse.handleResponse(replies, page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages(), page.isLast(), page.isFirst());
+	}
+
+	@Transactional
 	@Override
 	public CommentResponse reply(Long id, Long postId, CommentCreateRequest commentCreate, UserDetailsImpl userDetailsImpl) {
 		Long userId;
 		CommentEntity parentCommentEntity, commentEntity;
+		CommentResponse comment;
 		PostEntity postEntity;
 		UserEntity userEntity;
 		
@@ -121,7 +312,12 @@ public class CommentServiceImpl implements CommentService {
 
 		postEntity = postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 		userEntity = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"사용자가 존재하지 않습니다."}));
-		parentCommentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
+		/* 버퍼 모드에서는 아직 반영하지 않은 댓글에도 대댓글을 생성할 수 있도록 버퍼를 먼저 확인한다. */
+		parentCommentEntity = commentBuffer.isEnabled() ? commentBuffer.find(id) : null;
+		
+		if (parentCommentEntity == null) {
+			parentCommentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
+		}
 		
 		if (!parentCommentEntity.getPost().getId().equals(postEntity.getId())) {
 			throw new CommentNotBelongingToPostException(Code.COMMENT_NOT_IN_POST, new String[] {"댓글이 포스트에 속하지 않습니다."});
@@ -129,20 +325,37 @@ public class CommentServiceImpl implements CommentService {
 		
 		commentEntity = CommentMapper.INSTANCE.toEntity(commentCreate);
 		
-		commentEntity.parentId(parentCommentEntity.getId()).post(postEntity).user(userEntity);
+		commentEntity.parent(parentCommentEntity).post(postEntity).user(userEntity);
+		
+		if (commentBuffer.isEnabled()) {
+			return CommentMapper.INSTANCE.toDto(commentBuffer.offer(commentEntity));
+		}
+		
+		comment = CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		commentCountRepository.increaseCommentCount(postId, 1);
+		commentCountRepository.increaseReplyCount(commentEntity.getRootId(), 1);
+		postCache.invalidate(postId);
+		commentStreamHub.publish(postId, comment);
 				
-		return CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		return comment;
 	}
 	
+	/* 댓글 UPDATE 문장과 댓글 버전 UPDATE 문장을 하나의 트랜잭션으로 실행한다. */
+	@Transactional
 	@Override
 	public CommentResponse update(Long id, Long postId, CommentUpdateRequest commentUpdate, UserDetailsImpl userDetailsImpl) {
 		CommentEntity commentEntity;
+		CommentResponse comment;
 		String content;
 		PostEntity postEntity;
 		Long userId;
 
 		userId = userDetailsImpl.getId();
 
+		if (commentBuffer.isEnabled()) {
+			commentBuffer.awaitWritten(id);
+		}
+		
 		postEntity = postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 		commentEntity = commentRepository.findById(id).orElseThrow(() -> new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."}));
 		
@@ -160,6 +373,37 @@ public class CommentServiceImpl implements CommentService {
 			commentEntity.content(content);
 		}
 		
-		return CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		comment = CommentMapper.INSTANCE.toDto(commentRepository.save(commentEntity));
+		commentCountRepository.touchComments(postId);
+		postCache.invalidate(postId);
+		
+		return comment;
+	}
+	
+	/*
+	 * 댓글 목록으로 트리를 만든다. 모든 노드를 맵에 넣은 후 한 번 더 순회하면서 부모 노드에 연결하기 때문에 선형 시간이 걸리고 입력 순서와 무관하다.
+	 * 부모 노드가 목록에 없는 노드를 입력 순서대로 반환한다.
+	 */
+	private List<CommentThreadResponse> buildTree(List<CommentEntity> commentEntities, Map<Long, CommentThreadResponse> threadMap) {
+		List<CommentThreadResponse> threads;
+		CommentThreadResponse parent;
+		
+		for (CommentEntity commentEntity : commentEntities) {
+			threadMap.put(commentEntity.getId(), new CommentThreadResponse(commentEntity.getId(), commentEntity.getContent(), commentEntity.getParentId(), commentEntity.getDepth(), commentEntity.getReplyCount()));
+		}
+		
+		threads = new ArrayList<CommentThreadResponse>();
+		
+		for (CommentThreadResponse thread : threadMap.values()) {
+			parent = thread.getParentId() != null ? threadMap.get(thread.getParentId()) : null;
+			
+			if (parent != null) {
+				parent.getReplies().add(thread);
+			} else {
+				threads.add(thread);
+			}
+		}
+		
+		return threads;
 	}
 }
\ No newline at end of file
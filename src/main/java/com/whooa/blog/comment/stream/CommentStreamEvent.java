@@ -0,0 +1,22 @@
+package com.whooa.blog.comment.stream;
+
+/* 구독자에게 전송하는 댓글 이벤트. 댓글은 발행할 때 한 번만 JSON으로 직렬화하고 모든 구독자가 같은 문자열을 공유한다. */
+public class CommentStreamEvent {
+	public static final String NAME = "comment";
+
+	private Long id;
+	private String data;
+
+	public CommentStreamEvent(Long id, String data) {
+		this.id = id;
+		this.data = data;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getData() {
+		return data;
+	}
+}
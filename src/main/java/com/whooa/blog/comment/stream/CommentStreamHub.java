@@ -0,0 +1,255 @@
+package com.whooa.blog.comment.stream;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.property.CommentStreamProperty;
+
+import jakarta.annotation.PreDestroy;
+
+/*
+ * 포스트마다 댓글 스트림(SSE)의 구독자를 관리하고 새 댓글을 구독자에게 전달한다(fan-out).
+ * 댓글을 생성한 요청이 이미 갖고 있는 응답 DTO를 전달하기 때문에 구독자가 N명이어도 데이터베이스를 읽지 않는다.
+ *
+ * 1. 발행은 구독자마다 큐에 이벤트를 넣기만 하고 전송은 전용 스레드 풀에서 한다. 댓글을 생성하는 요청은 네트워크 쓰기를 기다리지 않는다.
+ * 2. 큐가 가득 찬 구독자(느린 소비자)는 연결을 끊는다. 클라이언트(EventSource)는 다시 연결한 후 목록 API로 놓친 댓글을 조회한다.
+ * 3. 구독자마다 큐를 비우는 작업은 최대 하나만 예약되기 때문에 스레드 풀의 작업 큐는 구독자 수를 넘지 않는다.
+ * 4. SseEmitter 클래스의 send() 메서드는 블로킹 쓰기이다. 감시 스레드가 send-timeout보다 오래 전송 중인 구독자를 멈춘 구독자로 보고 목록에서 제거하고 닫는다.
+ *    멈춘 전송은 톰캣의 쓰기 타임아웃이 지나야 스레드를 돌려주기 때문에 그동안 멈춘 구독자 수만큼(최대 max-threads) 스레드를 늘려서 다른 구독자의 전송이 밀리지 않게 한다.
+ *
+ * 구독자는 이 애플리케이션 인스턴스의 메모리에 있기 때문에 인스턴스가 여러 개이면 같은 인스턴스에서 생성한 댓글만 전달된다.
+ */
+@Component
+public class CommentStreamHub {
+	private static Logger logger = LoggerFactory.getLogger(CommentStreamHub.class);
+
+	private Map<Long, Set<CommentStreamSubscriber>> subscribers;
+	private CommentStreamProperty commentStreamProperty;
+	private ObjectMapper objectMapper;
+	private ThreadPoolExecutor executorService;
+	private ScheduledExecutorService watchdog;
+	/* 전송이 멈춘 채로 스레드를 점유하고 있는 구독자의 수. */
+	private AtomicInteger stalled;
+
+	public CommentStreamHub(CommentStreamProperty commentStreamProperty, ObjectMapper objectMapper) {
+		this.subscribers = new ConcurrentHashMap<Long, Set<CommentStreamSubscriber>>();
+		this.commentStreamProperty = commentStreamProperty;
+		this.objectMapper = objectMapper;
+		this.executorService = new ThreadPoolExecutor(commentStreamProperty.getThreads(), commentStreamProperty.getThreads(), 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactoryBuilder().setNameFormat("comment-stream-%d").setDaemon(true).build());
+		this.watchdog = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("comment-stream-watchdog").setDaemon(true).build());
+		this.stalled = new AtomicInteger();
+
+		this.watchdog.scheduleWithFixedDelay(this::sweep, commentStreamProperty.getSendTimeout(), commentStreamProperty.getSendTimeout(), TimeUnit.MILLISECONDS);
+	}
+
+	public SseEmitter subscribe(Long postId) {
+		SseEmitter sseEmitter;
+		CommentStreamSubscriber subscriber;
+
+		sseEmitter = new SseEmitter(commentStreamProperty.getTimeout());
+		subscriber = new CommentStreamSubscriber(postId, sseEmitter, commentStreamProperty.getQueueCapacity());
+
+		sseEmitter.onCompletion(() -> remove(subscriber));
+		sseEmitter.onTimeout(() -> remove(subscriber));
+		sseEmitter.onError((throwable) -> remove(subscriber));
+
+		/* remove() 메서드가 빈 집합을 제거하는 것과 경쟁하지 않도록 집합 생성과 추가를 compute() 메서드 하나로 실행한다. */
+		subscribers.compute(postId, (key, postSubscribers) -> {
+			if (postSubscribers == null) {
+				postSubscribers = ConcurrentHashMap.newKeySet();
+			}
+
+			postSubscribers.add(subscriber);
+			return postSubscribers;
+		});
+
+		/* 응답 헤더를 바로 전송해서 클라이언트가 연결되었음을 알 수 있도록 주석 이벤트를 보낸다. */
+		try {
+			sseEmitter.send(SseEmitter.event().comment("connected"));
+		} catch (IOException exception) {
+			remove(subscriber);
+		}
+
+		return sseEmitter;
+	}
+
+	/*
+	 * 트랜잭션 안에서 호출하면 커밋한 후에 발행한다. 롤백된 댓글을 구독자에게 전달하지 않기 위해서이다.
+	 * 발행은 구독자의 큐에 넣기만 하기 때문에 afterCommit() 메서드에서 실행해도 요청을 오래 막지 않는다.
+	 */
+	public void publish(Long postId, CommentResponse comment) {
+		if (!subscribers.containsKey(postId)) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					fanOut(postId, comment);
+				}
+			});
+			return;
+		}
+
+		fanOut(postId, comment);
+	}
+
+	/* 이미 커밋한 댓글을 바로 발행한다. 댓글 버퍼는 별도의 트랜잭션으로 반영하기 때문에 호출자의 트랜잭션을 기다리지 않는다. */
+	public void publishCommitted(Long postId, CommentResponse comment) {
+		if (!subscribers.containsKey(postId)) {
+			return;
+		}
+
+		fanOut(postId, comment);
+	}
+
+	public int count(Long postId) {
+		Set<CommentStreamSubscriber> postSubscribers;
+
+		postSubscribers = subscribers.get(postId);
+
+		return postSubscribers == null ? 0 : postSubscribers.size();
+	}
+
+	@PreDestroy
+	public void destroy() {
+		subscribers.values().forEach((postSubscribers) -> postSubscribers.forEach((subscriber) -> subscriber.complete()));
+		watchdog.shutdown();
+		executorService.shutdown();
+	}
+
+	private void fanOut(Long postId, CommentResponse comment) {
+		Set<CommentStreamSubscriber> postSubscribers;
+		CommentStreamEvent event;
+
+		postSubscribers = subscribers.get(postId);
+
+		if (postSubscribers == null || postSubscribers.isEmpty()) {
+			return;
+		}
+
+		try {
+			event = new CommentStreamEvent(comment.getId(), objectMapper.writeValueAsString(comment));
+		} catch (JsonProcessingException exception) {
+			logger.error("[CommentStreamHub] 댓글(아이디: {})을 직렬화하지 못했습니다: {}", comment.getId(), exception.getMessage());
+			return;
+		}
+
+		for (CommentStreamSubscriber subscriber : postSubscribers) {
+			if (!subscriber.offer(event)) {
+				logger.warn("[CommentStreamHub] 포스트(아이디: {})의 느린 구독자를 끊습니다.", postId);
+
+				/* 전송 중인 연결을 발행하는 스레드에서 끊으면 전송이 끝날 때까지 막히기 때문에 닫기만 하고 큐를 비우는 작업이 끊는다. */
+				remove(subscriber);
+				subscriber.close();
+				schedule(subscriber);
+				continue;
+			}
+
+			schedule(subscriber);
+		}
+	}
+
+	private void schedule(CommentStreamSubscriber subscriber) {
+		if (!subscriber.schedule()) {
+			return;
+		}
+
+		try {
+			executorService.execute(() -> drain(subscriber));
+		} catch (RejectedExecutionException exception) {
+			/* 애플리케이션을 종료하는 중이다. */
+			remove(subscriber);
+		}
+	}
+
+	private void drain(CommentStreamSubscriber subscriber) {
+		try {
+			if (subscriber.drain()) {
+				schedule(subscriber);
+			}
+		} catch (IOException | IllegalStateException exception) {
+			/* 클라이언트가 연결을 끊었거나 이미 완료된 연결이다. */
+			remove(subscriber);
+		} finally {
+			if (subscriber.clearStalled()) {
+				resize(stalled.decrementAndGet());
+			}
+		}
+
+		/* 멈춘 구독자는 전송이 끝난 후에야 잠금을 얻을 수 있기 때문에 감시 스레드가 아니라 여기에서 연결을 끊는다. */
+		if (subscriber.isClosed()) {
+			try {
+				subscriber.complete();
+			} catch (IllegalStateException exception) {
+				/* 이미 완료된 연결이다. */
+			}
+		}
+	}
+
+	/* send-timeout보다 오래 전송 중인 구독자를 목록에서 제거하고 닫는다. 닫힌 구독자는 새 이벤트를 받지 않는다. */
+	private void sweep() {
+		long now, timeoutNanos;
+
+		now = System.nanoTime();
+		timeoutNanos = TimeUnit.MILLISECONDS.toNanos(commentStreamProperty.getSendTimeout());
+
+		for (Set<CommentStreamSubscriber> postSubscribers : subscribers.values()) {
+			for (CommentStreamSubscriber subscriber : postSubscribers) {
+				if (subscriber.markStalled(now, timeoutNanos)) {
+					logger.warn("[CommentStreamHub] 포스트(아이디: {})의 전송이 멈춘 구독자를 끊습니다.", subscriber.getPostId());
+
+					remove(subscriber);
+					subscriber.close();
+					resize(stalled.incrementAndGet());
+				}
+			}
+		}
+	}
+
+	/* 멈춘 전송이 점유한 스레드만큼 스레드 풀을 늘린다. 최대 크기를 먼저 늘리고 코어 크기를 먼저 줄여야 IllegalArgumentException 예외가 발생하지 않는다. */
+	private synchronized void resize(int stalledCount) {
+		int size;
+
+		size = Math.min(commentStreamProperty.getThreads() + Math.max(stalledCount, 0), Math.max(commentStreamProperty.getMaxThreads(), commentStreamProperty.getThreads()));
+
+		if (size > executorService.getMaximumPoolSize()) {
+			executorService.setMaximumPoolSize(size);
+			executorService.setCorePoolSize(size);
+		} else {
+			executorService.setCorePoolSize(size);
+			executorService.setMaximumPoolSize(size);
+		}
+	}
+
+	private void remove(CommentStreamSubscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.getPostId(), (key, postSubscribers) -> {
+			postSubscribers.remove(subscriber);
+
+			return postSubscribers.isEmpty() ? null : postSubscribers;
+		});
+	}
+}
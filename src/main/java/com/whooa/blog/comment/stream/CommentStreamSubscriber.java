@@ -0,0 +1,107 @@
+package com.whooa.blog.comment.stream;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * 포스트 하나의 댓글 스트림을 구독하는 연결.
+ * 전송하지 않은 이벤트는 크기가 제한된 큐에 담고 한 번에 스레드 하나만 큐를 비우도록(scheduled) 한다.
+ * SseEmitter 클래스의 send() 메서드는 소켓 버퍼가 가득 차면 블로킹되기 때문에 전송을 시작한 시각을 기록해서 멈춘(stalled) 구독자를 찾는다.
+ */
+public class CommentStreamSubscriber {
+	private Long postId;
+	private SseEmitter sseEmitter;
+	private BlockingQueue<CommentStreamEvent> queue;
+	private AtomicBoolean scheduled;
+	private AtomicBoolean closed;
+	private AtomicBoolean stalled;
+	/* 진행 중인 전송을 시작한 시각(System.nanoTime()). 전송 중이 아니면 0이다. */
+	private volatile long sendStartedAt;
+
+	public CommentStreamSubscriber(Long postId, SseEmitter sseEmitter, int queueCapacity) {
+		this.postId = postId;
+		this.sseEmitter = sseEmitter;
+		this.queue = new ArrayBlockingQueue<CommentStreamEvent>(queueCapacity);
+		this.scheduled = new AtomicBoolean(false);
+		this.closed = new AtomicBoolean(false);
+		this.stalled = new AtomicBoolean(false);
+	}
+
+	/* 큐가 가득 차거나 닫힌 구독자이면 false를 반환한다. 기다리지 않기 때문에 느린 구독자가 댓글을 생성하는 스레드를 막지 않는다. */
+	public boolean offer(CommentStreamEvent event) {
+		return !closed.get() && queue.offer(event);
+	}
+
+	/* 큐를 비우는 작업이 예약되어 있지 않으면 예약하고 true를 반환한다. */
+	public boolean schedule() {
+		return scheduled.compareAndSet(false, true);
+	}
+
+	/*
+	 * 큐의 이벤트를 모두 전송한다. 전송에 실패하면(연결이 끊기면) IOException 예외를 던진다.
+	 * 예약을 해제한 후 그 사이 들어온 이벤트가 있으면 true를 반환해서 호출자가 다시 예약하게 한다.
+	 */
+	public boolean drain() throws IOException {
+		CommentStreamEvent event;
+
+		try {
+			while (!closed.get() && (event = queue.poll()) != null) {
+				sendStartedAt = System.nanoTime();
+
+				try {
+					sseEmitter.send(SseEmitter.event().id(String.valueOf(event.getId())).name(CommentStreamEvent.NAME).data(event.getData()));
+				} finally {
+					sendStartedAt = 0;
+				}
+			}
+		} finally {
+			scheduled.set(false);
+		}
+
+		return !closed.get() && !queue.isEmpty();
+	}
+
+	/* 전송 하나가 timeoutNanos보다 오래 걸리고 있으면 멈춘 구독자로 표시하고 true를 반환한다. 한 번만 true를 반환한다. */
+	public boolean markStalled(long now, long timeoutNanos) {
+		long startedAt;
+
+		startedAt = sendStartedAt;
+
+		return startedAt != 0 && now - startedAt > timeoutNanos && stalled.compareAndSet(false, true);
+	}
+
+	/* 멈춘 구독자로 표시되어 있었으면 표시를 지우고 true를 반환한다. */
+	public boolean clearStalled() {
+		return stalled.compareAndSet(true, false);
+	}
+
+	/*
+	 * 새 이벤트를 받지 않고 남은 이벤트를 버린다. 연결은 끊지 않는다.
+	 * 블로킹된 send() 메서드와 같은 잠금을 사용하는 complete() 메서드를 호출하지 않기 때문에 호출하는 스레드가 막히지 않는다.
+	 */
+	public void close() {
+		closed.set(true);
+		queue.clear();
+	}
+
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	public void complete() {
+		close();
+		sseEmitter.complete();
+	}
+
+	public Long getPostId() {
+		return postId;
+	}
+
+	public SseEmitter getSseEmitter() {
+		return sseEmitter;
+	}
+}
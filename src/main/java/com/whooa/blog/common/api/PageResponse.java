@@ -10,6 +10,9 @@ public class PageResponse<T> {
 	private int totalPages;
 	private boolean isLast;
 	private boolean isFirst;
+	/* 키셋 페이지네이션의 이전/다음 페이지 커서. OFFSET 페이지네이션에서는 null이다. */
+	private String prevCursor;
+	private String nextCursor;
 	
 	private PageResponse(List<T> content, int pageSize, int pageNo, long totalElements, int totalPages, boolean isLast,
 			boolean isFirst) {
@@ -27,6 +30,18 @@ public class PageResponse<T> {
 		return new PageResponse<T>(content, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
 	}
 	
+	/* 키셋 페이지네이션은 COUNT 쿼리를 실행하지 않기 때문에 pageNo, totalElements, totalPages 필드는 -1이다. */
+	public static <T> PageResponse<T> handleResponse(List<T> content, int pageSize, String prevCursor, String nextCursor, boolean isLast,
+			 boolean isFirst) {
+		PageResponse<T> pageResponse;
+		
+		pageResponse = new PageResponse<T>(content, pageSize, -1, -1, -1, isLast, isFirst);
+		pageResponse.setPrevCursor(prevCursor);
+		pageResponse.setNextCursor(nextCursor);
+		
+		return pageResponse;
+	}
+	
 	public List<T> getContent() {
 		return content;
 	}
@@ -83,9 +98,26 @@ public class PageResponse<T> {
 		this.isFirst = isFirst;
 	}
 
+	public String getPrevCursor() {
+		return prevCursor;
+	}
+
+	public void setPrevCursor(String prevCursor) {
+		this.prevCursor = prevCursor;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
 	@Override
 	public String toString() {
 		return "PageResponse [content=" + content + ", pageSize=" + pageSize + ", pageNo=" + pageNo + ", totalElements="
-				+ totalElements + ", totalPages=" + totalPages + ", isLast=" + isLast + ", isFirst=" + isFirst + "]";
+				+ totalElements + ", totalPages=" + totalPages + ", isLast=" + isLast + ", isFirst=" + isFirst
+				+ ", prevCursor=" + prevCursor + ", nextCursor=" + nextCursor + "]";
 	}
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.whooa.blog.common.api;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/*
+ * 조건부 GET 요청(If-None-Match, If-Modified-Since)의 검증자(validator).
+ * 마지막 수정 시간(CoreEntity 클래스의 updatedAt 필드)과 버전으로 만들기 때문에 엔티티를 조회하지 않고 행 하나의 열만 읽어서 구할 수 있다.
+ * 버전은 하위 행을 쓸 때마다 증가하는 열(post.comment_version)이며 수정 시간을 바꾸지 않는 삭제를 반영한다.
+ */
+public class ResourceVersion {
+	private LocalDateTime lastModified;
+	private long version;
+	
+	public ResourceVersion(LocalDateTime lastModified, Long version) {
+		this.lastModified = lastModified;
+		this.version = version == null ? 0 : version;
+	}
+
+	/* 강한 ETag. 밀리초 단위의 수정 시간을 사용하기 때문에 초 단위인 Last-Modified 헤더보다 정확하다. */
+	public String getETag() {
+		return "\"" + Long.toHexString(getLastModified()) + "-" + Long.toHexString(version) + "\"";
+	}
+	
+	/* 행이 없으면 -1을 반환하고 Last-Modified 헤더를 사용하지 않는다. */
+	public long getLastModified() {
+		return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+	
+	public long getVersion() {
+		return version;
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceVersion [lastModified=" + lastModified + ", version=" + version + "]";
+	}
+}
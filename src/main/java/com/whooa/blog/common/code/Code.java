@@ -10,10 +10,12 @@ public enum Code {
 	FORBIDDEN(403, "권한이 없습니다."),
 	NOT_FOUND(404, "찾을 수 없습니다."), 
 	CONFLICT(409, "충돌이 발생했습니다."),
+	TOO_MANY_REQUESTS(429, "요청이 너무 많습니다."),
 	
 	INTERNAL_SERVER_ERROR(500, "서버 오류가 발생했습니다."),
 	
 	COMMENT_NOT_IN_POST(1000, "포스트에 해당 댓글이 없습니다."),
+	COMMENT_BUFFER_FULL(1001, "댓글 버퍼가 가득 찼습니다."),
 	
 	DIRECTY_NOT_CREATED(2000, "디렉터리를 생성할 수 없습니다."),
 	INVALID_PATH_SEQUENCE(2001, "유효하지 않은 경로 시퀀스가 포함되어 있습니다."), 
@@ -25,11 +27,16 @@ public enum Code {
 	JWT_REFRESH_TOKEN_NOT_MATCHED(3002, "JWT 새로고침 토큰이 일치하지 않습니다."),
 
 	USER_NOT_MATCHED(4000, "사용자가 일치하지 않습니다."),
+	PASSWORD_HASHING_BUSY(4001, "비밀번호를 처리하는 작업이 밀려 있습니다."),
 	
 	OAUTH2_INVALID_PROVIDER(5000, "OAuth 2이 지원되지 않습니다."),
 	OAUTH2_INVALID_EMAIL(5001, "OAuth 2 로그인이 제공하는 이메일이 아닙니다."),
 	OAUTH2_LOCAL_SIGNUP(5002, "이미 회원가입을 통해서 가입했습니다."),
-	OAUTH2_SIGNUP_FAILURE(5003, "OAuth 2 로그인에 실패했습니다.");
+	OAUTH2_SIGNUP_FAILURE(5003, "OAuth 2 로그인에 실패했습니다."),
+	
+	INVALID_CURSOR(6000, "커서가 유효하지 않습니다."),
+	
+	POST_NOT_IMPORTED(7000, "포스트를 가져올 수 없습니다.");
 	
 
 	private int code;
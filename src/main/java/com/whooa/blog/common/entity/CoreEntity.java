@@ -1,6 +1,10 @@
 package com.whooa.blog.common.entity;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.Hibernate;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -49,10 +53,32 @@ public abstract class CoreEntity {
 	@Column(name = "deleted_at")
 	private LocalDateTime deletedAt;
 	
+	/* 새 엔티티는 아이디가 null이어야 save() 메서드가 merge() 메서드(아이디마다 SELECT 문장)가 아닌 persist() 메서드로 저장하고 INSERT 문장을 일괄 처리할 수 있다. */
 	public CoreEntity(Long id) {
 		this.id = id;
 	}
 
+	/*
+	 * 양방향 연관관계의 반대편(부모의 @OneToMany 컬렉션)은 이미 메모리에 있을 때만 갱신한다.
+	 * 지연 로딩 컬렉션에 원소 하나를 추가하거나 제거하려고 자식 전체를 조회하지 않기 위해서이다.
+	 * 부모가 프록시이거나 컬렉션을 아직 조회하지 않았으면 나중에 조회할 때 데이터베이스에 반영된 자식이 포함된다.
+	 */
+	protected static <P extends CoreEntity, C> void addChild(P parent, Function<P, List<C>> children, C child) {
+		if (isLoaded(parent, children)) {
+			children.apply(parent).add(child);
+		}
+	}
+	
+	protected static <P extends CoreEntity, C> void removeChild(P parent, Function<P, List<C>> children, C child) {
+		if (isLoaded(parent, children)) {
+			children.apply(parent).remove(child);
+		}
+	}
+	
+	private static <P extends CoreEntity, C> boolean isLoaded(P parent, Function<P, List<C>> children) {
+		return parent != null && Hibernate.isInitialized(parent) && Hibernate.isInitialized(children.apply(parent));
+	}
+
 	public Long getId() {
 		return id;
 	}
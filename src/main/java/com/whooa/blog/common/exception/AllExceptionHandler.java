@@ -16,14 +16,17 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.whooa.blog.category.exception.CategoryNotFoundException;
 import com.whooa.blog.category.exception.DuplicateCategoryException;
+import com.whooa.blog.comment.exception.CommentBufferFullException;
 import com.whooa.blog.comment.exception.CommentNotBelongingToPostException;
 import com.whooa.blog.comment.exception.CommentNotFoundException;
 import com.whooa.blog.common.api.ApiResponse;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.security.exception.InvalidJwtRefreshTokenException;
 import com.whooa.blog.post.exception.PostNotFoundException;
+import com.whooa.blog.post.exception.PostNotImportedException;
 import com.whooa.blog.user.exception.DuplicateUserException;
 import com.whooa.blog.user.exception.InvalidCredentialsException;
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
 import com.whooa.blog.user.exception.SamePasswordException;
 import com.whooa.blog.user.exception.UnauthenticatedUserException;
 import com.whooa.blog.user.exception.UserNotFoundException;
@@ -54,6 +57,13 @@ public class AllExceptionHandler {
 		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
 	}
 	
+	@ExceptionHandler(CommentBufferFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ApiResponse<CommentBufferFullException> handleException(CommentBufferFullException exception) {
+		logger.error("[CommentBufferFullException]: {}", exception.getCode().getMessage());
+		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
+	}
+	
 	@ExceptionHandler(CommentNotBelongingToPostException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
 	public ApiResponse<CommentNotBelongingToPostException> handleException(CommentNotBelongingToPostException exception) {
@@ -97,6 +107,13 @@ public class AllExceptionHandler {
 		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
 	}
 	
+	@ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ApiResponse<InvalidCursorException> handleException(InvalidCursorException exception) {
+		logger.error("[InvalidCursorException]: {}", exception.getCode().getMessage());
+		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
+	}
+	
 	@ExceptionHandler(InvalidJwtRefreshTokenException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
 	public ApiResponse<InvalidJwtRefreshTokenException> handleException(InvalidJwtRefreshTokenException exception) {
@@ -129,6 +146,20 @@ public class AllExceptionHandler {
 		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
 	}
 	
+	@ExceptionHandler(PostNotImportedException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ApiResponse<PostNotImportedException> handleException(PostNotImportedException exception) {
+		logger.error("[PostNotImportedException]: {}", exception.getCode().getMessage());
+		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
+	}
+	
+	@ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ApiResponse<PasswordHashingBusyException> handleException(PasswordHashingBusyException exception) {
+		logger.error("[PasswordHashingBusyException]: {}", exception.getCode().getMessage());
+		return ApiResponse.handleFailure(exception.getCode().getCode(), exception.getCode().getMessage(), null, exception.getDetail());
+	}
+	
 	@ExceptionHandler(SamePasswordException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
 	public ApiResponse<SamePasswordException> handleException(SamePasswordException exception) {
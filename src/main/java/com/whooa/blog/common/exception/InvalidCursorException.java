@@ -0,0 +1,11 @@
+package com.whooa.blog.common.exception;
+
+import com.whooa.blog.common.code.Code;
+
+public class InvalidCursorException extends CoreException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidCursorException(Code code, String[] details) {
+		super(code, details);
+	}
+}
@@ -6,6 +6,8 @@ import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -16,6 +18,9 @@ import org.springframework.stereotype.Component;
 
 import com.whooa.blog.common.api.ApiResponse;
 import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.exception.InvalidSignInRequestException;
+import com.whooa.blog.common.security.exception.SignInRateLimitedException;
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
 import com.whooa.blog.util.SerializeDeserializeUtil;
 
 import jakarta.servlet.ServletException;
@@ -34,7 +39,18 @@ public class AuthenticationFailureHandlerImpl implements AuthenticationFailureHa
 		
 		ApiResponse<?> failure;
 		
-		if (authenticationException instanceof BadCredentialsException) {
+		if (authenticationException instanceof SignInRateLimitedException signInRateLimitedException) {
+			/* Retry-After 헤더는 초 단위이기 때문에 올림한다. */
+			httpServletResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((signInRateLimitedException.getRetryAfter() + 999) / 1000));
+			failure = ApiResponse.handleFailure(Code.TOO_MANY_REQUESTS.getCode(), Code.TOO_MANY_REQUESTS.getMessage(), null, new String[] {"로그인 시도가 너무 많습니다. 잠시 후 다시 시도하세요."});
+		} else if (authenticationException instanceof InvalidSignInRequestException) {
+			httpServletResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			failure = ApiResponse.handleFailure(Code.BAD_REQUEST.getCode(), Code.BAD_REQUEST.getMessage(), null, new String[] {"로그인 요청 본문이 유효하지 않습니다."});
+		} else if (authenticationException.getCause() instanceof PasswordHashingBusyException) {
+			httpServletResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			failure = ApiResponse.handleFailure(Code.PASSWORD_HASHING_BUSY.getCode(), Code.PASSWORD_HASHING_BUSY.getMessage(), null, new String[] {"잠시 후 다시 시도하세요."});
+		} else if (authenticationException instanceof BadCredentialsException) {
 			httpServletResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			failure = ApiResponse.handleFailure(Code.BAD_REQUEST.getCode(), Code.BAD_REQUEST.getMessage(), null, new String[] {"이메일 혹은 비밀번호가 유효하지 않습니다."});
 		} else if (authenticationException instanceof UsernameNotFoundException) {
@@ -61,14 +61,16 @@ public class AuthenticationSuccessHandlerImpl implements AuthenticationSuccessHa
 		email = userDetailsImpl.getUsername();
 		userRole = userDetailsImpl.getUserRole();
 
-		jwt = jwtUtil.issue(email);
+		/* 접근 토큰에 토큰 버전을 담기 위해 사용자를 먼저 읽는다. */
+		userEntity = userRepository.findByIdAndActiveTrue(id).get();
+
+		jwt = jwtUtil.issue(userEntity);
 		userResponse = new UserResponse(id, email, userRole);
 		success = ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), userResponse, new String[] {"로그인 했습니다."});
 
 		CookieUtil.set(httpServletResponse, JwtType.ACCESS_TOKEN.getType(), jwt.getAccessToken(), true, 60 * 60, "/", "Strict", false);
 		CookieUtil.set(httpServletResponse, JwtType.REFRESH_TOKEN.getType(), jwt.getRefreshToken(), true, 60 * 60 * 24 * 30, "/", "Strict", false);
 		
-		userEntity = userRepository.findByIdAndActiveTrue(id).get();
 		setRefreshToken(userEntity, jwt.getRefreshToken());
 
 		httpServletResponse.setStatus(HttpServletResponse.SC_OK);
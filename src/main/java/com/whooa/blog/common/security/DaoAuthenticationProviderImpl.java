@@ -0,0 +1,48 @@
+package com.whooa.blog.common.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * 로그인에 성공한 뒤 낮은 강도로 저장된 비밀번호를 다시 해시하는 작업이 해시 스레드 풀에서 거부되면 다시 해시하지 않고 로그인을 성공시킨다.
+ * 비밀번호는 이미 검증했기 때문에 강도를 올리는 작업은 다음 로그인으로 미뤄도 된다. 비밀번호 검증 자체가 거부되면 그대로 503 상태 코드로 응답한다.
+ */
+public class DaoAuthenticationProviderImpl extends DaoAuthenticationProvider {
+	private static Logger logger = LoggerFactory.getLogger(DaoAuthenticationProviderImpl.class);
+
+	private Counter skippedCounter;
+
+	public DaoAuthenticationProviderImpl(MeterRegistry meterRegistry) {
+		this.skippedCounter = Counter.builder("user.password.upgrade.skipped")
+				.description("해시 스레드 풀이 가득 차서 건너뛴 비밀번호 재해시의 개수")
+				.register(meterRegistry);
+	}
+
+	/* 권한 매퍼(GrantedAuthoritiesMapper)를 설정하지 않기 때문에 상위 클래스가 만드는 인증 결과와 같다. */
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+		UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken;
+
+		try {
+			return super.createSuccessAuthentication(principal, authentication, user);
+		} catch (PasswordHashingBusyException exception) {
+			logger.warn("[DaoAuthenticationProviderImpl] 해시 스레드 풀이 가득 차서 비밀번호를 다시 해시하지 않습니다.");
+			skippedCounter.increment();
+		}
+
+		usernamePasswordAuthenticationToken = UsernamePasswordAuthenticationToken.authenticated(principal, authentication.getCredentials(), user.getAuthorities());
+		usernamePasswordAuthenticationToken.setDetails(authentication.getDetails());
+
+		return usernamePasswordAuthenticationToken;
+	}
+}
@@ -1,8 +1,7 @@
 package com.whooa.blog.common.security;
 
 import java.io.IOException;
-
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
@@ -12,12 +11,19 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.util.Assert;
-import org.springframework.util.StreamUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import com.whooa.blog.common.security.exception.InvalidSignInRequestException;
+import com.whooa.blog.common.security.exception.SignInRateLimitedException;
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
+import com.whooa.blog.user.limit.SignInRateLimiter;
 import com.whooa.blog.util.SerializeDeserializeUtil;
 
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -48,11 +54,17 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
 	public static final String DEFAULT_JSON_USERNAME_KEY = "email";
 	public static final String DEFAULT_JSON_PASSWORD_KEY = "password";
+	/* 이메일과 비밀번호만 담는 로그인 요청 본문의 최대 크기(바이트). */
+	public static final int DEFAULT_MAX_BODY_SIZE = 4 * 1024;
 	private static final AntPathRequestMatcher DEFAULT_ANT_PATH_REQUEST_MATCHER = new AntPathRequestMatcher("/api/v1/auth/sign-in", "POST");
 
 	private String usernameKey = DEFAULT_JSON_USERNAME_KEY;
 	private String passwordKey = DEFAULT_JSON_PASSWORD_KEY;
 	private boolean postOnly = true;
+	private int maxBodySize = DEFAULT_MAX_BODY_SIZE;
+	/* 스프링이 구성한 ObjectMapper를 설정하지 않으면(테스트) SerializeDeserializeUtil 클래스의 ObjectMapper를 사용한다. */
+	private ObjectMapper objectMapper = SerializeDeserializeUtil.objectMapper();
+	private SignInRateLimiter signInRateLimiter;
 
 	public JsonUsernamePasswordAuthenticationFilter() {
 		super(DEFAULT_ANT_PATH_REQUEST_MATCHER);
@@ -63,7 +75,7 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 	public Authentication attemptAuthentication(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse)
 			throws AuthenticationException, IOException, ServletException {
 		String password, username;
-		ServletInputStream servletInputStream;
+		long wait;
 		SignInDto signInDto;
 		UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken;
 		
@@ -75,18 +87,95 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 			throw new AuthenticationServiceException("[JsonUsernamePasswordAuthenticationFilter] 지원되지 않는 인증 MIME 타입입니다: " + httpServletRequest.getContentType());	
 		}
 		
-		servletInputStream = httpServletRequest.getInputStream();
-		signInDto = SerializeDeserializeUtil.deserializeFromJson(StreamUtils.copyToString(servletInputStream, StandardCharsets.UTF_8), SignInDto.class);
+		/* 본문을 읽기 전에 IP 제한부터 확인해서 제한을 넘은 요청은 본문을 구문 분석하지 않는다. */
+		if (signInRateLimiter != null) {
+			wait = signInRateLimiter.acquireByIp(httpServletRequest.getRemoteAddr());
+			
+			if (wait > 0) {
+				throw new SignInRateLimitedException("[JsonUsernamePasswordAuthenticationFilter] IP의 로그인 시도가 너무 많습니다: " + httpServletRequest.getRemoteAddr(), wait);
+			}
+		}
+		
+		/* Content-Length 헤더로 한도를 넘는 것을 알 수 있으면 본문을 읽지 않고 거부한다. */
+		if (httpServletRequest.getContentLengthLong() > maxBodySize) {
+			throw new InvalidSignInRequestException("[JsonUsernamePasswordAuthenticationFilter] 로그인 요청 본문이 너무 큽니다: " + httpServletRequest.getContentLengthLong());
+		}
+		
+		signInDto = readSignInDto(httpServletRequest.getInputStream());
 		
 		username = signInDto.getEmail();
 		password = signInDto.getPassword();
 		
+		/* AuthenticationManager 클래스가 사용자를 조회하고 BCrypt로 비교하기 전에 거부한다. */
+		if (signInRateLimiter != null) {
+			wait = signInRateLimiter.acquireByEmail(username);
+			
+			if (wait > 0) {
+				throw new SignInRateLimitedException("[JsonUsernamePasswordAuthenticationFilter] 이메일의 로그인 시도가 너무 많습니다.", wait);
+			}
+		}
+		
 		usernamePasswordAuthenticationToken = UsernamePasswordAuthenticationToken.unauthenticated(username, password);
 		
 		/* Allow subclasses to set the "details" property */
 		setDetails(httpServletRequest, usernamePasswordAuthenticationToken);
 		
-		return this.getAuthenticationManager().authenticate(usernamePasswordAuthenticationToken);
+		/* 필터에서 던진 예외는 AllExceptionHandler 클래스가 처리하지 못하기 때문에 AuthenticationException 예외로 바꿔서 AuthenticationFailureHandlerImpl 클래스가 처리하도록 한다. */
+		try {
+			return this.getAuthenticationManager().authenticate(usernamePasswordAuthenticationToken);
+		} catch (PasswordHashingBusyException exception) {
+			throw new AuthenticationServiceException(exception.getCode().getMessage(), exception);
+		}
+	}
+	
+	/*
+	 * 본문을 문자열로 복사하지 않고 스트리밍 파서로 토큰을 읽으면서 이메일과 비밀번호만 꺼낸다.
+	 * 최대 maxBodySize 바이트까지만 읽기 때문에 Content-Length 헤더가 없는(chunked) 요청도 한도를 넘으면 JSON 객체가 끝나지 않아서 거부된다.
+	 * 다른 필드는 값(객체, 배열 포함)을 건너뛰고 이메일과 비밀번호가 문자열이 아니거나 없으면 사용자를 조회하기 전에 거부한다.
+	 */
+	private SignInDto readSignInDto(InputStream inputStream) throws IOException {
+		SignInDto signInDto;
+		String fieldName;
+		JsonToken jsonToken;
+		
+		signInDto = new SignInDto();
+		
+		try (JsonParser jsonParser = objectMapper.getFactory().createParser(ByteStreams.limit(inputStream, maxBodySize))) {
+			if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+				throw new InvalidSignInRequestException("[JsonUsernamePasswordAuthenticationFilter] 로그인 요청 본문이 JSON 객체가 아닙니다.");
+			}
+			
+			while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+				fieldName = jsonParser.currentName();
+				jsonToken = jsonParser.nextToken();
+				
+				if (fieldName.equals(usernameKey) || fieldName.equals(passwordKey)) {
+					if (jsonToken != JsonToken.VALUE_STRING) {
+						throw new InvalidSignInRequestException("[JsonUsernamePasswordAuthenticationFilter] 로그인 요청의 필드가 문자열이 아닙니다: " + fieldName);
+					}
+					
+					if (fieldName.equals(usernameKey)) {
+						signInDto.email = jsonParser.getText();
+					} else {
+						signInDto.password = jsonParser.getText();
+					}
+				} else {
+					jsonParser.skipChildren();
+				}
+			}
+			
+			if (jsonParser.currentToken() != JsonToken.END_OBJECT) {
+				throw new InvalidSignInRequestException("[JsonUsernamePasswordAuthenticationFilter] 로그인 요청 본문이 끝나지 않았습니다.");
+			}
+		} catch (JsonProcessingException exception) {
+			throw new InvalidSignInRequestException("[JsonUsernamePasswordAuthenticationFilter] 로그인 요청 본문이 유효한 JSON이 아닙니다.", exception);
+		}
+		
+		if (signInDto.email == null || signInDto.password == null) {
+			throw new InvalidSignInRequestException("[JsonUsernamePasswordAuthenticationFilter] 로그인 요청에 이메일 혹은 비밀번호가 없습니다.");
+		}
+		
+		return signInDto;
 	}
 	
 	protected void setDetails(HttpServletRequest httpServletRequest, UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken) {
@@ -107,6 +196,20 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 	public void setPostOnly(boolean postOnly) {
 		this.postOnly = postOnly;
 	}
+	
+	public void setMaxBodySize(int maxBodySize) {
+		Assert.isTrue(maxBodySize > 0, "로그인 요청 본문의 최대 크기는 반드시 양수여야 합니다.");
+		this.maxBodySize = maxBodySize;
+	}
+	
+	public void setObjectMapper(ObjectMapper objectMapper) {
+		Assert.notNull(objectMapper, "ObjectMapper는 반드시 존재해야 합니다.");
+		this.objectMapper = objectMapper;
+	}
+	
+	public void setSignInRateLimiter(SignInRateLimiter signInRateLimiter) {
+		this.signInRateLimiter = signInRateLimiter;
+	}
 
 	public String getUsernameKey() {
 		return this.usernameKey;
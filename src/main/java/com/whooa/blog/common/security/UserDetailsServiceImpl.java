@@ -1,6 +1,7 @@
 package com.whooa.blog.common.security;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,7 +15,7 @@ import com.whooa.blog.user.repository.UserRepository;
  * 사용자 정의 UserDetailsService를 Spring 빈으로 노출하여 사용자 정의 인증을 정의할 수 있다.
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 		private UserRepository userRepository;
 
 	    public UserDetailsServiceImpl(UserRepository userRepository) {
@@ -28,4 +29,18 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
 			return UserDetailsImpl.create(userEntity);
 		}
+		
+		/*
+		 * DaoAuthenticationProvider 클래스는 로그인에 성공했고 저장된 해시의 강도가 현재 강도보다 낮으면 같은 비밀번호를 현재 강도로 다시 해시해서 호출한다.
+		 * 비밀번호 자체는 바뀌지 않기 때문에 토큰 버전을 올리지 않는다.
+		 */
+		@Override
+		public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+			UserEntity userEntity = userRepository.findByEmailAndActiveTrue(userDetails.getUsername())
+												.orElseThrow(() -> new UsernameNotFoundException("이메일과 일치하는 사용자가 존재하지 않습니다."));
+
+			userEntity.password(newPassword);
+
+			return UserDetailsImpl.create(userRepository.save(userEntity));
+		}
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.whooa.blog.common.security.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/* 로그인 요청 본문이 너무 크거나 이메일과 비밀번호를 문자열로 담은 JSON 객체가 아니면 로그인 필터에서 던진다. */
+public class InvalidSignInRequestException extends AuthenticationServiceException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidSignInRequestException(String message) {
+		super(message);
+	}
+
+	public InvalidSignInRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,20 @@
+package com.whooa.blog.common.security.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/* 로그인 필터에서 던지기 때문에 AuthenticationFailureHandlerImpl 클래스가 처리할 수 있도록 AuthenticationException 클래스를 상속한다. */
+public class SignInRateLimitedException extends AuthenticationServiceException {
+	private static final long serialVersionUID = 1L;
+
+	private long retryAfter;
+
+	public SignInRateLimitedException(String message, long retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+
+	/* 다시 시도할 수 있을 때까지의 시간(밀리초). */
+	public long getRetryAfter() {
+		return retryAfter;
+	}
+}
@@ -7,6 +7,8 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContext;
@@ -17,9 +19,14 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.common.security.UserDetailsServiceImpl;
+import com.whooa.blog.user.cache.UserDetailsCache;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.type.UserRole;
 import com.whooa.blog.util.CookieUtil;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -36,18 +43,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private JwtUtil jwtUtil;
 	private UserDetailsServiceImpl userDetailsServiceImpl;
+	private UserDetailsCache userDetailsCache;
+	private JwtVersionTable jwtVersionTable;
 	
-	public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsServiceImpl) {
+	/* 무상태 모드를 켜면 접근 토큰의 클레임만으로 인증 주체를 만들고 사용자를 조회하지 않는다. */
+	@Value("${spring.jwt.stateless:false}")
+	private boolean stateless;
+	
+	public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsServiceImpl, UserDetailsCache userDetailsCache, JwtVersionTable jwtVersionTable) {
 		this.jwtUtil = jwtUtil;
 		this.userDetailsServiceImpl = userDetailsServiceImpl;
+		this.userDetailsCache = userDetailsCache;
+		this.jwtVersionTable = jwtVersionTable;
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, FilterChain filterChain)
 			throws ServletException, IOException {
-		String jwtAccessToken, email, jwtRefreshToken;
+		String jwtAccessToken, jwtRefreshToken;
+		Claims claims;
 		Cookie cookie;
 		JwtBundle jwt;
+		Optional<Claims> optionalClaims;
 		Optional<Cookie> optionalCookie;
 		SecurityContext securityContext;
 		UserDetails userDetails;
@@ -85,8 +102,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			cookie = optionalCookie.get();
 			jwtAccessToken = cookie.getValue();
 			
-			if (jwtAccessToken != null & jwtUtil.verify(jwtAccessToken)) {
-				email = jwtUtil.parseEmail(jwtAccessToken);
+			/* 검증과 클레임 추출을 한 번의 구문 분석으로 처리한다. */
+			optionalClaims = jwtAccessToken != null ? jwtUtil.verifyAndParse(jwtAccessToken) : Optional.empty();
+			
+			if (optionalClaims.isPresent()) {
+				claims = optionalClaims.get();
 				
 				/*
 				 * try-catch 문이 필요한 이유.  
@@ -100,8 +120,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 					 * 사용자의 사용자 이름과 역할을 JWT 클레임 내에 암호화하고 해당 클레임을 JWT에서 구문 분석하여 UserDetails 객체를 생성할 수 있다.
 					 * 이렇게 해서 데이터베이스 조회 쿼리를 사용할 필요가 없지만 데이터베이스에서 사용자의 정보를 로드하는 것이 유용할 수 있다.
 					 * 예를 들어, 사용자의 역할이 변경되었거나 사용자가 JWT를 생성한 후에 비밀번호를 갱신했다면 JWT로 로그인을 금지할 수 있다.
+					 * 요청마다 조회하지 않도록 캐시에서 먼저 찾고 사용자 정보가 바뀌면 사용자 서비스가 캐시를 무효화한다.
+					 * 무상태 모드에서는 클레임으로 인증 주체를 만들고 토큰 버전 표로 폐기 여부만 확인한다.
 					 */
-					userDetails = userDetailsServiceImpl.loadUserByUsername(email);
+					userDetails = loadUserDetails(claims);
 					// UserResponse user = userService.findByEmail(email);
 					
 					/*
@@ -145,4 +167,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		filterChain.doFilter(httpServletRequest, httpServletResponse);
 	}
+	
+	/*
+	 * 무상태 모드이고 접근 토큰에 아이디 클레임이 있으면 데이터베이스와 캐시를 조회하지 않고 클레임으로 인증 주체를 만든다.
+	 * 인증 주체에는 아이디, 이메일, 역할만 있다. 비밀번호 등 다른 정보가 필요한 서비스는 아이디로 사용자를 다시 조회한다.
+	 * 아이디 클레임이 없는 접근 토큰(무상태 모드를 켜기 전에 발급한 토큰)은 기존처럼 사용자를 조회한다.
+	 */
+	private UserDetails loadUserDetails(Claims claims) {
+		String email;
+		Long id, version;
+		UserEntity userEntity;
+		
+		email = claims.getSubject();
+		id = claims.get(JwtUtil.ID_CLAIM, Long.class);
+		
+		if (!stateless || id == null) {
+			return userDetailsCache.get(email, () -> (UserDetailsImpl) userDetailsServiceImpl.loadUserByUsername(email));
+		}
+		
+		version = claims.get(JwtUtil.VERSION_CLAIM, Long.class);
+		
+		/* 역할, 비밀번호, 이메일, 활성 상태가 바뀐 후에 발급한 접근 토큰만 통과한다. 폐기된 토큰의 사용자는 새로고침 토큰으로 재발급을 받는다. */
+		if (version == null || jwtVersionTable.isRevoked(id, version)) {
+			throw new BadCredentialsException("폐기된 접근 토큰입니다.");
+		}
+		
+		userEntity = new UserEntity()
+						.email(email)
+						.userRole(UserRole.valueOf(claims.get(JwtUtil.ROLE_CLAIM, String.class)));
+		userEntity.setId(id);
+		
+		return UserDetailsImpl.create(userEntity);
+	}
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.whooa.blog.common.security.jwt;
 
 import java.security.Key;
 
+import java.nio.charset.StandardCharsets;
+
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -12,6 +15,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.security.exception.InvalidJwtRefreshTokenException;
 import com.whooa.blog.common.security.exception.JwtRefreshTokenNotMatched;
@@ -21,6 +27,7 @@ import com.whooa.blog.user.repository.UserRepository;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -28,24 +35,71 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtUtil {
   	private static Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
+	/* 무상태 모드에서 접근 토큰만으로 인증 주체를 만들 수 있도록 접근 토큰에 넣는 클레임이다. */
+	public static final String ID_CLAIM = "uid";
+	public static final String ROLE_CLAIM = "role";
+	public static final String VERSION_CLAIM = "ver";
+
 	@Value("${spring.jwt.secret}")
 	private String JWT_SECRET;
 	
+	@Value("${spring.jwt.cache.maximum-size:10000}")
+	private long cacheMaximumSize = 10000;
+	
 	private UserRepository userRepository;
+	private MeterRegistry meterRegistry;
 	
-	public JwtUtil(UserRepository userRepository) {
+	/* 비밀 키와 파서는 스레드 안전하기 때문에 한 번만 만들어서 재사용한다. */
+	private Key key;
+	private JwtParser jwtParser;
+	/*
+	 * 서명을 검증한 토큰의 SHA-256 해시 → 클레임 캐시이다. 같은 접근 토큰이 요청마다 반복되기 때문에 서명 검증과 JSON 구문 분석을 한 번만 한다.
+	 * 키는 검증을 통과한 토큰의 해시이기 때문에 위조한 토큰은 해시가 달라서 적중하지 않는다. 적중해도 만료 시간이 지났으면 제거하고 다시 검증한다.
+	 * 토큰 원문을 키로 두지 않아서 힙 덤프 등으로 토큰이 노출되지 않는다.
+	 */
+	private Cache<String, Claims> claimsCache;
+	
+	public JwtUtil(UserRepository userRepository, MeterRegistry meterRegistry) {
 		this.userRepository = userRepository;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@PostConstruct
+	public void init() {
+		/* YAML 파일에 저장된 암호화된 문자열을 복호화한다. */
+		key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET));
+		jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+		claimsCache = CacheBuilder.newBuilder()
+				.maximumSize(cacheMaximumSize)
+				.expireAfterWrite(JwtExpiration.ACCESS_TOKEN_EXPIRATION.expiration, TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+		
+		GuavaCacheMetrics.monitor(meterRegistry, claimsCache, "jwt-claims");
 	}
 
-	public JwtBundle issue(String email) {
+	/* 새로고침 토큰은 데이터베이스에 저장된 값과 비교하기 때문에 이메일만 담는다. */
+	public JwtBundle issue(UserEntity userEntity) {
+		String email;
+		Claims claims;
+		
+		email = userEntity.getEmail();
+		claims = Jwts.claims().setSubject(email);
+		claims.put(ID_CLAIM, userEntity.getId());
+		claims.put(ROLE_CLAIM, userEntity.getUserRole().name());
+		claims.put(VERSION_CLAIM, userEntity.getTokenVersion());
+		
 		return new JwtBundle(
-				build(email, JwtExpiration.ACCESS_TOKEN_EXPIRATION.expiration), 
-				build(email, JwtExpiration.REFRESH_TOKEN_EXPIRATION.expiration)
+				build(claims, email, JwtExpiration.ACCESS_TOKEN_EXPIRATION.expiration), 
+				build(Jwts.claims().setSubject(email), email, JwtExpiration.REFRESH_TOKEN_EXPIRATION.expiration)
 		);
 	}
 	
@@ -81,16 +135,19 @@ public class JwtUtil {
 			throw new JwtRefreshTokenNotMatched(Code.JWT_REFRESH_TOKEN_NOT_MATCHED, new String[] {"데이터베이스에 저장된 JWT 새로고침 토큰과 일치하지 않습니다."});
 		}
 		
-		JwtBundle jwt = issue(email);
+		JwtBundle jwt = issue(userEntity);
 		
 		return jwt;
 	}
 	
 	public boolean verify(String jwt) {
+		return verifyAndParse(jwt).isPresent();
+	}
+	
+	/* 서명과 만료 시간을 검증하고 클레임을 반환한다. 요청마다 한 번만 호출해서 검증과 클레임 추출을 함께 처리한다. */
+	public Optional<Claims> verifyAndParse(String jwt) {
 		try {
-			Jwts.parserBuilder().setSigningKey(key()).build().parse(jwt);
-			
-			return true;
+			return Optional.of(parseAllClaims(jwt));
 		} catch (MalformedJwtException exception) {
 			logger.error("[JwtUtil]: 유효하지 않은 형식의 JWT입니다.");
 		} catch (ExpiredJwtException exception) {
@@ -103,7 +160,7 @@ public class JwtUtil {
 			logger.error("[JwtUtil]: 유효하지 않은 인자입니다.");
 		}
 		
-		return false;
+		return Optional.empty();
 	}
 	
 	public String parseEmail(String jwt) {
@@ -122,8 +179,7 @@ public class JwtUtil {
 	//	 return null;
 	//  }
 	
-	private String build(String email, long expiration) {
-		Claims claims = Jwts.claims().setSubject(email);
+	private String build(Claims claims, String email, long expiration) {
 		Date now = new Date();
 					
 		return Jwts.builder()
@@ -131,15 +187,10 @@ public class JwtUtil {
 				  .setExpiration(new Date(now.getTime() + expiration))
 				  .setIssuedAt(now)
 				  .setIssuer(email)
-				  .signWith(key(), SignatureAlgorithm.HS256)
+				  .signWith(key, SignatureAlgorithm.HS256)
 				  .compact();
 	}
 			
-	private Key key() {
-		/* YAML 파일에 저장된 암호화된 문자열을 복호화한다. */
-		return Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET));
-	}
-	
 	private <T> T parseClaim(String jwt, Function<Claims, T> claimResolver) {
 		Claims claims = parseAllClaims(jwt);
 		
@@ -147,7 +198,29 @@ public class JwtUtil {
 	}
 	
 	private Claims parseAllClaims(String jwt) {
-		return Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(jwt).getBody();
+		String hash;
+		Claims claims;
+		Date expiration;
+		
+		hash = Hashing.sha256().hashString(jwt, StandardCharsets.UTF_8).toString();
+		claims = claimsCache.getIfPresent(hash);
+		
+		if (claims != null) {
+			expiration = claims.getExpiration();
+			
+			if (expiration == null || expiration.after(new Date())) {
+				return claims;
+			}
+			
+			/* 만료된 토큰은 파서가 ExpiredJwtException 예외를 던지도록 캐시에서 제거하고 다시 검증한다. */
+			claimsCache.invalidate(hash);
+		}
+		
+		/* parse() 메서드와 달리 parseClaimsJws() 메서드는 서명이 없는 토큰을 거부한다. */
+		claims = jwtParser.parseClaimsJws(jwt).getBody();
+		claimsCache.put(hash, claims);
+		
+		return claims;
 	}
 	
 	private enum JwtExpiration {
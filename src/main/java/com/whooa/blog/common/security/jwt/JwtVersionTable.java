@@ -0,0 +1,51 @@
+package com.whooa.blog.common.security.jwt;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.whooa.blog.user.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/*
+ * 무상태 모드에서 접근 토큰을 폐기하기 위한 사용자 아이디 → 유효한 최소 토큰 버전 표이다. 요청마다 해시 테이블을 한 번 조회한다(O(1)).
+ * 버전이 0인 사용자는 항목을 두지 않기 때문에 토큰을 폐기한 적이 있는 사용자만 메모리를 차지한다.
+ * 시작할 때 user 테이블의 token_version 열로 채우고 사용자 서비스가 버전을 올리면 함께 갱신한다.
+ * 다른 인스턴스에서 올린 버전은 재시작하기 전까지 반영되지 않는다. 이 간격은 접근 토큰의 만료 시간(1시간)을 넘지 않는다.
+ */
+@Component
+public class JwtVersionTable {
+	private UserRepository userRepository;
+	private ConcurrentHashMap<Long, Long> versions;
+
+	public JwtVersionTable(UserRepository userRepository) {
+		this.userRepository = userRepository;
+		this.versions = new ConcurrentHashMap<Long, Long>();
+	}
+
+	@PostConstruct
+	public void load() {
+		List<Object[]> rows;
+
+		rows = userRepository.findTokenVersions();
+
+		for (Object[] row : rows) {
+			update((Long) row[0], (Long) row[1]);
+		}
+	}
+
+	public long current(Long userId) {
+		return versions.getOrDefault(userId, 0L);
+	}
+
+	/* 동시에 갱신해도 버전이 줄어들지 않도록 큰 값을 남긴다. */
+	public void update(Long userId, long version) {
+		versions.merge(userId, version, Math::max);
+	}
+
+	public boolean isRevoked(Long userId, long version) {
+		return version < current(userId);
+	}
+}
@@ -55,12 +55,12 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 		userDetailsImpl = (UserDetailsImpl) authentication.getPrincipal();
 		
 		id = userDetailsImpl.getId();
-		jwt = jwtUtil.issue(userDetailsImpl.getUsername());
+		userEntity = userRepository.findByIdAndActiveTrue(id).get();
+		jwt = jwtUtil.issue(userEntity);
 
 		CookieUtil.set(httpServletResponse, JwtType.ACCESS_TOKEN.getType(), jwt.getAccessToken(), true, 60 * 60, "/", "Strict", false);
 		CookieUtil.set(httpServletResponse, JwtType.REFRESH_TOKEN.getType(), jwt.getRefreshToken(), true, 60 * 60, "/", "Strict", false);
 		
-		userEntity = userRepository.findByIdAndActiveTrue(id).get();
 		setRefreshToken(userEntity, jwt.getRefreshToken());
 		
 		clearAuthenticationAttributes(httpServletRequest, httpServletResponse);
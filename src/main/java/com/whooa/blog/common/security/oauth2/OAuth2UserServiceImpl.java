@@ -16,8 +16,8 @@ import com.whooa.blog.common.security.exception.OAuth2AuthenticationProcessExcep
 import com.whooa.blog.common.security.oauth2.userinfo.OAuth2UserInfo;
 import com.whooa.blog.common.security.oauth2.userinfo.OAuth2UserInfoUtil;
 import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.password.PasswordHasher;
 import com.whooa.blog.user.repository.UserRepository;
-import com.whooa.blog.util.PasswordUtil;
 import com.whooa.blog.util.StringUtil;
 
 /*
@@ -28,9 +28,11 @@ import com.whooa.blog.util.StringUtil;
 @Service
 public class OAuth2UserServiceImpl implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 	private UserRepository userRepository;
+	private PasswordHasher passwordHasher;
 
-	public OAuth2UserServiceImpl(UserRepository userRepository) {
+	public OAuth2UserServiceImpl(UserRepository userRepository, PasswordHasher passwordHasher) {
 		this.userRepository = userRepository;
+		this.passwordHasher = passwordHasher;
 	}
 
 	@Override
@@ -70,7 +72,7 @@ public class OAuth2UserServiceImpl implements OAuth2UserService<OAuth2UserReques
 	
 	private UserEntity create(OAuth2UserRequest oAuth2UserRequest, OAuth2UserInfo oAuth2UserInfo) {
 		UserEntity userEntity = new UserEntity();
-		String password = PasswordUtil.hash(oAuth2UserInfo.getOAuth2ProviderId());
+		String password = passwordHasher.encode(oAuth2UserInfo.getOAuth2ProviderId());
 		
 		userEntity
 				.email(oAuth2UserInfo.getEmail())
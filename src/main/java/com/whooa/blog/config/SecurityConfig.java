@@ -14,20 +14,20 @@ import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyUtils;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.whooa.blog.common.security.AccessDeniedHandlerImpl;
 import com.whooa.blog.common.security.AuthenticationEntryPointImpl;
 import com.whooa.blog.common.security.AuthenticationFailureHandlerImpl;
 import com.whooa.blog.common.security.AuthenticationSuccessHandlerImpl;
+import com.whooa.blog.common.security.DaoAuthenticationProviderImpl;
 import com.whooa.blog.common.security.JsonUsernamePasswordAuthenticationFilter;
 import com.whooa.blog.common.security.LogoutHandlerImpl;
 import com.whooa.blog.common.security.LogoutSuccessHandlerImpl;
@@ -37,8 +37,12 @@ import com.whooa.blog.common.security.oauth2.HttpCookieOAuth2AuthorizationReques
 import com.whooa.blog.common.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.whooa.blog.common.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.whooa.blog.common.security.oauth2.OAuth2UserServiceImpl;
+import com.whooa.blog.user.limit.SignInRateLimiter;
+import com.whooa.blog.user.password.PasswordHasher;
 import com.whooa.blog.user.type.UserRole;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import jakarta.servlet.DispatcherType;
 
 /* @Configuration 어노테이션은 클래스를 Java 기반 설정 클래스로 설정하며 @Bean 어노테이션으로 Spring 빈을 설정할 수 있다. */
@@ -64,9 +68,13 @@ public class SecurityConfig {
 	private JwtAuthenticationFilter jwtAuthenticationFilter;
 	private LogoutHandlerImpl logoutHandlerImpl;
 	private LogoutSuccessHandlerImpl logoutSuccessHandlerImpl;
+	private MeterRegistry meterRegistry;
 	private OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
 	private OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
 	private OAuth2UserServiceImpl oAuth2UserServiceImpl;
+	private ObjectMapper objectMapper;
+	private PasswordHasher passwordHasher;
+	private SignInRateLimiter signInRateLimiter;
 	private UserDetailsServiceImpl userDetailsServiceImpl;
 
 	public SecurityConfig(AccessDeniedHandlerImpl accessDeniedHandlerImpl, AuthenticationEntryPointImpl authenticationEntryPointImpl,
@@ -74,7 +82,8 @@ public class SecurityConfig {
 			HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository, JwtAuthenticationFilter jwtAuthenticationFilter,
 			LogoutHandlerImpl logoutHandlerImpl, LogoutSuccessHandlerImpl logoutSuccessHandlerImpl,
 			OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler, OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
-			UserDetailsServiceImpl userDetailsServiceImpl, OAuth2UserServiceImpl oAuth2UserServiceImpl) {
+			UserDetailsServiceImpl userDetailsServiceImpl, OAuth2UserServiceImpl oAuth2UserServiceImpl, PasswordHasher passwordHasher,
+			SignInRateLimiter signInRateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
 		this.accessDeniedHandlerImpl = accessDeniedHandlerImpl;
 		this.authenticationEntryPointImpl = authenticationEntryPointImpl;
 		this.authenticationFailureHandlerImpl = authenticationFailureHandlerImpl;
@@ -83,20 +92,20 @@ public class SecurityConfig {
 		this.jwtAuthenticationFilter = jwtAuthenticationFilter;
 		this.logoutHandlerImpl = logoutHandlerImpl;
 		this.logoutSuccessHandlerImpl = logoutSuccessHandlerImpl;
+		this.meterRegistry = meterRegistry;
 		this.oAuth2AuthenticationFailureHandler = oAuth2AuthenticationFailureHandler;
 		this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
 		this.oAuth2UserServiceImpl = oAuth2UserServiceImpl;
+		this.objectMapper = objectMapper;
+		this.passwordHasher = passwordHasher;
+		this.signInRateLimiter = signInRateLimiter;
 		this.userDetailsServiceImpl = userDetailsServiceImpl;
 	}
 	
 	/*
 	 * Spring Security의 서블릿 지원에는 PasswordEncoder와 통합하여 비밀번호를 안전하게 저장하는 기능이 포함된다. 
-	 * PasswordEncoder 빈을 노출하여 Spring Security에서 사용하는 PasswordEncoder 구현을 사용자 정의할 수 있다. 
+	 * PasswordEncoder 구현은 PasswordHasher 클래스로 BCrypt를 전용 스레드 풀에서 실행하고 설정한 강도로 해시한다.
 	 */
-	@Bean
-	public BCryptPasswordEncoder bCryptPasswordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
 
 	/*
 	 * AuthenticationManager는 Spring Security의 필터들이 인증을 수행하는 방식을 정의하는 API이다. 
@@ -124,10 +133,12 @@ public class SecurityConfig {
 		 * 5. 인증이 성공하면 반환된 Authentication은 UsernamePasswordAuthenticationToken 유형이며 주체(principal)는 구성된 UserDetailsService가 반환한 UserDetails이다. 
 		 *    최종적으로 반환된 UsernamePasswordAuthenticationToken은 인증 필터에 의해 SecurityContextHolder에 설정된다.
 		 */
-		DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
+		DaoAuthenticationProviderImpl daoAuthenticationProvider = new DaoAuthenticationProviderImpl(meterRegistry);
 		
 		daoAuthenticationProvider.setUserDetailsService(userDetailsServiceImpl);
-		daoAuthenticationProvider.setPasswordEncoder(bCryptPasswordEncoder());
+		daoAuthenticationProvider.setPasswordEncoder(passwordHasher);
+		/* 로그인에 성공하면 현재 강도보다 낮은 강도로 저장된 비밀번호를 다시 해시해서 저장한다. 해시 스레드 풀이 가득 차면 다시 해시하지 않는다. */
+		daoAuthenticationProvider.setUserDetailsPasswordService(userDetailsServiceImpl);
 		
 		return new ProviderManager(daoAuthenticationProvider);
 	}
@@ -139,6 +150,8 @@ public class SecurityConfig {
 		jsonUsernamePasswordAuthFilter.setAuthenticationManager(authenticationManager());
 		jsonUsernamePasswordAuthFilter.setAuthenticationSuccessHandler(authenticationSuccessHandlerImpl);
 		jsonUsernamePasswordAuthFilter.setAuthenticationFailureHandler(authenticationFailureHandlerImpl);
+		jsonUsernamePasswordAuthFilter.setSignInRateLimiter(signInRateLimiter);
+		jsonUsernamePasswordAuthFilter.setObjectMapper(objectMapper);
 		
 		return jsonUsernamePasswordAuthFilter;
 	}
@@ -212,6 +225,9 @@ public class SecurityConfig {
 						 .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
 						 .requestMatchers("/api/v1/categories/**").hasAuthority(UserRole.ADMIN.getRole())
 						 .requestMatchers("/api/v1/admin/**").hasAuthority(UserRole.ADMIN.getRole())
+						 /* 캐시 적중률과 같은 운영 지표는 관리자만 조회할 수 있다. */
+						 .requestMatchers("/actuator/health").permitAll()
+						 .requestMatchers("/actuator/**").hasAuthority(UserRole.ADMIN.getRole())
 						 /* 
 						  * hasRole() 메서드는 hasAuthority() 메서드와 동일하지만 차이점은 다음과 같다. 
 						  * hasRole('ADMIN') -> 열거형은 ROLE_ADMIN.
@@ -10,6 +10,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "file.upload")
 public class FileProperty {
 	private String path;
+	/* 첨부 파일을 병렬로 저장하는 스레드의 개수. */
+	private int threads = 4;
 
 	public String getPath() {
 		return path;
@@ -18,4 +20,12 @@ public class FileProperty {
 	public void setPath(String path) {
 		this.path = path;
 	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.whooa.blog.file.service;
 
+import java.util.List;
+
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -8,5 +10,7 @@ import com.whooa.blog.post.entity.PostEntity;
 
 public interface FileService {
 	public abstract File upload(PostEntity postEntity, MultipartFile uploadFile);
+	public abstract List<File> uploadAll(PostEntity postEntity, MultipartFile[] uploadFiles);
+	public abstract void deleteAll(List<File> files);
 	public abstract Resource downalod(String fileName);
 }
\ No newline at end of file
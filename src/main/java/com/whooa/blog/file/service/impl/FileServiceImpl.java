@@ -1,6 +1,7 @@
 package com.whooa.blog.file.service.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import java.net.MalformedURLException;
 
@@ -9,13 +10,27 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.file.exception.DirectoryNotCreatedException;
 import com.whooa.blog.file.exception.FileNotDownloadedException;
@@ -28,10 +43,17 @@ import com.whooa.blog.file.value.File;
 import com.whooa.blog.post.entity.PostEntity;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 @Service
 public class FileServiceImpl implements FileService {
+	private static Logger logger = LoggerFactory.getLogger(FileServiceImpl.class);
+	
+	/* 작업 큐의 크기. 큐가 가득 차면 요청 스레드가 직접 파일을 저장한다(CallerRunsPolicy). */
+	private static final int QUEUE_CAPACITY = 64;
+	
 	private Path path;
+	private ExecutorService executorService;
 	
 	public FileServiceImpl(FileProperty fileProperty) {
 		/*
@@ -44,6 +66,14 @@ public class FileServiceImpl implements FileService {
 		 * 예를 들어, /user/home/../files -> /user/files
 		 */
 		this.path = Paths.get(fileProperty.getPath()).toAbsolutePath().normalize();
+		/*
+		 * 파일 저장은 입출력 작업이기 때문에 스레드 개수와 큐의 크기를 제한한 전용 스레드 풀에서 실행한다.
+		 * JDK 21 이상에서는 Executors.newVirtualThreadPerTaskExecutor() 메서드로 교체할 수 있다.
+		 */
+		this.executorService = new ThreadPoolExecutor(fileProperty.getThreads(), fileProperty.getThreads(), 0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY), 
+				new ThreadFactoryBuilder().setNameFormat("file-upload-%d").setDaemon(true).build(), 
+				new ThreadPoolExecutor.CallerRunsPolicy());
 	}
 	
 	@PostConstruct
@@ -60,15 +90,107 @@ public class FileServiceImpl implements FileService {
 		}
 	}
 
+	@PreDestroy
+	public void destroy() {
+		executorService.shutdown();
+	}
+
 	@Override
 	public File upload(PostEntity postEntity, MultipartFile uploadFile) {
+		File file;
+		
+		file = store(postEntity, uploadFile);
+		postEntity.getFiles().add(file);
+		
+		return file;
+	}
+	
+	/*
+	 * 첨부 파일들을 스레드 풀에서 병렬로 저장하기 때문에 전체 시간은 가장 큰 파일의 저장 시간에 가깝다.
+	 * 하나라도 실패하면 아직 시작하지 않은 작업은 건너뛰고, 실행 중인 작업이 모두 끝나기를 기다린 후 저장한 파일을 삭제하고 첫 번째 예외를 던진다.
+	 * 실행 중인 작업을 취소하면 취소된 작업이 파일을 남길 수 있기 때문에 취소하지 않는다.
+	 * 포스트 엔티티의 파일 목록은 스레드에 안전하지 않기 때문에 모두 성공한 후 요청 스레드에서 순서대로 추가한다.
+	 */
+	@Override
+	public List<File> uploadAll(PostEntity postEntity, MultipartFile[] uploadFiles) {
+		List<Future<File>> futures;
+		List<File> files;
+		AtomicBoolean failed;
+		RuntimeException failure;
+		File file;
+		
+		futures = new ArrayList<Future<File>>(uploadFiles.length);
+		files = new ArrayList<File>(uploadFiles.length);
+		failed = new AtomicBoolean(false);
+		failure = null;
+		
+		for (MultipartFile uploadFile : uploadFiles) {
+			futures.add(executorService.submit(() -> {
+				if (failed.get()) {
+					return null;
+				}
+				
+				try {
+					return store(postEntity, uploadFile);
+				} catch (RuntimeException exception) {
+					failed.set(true);
+					throw exception;
+				}
+			}));
+		}
+		
+		for (int i = 0; i < futures.size(); i++) {
+			try {
+				/* 인터럽트가 발생해도 작업이 끝날 때까지 기다려야 파일을 정리할 수 있다. 인터럽트 상태는 복원된다. */
+				file = Uninterruptibles.getUninterruptibly(futures.get(i));
+				
+				if (file != null) {
+					files.add(file);
+				}
+			} catch (ExecutionException exception) {
+				if (failure == null) {
+					failure = exception.getCause() instanceof RuntimeException ? (RuntimeException) exception.getCause() : new FileNotSavedException(Code.FILE_NOT_SAVED, new String[] {"파일 " + uploadFiles[i].getOriginalFilename() + "을 저장할 수 없습니다."});
+				}
+			}
+		}
+		
+		if (failure != null) {
+			deleteAll(files);
+			throw failure;
+		}
+		
+		postEntity.getFiles().addAll(files);
+		
+		return files;
+	}
+	
+	@Override
+	public void deleteAll(List<File> files) {
+		if (files == null) {
+			return;
+		}
+		
+		for (File file : files) {
+			try {
+				Files.deleteIfExists(Paths.get(file.getPath()));
+			} catch (IOException exception) {
+				logger.error("[FileServiceImpl] 파일 {}을 삭제할 수 없습니다: {}", file.getPath(), exception.getMessage());
+			}
+		}
+	}
+	
+	/*
+	 * 파일을 디스크에 저장하고 파일 값 객체를 반환한다. 포스트 엔티티는 수정하지 않는다.
+	 * 같은 디렉터리의 임시 파일에 복사한 후 원자적으로 이름을 바꾸기 때문에 복사가 실패해도 일부만 쓴 파일이 업로드 디렉터리에 남지 않는다.
+	 */
+	private File store(PostEntity postEntity, MultipartFile uploadFile) {
 		String originalFilename, filename, filePath, fileExtension, mimeType;
-		Path uploadPath;
+		Path uploadPath, tempPath;
 		Long fileSize;
-		File file;
 		
 		/* 정규화된 경로를 생성하여 "path/.."과 내부 단순 점과 같은 시퀀스를 제거한다. */	
 		originalFilename = StringUtils.cleanPath(uploadFile.getOriginalFilename());
+		tempPath = null;
 				
 		try {
 			
@@ -77,7 +199,8 @@ public class FileServiceImpl implements FileService {
 			}
 		
 			fileExtension = getExtension(originalFilename);
-			filename = "post" + postEntity.getId() + "-" + Instant.now().toEpochMilli() + "." + fileExtension;
+			/* 같은 밀리초에 병렬로 저장하는 파일의 이름이 충돌하지 않도록 임의의 문자열을 덧붙인다. */
+			filename = "post" + postEntity.getId() + "-" + Instant.now().toEpochMilli() + "-" + UUID.randomUUID().toString().substring(0, 8) + "." + fileExtension;
 			fileSize = uploadFile.getSize();
 			mimeType = uploadFile.getContentType();
 			
@@ -94,16 +217,33 @@ public class FileServiceImpl implements FileService {
 			 * 기본적으로 대상 파일이 이미 존재하거나 심볼릭 링크인 경우 복사가 실패하지만 REPLACE_EXISTING 옵션이 지정된 경우 대상 파일이 이미 존재하면 그 파일이 비어있는 디렉터리가 아닌 경우에만 대상 파일이 교체된다. 
 			 * 대상 파일이 이미 존재하고 심볼릭 링크인 경우 심볼릭 링크가 교체된다.
 			 */
-			Files.copy(uploadFile.getInputStream(), uploadPath, StandardCopyOption.REPLACE_EXISTING);
-						
-			file =  new File(fileExtension, mimeType, filename, filePath, fileSize);
-			postEntity.getFiles().add(file);
+			tempPath = Files.createTempFile(this.path, "upload-", ".tmp");
+			
+			try (InputStream inputStream = uploadFile.getInputStream()) {
+				Files.copy(inputStream, tempPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+			
+			/* 같은 파일 시스템 안의 이동이기 때문에 원자적인 이름 변경(rename)이다. */
+			Files.move(tempPath, uploadPath, StandardCopyOption.ATOMIC_MOVE);
 						
-			return file;
+			return new File(fileExtension, mimeType, filename, filePath, fileSize);
 		} catch (IOException exception) {
+			deleteTemp(tempPath);
 			throw new FileNotSavedException(Code.FILE_NOT_SAVED, new String[] {"파일 " + originalFilename + "을 저장할 수 없습니다."});
 		}
 	}
+	
+	private void deleteTemp(Path tempPath) {
+		if (tempPath == null) {
+			return;
+		}
+		
+		try {
+			Files.deleteIfExists(tempPath);
+		} catch (IOException exception) {
+			logger.error("[FileServiceImpl] 임시 파일 {}을 삭제할 수 없습니다: {}", tempPath, exception.getMessage());
+		}
+	}
 
 	@Override
 	public Resource downalod(String filename) {
@@ -0,0 +1,106 @@
+package com.whooa.blog.post.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.whooa.blog.post.dto.PostDto.PostResponse;
+import com.whooa.blog.post.property.PostCacheProperty;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/*
+ * 포스트 상세 조회 앞에 두는 프로세스 내 읽기 관통(read-through) 캐시.
+ * 최대 항목 개수를 넘으면 LRU에 가깝게 제거하고 쓰기 후 만료 시간이 지나면 제거한다.
+ * 적중/실패/제거 횟수는 Micrometer의 cache.gets, cache.evictions 지표(cache=post)로 노출한다.
+ * 트랜잭션 안에서 무효화하면 커밋한 후에 한 번 더 무효화한다. 커밋하기 전에 시작한 조회는 이전 값을 읽기 때문에 캐시에 넣으면 만료 시간까지 남는다.
+ */
+@Component
+public class PostCache {
+	private Cache<Long, PostResponse> cache;
+	/*
+	 * 조회 도중 무효화가 일어나면 조회한 값은 이미 오래된 값이다.
+	 * 조회를 시작할 때 키마다 토큰을 등록하고 무효화하면 그 키의 토큰을 제거한다. 조회를 마쳤을 때 자신의 토큰이 남아 있어야 캐시에 넣는다.
+	 * 토큰은 조회하는 동안에만 존재하고 다른 키의 무효화는 영향을 주지 않는다.
+	 */
+	private ConcurrentMap<Long, Object> loads;
+	
+	public PostCache(PostCacheProperty postCacheProperty, MeterRegistry meterRegistry) {
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(postCacheProperty.getMaximumSize())
+				.expireAfterWrite(postCacheProperty.getExpiration(), TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+		this.loads = new ConcurrentHashMap<>();
+		
+		GuavaCacheMetrics.monitor(meterRegistry, cache, "post");
+	}
+	
+	public PostResponse get(Long id, Supplier<PostResponse> loader) {
+		PostResponse post, loaded;
+		Object token;
+		
+		post = cache.getIfPresent(id);
+		
+		if (post != null) {
+			return post;
+		}
+		
+		token = new Object();
+		loads.put(id, token);
+		
+		try {
+			loaded = loader.get();
+		} catch (RuntimeException exception) {
+			loads.remove(id, token);
+			throw exception;
+		}
+		
+		/* 같은 키의 무효화와 캐시 저장은 compute() 메서드 안에서 실행되기 때문에 무효화 직후에 오래된 값을 넣지 않는다. */
+		loads.computeIfPresent(id, (key, current) -> {
+			if (current != token) {
+				return current;
+			}
+			
+			cache.put(key, loaded);
+			
+			return null;
+		});
+		
+		return loaded;
+	}
+	
+	public void invalidate(Long id) {
+		evict(id);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(id);
+				}
+			});
+		}
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	private void evict(Long id) {
+		loads.compute(id, (key, current) -> {
+			cache.invalidate(key);
+			
+			return null;
+		});
+	}
+}
@@ -8,17 +8,21 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.whooa.blog.common.api.ApiResponse;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.security.CurrentUser;
 import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
+import com.whooa.blog.post.dto.PostDto.PostSummaryResponse;
 import com.whooa.blog.post.dto.PostDto.PostCreateRequest;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 import com.whooa.blog.post.service.PostService;
@@ -84,33 +88,57 @@ public class PostController {
 	}
 
 	@Operation(
-		summary = "포스트 조회"
+		summary = "포스트 조회",
+		description = "ETag와 Last-Modified 헤더를 반환하고 If-None-Match 혹은 If-Modified-Since 헤더가 일치하면 본문 없이 304를 반환한다. 304 응답은 조회수를 증가시키지 않는다."
 	)
 	/* @PathVariable 어노테이션은 메서드 인자를 URI 템플릿 변수의 값에 바인딩한다. */
-	@ResponseStatus(value = HttpStatus.OK)
+	/*
+	 * 조건부 GET 요청은 검증자만 조회해서 비교하고 일치하면 본문을 만들지 않고 304(Not Modified)를 반환한다.
+	 * checkNotModified() 메서드가 304 상태 코드를 설정하기 때문에 @ResponseStatus 어노테이션을 사용하지 않는다(200이 기본값이다).
+	 */
 	@GetMapping("/{id}")
-	public ApiResponse<PostResponse> getPost(@PathVariable Long id) {		
+	public ApiResponse<PostResponse> getPost(@PathVariable Long id, WebRequest webRequest) {
+		ResourceVersion version;
+		
+		version = postService.findVersion(id);
+		
+		if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+			return null;
+		}
+		
 		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), postService.find(id), new String[] {"포스트를 조회했습니다."});
 	}
 	
 	@Operation(
-		summary = "포스트 목록 조회"
+		summary = "포스트 목록 조회",
+		description = "cursor 파라미터를 전달하면(첫 페이지는 빈 문자열) COUNT 쿼리 없이 키셋 페이지네이션으로 조회한다."
 	)
 	@ResponseStatus(value = HttpStatus.OK)
 	@GetMapping
-	public ApiResponse<PageResponse<PostResponse>> getPosts(PaginationUtil paginationUtil) {		
+	public ApiResponse<PageResponse<PostSummaryResponse>> getPosts(PaginationUtil paginationUtil) {		
 		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), postService.findAll(paginationUtil), new String[] {"포스트 목록을 조회했습니다."});
 	}
 
 	@Operation(
-		summary = "카테고리에 속하는 포스트 목록 조회"
+		summary = "카테고리에 속하는 포스트 목록 조회",
+		description = "cursor 파라미터를 전달하면(첫 페이지는 빈 문자열) COUNT 쿼리 없이 키셋 페이지네이션으로 조회한다."
 	)
 	@ResponseStatus(value = HttpStatus.OK)
 	@GetMapping("/categories/{category-id}")
-	public ApiResponse<PageResponse<PostResponse>> getPostsByCategoryId(@PathVariable("category-id") Long categoryId, PaginationUtil paginationUtil) {		
+	public ApiResponse<PageResponse<PostSummaryResponse>> getPostsByCategoryId(@PathVariable("category-id") Long categoryId, PaginationUtil paginationUtil) {		
 		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), postService.findAllByCategoryId(categoryId, paginationUtil), new String[] {"카테고리 속하는 포스트 목록을 조회했습니다."});
 	}
 
+	@Operation(
+		summary = "포스트 검색",
+		description = "제목과 내용에서 검색어를 찾고 관련도(BM25) 순으로 정렬한다. 정렬 기준 파라미터는 무시한다."
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@GetMapping("/search")
+	public ApiResponse<PageResponse<PostSummaryResponse>> searchPosts(@RequestParam(name = "query") String query, PaginationUtil paginationUtil) {		
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), postService.search(query, paginationUtil), new String[] {"포스트를 검색했습니다."});
+	}
+
 	@Operation(
 		summary = "포스트 수정"
 	)
@@ -0,0 +1,228 @@
+package com.whooa.blog.post.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.property.PostCacheProperty;
+import com.whooa.blog.post.repository.PostViewCountRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/*
+ * 포스트 조회수를 요청마다 데이터베이스에 쓰지 않고 메모리에 누적한다.
+ * LongAdder 클래스는 내부적으로 여러 셀에 값을 나누어 더하기 때문에 같은 포스트를 여러 스레드가 동시에 조회해도 CAS 경합이 적다.
+ * 스케줄러가 주기적으로 누적한 증가분을 가져오고(sumThenReset) 일괄 UPDATE 문장으로 반영한다.
+ * 
+ * 반영을 마치고 포스트 캐시의 만료 시간 이상 조회되지 않은 항목은 제거한다. 그 동안 캐시 항목도 만료되어서 반영한 조회수(flushed)가 필요 없기 때문이다.
+ * 제거와 증가가 경쟁하면 제거된 LongAdder 객체에 더한 값을 잃는다. 따라서 증가하는 스레드는 항목에 들어가 있음을 표시하고(enter),
+ * 제거하는 스레드는 들어가 있는 스레드가 없을 때만 항목을 폐기(retire)한다. 폐기된 항목을 만난 스레드는 새 항목에 다시 더한다.
+ * 제거한 후에는 포스트 캐시를 무효화해서 조회하는 도중의 포스트가 제거된 반영 조회수로 캐시에 들어가지 않게 한다. 삭제한 포스트의 항목은 커밋한 후에 제거한다.
+ * 
+ * 반영해도 포스트 캐시는 무효화하지 않는다. 캐시된 포스트는 데이터베이스의 조회수에서 조회할 때까지 이 인스턴스가 반영한 조회수(flushed)를 뺀 값을 갖고
+ * 이 인스턴스가 센 전체 조회수(counted)를 더해서 보여준다. 따라서 반영 전후에 보여주는 조회수가 줄어들지 않는다.
+ * 다른 인스턴스가 센 조회수는 캐시가 만료되어야 반영된다.
+ */
+@Component
+public class PostViewCounter {
+	private static Logger logger = LoggerFactory.getLogger(PostViewCounter.class);
+	
+	private Map<Long, Views> views;
+	private PostViewCountRepository postViewCountRepository;
+	private PostCache postCache;
+	/* 이 시간(밀리초) 이상 조회되지 않고 반영을 마친 항목은 제거한다. */
+	private long idleTimeout;
+	
+	public PostViewCounter(PostViewCountRepository postViewCountRepository, PostCache postCache, PostCacheProperty postCacheProperty) {
+		this.views = new ConcurrentHashMap<Long, Views>();
+		this.postViewCountRepository = postViewCountRepository;
+		this.postCache = postCache;
+		this.idleTimeout = postCacheProperty.getExpiration();
+	}
+	
+	/* 조회수를 1 증가시키고 이 인스턴스가 센 전체 조회수(반영한 조회수 포함)를 반환한다. */
+	public long increment(Long id) {
+		Views postViews;
+		
+		while (true) {
+			postViews = views.computeIfAbsent(id, (key) -> new Views());
+			
+			if (!postViews.enter()) {
+				/* 폐기되어 맵에서 제거되기 직전의 항목이다. 제거된 후 새 항목을 만든다. */
+				Thread.onSpinWait();
+				continue;
+			}
+			
+			try {
+				postViews.pending.increment();
+				postViews.counted.increment();
+				postViews.viewedAt = now();
+				
+				return postViews.counted.sum();
+			} finally {
+				postViews.exit();
+			}
+		}
+	}
+	
+	/* 삭제한 포스트의 항목을 제거한다. 트랜잭션 안이면 롤백될 수 있기 때문에 커밋한 후에 제거한다. */
+	public void remove(Long id) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					views.remove(id);
+				}
+			});
+			return;
+		}
+		
+		views.remove(id);
+	}
+	
+	public int size() {
+		return views.size();
+	}
+	
+	/* 아직 반영하지 않은 증가분. */
+	public long pending(Long id) {
+		Views postViews;
+		
+		postViews = views.get(id);
+		
+		return postViews == null ? 0 : postViews.pending.sum();
+	}
+	
+	/* 이 인스턴스가 데이터베이스에 반영한 조회수. 포스트를 캐시에 넣기 전에 데이터베이스의 조회수에서 뺀다. */
+	public long flushed(Long id) {
+		Views postViews;
+		
+		postViews = views.get(id);
+		
+		return postViews == null ? 0 : postViews.flushed.get();
+	}
+	
+	/*
+	 * sumThenReset() 메서드는 셀마다 getAndSet(0) 연산을 사용하기 때문에 동시에 증가한 값은 이번 혹은 다음 반영에 포함되고 사라지지 않는다.
+	 * 반영에 실패하면 증가분을 다시 더해서 다음 반영에서 재시도한다.
+	 */
+	@Scheduled(fixedDelayString = "${post.view.flush-interval}")
+	public synchronized void flush() {
+		Map<Long, Long> deltas;
+		
+		deltas = new HashMap<Long, Long>();
+		
+		views.forEach((id, postViews) -> {
+			long delta = postViews.pending.sumThenReset();
+			
+			if (delta > 0) {
+				deltas.put(id, delta);
+			}
+		});
+		
+		if (!deltas.isEmpty()) {
+			try {
+				postViewCountRepository.increaseViewCounts(deltas);
+			} catch (RuntimeException exception) {
+				logger.error("[PostViewCounter] 조회수를 반영하지 못했습니다: {}", exception.getMessage());
+				
+				/* 그 사이에 삭제한 포스트의 증가분은 버린다. */
+				deltas.forEach((id, delta) -> views.computeIfPresent(id, (key, postViews) -> {
+					postViews.pending.add(delta);
+					return postViews;
+				}));
+				return;
+			}
+			
+			deltas.forEach((id, delta) -> views.computeIfPresent(id, (key, postViews) -> {
+				postViews.flushed.addAndGet(delta);
+				return postViews;
+			}));
+		}
+		
+		evictIdle();
+	}
+	
+	/*
+	 * 반영을 마치고 idleTimeout 이상 조회되지 않은 항목을 폐기하고 제거한다.
+	 * 폐기한 후에 증가분을 다시 확인해서 폐기하기 직전에 끝난 증가가 있으면 되살린다. 반영은 synchronized 메서드이기 때문에 그 사이에 증가분이 줄어들지 않는다.
+	 */
+	private void evictIdle() {
+		long now;
+		
+		now = now();
+		
+		views.forEach((id, postViews) -> {
+			if (postViews.pending.sum() != 0 || now - postViews.viewedAt < idleTimeout || !postViews.retire()) {
+				return;
+			}
+			
+			if (postViews.pending.sum() != 0) {
+				postViews.revive();
+				return;
+			}
+			
+			views.remove(id, postViews);
+			postCache.invalidate(id);
+		});
+	}
+	
+	private static long now() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+	}
+	
+	/* 애플리케이션 종료 시 남은 증가분을 반영한다. */
+	@PreDestroy
+	public void destroy() {
+		flush();
+	}
+	
+	private static class Views {
+		private static final int RETIRED = -1;
+		
+		private LongAdder pending = new LongAdder();
+		private LongAdder counted = new LongAdder();
+		private AtomicLong flushed = new AtomicLong();
+		private volatile long viewedAt = now();
+		/* 항목에 들어가 있는 증가 스레드의 개수. 폐기되면 RETIRED이다. */
+		private AtomicInteger users = new AtomicInteger();
+		
+		private boolean enter() {
+			int current;
+			
+			do {
+				current = users.get();
+				
+				if (current == RETIRED) {
+					return false;
+				}
+			} while (!users.compareAndSet(current, current + 1));
+			
+			return true;
+		}
+		
+		private void exit() {
+			users.decrementAndGet();
+		}
+		
+		private boolean retire() {
+			return users.compareAndSet(0, RETIRED);
+		}
+		
+		private void revive() {
+			users.set(0);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.whooa.blog.post.dto;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.whooa.blog.category.dto.CategoryDto.CategoryResponse;
@@ -165,15 +167,17 @@ public class PostDto {
 		private String content;
 		private List<File> files;
 		private String title;
+		private long viewCount;
 
 		public PostResponse(Long id, CategoryResponse category, List<CommentResponse> comments, String content,
-				List<File> files, String title) {
+				List<File> files, String title, long viewCount) {
 			this.id = id;
 			this.category = category;
 			this.comments = comments;
 			this.content = content;
 			this.files = files;
 			this.title = title;
+			this.viewCount = viewCount;
 		}
 
 		public PostResponse() {}
@@ -197,6 +201,11 @@ public class PostDto {
 			this.title = title;
 			return this;
 		}
+		
+		public PostResponse viewCount(long viewCount) {
+			this.viewCount = viewCount;
+			return this;
+		}
 
 		public Long getId() {
 			return id;
@@ -246,10 +255,199 @@ public class PostDto {
 			this.title = title;
 		}
 
+		public long getViewCount() {
+			return viewCount;
+		}
+
+		public void setViewCount(long viewCount) {
+			this.viewCount = viewCount;
+		}
+
 		@Override
 		public String toString() {
 			return "PostResponse [id=" + id + ", category=" + category + ", comments=" + comments + ", content="
-					+ content + ", files=" + files + ", title=" + title + "]";
+					+ content + ", files=" + files + ", title=" + title + ", viewCount=" + viewCount + "]";
+		}
+	}
+	
+	/*
+	 * 목록 조회 전용 읽기 모델.
+	 * PostResponse 클래스는 댓글 목록과 파일 목록을 포함하기 때문에 목록의 각 행마다 지연 로딩 쿼리가 실행된다(1 + 3N).
+	 * 생성자 프로젝션(SELECT new ...) 쿼리 하나로 필요한 값만 조회한다.
+	 */
+	public static class PostSummaryResponse {
+		private Long id;
+		private String categoryName;
+		private long commentCount;
+		private LocalDateTime createdAt;
+		private String excerpt;
+		private long fileCount;
+		private String title;
+		
+		/* SIZE() 함수의 반환 타입은 JPA 구현체에 따라 Integer 혹은 Long이기 때문에 Number 타입으로 받는다. */
+		public PostSummaryResponse(Long id, String categoryName, Number commentCount, LocalDateTime createdAt, String excerpt, 
+				Number fileCount, String title) {
+			this.id = id;
+			this.categoryName = categoryName;
+			this.commentCount = commentCount.longValue();
+			this.createdAt = createdAt;
+			this.excerpt = excerpt;
+			this.fileCount = fileCount.longValue();
+			this.title = title;
+		}
+		
+		public PostSummaryResponse() {}
+		
+		public PostSummaryResponse categoryName(String categoryName) {
+			this.categoryName = categoryName;
+			return this;
+		}
+		
+		public PostSummaryResponse excerpt(String excerpt) {
+			this.excerpt = excerpt;
+			return this;
+		}
+		
+		public PostSummaryResponse title(String title) {
+			this.title = title;
+			return this;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getCategoryName() {
+			return categoryName;
+		}
+
+		public void setCategoryName(String categoryName) {
+			this.categoryName = categoryName;
+		}
+
+		public long getCommentCount() {
+			return commentCount;
+		}
+
+		public void setCommentCount(long commentCount) {
+			this.commentCount = commentCount;
+		}
+
+		public LocalDateTime getCreatedAt() {
+			return createdAt;
+		}
+
+		public void setCreatedAt(LocalDateTime createdAt) {
+			this.createdAt = createdAt;
+		}
+
+		public String getExcerpt() {
+			return excerpt;
+		}
+
+		public void setExcerpt(String excerpt) {
+			this.excerpt = excerpt;
+		}
+
+		public long getFileCount() {
+			return fileCount;
+		}
+
+		public void setFileCount(long fileCount) {
+			this.fileCount = fileCount;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		@Override
+		public String toString() {
+			return "PostSummaryResponse [id=" + id + ", categoryName=" + categoryName + ", commentCount=" + commentCount
+					+ ", createdAt=" + createdAt + ", excerpt=" + excerpt + ", fileCount=" + fileCount + ", title=" + title
+					+ "]";
+		}
+	}
+	
+	/* 대량 가져오기 결과. 오류는 최대 MAX_ERRORS개까지만 보관하고 나머지는 개수만 센다. */
+	public static class PostImportResponse {
+		private static final int MAX_ERRORS = 1000;
+		
+		private long total;
+		private long imported;
+		private long failed;
+		private List<PostImportError> errors;
+		
+		public PostImportResponse() {
+			this.errors = new ArrayList<PostImportError>();
+		}
+		
+		public void read() {
+			total++;
+		}
+		
+		public void succeed(int count) {
+			imported += count;
+		}
+		
+		public void fail(long line, String message) {
+			failed++;
+			
+			if (errors.size() < MAX_ERRORS) {
+				errors.add(new PostImportError(line, message));
+			}
+		}
+
+		public long getTotal() {
+			return total;
+		}
+
+		public long getImported() {
+			return imported;
+		}
+
+		public long getFailed() {
+			return failed;
+		}
+
+		public List<PostImportError> getErrors() {
+			return errors;
+		}
+
+		@Override
+		public String toString() {
+			return "PostImportResponse [total=" + total + ", imported=" + imported + ", failed=" + failed + ", errors=" + errors + "]";
+		}
+	}
+	
+	public static class PostImportError {
+		private long line;
+		private String message;
+		
+		public PostImportError(long line, String message) {
+			this.line = line;
+			this.message = message;
+		}
+
+		public long getLine() {
+			return line;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+
+		@Override
+		public String toString() {
+			return "PostImportError [line=" + line + ", message=" + message + "]";
 		}
 	}
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.whooa.blog.post.entity;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.comment.entity.CommentEntity;
 import com.whooa.blog.common.entity.CoreEntity;
@@ -16,10 +19,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 @Entity
+/*
+ * 상세 조회용 엔티티 그래프. 카테고리와 파일 목록을 포스트와 함께 LEFT JOIN으로 조회한다.
+ * 파일 목록과 댓글 목록은 모두 List(Bag)이기 때문에 함께 페치 조인하면 MultipleBagFetchException 예외가 발생하고 카테시안 곱이 생긴다.
+ * 따라서 댓글 목록은 지연 로딩으로 쿼리 하나에 모두 조회한다.
+ */
+@NamedEntityGraph(
+	name = "PostEntity.detail",
+	attributeNodes = {
+		@NamedAttributeNode("category"),
+		@NamedAttributeNode("files")
+	}
+)
 @Table(name = "post")
 public class PostEntity extends CoreEntity {
 	@Column(length = 2000, nullable = false)
@@ -28,6 +45,33 @@ public class PostEntity extends CoreEntity {
 	@Column(length = 300, nullable = false)
 	private String title;
 	
+	/*
+	 * 조회수는 메모리에 누적한 후 주기적으로 일괄 UPDATE 문장으로 반영한다.
+	 * 엔티티를 저장할 때 읽어 온 이전 조회수로 덮어쓰지 않도록 INSERT/UPDATE 문장에서 제외하고 PostViewCountRepository 클래스만 쓴다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+	private long viewCount;
+	
+	/*
+	 * 댓글 개수는 댓글을 생성하거나 삭제할 때 상대적인 UPDATE 문장으로 갱신한다. 목록 조회에서 댓글을 세지 않기 위해서이다.
+	 * 조회수와 마찬가지로 엔티티를 저장할 때 덮어쓰지 않도록 INSERT/UPDATE 문장에서 제외하고 CommentCountRepository 클래스만 쓴다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+	private long commentCount;
+	
+	/*
+	 * 댓글을 생성, 수정, 삭제할 때마다 댓글 개수와 같은 UPDATE 문장으로 증가시키는 버전과 시간.
+	 * 조건부 GET 요청의 검증자(ETag, Last-Modified)를 댓글을 집계하지 않고 포스트 행에서 읽기 위해서이다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "comment_version", nullable = false, insertable = false, updatable = false)
+	private long commentVersion;
+	
+	@Column(name = "commented_at", insertable = false, updatable = false)
+	private LocalDateTime commentedAt;
+	
 	/*
 	 * 데이터세트의 관계를 결정하는 관계형 측면에서 참조가 아니라 삽입을 사용한다. 즉, 일대다(구체적으로, 1:소.).
 	 * 데이터의 읽기 및 쓰기 연산의 빈도(즉, 높은 읽기/쓰기 비율)를 결정하는 데이터 접근 패턴 측면에서 파일은 대부분의 경우 읽기 연산에 사용되며 쉽게 변하지 않는다.
@@ -60,7 +104,7 @@ public class PostEntity extends CoreEntity {
 	}
 
 	public PostEntity() {
-		super(-1L);
+		super(null);
 	}
 	
 	public PostEntity content(String content) {
@@ -79,12 +123,10 @@ public class PostEntity extends CoreEntity {
 	}
 
 	public PostEntity category(CategoryEntity category) {
-		if (this.category != null) {
-			this.category.getPosts().remove(this);
-		}
+		removeChild(this.category, CategoryEntity::getPosts, this);
 		
 		this.category = category;
-		category.getPosts().add(this);
+		addChild(category, CategoryEntity::getPosts, this);
 		
 		return this;
 	}
@@ -95,12 +137,10 @@ public class PostEntity extends CoreEntity {
 	}
 
 	public PostEntity user(UserEntity user) {
-		if (this.user != null) {
-			this.user.getPosts().remove(this);
-		}
+		removeChild(this.user, UserEntity::getPosts, this);
 
 		this.user = user;
-		user.getPosts().add(this);
+		addChild(user, UserEntity::getPosts, this);
 		
 		return this;
 	}
@@ -129,6 +169,22 @@ public class PostEntity extends CoreEntity {
 		this.title = title;
 	}
 	
+	public long getViewCount() {
+		return viewCount;
+	}
+
+	public long getCommentCount() {
+		return commentCount;
+	}
+	
+	public long getCommentVersion() {
+		return commentVersion;
+	}
+	
+	public LocalDateTime getCommentedAt() {
+		return commentedAt;
+	}
+	
 	public List<File> getFiles() {
 		return files;
 	}
@@ -142,12 +198,7 @@ public class PostEntity extends CoreEntity {
 	}
 
 	public void setCategory(CategoryEntity category) {
-		if (this.category != null) {
-			this.category.getPosts().remove(this);
-		}
-		
-		this.category = category;
-		category.getPosts().add(this);
+		category(category);
 	}
 	
 	public List<CommentEntity> getComments() {
@@ -163,17 +214,12 @@ public class PostEntity extends CoreEntity {
 	}
 
 	public void setUser(UserEntity user) {
-		if (this.user != null) {
-			this.user.getPosts().remove(this);
-		}
-
-		this.user = user;
-		user.getPosts().add(this);
+		user(user);
 	}
 
 	@Override
 	public String toString() {
-		return "PostEntity [id=" + super.getId() + ", content=" + content + ", title=" + title + ", files=" + files + ", category=" + category
+		return "PostEntity [id=" + super.getId() + ", content=" + content + ", title=" + title + ", viewCount=" + viewCount + ", commentCount=" + commentCount + ", files=" + files + ", category=" + category
 				+ ", comments=" + comments + ", user=" + user + "]";
 	}
 }
\ No newline at end of file
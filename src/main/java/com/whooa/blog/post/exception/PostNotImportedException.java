@@ -0,0 +1,12 @@
+package com.whooa.blog.post.exception;
+
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.exception.CoreException;
+
+public class PostNotImportedException extends CoreException {
+	private static final long serialVersionUID = 1L;
+
+	public PostNotImportedException(Code code, String[] details) {
+		super(code, details);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.whooa.blog.post.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/* 포스트 상세 캐시의 최대 항목 개수와 만료 시간(밀리초)을 post.cache 속성에 바인딩한다. */
+@ConfigurationProperties(prefix = "post.cache")
+public class PostCacheProperty {
+	private long maximumSize = 10000;
+	private long expiration = 600000;
+
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	public long getExpiration() {
+		return expiration;
+	}
+
+	public void setExpiration(long expiration) {
+		this.expiration = expiration;
+	}
+}
@@ -1,10 +1,29 @@
 package com.whooa.blog.post.repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.whooa.blog.common.api.ResourceVersion;
+import com.whooa.blog.post.dto.PostDto.PostSummaryResponse;
 import com.whooa.blog.post.entity.PostEntity;
+import com.whooa.blog.post.search.PostSearchDocument;
+
+import jakarta.persistence.QueryHint;
 
 /*
  * 1번 매개변수는 엔티티 타입, 2번 매개변수는 기본키 타입.
@@ -14,5 +33,45 @@ import com.whooa.blog.post.entity.PostEntity;
  * SimpleJpaRepository 클래스가 내부적으로 @Transactional 어노테이션을 사용하기 때문에 @Transactional 어노테이션을 사용할 필요가 없다.
  */
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
+	/* 상세 조회는 엔티티 그래프를 사용해서 포스트, 카테고리, 파일 목록을 SQL 문장 하나로 조회한다. */
+	@EntityGraph(value = "PostEntity.detail")
+	public abstract Optional<PostEntity> findDetailById(Long id);
+	/*
+	 * 상세 응답의 검증자. 상세 응답에 포함되는 카테고리와 댓글의 변경도 반영한다. 조회수는 포함하지 않는다.
+	 * 댓글의 변경은 댓글을 쓸 때마다 갱신하는 포스트의 열(commentedAt, commentVersion)로 반영하기 때문에 댓글을 집계하지 않고 기본키로 행 하나만 읽는다.
+	 */
+	@Query(value = "SELECT new com.whooa.blog.common.api.ResourceVersion(GREATEST(p.updatedAt, c.updatedAt, COALESCE(p.commentedAt, p.updatedAt)), p.commentVersion) FROM PostEntity p JOIN p.category c WHERE p.id = :id")
+	public abstract Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+	/* 댓글 목록의 검증자. 댓글이 없으면 commentedAt 필드가 null이고 Last-Modified 헤더를 사용하지 않는다. */
+	@Query(value = "SELECT new com.whooa.blog.common.api.ResourceVersion(p.commentedAt, p.commentVersion) FROM PostEntity p WHERE p.id = :id")
+	public abstract Optional<ResourceVersion> findCommentVersionById(@Param("id") Long id);
+	
+	/*
+	 * 목록 조회용 생성자 프로젝션 쿼리.
+	 * 중첩 클래스는 바이너리 이름($)으로 지정한다. 댓글 개수는 비정규화한 comment_count 열을 읽고 파일 개수는 SIZE() 함수가 상관 서브쿼리로 변환하기 때문에 SQL 문장 하나로 조회한다.
+	 * 생성자 프로젝션은 COUNT 쿼리를 자동으로 만들 수 없기 때문에 countQuery 속성을 지정한다.
+	 */
+	String SUMMARY_SELECT = "SELECT new com.whooa.blog.post.dto.PostDto$PostSummaryResponse(p.id, c.name, p.commentCount, p.createdAt, SUBSTRING(p.content, 1, 100), SIZE(p.files), p.title) FROM PostEntity p JOIN p.category c";
+
+	@Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(p) FROM PostEntity p")
+	public abstract Page<PostSummaryResponse> findSummaries(Pageable pageable);
+	@Query(value = SUMMARY_SELECT + " WHERE c.id = :categoryId", countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.category.id = :categoryId")
+	public abstract Page<PostSummaryResponse> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+	@Query(value = SUMMARY_SELECT + " WHERE p.id IN :ids")
+	public abstract List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") List<Long> ids);
+	
 	public abstract Page<PostEntity> findByCategoryId(Long categoryId, Pageable pageable);
+	/*
+	 * Window 반환 타입과 ScrollPosition 매개변수를 사용하면 Spring Data JPA가 정렬 기준에 아이디를 덧붙여서 키셋 조건(WHERE)을 만든다.
+	 * Page 반환 타입과 달리 COUNT 쿼리를 실행하지 않는다.
+	 */
+	public abstract Window<PostEntity> findAllBy(ScrollPosition scrollPosition, Sort sort, Limit limit);
+	public abstract Window<PostEntity> findByCategoryId(Long categoryId, ScrollPosition scrollPosition, Sort sort, Limit limit);
+	/*
+	 * 검색 색인을 만들 때 사용하는 스트림 조회. MySQL 드라이버는 fetch size가 Integer.MIN_VALUE이면 결과를 한 행씩 스트리밍하기 때문에 포스트 개수와 상관없이 메모리 사용량이 일정하다.
+	 * 스트림은 트랜잭션 안에서 사용한 후 닫아야 한다.
+	 */
+	@QueryHints(value = @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+	@Query(value = "SELECT new com.whooa.blog.post.search.PostSearchDocument(p.id, p.content, p.title) FROM PostEntity p")
+	public abstract Stream<PostSearchDocument> streamSearchDocuments();
 }
\ No newline at end of file
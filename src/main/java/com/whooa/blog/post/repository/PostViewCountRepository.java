@@ -0,0 +1,32 @@
+package com.whooa.blog.post.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 조회수 증가분을 JDBC 일괄 처리(batch)로 반영한다.
+ * 상대적인 UPDATE 문장(view_count = view_count + ?)을 사용하기 때문에 다른 쓰기와 경쟁해도 증가분을 잃지 않는다.
+ * 엔티티를 읽지 않기 때문에 영속성 컨텍스트와 무관하며 포스트 하나당 UPDATE 문장 하나가 드라이버에서 한 번에 전송된다.
+ */
+@Repository
+public class PostViewCountRepository {
+	private static final String INCREASE_VIEW_COUNT = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+	
+	private JdbcTemplate jdbcTemplate;
+
+	public PostViewCountRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+	
+	public void increaseViewCounts(Map<Long, Long> deltas) {
+		List<Object[]> arguments;
+		
+		arguments = deltas.entrySet().stream().map((entry) -> new Object[] {entry.getValue(), entry.getKey()}).collect(Collectors.toList());
+		
+		jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT, arguments);
+	}
+}
@@ -0,0 +1,31 @@
+package com.whooa.blog.post.search;
+
+/* 검색 색인을 만들 때 필요한 값만 담는 읽기 모델. 엔티티를 영속성 컨텍스트에 올리지 않고 스트림으로 읽는다. */
+public class PostSearchDocument {
+	private Long id;
+	private String content;
+	private String title;
+	
+	public PostSearchDocument(Long id, String content, String title) {
+		this.id = id;
+		this.content = content;
+		this.title = title;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getContent() {
+		return content;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	@Override
+	public String toString() {
+		return "PostSearchDocument [id=" + id + ", content=" + content + ", title=" + title + "]";
+	}
+}
@@ -0,0 +1,296 @@
+package com.whooa.blog.post.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/*
+ * 포스트 제목과 내용에 대한 프로세스 내 역색인(inverted index).
+ * 
+ * 1. 토큰화: 한글은 형태소 분석기 없이 조사와 어미가 붙어도 검색되도록 음절 바이그램(bigram)으로 나누고(포스트를 -> 포스, 스트, 트를), 
+ *    영문과 숫자는 소문자로 바꾼 단어 단위로 나눈다.
+ * 2. 점수: BM25. 제목에 나온 용어는 TITLE_WEIGHT배의 빈도로 계산한다.
+ * 3. 동시성: 검색은 읽기 잠금, 색인 변경은 쓰기 잠금을 사용한다. 포스트 쓰기보다 검색이 훨씬 많다.
+ * 4. 초기 색인: 시작할 때 읽은 스냅숏은 요청을 받으면서 색인하기 때문에 포스트 서비스의 변경보다 오래된 값일 수 있다.
+ *    스냅숏의 포스트는 load() 메서드로 색인하고 이미 색인되었거나(변경이 먼저 반영됨) 삭제된 포스트는 건너뛴다.
+ *    삭제된 아이디(tombstone)는 초기 색인이 끝날 때(finishLoad() 메서드)까지만 기록한다.
+ */
+@Component
+public class PostSearchIndex {
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+	private static final int TITLE_WEIGHT = 2;
+	
+	/* 용어 -> (포스트 아이디 -> 용어 빈도). */
+	private Map<String, Map<Long, Integer>> postings;
+	/* 포스트 아이디 -> (용어 -> 용어 빈도). 수정과 삭제 시 역색인에서 제거할 용어를 찾는다. */
+	private Map<Long, Map<String, Integer>> documents;
+	private Map<Long, Integer> lengths;
+	private long totalLength;
+	/* 초기 색인이 끝나기 전에 삭제된 포스트 아이디. 초기 색인이 끝나면 null이다. */
+	private Set<Long> removed;
+	private ReadWriteLock lock;
+	
+	public PostSearchIndex() {
+		this.postings = new HashMap<String, Map<Long, Integer>>();
+		this.documents = new HashMap<Long, Map<String, Integer>>();
+		this.lengths = new HashMap<Long, Integer>();
+		this.totalLength = 0;
+		this.removed = new HashSet<Long>();
+		this.lock = new ReentrantReadWriteLock();
+	}
+	
+	/* 포스트를 색인한다. 이미 색인된 포스트는 기존 용어를 제거한 후 다시 색인한다. */
+	public void index(Long id, String title, String content) {
+		Map<String, Integer> frequencies;
+		
+		frequencies = frequencies(title, content);
+		
+		lock.writeLock().lock();
+		
+		try {
+			removeUnlocked(id);
+			putUnlocked(id, frequencies);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/* 초기 색인의 스냅숏에서 읽은 포스트를 색인한다. 이미 색인되었거나 삭제된 포스트는 스냅숏이 더 오래되었기 때문에 건너뛴다. */
+	public void load(Long id, String title, String content) {
+		Map<String, Integer> frequencies;
+		
+		frequencies = frequencies(title, content);
+		
+		lock.writeLock().lock();
+		
+		try {
+			if (documents.containsKey(id) || (removed != null && removed.contains(id))) {
+				return;
+			}
+			
+			putUnlocked(id, frequencies);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/* 초기 색인이 끝나면 삭제된 아이디를 더 이상 기록하지 않는다. */
+	public void finishLoad() {
+		lock.writeLock().lock();
+		
+		try {
+			removed = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		
+		try {
+			removeUnlocked(id);
+			
+			if (removed != null) {
+				removed.add(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/* BM25 점수의 내림차순(점수가 같으면 최신 포스트 우선)으로 정렬한 포스트 아이디 페이지를 반환한다. */
+	public Page<Long> search(String query, int pageNo, int pageSize) {
+		Set<String> terms;
+		Map<Long, Double> scores;
+		List<Map.Entry<Long, Double>> ranked;
+		List<Long> ids;
+		int from, to;
+		
+		terms = new LinkedHashSet<String>(tokenize(query));
+		scores = new HashMap<Long, Double>();
+		
+		lock.readLock().lock();
+		
+		try {
+			int documentCount = documents.size();
+			double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+			
+			for (String term : terms) {
+				Map<Long, Integer> posting = postings.get(term);
+				
+				if (posting == null) {
+					continue;
+				}
+				
+				double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+				
+				for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+					double frequency = entry.getValue();
+					double norm = K1 * (1 - B + B * lengths.get(entry.getKey()) / averageLength);
+					
+					scores.merge(entry.getKey(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		
+		ranked = new ArrayList<Map.Entry<Long, Double>>(scores.entrySet());
+		ranked.sort((entry1, entry2) -> {
+			int compared = Double.compare(entry2.getValue(), entry1.getValue());
+			
+			return compared != 0 ? compared : Long.compare(entry2.getKey(), entry1.getKey());
+		});
+		
+		from = Math.min(pageNo * pageSize, ranked.size());
+		to = Math.min(from + pageSize, ranked.size());
+		ids = new ArrayList<Long>();
+		
+		for (Map.Entry<Long, Double> entry : ranked.subList(from, to)) {
+			ids.add(entry.getKey());
+		}
+		
+		return new PageImpl<Long>(ids, PageRequest.of(pageNo, pageSize), ranked.size());
+	}
+	
+	public int size() {
+		lock.readLock().lock();
+		
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	/*
+	 * 한글 음절이 이어진 구간은 음절 바이그램(1음절이면 그대로), 그 밖의 문자와 숫자가 이어진 구간은 소문자 단어 하나로 나눈다.
+	 * 공백과 구두점은 구분자이다.
+	 */
+	public static List<String> tokenize(String text) {
+		List<String> tokens;
+		StringBuilder hangul, word;
+		
+		tokens = new ArrayList<String>();
+		
+		if (text == null) {
+			return tokens;
+		}
+		
+		hangul = new StringBuilder();
+		word = new StringBuilder();
+		
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = text.codePointAt(i);
+			
+			if (Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL && Character.isLetter(codePoint)) {
+				flushWord(word, tokens);
+				hangul.appendCodePoint(codePoint);
+			} else if (Character.isLetterOrDigit(codePoint)) {
+				flushHangul(hangul, tokens);
+				word.appendCodePoint(Character.toLowerCase(codePoint));
+			} else {
+				flushHangul(hangul, tokens);
+				flushWord(word, tokens);
+			}
+			
+			i += Character.charCount(codePoint);
+		}
+		
+		flushHangul(hangul, tokens);
+		flushWord(word, tokens);
+		
+		return tokens;
+	}
+	
+	private static void flushHangul(StringBuilder hangul, List<String> tokens) {
+		if (hangul.length() == 0) {
+			return;
+		}
+		
+		if (hangul.length() == 1) {
+			tokens.add(hangul.toString());
+		} else {
+			for (int i = 0; i + 1 < hangul.length(); i++) {
+				tokens.add(hangul.substring(i, i + 2));
+			}
+		}
+		
+		hangul.setLength(0);
+	}
+	
+	private static void flushWord(StringBuilder word, List<String> tokens) {
+		if (word.length() == 0) {
+			return;
+		}
+		
+		tokens.add(word.toString());
+		word.setLength(0);
+	}
+	
+	private static Map<String, Integer> frequencies(String title, String content) {
+		Map<String, Integer> frequencies;
+		
+		frequencies = new HashMap<String, Integer>();
+		
+		for (String token : tokenize(title)) {
+			frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+		}
+		
+		for (String token : tokenize(content)) {
+			frequencies.merge(token, 1, Integer::sum);
+		}
+		
+		return frequencies;
+	}
+	
+	private void putUnlocked(Long id, Map<String, Integer> frequencies) {
+		int length;
+		
+		length = 0;
+		
+		for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+			postings.computeIfAbsent(entry.getKey(), (key) -> new HashMap<Long, Integer>()).put(id, entry.getValue());
+			length += entry.getValue();
+		}
+		
+		documents.put(id, frequencies);
+		lengths.put(id, length);
+		totalLength += length;
+	}
+	
+	private void removeUnlocked(Long id) {
+		Map<String, Integer> frequencies;
+		
+		frequencies = documents.remove(id);
+		
+		if (frequencies == null) {
+			return;
+		}
+		
+		for (String term : frequencies.keySet()) {
+			Map<Long, Integer> posting = postings.get(term);
+			
+			posting.remove(id);
+			
+			if (posting.isEmpty()) {
+				postings.remove(term);
+			}
+		}
+		
+		totalLength -= lengths.remove(id);
+	}
+}
@@ -0,0 +1,47 @@
+package com.whooa.blog.post.search;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.whooa.blog.post.repository.PostRepository;
+
+/*
+ * 애플리케이션이 준비되면 모든 포스트를 스트림으로 읽어서 검색 색인을 만든다.
+ * 스트림 조회는 결과를 모두 메모리에 올리지 않지만 커넥션을 유지해야 하기 때문에 읽기 전용 트랜잭션 안에서 실행하고 try-with-resources 문으로 닫는다.
+ * 이 이벤트는 요청을 받기 시작한 후에 발생하기 때문에 스트림을 읽는 동안에도 포스트 서비스가 색인을 변경한다.
+ * 스냅숏의 포스트는 load() 메서드로 색인해서 먼저 반영된 변경(수정, 삭제)을 덮어쓰지 않는다. 이후 변경은 포스트 서비스가 색인에 직접 반영한다.
+ */
+@Component
+public class PostSearchIndexInitializer {
+	private static Logger logger = LoggerFactory.getLogger(PostSearchIndexInitializer.class);
+	
+	private PostRepository postRepository;
+	private PostSearchIndex postSearchIndex;
+	
+	public PostSearchIndexInitializer(PostRepository postRepository, PostSearchIndex postSearchIndex) {
+		this.postRepository = postRepository;
+		this.postSearchIndex = postSearchIndex;
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void initialize() {
+		long start;
+		
+		start = System.currentTimeMillis();
+		
+		try (Stream<PostSearchDocument> documents = postRepository.streamSearchDocuments()) {
+			documents.forEach((document) -> postSearchIndex.load(document.getId(), document.getTitle(), document.getContent()));
+		} finally {
+			postSearchIndex.finishLoad();
+		}
+		
+		logger.info("[PostSearchIndexInitializer] {}개의 포스트를 {}ms 동안 색인했습니다.", postSearchIndex.size(), System.currentTimeMillis() - start);
+	}
+}
@@ -1,43 +1,61 @@
 package com.whooa.blog.post.service.impl;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
-import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.category.registry.CategoryRegistry;
+import com.whooa.blog.category.repository.CategorySummaryRepository;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.file.service.FileService;
 import com.whooa.blog.file.value.File;
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.counter.PostViewCounter;
 import com.whooa.blog.post.dto.PostDto.PostCreateRequest;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
+import com.whooa.blog.post.dto.PostDto.PostSummaryResponse;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.mapper.PostMapper;
 import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.post.search.PostSearchIndex;
 import com.whooa.blog.post.service.PostService;
 import com.whooa.blog.user.entity.UserEntity;
 import com.whooa.blog.user.exception.UserNotFoundException;
 import com.whooa.blog.user.exception.UserNotMatchedException;
 import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.util.StringUtil;
+import com.whooa.blog.util.CursorUtil;
 import com.whooa.blog.util.PaginationUtil;
 
 @Service
 public class PostServiceImpl implements PostService {
 	private PostRepository postRepository;
-	private CategoryRepository categoryRepository;
+	private CategoryRegistry categoryRegistry;
+	private CategorySummaryRepository categorySummaryRepository;
 	private UserRepository userRepository;
 	private FileService fileService;
+	private PostCache postCache;
+	private PostViewCounter postViewCounter;
+	private PostSearchIndex postSearchIndex;
+	private TransactionTemplate transactionTemplate;
 	
 	/*
 	 * 생성자 주입은 생성자를 사용해서 의존성을 주입한다.
@@ -48,13 +66,23 @@ public class PostServiceImpl implements PostService {
 	 * 2. 불변성을 보장하고 NullPointerException 예외를 방지한다.
 	 * 3. 테스트에서 오류를 방지한다.
 	 */
-	public PostServiceImpl(CategoryRepository categoryRepository, PostRepository postRepository, UserRepository userRepository, FileService fileService) {
-		this.categoryRepository = categoryRepository;
+	public PostServiceImpl(CategoryRegistry categoryRegistry, CategorySummaryRepository categorySummaryRepository, PostRepository postRepository, UserRepository userRepository, FileService fileService, PostCache postCache, PostViewCounter postViewCounter, PostSearchIndex postSearchIndex, PlatformTransactionManager transactionManager) {
+		this.categoryRegistry = categoryRegistry;
+		this.categorySummaryRepository = categorySummaryRepository;
 		this.postRepository = postRepository;
 		this.userRepository = userRepository;
 		this.fileService = fileService;
+		this.postCache = postCache;
+		this.postViewCounter = postViewCounter;
+		this.postSearchIndex = postSearchIndex;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
+	/*
+	 * 포스트 INSERT 문장과 카테고리 요약 UPSERT 문장을 하나의 트랜잭션으로 실행한다.
+	 * 첨부 파일은 트랜잭션을 시작하기 전에 저장한다. 파일 입출력 동안 커넥션을 점유하지 않기 위해서이다.
+	 * 트랜잭션이 롤백되거나 커밋에 실패하면 저장한 첨부 파일을 삭제한다.
+	 */
 	@Override
 	public PostResponse create(PostCreateRequest postCreate, MultipartFile[] uploadFiles, UserDetailsImpl userDetailsImpl) {
 		String title, content, categoryName;
@@ -68,11 +96,14 @@ public class PostServiceImpl implements PostService {
 		content = postCreate.getContent();
 		categoryName = postCreate.getCategoryName();
 		
-		categoryEntity = categoryRepository.findByName(categoryName).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
+		/* 카테고리는 레지스트리에서 찾기 때문에 데이터베이스를 조회하지 않는다. */
+		categoryEntity = categoryRegistry.findByName(categoryName).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
 		userEntity = userRepository.findById(userDetailsImpl.getId()).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"아이디에 해당하는 사용자가 존재하지 않습니다."}));
-		postEntity = new PostEntity()
-				.content(content)
-				.title(title)
+		/*
+		 * 아이디가 null인 엔티티는 merge() 메서드가 아닌 persist() 메서드로 저장된다.
+		 * merge() 메서드는 준영속 카테고리를 프록시로 바꾸기 때문에 응답 DTO를 만들 때 카테고리를 조회한다.
+		 */
+		postEntity = new PostEntity(null, content, title)
 				.category(categoryEntity)
 				.user(userEntity);
 	
@@ -80,17 +111,31 @@ public class PostServiceImpl implements PostService {
 		// PostEntity postEntity = postRepository.save(PostMapper.INSTANCE.toEntity(postCreate));
 						
 		if (uploadFiles != null && uploadFiles.length > 0) {
-			files = Arrays.stream(uploadFiles)
-					.map(uploadFile -> fileService.upload(postEntity, uploadFile))
-					.collect(Collectors.toList());
+			files = fileService.uploadAll(postEntity, uploadFiles);
 		}
 	
-		post = PostMapper.INSTANCE.toDto(postRepository.save(postEntity));
+		try {
+			post = transactionTemplate.execute((status) -> {
+				PostResponse savedPost = PostMapper.INSTANCE.toDto(postRepository.save(postEntity));
+				
+				categorySummaryRepository.addPost(categoryEntity.getId(), savedPost.getId(), savedPost.getTitle());
+				
+				return savedPost;
+			});
+		} catch (RuntimeException exception) {
+			/* 포스트를 저장하지 못하면 이미 저장한 첨부 파일을 삭제한다. */
+			fileService.deleteAll(files);
+			throw exception;
+		}
+		
 		post.setFiles(files);
+		
+		postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
 
 		return post;
 	}
 
+	@Transactional
 	@Override
 	public void delete(Long id, UserDetailsImpl userDetailsImpl) {
 		Long userId;
@@ -105,56 +150,86 @@ public class PostServiceImpl implements PostService {
 		}
 		
 		postRepository.delete(postEntity);
+		categorySummaryRepository.removePost(postEntity.getCategory().getId(), id);
+		postCache.invalidate(id);
+		postViewCounter.remove(id);
+		postSearchIndex.remove(id);
 	}
 	
 	@Override
 	public PostResponse find(Long id) {
-		PostEntity postEntity = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+		PostResponse post;
+		long viewCount;
 		
-		return PostMapper.INSTANCE.toDto(postEntity);
+		/* 
+		 * 캐시에 없으면 포스트, 카테고리, 파일 목록을 조회하는 쿼리 하나와 댓글 목록을 조회하는 쿼리 하나로 SQL 문장의 개수가 고정된다.
+		 * 포스트가 존재하지 않으면 예외가 발생하기 때문에 캐시에 들어가지 않는다.
+		 */
+		post = postCache.get(id, () -> {
+			/* 조회하기 전에 읽어야 조회하는 도중 반영한 조회수를 두 번 빼지 않는다. 반영과 겹치면 다음 캐시 만료까지 한 번의 반영분만큼 많게 보일 수 있다. */
+			long flushed = postViewCounter.flushed(id);
+			PostEntity postEntity = postRepository.findDetailById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+			PostResponse loaded = PostMapper.INSTANCE.toDto(postEntity);
+			
+			loaded.setViewCount(loaded.getViewCount() - flushed);
+			
+			return loaded;
+		});
+		
+		/* 
+		 * 캐시된 포스트의 조회수는 이 인스턴스가 반영한 조회수를 뺀 값이기 때문에 이 인스턴스가 센 전체 조회수를 더한다.
+		 * 반영해도 캐시를 무효화하지 않고 보여주는 조회수는 줄어들지 않는다. 캐시된 객체는 공유되기 때문에 복사해서 반환한다.
+		 */
+		viewCount = post.getViewCount() + postViewCounter.increment(id);
+		
+		return new PostResponse(post.getId(), post.getCategory(), post.getComments(), post.getContent(), post.getFiles(), post.getTitle(), viewCount);
 	}
 
 	@Override
-	public PageResponse<PostResponse> findAll(PaginationUtil pagination) {
+	public PageResponse<PostSummaryResponse> findAll(PaginationUtil pagination) {
 		Pageable pageable;
-		Page<PostEntity> page;
-		List<PostEntity> postEntities;
-		List<PostResponse> postResponse;
+		Page<PostSummaryResponse> page;
+		List<PostSummaryResponse> postSummaries;
 		int pageSize, pageNo, totalPages;
 		long totalElements;
 		boolean isLast, isFirst;
 		
+		if (pagination.isCursorMode()) {
+			return scroll(null, pagination);
+		}
+		
 		pageable = pagination.makePageable();
-		page = postRepository.findAll(pageable);
+		page = postRepository.findSummaries(pageable);
 		
-		postEntities = page.getContent();
+		postSummaries = page.getContent();
 		pageSize = page.getSize();
 		pageNo = page.getNumber();
 		totalElements = page.getTotalElements();
 		totalPages = page.getTotalPages();
 		isLast = page.isLast();
 		isFirst = page.isFirst();
-				
-		postResponse = postEntities.stream().map((postEntity) -> PostMapper.INSTANCE.toDto(postEntity)).collect(Collectors.toList());
 		
-		return PageResponse.handleResponse(postResponse, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
+		return PageResponse.handleResponse(postSummaries, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
 	}
 	
 	@Override
-	public PageResponse<PostResponse> findAllByCategoryId(Long categoryId, PaginationUtil pagination) {
+	public PageResponse<PostSummaryResponse> findAllByCategoryId(Long categoryId, PaginationUtil pagination) {
 		//categoryRepository.findById(categoryId).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
 		Pageable pageable;
-		Page<PostEntity> page;
-		List<PostEntity> postEntities;
-		List<PostResponse> postResponse;
+		Page<PostSummaryResponse> page;
+		List<PostSummaryResponse> postSummaries;
 		int pageSize, pageNo, totalPages;
 		long totalElements;
 		boolean isLast, isFirst;
 		
+		if (pagination.isCursorMode()) {
+			return scroll(categoryId, pagination);
+		}
+		
 		pageable = pagination.makePageable();
-		page = postRepository.findByCategoryId(categoryId, pageable);
+		page = postRepository.findSummariesByCategoryId(categoryId, pageable);
 		
-		postEntities = page.getContent();
+		postSummaries = page.getContent();
 		pageSize = page.getSize();
 		pageNo = page.getNumber();
 		totalElements = page.getTotalElements();
@@ -162,22 +237,99 @@ public class PostServiceImpl implements PostService {
 		isLast = page.isLast();
 		isFirst = page.isFirst();
 		
-		postResponse = postEntities.stream().map((postEntity) -> PostMapper.INSTANCE.toDto(postEntity)).collect(Collectors.toList());
+		return PageResponse.handleResponse(postSummaries, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
+	}
+
+	@Override
+	public ResourceVersion findVersion(Long id) {
+		return postRepository.findVersionById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+	}
+
+	/*
+	 * 키셋 페이지네이션으로 포스트 목록을 조회한다. 카테고리 아이디가 null이면 전체 포스트 목록을 조회한다.
+	 * 키셋 윈도우는 엔티티의 정렬 값이 필요하기 때문에 엔티티로 위치를 정한 후 해당 아이디들의 요약을 쿼리 하나로 조회한다.
+	 * 연관관계를 건드리지 않기 때문에 페이지 크기와 상관없이 SQL 문장은 2개이다.
+	 */
+	private PageResponse<PostSummaryResponse> scroll(Long categoryId, PaginationUtil pagination) {
+		KeysetScrollPosition keysetScrollPosition;
+		Window<PostEntity> window;
+		List<Long> ids;
+		List<PostSummaryResponse> postSummaries;
+		String sortBy, prevCursor, nextCursor;
+		boolean isLast, isFirst;
+		
+		sortBy = pagination.getSortBy();
+		keysetScrollPosition = pagination.makeScrollPosition();
+		
+		if (categoryId == null) {
+			window = postRepository.findAllBy(keysetScrollPosition, pagination.makeSort(), pagination.makeLimit());
+		} else {
+			window = postRepository.findByCategoryId(categoryId, keysetScrollPosition, pagination.makeSort(), pagination.makeLimit());
+		}
+		
+		prevCursor = CursorUtil.prev(window, keysetScrollPosition, sortBy);
+		nextCursor = CursorUtil.next(window, keysetScrollPosition, sortBy);
+		isLast = CursorUtil.isLast(window, keysetScrollPosition);
+		isFirst = CursorUtil.isFirst(window, keysetScrollPosition);
+		
+		ids = window.getContent().stream().map((postEntity) -> postEntity.getId()).collect(Collectors.toList());
+		postSummaries = findSummariesByIds(ids);
+		
+		return PageResponse.handleResponse(postSummaries, pagination.getPageSize(), prevCursor, nextCursor, isLast, isFirst);
+	}
+	
+	/* 아이디 목록의 요약을 쿼리 하나로 조회한다. IN 절은 순서를 보장하지 않기 때문에 아이디 목록의 순서대로 다시 정렬한다. */
+	private List<PostSummaryResponse> findSummariesByIds(List<Long> ids) {
+		Map<Long, PostSummaryResponse> postSummaryById;
+		
+		if (ids.isEmpty()) {
+			return List.of();
+		}
 		
-		return PageResponse.handleResponse(postResponse, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
+		postSummaryById = postRepository.findSummariesByIdIn(ids).stream().collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+		
+		/* 색인과 데이터베이스 사이에서 이미 삭제된 포스트는 제외한다. */
+		return ids.stream().map((id) -> postSummaryById.get(id)).filter((postSummary) -> postSummary != null).collect(Collectors.toList());
+	}
+	
+	/* 역색인에서 BM25 점수 순으로 현재 페이지의 아이디만 구한 후 요약을 조회한다. 데이터베이스에서 LIKE 검색을 실행하지 않는다. */
+	@Override
+	public PageResponse<PostSummaryResponse> search(String query, PaginationUtil pagination) {
+		Page<Long> page;
+		List<PostSummaryResponse> postSummaries;
+		int pageSize, pageNo, totalPages;
+		long totalElements;
+		boolean isLast, isFirst;
+		
+		page = postSearchIndex.search(query, pagination.getPageNo(), pagination.getPageSize());
+		
+		postSummaries = findSummariesByIds(page.getContent());
+		pageSize = page.getSize();
+		pageNo = page.getNumber();
+		totalElements = page.getTotalElements();
+		totalPages = page.getTotalPages();
+		isLast = page.isLast();
+		isFirst = page.isFirst();
+		
+		return PageResponse.handleResponse(postSummaries, pageSize, pageNo, totalElements, totalPages, isLast, isFirst);
 	}
 
+	/*
+	 * create() 메서드와 마찬가지로 첨부 파일은 트랜잭션 밖에서 저장한다.
+	 * 포스트는 트랜잭션 밖에서 파일 목록과 함께 조회하기 때문에 준영속 상태에서도 파일 목록에 첨부 파일을 추가할 수 있고 save() 메서드가 병합한다.
+	 */
 	@Override
 	public PostResponse update(Long id, PostUpdateRequest postUpdate, MultipartFile[] uploadFiles, UserDetailsImpl userDetailsImpl) {
 		CategoryEntity categoryEntity;
-		String categoryName, content, title;
+		String categoryName, content, title, previousTitle;
+		Long previousCategoryId;
 		List<File> files = null;
 		PostResponse post;
 		PostEntity postEntity;
 		Long userId;
 
-		postEntity = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
-		categoryEntity = categoryRepository.findByName(postUpdate.getCategoryName()).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
+		postEntity = postRepository.findDetailById(id).orElseThrow(() -> new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+		categoryEntity = categoryRegistry.findByName(postUpdate.getCategoryName()).orElseThrow(() -> new CategoryNotFoundException(Code.NOT_FOUND, new String[] {"카테고리가 존재하지 않습니다."}));
 
 		userId = userDetailsImpl.getId();
 				
@@ -188,6 +340,10 @@ public class PostServiceImpl implements PostService {
 		categoryName = postUpdate.getCategoryName();
 		content = postUpdate.getTitle();
 		title = postUpdate.getContent();
+		
+		/* 카테고리 프록시의 아이디는 초기화하지 않고 읽을 수 있다. */
+		previousCategoryId = postEntity.getCategory().getId();
+		previousTitle = postEntity.getTitle();
 
 		if (StringUtil.notEmpty(categoryName)) {
 			postEntity.category(categoryEntity);
@@ -202,14 +358,30 @@ public class PostServiceImpl implements PostService {
 		}
 
 		if (uploadFiles != null && uploadFiles.length > 0) {
-			files = Arrays.stream(uploadFiles)
-					.map(uploadFile -> fileService.upload(postEntity, uploadFile))
-					.collect(Collectors.toList());
+			files = fileService.uploadAll(postEntity, uploadFiles);
+		}
+		
+		try {
+			post = transactionTemplate.execute((status) -> {
+				PostResponse savedPost = PostMapper.INSTANCE.toDto(postRepository.save(postEntity));
+				
+				/* 본문만 바뀌면 카테고리 요약은 그대로이다. */
+				if (!previousCategoryId.equals(postEntity.getCategory().getId()) || !previousTitle.equals(savedPost.getTitle())) {
+					categorySummaryRepository.updatePost(previousCategoryId, postEntity.getCategory().getId(), id, savedPost.getTitle());
+				}
+				
+				return savedPost;
+			});
+		} catch (RuntimeException exception) {
+			fileService.deleteAll(files);
+			throw exception;
 		}
 		
-		post = PostMapper.INSTANCE.toDto(postRepository.save(postEntity));
 		post.setFiles(files);
 		
+		postCache.invalidate(id);
+		postSearchIndex.index(id, post.getTitle(), post.getContent());
+		
 		return post;
 	}
 }
\ No newline at end of file
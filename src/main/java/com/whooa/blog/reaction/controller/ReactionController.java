@@ -0,0 +1,106 @@
+package com.whooa.blog.reaction.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.whooa.blog.common.api.ApiResponse;
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.CurrentUser;
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionRequest;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionResponse;
+import com.whooa.blog.reaction.service.ReactionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@Tag(
+	name = "반응 API"
+)
+@RestController
+@RequestMapping("/api/v1/posts")
+public class ReactionController {
+	private ReactionService reactionService;
+
+	public ReactionController(ReactionService reactionService) {
+		this.reactionService = reactionService;
+	}
+
+	@Operation(
+		summary = "포스트 반응",
+		description = "사용자마다 반응 하나를 남긴다. 다른 종류로 반응하면 이전 반응을 바꾼다."
+	)
+	@SecurityRequirement(
+		name = "JWT Cookie Authentication"
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@PutMapping("/{post-id}/reactions")
+	public ApiResponse<ReactionResponse> reactToPost(@PathVariable("post-id") Long postId, @Valid @RequestBody ReactionRequest reaction, @CurrentUser UserDetailsImpl userDetailsImpl) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), reactionService.reactToPost(postId, reaction, userDetailsImpl), new String[] {"포스트에 반응했습니다."});
+	}
+
+	@Operation(
+		summary = "포스트 반응 취소"
+	)
+	@SecurityRequirement(
+		name = "JWT Cookie Authentication"
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@DeleteMapping("/{post-id}/reactions")
+	public ApiResponse<ReactionResponse> unreactToPost(@PathVariable("post-id") Long postId, @CurrentUser UserDetailsImpl userDetailsImpl) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), reactionService.unreactToPost(postId, userDetailsImpl), new String[] {"포스트 반응을 취소했습니다."});
+	}
+
+	@Operation(
+		summary = "포스트 반응 개수 조회",
+		description = "반응 개수는 주기적으로 반영하는 집계 값과 아직 반영하지 않은 증가분의 합이다."
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@GetMapping("/{post-id}/reactions")
+	public ApiResponse<ReactionResponse> getReactionsByPostId(@PathVariable("post-id") Long postId) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), reactionService.findByPostId(postId), new String[] {"포스트의 반응 개수를 조회했습니다."});
+	}
+
+	@Operation(
+		summary = "댓글 반응",
+		description = "사용자마다 반응 하나를 남긴다. 다른 종류로 반응하면 이전 반응을 바꾼다."
+	)
+	@SecurityRequirement(
+		name = "JWT Cookie Authentication"
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@PutMapping("/{post-id}/comments/{id}/reactions")
+	public ApiResponse<ReactionResponse> reactToComment(@PathVariable("id") Long id, @PathVariable("post-id") Long postId, @Valid @RequestBody ReactionRequest reaction, @CurrentUser UserDetailsImpl userDetailsImpl) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), reactionService.reactToComment(id, postId, reaction, userDetailsImpl), new String[] {"댓글에 반응했습니다."});
+	}
+
+	@Operation(
+		summary = "댓글 반응 취소"
+	)
+	@SecurityRequirement(
+		name = "JWT Cookie Authentication"
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@DeleteMapping("/{post-id}/comments/{id}/reactions")
+	public ApiResponse<ReactionResponse> unreactToComment(@PathVariable("id") Long id, @PathVariable("post-id") Long postId, @CurrentUser UserDetailsImpl userDetailsImpl) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), reactionService.unreactToComment(id, postId, userDetailsImpl), new String[] {"댓글 반응을 취소했습니다."});
+	}
+
+	@Operation(
+		summary = "댓글 반응 개수 조회"
+	)
+	@ResponseStatus(value = HttpStatus.OK)
+	@GetMapping("/{post-id}/comments/{id}/reactions")
+	public ApiResponse<ReactionResponse> getReactionsByCommentId(@PathVariable("id") Long id, @PathVariable("post-id") Long postId) {
+		return ApiResponse.handleSuccess(Code.OK.getCode(), Code.OK.getMessage(), reactionService.findByCommentId(id, postId), new String[] {"댓글의 반응 개수를 조회했습니다."});
+	}
+}
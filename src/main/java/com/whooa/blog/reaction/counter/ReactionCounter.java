@@ -0,0 +1,157 @@
+package com.whooa.blog.reaction.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.whooa.blog.reaction.repository.ReactionCountRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/*
+ * 반응 개수를 반응마다 UPDATE 문장으로 갱신하지 않고 메모리에 누적한다. 인기 있는 포스트나 댓글의 집계 행에 쓰기가 몰려서 행 잠금을 기다리지 않기 위해서이다.
+ * 집계 단위(ReactionKey)마다 LongAdder 객체를 사용한다. LongAdder 클래스는 경합이 생기면 값을 스레드별 셀로 나누어(sharding) 더하기 때문에 같은 대상에 동시에 반응해도 CAS 경합이 적다.
+ * 스케줄러가 주기적으로 증가분(반응을 취소하거나 바꾸면 음수)을 가져오고 UPSERT 문장의 일괄 처리로 반영한다.
+ * 
+ * 반영에 성공하면 증가분이 0인 항목을 제거한다. 반응한 적이 있는 모든 댓글과 포스트의 항목이 남지 않도록 하기 위해서이다.
+ * 제거와 더하기가 경쟁하면 제거된 LongAdder 객체에 더한 값을 잃는다. 더하는 스레드는 항목에 들어가 있음을 표시하고(enter),
+ * 제거하는 스레드는 들어가 있는 스레드가 없을 때만 항목을 폐기(retire)한 후 증가분을 다시 확인한다. 폐기된 항목을 만난 스레드는 새 항목에 더한다.
+ */
+@Component
+public class ReactionCounter {
+	private static Logger logger = LoggerFactory.getLogger(ReactionCounter.class);
+	
+	private Map<ReactionKey, Pending> pending;
+	private ReactionCountRepository reactionCountRepository;
+	
+	public ReactionCounter(ReactionCountRepository reactionCountRepository) {
+		this.pending = new ConcurrentHashMap<ReactionKey, Pending>();
+		this.reactionCountRepository = reactionCountRepository;
+	}
+	
+	public void add(ReactionKey key, long delta) {
+		Pending counts;
+		
+		while (true) {
+			counts = pending.computeIfAbsent(key, (k) -> new Pending());
+			
+			if (!counts.enter()) {
+				/* 폐기되어 맵에서 제거되기 직전의 항목이다. 제거된 후 새 항목을 만든다. */
+				Thread.onSpinWait();
+				continue;
+			}
+			
+			try {
+				counts.adder.add(delta);
+				return;
+			} finally {
+				counts.exit();
+			}
+		}
+	}
+	
+	/* 아직 반영하지 않은 증가분을 반환한다. 조회 시 집계 행의 값에 더한다. */
+	public long pending(ReactionKey key) {
+		Pending counts;
+		
+		counts = pending.get(key);
+		
+		return counts == null ? 0 : counts.adder.sum();
+	}
+	
+	public int size() {
+		return pending.size();
+	}
+	
+	/* 반영에 실패하면 증가분을 다시 더해서 다음 반영에서 재시도한다. */
+	@Scheduled(fixedDelayString = "${reaction.flush-interval}")
+	public synchronized void flush() {
+		Map<ReactionKey, Long> deltas;
+		
+		deltas = new HashMap<ReactionKey, Long>();
+		
+		pending.forEach((key, counts) -> {
+			long delta = counts.adder.sumThenReset();
+			
+			if (delta != 0) {
+				deltas.put(key, delta);
+			}
+		});
+		
+		if (!deltas.isEmpty()) {
+			try {
+				reactionCountRepository.increaseCounts(deltas);
+			} catch (RuntimeException exception) {
+				logger.error("[ReactionCounter] 반응 개수를 반영하지 못했습니다: {}", exception.getMessage());
+				
+				deltas.forEach((key, delta) -> add(key, delta));
+				return;
+			}
+		}
+		
+		evictEmpty();
+	}
+	
+	/* 폐기한 후에 증가분을 다시 확인해서 폐기하기 직전에 끝난 더하기가 있으면 되살린다. 반영은 synchronized 메서드이기 때문에 그 사이에 증가분이 초기화되지 않는다. */
+	private void evictEmpty() {
+		pending.forEach((key, counts) -> {
+			if (counts.adder.sum() != 0 || !counts.retire()) {
+				return;
+			}
+			
+			if (counts.adder.sum() != 0) {
+				counts.revive();
+				return;
+			}
+			
+			pending.remove(key, counts);
+		});
+	}
+	
+	/* 애플리케이션 종료 시 남은 증가분을 반영한다. */
+	@PreDestroy
+	public void destroy() {
+		flush();
+	}
+	
+	private static class Pending {
+		private static final int RETIRED = -1;
+		
+		private LongAdder adder = new LongAdder();
+		/* 항목에 들어가 있는 스레드의 개수. 폐기되면 RETIRED이다. */
+		private AtomicInteger users = new AtomicInteger();
+		
+		private boolean enter() {
+			int current;
+			
+			do {
+				current = users.get();
+				
+				if (current == RETIRED) {
+					return false;
+				}
+			} while (!users.compareAndSet(current, current + 1));
+			
+			return true;
+		}
+		
+		private void exit() {
+			users.decrementAndGet();
+		}
+		
+		private boolean retire() {
+			return users.compareAndSet(0, RETIRED);
+		}
+		
+		private void revive() {
+			users.set(0);
+		}
+	}
+}
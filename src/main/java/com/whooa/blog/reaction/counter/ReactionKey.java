@@ -0,0 +1,58 @@
+package com.whooa.blog.reaction.counter;
+
+import java.util.Objects;
+
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+
+/* 반응 개수를 집계하는 단위(대상 종류, 대상 아이디, 반응 종류). reaction_count 테이블의 유일 인덱스와 같다. */
+public final class ReactionKey {
+	private final ReactionTarget targetType;
+	private final Long targetId;
+	private final ReactionType type;
+	
+	public ReactionKey(ReactionTarget targetType, Long targetId, ReactionType type) {
+		this.targetType = targetType;
+		this.targetId = targetId;
+		this.type = type;
+	}
+
+	public ReactionTarget getTargetType() {
+		return targetType;
+	}
+
+	public Long getTargetId() {
+		return targetId;
+	}
+
+	public ReactionType getType() {
+		return type;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		ReactionKey key;
+		
+		if (this == object) {
+			return true;
+		}
+		
+		if (!(object instanceof ReactionKey)) {
+			return false;
+		}
+		
+		key = (ReactionKey) object;
+		
+		return targetType == key.targetType && targetId.equals(key.targetId) && type == key.type;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(targetType, targetId, type);
+	}
+
+	@Override
+	public String toString() {
+		return "ReactionKey [targetType=" + targetType + ", targetId=" + targetId + ", type=" + type + "]";
+	}
+}
@@ -0,0 +1,100 @@
+package com.whooa.blog.reaction.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.whooa.blog.reaction.type.ReactionType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public class ReactionDto {
+
+	@Schema(
+		description = "반응 DTO"
+	)
+	public static class ReactionRequest {
+		@Schema(
+			description = "반응 종류"
+		)
+		@NotNull(message = "반응 종류를 입력하세요.")
+		private ReactionType type;
+
+		public ReactionRequest(ReactionType type) {
+			this.type = type;
+		}
+
+		public ReactionRequest() {}
+		
+		public ReactionRequest type(ReactionType type) {
+			this.type = type;
+			return this;
+		}
+		
+		public ReactionType getType() {
+			return type;
+		}
+
+		public void setType(ReactionType type) {
+			this.type = type;
+		}
+
+		@Override
+		public String toString() {
+			return "ReactionRequest [type=" + type + "]";
+		}
+	}
+	
+	@Schema(
+		description = "반응 응답 DTO"
+	)
+	public static class ReactionResponse {
+		@Schema(
+			description = "반응 종류별 개수"
+		)
+		private Map<ReactionType, Long> counts = new EnumMap<ReactionType, Long>(ReactionType.class);
+		
+		@Schema(
+			description = "로그인한 사용자의 반응 종류(반응하지 않았거나 개수 조회이면 null)"
+		)
+		private ReactionType type;
+		
+		public ReactionResponse(Map<ReactionType, Long> counts, ReactionType type) {
+			this.counts = counts;
+			this.type = type;
+		}
+		
+		public ReactionResponse() {}
+		
+		public ReactionResponse counts(Map<ReactionType, Long> counts) {
+			this.counts = counts;
+			return this;
+		}
+		
+		public ReactionResponse type(ReactionType type) {
+			this.type = type;
+			return this;
+		}
+
+		public Map<ReactionType, Long> getCounts() {
+			return counts;
+		}
+
+		public void setCounts(Map<ReactionType, Long> counts) {
+			this.counts = counts;
+		}
+
+		public ReactionType getType() {
+			return type;
+		}
+
+		public void setType(ReactionType type) {
+			this.type = type;
+		}
+
+		@Override
+		public String toString() {
+			return "ReactionResponse [counts=" + counts + ", type=" + type + "]";
+		}
+	}
+}
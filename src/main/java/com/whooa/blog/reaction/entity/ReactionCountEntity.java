@@ -0,0 +1,85 @@
+package com.whooa.blog.reaction.entity;
+
+import com.whooa.blog.common.entity.CoreEntity;
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+/*
+ * 대상과 반응 종류마다 반응 개수를 집계한다. 반응 개수를 조회할 때 reaction 테이블을 읽지 않는다.
+ * 행은 ReactionCounter 클래스가 주기적으로 (target_type, target_id, type) 유일 인덱스에 대해 UPSERT 문장으로 생성하거나 갱신한다.
+ */
+@Table(name = "reaction_count", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_reaction_count_target_type", columnNames = {"target_type", "target_id", "type"})
+})
+public class ReactionCountEntity extends CoreEntity {
+	@Enumerated(EnumType.STRING)
+	@Column(name = "target_type", length = 20, nullable = false)
+	private ReactionTarget targetType;
+	
+	@Column(name = "target_id", nullable = false)
+	private Long targetId;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private ReactionType type;
+	
+	@Column(nullable = false)
+	private long total;
+	
+	public ReactionCountEntity() {
+		super(null);
+	}
+	
+	public Long getId() {
+		return super.getId();
+	}
+	
+	public void setId(Long id) {
+		super.setId(id);
+	}
+
+	public ReactionTarget getTargetType() {
+		return targetType;
+	}
+
+	public void setTargetType(ReactionTarget targetType) {
+		this.targetType = targetType;
+	}
+
+	public Long getTargetId() {
+		return targetId;
+	}
+
+	public void setTargetId(Long targetId) {
+		this.targetId = targetId;
+	}
+
+	public ReactionType getType() {
+		return type;
+	}
+
+	public void setType(ReactionType type) {
+		this.type = type;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public void setTotal(long total) {
+		this.total = total;
+	}
+
+	@Override
+	public String toString() {
+		return "ReactionCountEntity [id=" + super.getId() + ", targetType=" + targetType + ", targetId=" + targetId + ", type=" + type + ", total=" + total + "]";
+	}
+}
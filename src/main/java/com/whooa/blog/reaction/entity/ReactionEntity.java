@@ -0,0 +1,120 @@
+package com.whooa.blog.reaction.entity;
+
+import com.whooa.blog.common.entity.CoreEntity;
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+import com.whooa.blog.user.entity.UserEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+/*
+ * 사용자마다 대상(포스트 혹은 댓글) 하나에 반응 하나를 남긴다.
+ * 대상은 target_type과 target_id로 구분하기 때문에 포스트와 댓글이 테이블 하나를 공유한다.
+ * (target_type, target_id, user_id) 유일 인덱스가 사용자의 반응을 조회하는 인덱스이자 중복 반응을 막는 제약 조건이다.
+ */
+@Table(name = "reaction", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_reaction_target_user", columnNames = {"target_type", "target_id", "user_id"})
+})
+public class ReactionEntity extends CoreEntity {
+	@Enumerated(EnumType.STRING)
+	@Column(name = "target_type", length = 20, nullable = false)
+	private ReactionTarget targetType;
+	
+	@Column(name = "target_id", nullable = false)
+	private Long targetId;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private ReactionType type;
+	
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private UserEntity user;
+	
+	public ReactionEntity(Long id, ReactionTarget targetType, Long targetId, ReactionType type, UserEntity user) {
+		super(id);
+		
+		this.targetType = targetType;
+		this.targetId = targetId;
+		this.type = type;
+		this.user = user;
+	}
+	
+	public ReactionEntity() {
+		super(null);
+	}
+	
+	public ReactionEntity targetType(ReactionTarget targetType) {
+		this.targetType = targetType;
+		return this;
+	}
+	
+	public ReactionEntity targetId(Long targetId) {
+		this.targetId = targetId;
+		return this;
+	}
+	
+	public ReactionEntity type(ReactionType type) {
+		this.type = type;
+		return this;
+	}
+	
+	public ReactionEntity user(UserEntity user) {
+		this.user = user;
+		return this;
+	}
+	
+	public Long getId() {
+		return super.getId();
+	}
+	
+	public void setId(Long id) {
+		super.setId(id);
+	}
+
+	public ReactionTarget getTargetType() {
+		return targetType;
+	}
+
+	public void setTargetType(ReactionTarget targetType) {
+		this.targetType = targetType;
+	}
+
+	public Long getTargetId() {
+		return targetId;
+	}
+
+	public void setTargetId(Long targetId) {
+		this.targetId = targetId;
+	}
+
+	public ReactionType getType() {
+		return type;
+	}
+
+	public void setType(ReactionType type) {
+		this.type = type;
+	}
+
+	public UserEntity getUser() {
+		return user;
+	}
+
+	public void setUser(UserEntity user) {
+		this.user = user;
+	}
+
+	@Override
+	public String toString() {
+		return "ReactionEntity [id=" + super.getId() + ", targetType=" + targetType + ", targetId=" + targetId + ", type=" + type + "]";
+	}
+}
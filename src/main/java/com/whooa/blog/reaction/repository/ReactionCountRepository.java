@@ -0,0 +1,55 @@
+package com.whooa.blog.reaction.repository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.whooa.blog.reaction.counter.ReactionKey;
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+
+/*
+ * 반응 개수 증가분을 UPSERT 문장(INSERT ... ON DUPLICATE KEY UPDATE)의 JDBC 일괄 처리로 반영한다.
+ * 처음 집계하는 대상은 행을 생성하고 이미 집계한 대상은 상대적으로 갱신하기 때문에 행을 먼저 읽지 않는다.
+ */
+@Repository
+public class ReactionCountRepository {
+	private static final String INCREASE_COUNT = "INSERT INTO reaction_count (target_type, target_id, type, total, created_at, updated_at) VALUES (?, ?, ?, ?, NOW(), NOW()) ON DUPLICATE KEY UPDATE total = total + VALUES(total), updated_at = NOW()";
+	private static final String FIND_COUNTS = "SELECT type, total FROM reaction_count WHERE target_type = ? AND target_id = ?";
+	
+	private JdbcTemplate jdbcTemplate;
+
+	public ReactionCountRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+	
+	public void increaseCounts(Map<ReactionKey, Long> deltas) {
+		List<Object[]> arguments;
+		
+		arguments = deltas.entrySet().stream().map((entry) -> new Object[] {
+			entry.getKey().getTargetType().name(),
+			entry.getKey().getTargetId(),
+			entry.getKey().getType().name(),
+			entry.getValue()
+		}).collect(Collectors.toList());
+		
+		jdbcTemplate.batchUpdate(INCREASE_COUNT, arguments);
+	}
+	
+	/* 집계한 반응 종류만 반환한다. */
+	public Map<ReactionType, Long> findCounts(ReactionTarget targetType, Long targetId) {
+		Map<ReactionType, Long> counts;
+		
+		counts = new EnumMap<ReactionType, Long>(ReactionType.class);
+		
+		jdbcTemplate.query(FIND_COUNTS, (resultSet) -> {
+			counts.put(ReactionType.valueOf(resultSet.getString("type")), resultSet.getLong("total"));
+		}, targetType.name(), targetId);
+		
+		return counts;
+	}
+}
@@ -0,0 +1,51 @@
+package com.whooa.blog.reaction.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+
+/*
+ * 사용자의 반응을 저장한다.
+ * 변경 문장은 읽은 반응 종류를 조건으로 실행하기 때문에(compare-and-set) 영향받은 행이 1개일 때만 상태가 바뀐 것이다.
+ * 호출자는 상태가 바뀐 경우에만 반응 개수를 증감하기 때문에 같은 사용자가 동시에 요청해도 반응 개수가 어긋나지 않는다.
+ * 문장마다 자동 커밋하기 때문에 잠금을 유지하지 않는다.
+ */
+@Repository
+public class ReactionRepository {
+	private static final String FIND_TYPE = "SELECT type FROM reaction WHERE target_type = ? AND target_id = ? AND user_id = ?";
+	private static final String INSERT_REACTION = "INSERT IGNORE INTO reaction (target_type, target_id, user_id, type, created_at, updated_at) VALUES (?, ?, ?, ?, NOW(), NOW())";
+	private static final String UPDATE_TYPE = "UPDATE reaction SET type = ?, updated_at = NOW() WHERE target_type = ? AND target_id = ? AND user_id = ? AND type = ?";
+	private static final String DELETE_REACTION = "DELETE FROM reaction WHERE target_type = ? AND target_id = ? AND user_id = ? AND type = ?";
+	
+	private JdbcTemplate jdbcTemplate;
+
+	public ReactionRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+	
+	/* 사용자의 반응 종류를 반환한다. 반응하지 않았으면 null을 반환한다. */
+	public ReactionType findType(ReactionTarget targetType, Long targetId, Long userId) {
+		List<String> types;
+		
+		types = jdbcTemplate.queryForList(FIND_TYPE, String.class, targetType.name(), targetId, userId);
+		
+		return types.isEmpty() ? null : ReactionType.valueOf(types.get(0));
+	}
+	
+	/* 유일 인덱스와 충돌하면(이미 반응했으면) 행을 삽입하지 않고 false를 반환한다. */
+	public boolean insert(ReactionTarget targetType, Long targetId, Long userId, ReactionType type) {
+		return jdbcTemplate.update(INSERT_REACTION, targetType.name(), targetId, userId, type.name()) == 1;
+	}
+	
+	public boolean updateType(ReactionTarget targetType, Long targetId, Long userId, ReactionType expected, ReactionType type) {
+		return jdbcTemplate.update(UPDATE_TYPE, type.name(), targetType.name(), targetId, userId, expected.name()) == 1;
+	}
+	
+	public boolean delete(ReactionTarget targetType, Long targetId, Long userId, ReactionType expected) {
+		return jdbcTemplate.update(DELETE_REACTION, targetType.name(), targetId, userId, expected.name()) == 1;
+	}
+}
@@ -0,0 +1,14 @@
+package com.whooa.blog.reaction.service;
+
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionRequest;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionResponse;
+
+public interface ReactionService {
+	public abstract ReactionResponse reactToPost(Long postId, ReactionRequest reaction, UserDetailsImpl userDetailsImpl);
+	public abstract ReactionResponse reactToComment(Long id, Long postId, ReactionRequest reaction, UserDetailsImpl userDetailsImpl);
+	public abstract ReactionResponse unreactToPost(Long postId, UserDetailsImpl userDetailsImpl);
+	public abstract ReactionResponse unreactToComment(Long id, Long postId, UserDetailsImpl userDetailsImpl);
+	public abstract ReactionResponse findByPostId(Long postId);
+	public abstract ReactionResponse findByCommentId(Long id, Long postId);
+}
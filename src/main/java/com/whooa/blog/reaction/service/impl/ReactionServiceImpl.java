@@ -0,0 +1,169 @@
+package com.whooa.blog.reaction.service.impl;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.whooa.blog.comment.exception.CommentNotFoundException;
+import com.whooa.blog.comment.repository.CommentRepository;
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.post.exception.PostNotFoundException;
+import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.reaction.counter.ReactionCounter;
+import com.whooa.blog.reaction.counter.ReactionKey;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionRequest;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionResponse;
+import com.whooa.blog.reaction.repository.ReactionCountRepository;
+import com.whooa.blog.reaction.repository.ReactionRepository;
+import com.whooa.blog.reaction.service.ReactionService;
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+
+/*
+ * 사용자의 반응은 reaction 테이블에 바로 저장하고 반응 개수는 ReactionCounter 클래스에 누적한다.
+ * 반응 개수는 reaction_count 테이블의 집계 값과 아직 반영하지 않은 증가분의 합이다. 조회 시 reaction 테이블을 읽지 않는다.
+ *
+ * 트랜잭션을 사용하지 않는다. ReactionRepository 클래스의 변경 문장은 자동 커밋되고 상태가 바뀐 경우에만 증가분을 누적하기 때문에 롤백할 증가분이 없다.
+ * 같은 사용자의 동시 요청과 경쟁해서 변경 문장이 실패하면 반응을 다시 읽고 재시도한다.
+ */
+@Service
+public class ReactionServiceImpl implements ReactionService {
+	private static final int MAX_ATTEMPTS = 3;
+
+	private ReactionRepository reactionRepository;
+	private ReactionCountRepository reactionCountRepository;
+	private ReactionCounter reactionCounter;
+	private PostRepository postRepository;
+	private CommentRepository commentRepository;
+
+	public ReactionServiceImpl(ReactionRepository reactionRepository, ReactionCountRepository reactionCountRepository, ReactionCounter reactionCounter, PostRepository postRepository, CommentRepository commentRepository) {
+		this.reactionRepository = reactionRepository;
+		this.reactionCountRepository = reactionCountRepository;
+		this.reactionCounter = reactionCounter;
+		this.postRepository = postRepository;
+		this.commentRepository = commentRepository;
+	}
+
+	@Override
+	public ReactionResponse reactToPost(Long postId, ReactionRequest reaction, UserDetailsImpl userDetailsImpl) {
+		checkPost(postId);
+
+		return react(ReactionTarget.POST, postId, reaction.getType(), userDetailsImpl.getId());
+	}
+
+	@Override
+	public ReactionResponse reactToComment(Long id, Long postId, ReactionRequest reaction, UserDetailsImpl userDetailsImpl) {
+		checkComment(id, postId);
+
+		return react(ReactionTarget.COMMENT, id, reaction.getType(), userDetailsImpl.getId());
+	}
+
+	@Override
+	public ReactionResponse unreactToPost(Long postId, UserDetailsImpl userDetailsImpl) {
+		checkPost(postId);
+
+		return unreact(ReactionTarget.POST, postId, userDetailsImpl.getId());
+	}
+
+	@Override
+	public ReactionResponse unreactToComment(Long id, Long postId, UserDetailsImpl userDetailsImpl) {
+		checkComment(id, postId);
+
+		return unreact(ReactionTarget.COMMENT, id, userDetailsImpl.getId());
+	}
+
+	@Override
+	public ReactionResponse findByPostId(Long postId) {
+		checkPost(postId);
+
+		return new ReactionResponse(count(ReactionTarget.POST, postId), null);
+	}
+
+	@Override
+	public ReactionResponse findByCommentId(Long id, Long postId) {
+		checkComment(id, postId);
+
+		return new ReactionResponse(count(ReactionTarget.COMMENT, id), null);
+	}
+
+	/*
+	 * 반응하지 않았으면 추가하고 다른 종류로 반응했으면 바꾼다. 같은 종류로 반응했으면 아무것도 하지 않는다.
+	 * 재시도를 모두 실패하면 동시 요청이 반영한 반응을 반환한다.
+	 */
+	private ReactionResponse react(ReactionTarget targetType, Long targetId, ReactionType type, Long userId) {
+		ReactionType current;
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			current = reactionRepository.findType(targetType, targetId, userId);
+
+			if (current == type) {
+				return new ReactionResponse(count(targetType, targetId), type);
+			}
+
+			if (current == null) {
+				if (reactionRepository.insert(targetType, targetId, userId, type)) {
+					reactionCounter.add(new ReactionKey(targetType, targetId, type), 1);
+					return new ReactionResponse(count(targetType, targetId), type);
+				}
+			} else if (reactionRepository.updateType(targetType, targetId, userId, current, type)) {
+				reactionCounter.add(new ReactionKey(targetType, targetId, current), -1);
+				reactionCounter.add(new ReactionKey(targetType, targetId, type), 1);
+				return new ReactionResponse(count(targetType, targetId), type);
+			}
+		}
+
+		return new ReactionResponse(count(targetType, targetId), reactionRepository.findType(targetType, targetId, userId));
+	}
+
+	private ReactionResponse unreact(ReactionTarget targetType, Long targetId, Long userId) {
+		ReactionType current;
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			current = reactionRepository.findType(targetType, targetId, userId);
+
+			if (current == null) {
+				break;
+			}
+
+			if (reactionRepository.delete(targetType, targetId, userId, current)) {
+				reactionCounter.add(new ReactionKey(targetType, targetId, current), -1);
+				break;
+			}
+		}
+
+		return new ReactionResponse(count(targetType, targetId), null);
+	}
+
+	/*
+	 * 반응 종류마다 집계 값과 아직 반영하지 않은 증가분을 더한다. 모든 종류를 0부터 채워서 응답의 형태를 고정한다.
+	 * 증가분을 가져온 후 반영하기 전 사이에 조회하면 잠깐 어긋날 수 있기 때문에 0 미만은 0으로 반환한다.
+	 */
+	private Map<ReactionType, Long> count(ReactionTarget targetType, Long targetId) {
+		Map<ReactionType, Long> counts, stored;
+
+		stored = reactionCountRepository.findCounts(targetType, targetId);
+		counts = new EnumMap<ReactionType, Long>(ReactionType.class);
+
+		for (ReactionType type : ReactionType.values()) {
+			counts.put(type, Math.max(0, stored.getOrDefault(type, 0L) + reactionCounter.pending(new ReactionKey(targetType, targetId, type))));
+		}
+
+		return counts;
+	}
+
+	private void checkPost(Long postId) {
+		if (!postRepository.existsById(postId)) {
+			throw new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."});
+		}
+	}
+
+	private void checkComment(Long id, Long postId) {
+		checkPost(postId);
+
+		if (!commentRepository.existsByIdAndPostId(id, postId)) {
+			throw new CommentNotFoundException(Code.NOT_FOUND, new String[] {"댓글이 존재하지 않습니다."});
+		}
+	}
+}
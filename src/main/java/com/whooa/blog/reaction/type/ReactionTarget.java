@@ -0,0 +1,16 @@
+package com.whooa.blog.reaction.type;
+
+public enum ReactionTarget {
+	POST("포스트"),
+	COMMENT("댓글");
+	
+	private String description;
+	
+	private ReactionTarget(String description) {
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
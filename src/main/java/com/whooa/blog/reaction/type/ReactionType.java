@@ -0,0 +1,20 @@
+package com.whooa.blog.reaction.type;
+
+public enum ReactionType {
+	LIKE("좋아요"),
+	LOVE("최고예요"),
+	HAHA("웃겨요"),
+	WOW("놀라워요"),
+	SAD("슬퍼요"),
+	ANGRY("화나요");
+	
+	private String description;
+	
+	private ReactionType(String description) {
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,103 @@
+package com.whooa.blog.user.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.user.property.UserCacheProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/*
+ * JWT로 인증할 때마다 사용자를 조회하지 않도록 이메일을 키로 인증 주체(UserDetailsImpl)를 캐시한다.
+ * 최대 항목 개수를 넘으면 LRU에 가깝게 제거하고 쓰기 후 만료 시간이 지나면 제거한다.
+ * 역할, 비밀번호, 이메일, 활성 상태가 바뀌면 사용자 서비스가 명시적으로 무효화한다. 다른 인스턴스의 캐시는 만료 시간이 지나야 반영된다.
+ *
+ * 지표.
+ * 1. cache.gets, cache.evictions(cache=user-details): 적중/실패/제거 횟수.
+ * 2. user.details.load: 캐시에 없어서 데이터베이스에서 읽은 시간.
+ * 3. user.details.cache.saved: 적중할 때마다 그 시점의 평균 조회 시간을 더한 절약 시간(밀리초). 더하기만 하기 때문에 줄어들지 않는다.
+ */
+@Component
+public class UserDetailsCache {
+	private Cache<String, UserDetailsImpl> cache;
+	/* 조회 도중 같은 키가 무효화되면 조회한 값은 이미 오래된 값이기 때문에 캐시에 넣지 않는다(PostCache 클래스와 같다). */
+	private ConcurrentMap<String, Object> loads;
+	private Timer loadTimer;
+	private Counter savedCounter;
+
+	public UserDetailsCache(UserCacheProperty userCacheProperty, MeterRegistry meterRegistry) {
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(userCacheProperty.getMaximumSize())
+				.expireAfterWrite(userCacheProperty.getExpiration(), TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+		this.loads = new ConcurrentHashMap<>();
+		this.loadTimer = Timer.builder("user.details.load")
+				.description("캐시에 없는 인증 주체를 데이터베이스에서 읽은 시간")
+				.register(meterRegistry);
+		this.savedCounter = Counter.builder("user.details.cache.saved")
+				.description("캐시 적중으로 절약한 조회 시간의 추정치")
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+
+		GuavaCacheMetrics.monitor(meterRegistry, cache, "user-details");
+	}
+
+	/* loader가 던진 예외(UsernameNotFoundException 등)는 그대로 전파되고 캐시에 남지 않는다. */
+	public UserDetailsImpl get(String email, Supplier<UserDetailsImpl> loader) {
+		UserDetailsImpl userDetailsImpl, loaded;
+		Object token;
+
+		userDetailsImpl = cache.getIfPresent(email);
+
+		if (userDetailsImpl != null) {
+			savedCounter.increment(loadTimer.mean(TimeUnit.MILLISECONDS));
+			return userDetailsImpl;
+		}
+
+		token = new Object();
+		loads.put(email, token);
+
+		try {
+			loaded = loadTimer.record(loader);
+		} catch (RuntimeException exception) {
+			loads.remove(email, token);
+			throw exception;
+		}
+
+		loads.computeIfPresent(email, (key, current) -> {
+			if (current != token) {
+				return current;
+			}
+
+			cache.put(key, loaded);
+
+			return null;
+		});
+
+		return loaded;
+	}
+
+	public void invalidate(String email) {
+		loads.compute(email, (key, current) -> {
+			cache.invalidate(key);
+
+			return null;
+		});
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+}
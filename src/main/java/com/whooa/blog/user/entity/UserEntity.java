@@ -49,6 +49,10 @@ public class UserEntity extends CoreEntity {
 	@Column(name = "refresh_token", length = 500)
 	private String refreshToken;
 	
+	/* 접근 토큰의 ver 클레임과 비교한다. 역할, 비밀번호, 이메일, 활성 상태가 바뀌면 1 증가해서 이전에 발급한 접근 토큰을 폐기한다. */
+	@Column(name = "token_version", nullable = false)
+	private long tokenVersion;
+	
 	@Enumerated(EnumType.STRING)
 	@Column(name = "user_role", nullable = false)
 	private UserRole userRole = UserRole.USER;
@@ -74,7 +78,7 @@ public class UserEntity extends CoreEntity {
 	}
 
 	public UserEntity() {
-		super(-1L);
+		super(null);
 	}
 	
 	public UserEntity active(Boolean active) {
@@ -112,6 +116,11 @@ public class UserEntity extends CoreEntity {
 		return this;
 	}
 	
+	public UserEntity tokenVersion(long tokenVersion) {
+		this.tokenVersion = tokenVersion;
+		return this;
+	}
+	
 	public UserEntity userRole(UserRole userRole) {
 		this.userRole = userRole;
 		return this;
@@ -189,6 +198,14 @@ public class UserEntity extends CoreEntity {
 		this.refreshToken = refreshToken;
 	}
 
+	public long getTokenVersion() {
+		return tokenVersion;
+	}
+
+	public void setTokenVersion(long tokenVersion) {
+		this.tokenVersion = tokenVersion;
+	}
+
 	public UserRole getUserRole() {
 		return userRole;
 	}
@@ -218,7 +235,7 @@ public class UserEntity extends CoreEntity {
 		return "UserEntity [id=" + super.getId() + ", active=" + active + ", email=" + email + ", name=" + name + ", password=" + password
 				+ ", passwordResetToken=" + passwordResetToken + ", passwordResetTokenExpiration="
 				+ passwordResetTokenExpiration + ", oAuth2Provider=" + oAuth2Provider + ", oAuth2ProviderId="
-				+ oAuth2ProviderId + ", refreshToken=" + refreshToken + ", userRole=" + userRole + ", comments="
+				+ oAuth2ProviderId + ", refreshToken=" + refreshToken + ", tokenVersion=" + tokenVersion + ", userRole=" + userRole + ", comments="
 				+ comments + ", posts=" + posts + "]";
 	}
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.whooa.blog.user.exception;
+
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.exception.CoreException;
+
+public class PasswordHashingBusyException extends CoreException {
+	private static final long serialVersionUID = 1L;
+
+	public PasswordHashingBusyException(Code code, String[] detail) {
+		super(code, detail);
+	}
+}
@@ -0,0 +1,88 @@
+package com.whooa.blog.user.limit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.whooa.blog.user.property.SignInLimitProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/*
+ * 로그인 시도를 클라이언트 IP와 이메일마다 토큰 버킷으로 제한한다. 제한을 넘으면 AuthenticationManager 클래스와 데이터베이스, BCrypt를 거치지 않고 거부한다.
+ * 버킷은 세그먼트로 나뉜 Guava 캐시에 두고 각 버킷은 CAS 연산으로 갱신하기 때문에 전역 잠금이 없다.
+ * 마지막 시도 후 용량 × 보충 간격이 지나면 버킷은 다시 가득 찬 상태와 같기 때문에 제거해도 결과가 바뀌지 않는다.
+ *
+ * 이메일 제한은 다른 사람이 피해자의 계정으로 로그인을 시도해서 피해자의 로그인을 막을 수 있다. 그래서 IP 제한보다 넉넉하게 둔다.
+ * 버킷은 인스턴스마다 따로 있기 때문에 인스턴스가 N개이면 실제 제한은 최대 N배이다.
+ *
+ * 지표.
+ * 1. user.sign-in.limit.capacity, user.sign-in.limit.refill.interval(key=ip|email): 설정한 제한.
+ * 2. user.sign-in.limited(key=ip|email): 거부한 로그인 시도의 개수.
+ * 3. cache.size 등(cache=sign-in-ip, sign-in-email): 메모리에 있는 버킷의 개수.
+ */
+@Component
+public class SignInRateLimiter {
+	private LoadingCache<String, TokenBucket> ipBuckets;
+	private LoadingCache<String, TokenBucket> emailBuckets;
+	private Counter ipLimitedCounter;
+	private Counter emailLimitedCounter;
+
+	public SignInRateLimiter(SignInLimitProperty signInLimitProperty, MeterRegistry meterRegistry) {
+		this.ipBuckets = buckets(signInLimitProperty.getIpCapacity(), signInLimitProperty.getIpRefillInterval(), signInLimitProperty.getMaximumSize());
+		this.emailBuckets = buckets(signInLimitProperty.getEmailCapacity(), signInLimitProperty.getEmailRefillInterval(), signInLimitProperty.getMaximumSize());
+		this.ipLimitedCounter = limitedCounter("ip", meterRegistry);
+		this.emailLimitedCounter = limitedCounter("email", meterRegistry);
+
+		Gauge.builder("user.sign-in.limit.capacity", signInLimitProperty, SignInLimitProperty::getIpCapacity).tag("key", "ip").register(meterRegistry);
+		Gauge.builder("user.sign-in.limit.capacity", signInLimitProperty, SignInLimitProperty::getEmailCapacity).tag("key", "email").register(meterRegistry);
+		Gauge.builder("user.sign-in.limit.refill.interval", signInLimitProperty, SignInLimitProperty::getIpRefillInterval).tag("key", "ip").baseUnit("milliseconds").register(meterRegistry);
+		Gauge.builder("user.sign-in.limit.refill.interval", signInLimitProperty, SignInLimitProperty::getEmailRefillInterval).tag("key", "email").baseUnit("milliseconds").register(meterRegistry);
+
+		GuavaCacheMetrics.monitor(meterRegistry, ipBuckets, "sign-in-ip");
+		GuavaCacheMetrics.monitor(meterRegistry, emailBuckets, "sign-in-email");
+	}
+
+	/* 허용하면 0을 반환하고 거부하면 다시 시도할 수 있을 때까지의 시간(밀리초)을 반환한다. */
+	public long acquireByIp(String ip) {
+		return acquire(ipBuckets, ip, ipLimitedCounter);
+	}
+
+	/* 대소문자만 다른 이메일로 제한을 우회하지 못하도록 소문자로 바꿔서 키로 사용한다. */
+	public long acquireByEmail(String email) {
+		return acquire(emailBuckets, email.trim().toLowerCase(), emailLimitedCounter);
+	}
+
+	private long acquire(LoadingCache<String, TokenBucket> buckets, String key, Counter limitedCounter) {
+		long wait;
+
+		wait = buckets.getUnchecked(key).tryAcquire(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+
+		if (wait > 0) {
+			limitedCounter.increment();
+		}
+
+		return wait;
+	}
+
+	private static LoadingCache<String, TokenBucket> buckets(long capacity, long refillInterval, long maximumSize) {
+		return CacheBuilder.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterAccess(capacity * refillInterval, TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build(CacheLoader.from(() -> new TokenBucket(capacity, refillInterval)));
+	}
+
+	private static Counter limitedCounter(String key, MeterRegistry meterRegistry) {
+		return Counter.builder("user.sign-in.limited")
+				.description("제한을 넘어서 거부한 로그인 시도의 개수")
+				.tag("key", key)
+				.register(meterRegistry);
+	}
+}
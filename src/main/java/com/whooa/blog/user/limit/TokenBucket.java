@@ -0,0 +1,40 @@
+package com.whooa.blog.user.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 잠금 없이 CAS 연산 하나로 갱신하는 토큰 버킷이다.
+ * 남은 토큰 개수 대신 버킷이 다시 가득 차는 시각(theoretical arrival time)만 저장한다(GCRA). 토큰 버킷과 같은 결과를 AtomicLong 하나로 얻는다.
+ * 시도할 때마다 그 시각을 보충 간격만큼 미루고 현재 시각보다 용량 × 보충 간격 이상 앞서면 거부한다.
+ * 현재 시각은 System.nanoTime() 메서드로 구하기 때문에 음수일 수 있다. 새 버킷은 어떤 현재 시각보다도 이전인 Long.MIN_VALUE에서 시작해서 가득 찬 상태이다.
+ */
+public class TokenBucket {
+	private long capacity;
+	private long refillInterval;
+	private AtomicLong fullAt;
+
+	public TokenBucket(long capacity, long refillInterval) {
+		this.capacity = capacity;
+		this.refillInterval = refillInterval;
+		this.fullAt = new AtomicLong(Long.MIN_VALUE);
+	}
+
+	/* 토큰을 하나 사용하면 0을 반환하고 버킷이 비었으면 다음 토큰이 보충될 때까지 기다려야 하는 시간(밀리초)을 반환한다. */
+	public long tryAcquire(long now) {
+		long current, next, excess;
+
+		while (true) {
+			current = fullAt.get();
+			next = Math.max(current, now) + refillInterval;
+			excess = next - now - capacity * refillInterval;
+
+			if (excess > 0) {
+				return excess;
+			}
+
+			if (fullAt.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.whooa.blog.user.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
+import com.whooa.blog.user.property.PasswordHashingProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/*
+ * BCrypt 해시와 비교를 전용 스레드 풀에서 실행한다. 로그인과 회원가입이 몰려도 BCrypt가 사용하는 CPU 코어는 스레드 개수를 넘지 않아서 톰캣 스레드의 가벼운 조회가 밀리지 않는다.
+ * 큐는 크기가 정해져 있고 가득 차면 기다리지 않고 PasswordHashingBusyException 예외(503 상태 코드)를 던진다.
+ * 요청 스레드는 작업이 끝날 때까지 기다리지만 CPU를 사용하지 않는다.
+ *
+ * 강도는 설정으로 고정한다. 강도가 1 오르면 해시 시간은 2배가 된다.
+ * 강도를 0으로 설정하면 시작할 때 해시 시간을 재서 목표 시간을 넘지 않는 가장 큰 값으로 고른다. 측정값이 인스턴스마다 다르기 때문에 인스턴스가 하나일 때만 사용한다.
+ * PasswordEncoder 인터페이스를 구현하기 때문에 DaoAuthenticationProvider 클래스에도 그대로 설정한다.
+ */
+@Component
+public class PasswordHasher implements PasswordEncoder {
+	private static Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+	private BCryptPasswordEncoder bCryptPasswordEncoder;
+	private ExecutorService executorService;
+	private Counter rejectedCounter;
+	private int strength;
+
+	public PasswordHasher(PasswordHashingProperty passwordHashingProperty, MeterRegistry meterRegistry) {
+		this.strength = passwordHashingProperty.getStrength() > 0
+				? passwordHashingProperty.getStrength()
+				: calibrate(passwordHashingProperty.getTargetLatency(), passwordHashingProperty.getMinStrength(), passwordHashingProperty.getMaxStrength());
+		this.bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+		/* AbortPolicy 정책은 큐가 가득 차면 RejectedExecutionException 예외를 던진다. CallerRunsPolicy 정책처럼 톰캣 스레드에서 해시하지 않는다. */
+		this.executorService = new ThreadPoolExecutor(passwordHashingProperty.getThreads(), passwordHashingProperty.getThreads(), 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(passwordHashingProperty.getQueueCapacity()),
+				new ThreadFactoryBuilder().setNameFormat("password-hashing-%d").setDaemon(true).build(),
+				new ThreadPoolExecutor.AbortPolicy());
+		this.rejectedCounter = Counter.builder("user.password.hashing.rejected")
+				.description("큐가 가득 차서 거부한 비밀번호 해시 작업의 개수")
+				.register(meterRegistry);
+
+		logger.info("[PasswordHasher] BCrypt 강도: {}", strength);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> bCryptPasswordEncoder.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/* 저장된 해시의 강도가 현재 강도보다 낮으면 true를 반환한다. DaoAuthenticationProvider 클래스는 로그인에 성공하면 비밀번호를 다시 해시해서 저장한다. */
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return bCryptPasswordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	public int getStrength() {
+		return strength;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		executorService.shutdown();
+	}
+
+	private <T> T execute(Supplier<T> task) {
+		try {
+			return executorService.submit(task::get).get();
+		} catch (RejectedExecutionException exception) {
+			rejectedCounter.increment();
+			throw new PasswordHashingBusyException(Code.PASSWORD_HASHING_BUSY, new String[] {"잠시 후 다시 시도하세요."});
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해시를 기다리는 도중 중단되었습니다.", exception);
+		} catch (ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IllegalStateException(exception.getCause());
+		}
+	}
+
+	/*
+	 * 하한 강도로 해시하는 시간을 재고 목표 시간을 넘지 않을 때까지 강도를 올린다. 첫 해시는 JIT 컴파일 전이라서 버리고 나머지 중 가장 짧은 시간을 사용한다.
+	 * 보정은 서버가 한가한 시작 시점에 한 번만 하기 때문에 부하가 있을 때의 해시 시간은 목표보다 길 수 있다.
+	 */
+	private static int calibrate(long targetLatency, int minStrength, int maxStrength) {
+		BCryptPasswordEncoder encoder;
+		long elapsed, start;
+		int strength;
+
+		if (minStrength >= maxStrength) {
+			return minStrength;
+		}
+
+		encoder = new BCryptPasswordEncoder(minStrength);
+		encoder.encode("calibration");
+		elapsed = Long.MAX_VALUE;
+
+		for (int i = 0; i < 3; i++) {
+			start = System.nanoTime();
+			encoder.encode("calibration");
+			elapsed = Math.min(elapsed, System.nanoTime() - start);
+		}
+
+		elapsed = TimeUnit.NANOSECONDS.toMillis(elapsed);
+		strength = minStrength;
+
+		while (strength < maxStrength && elapsed * 2 <= targetLatency) {
+			elapsed *= 2;
+			strength++;
+		}
+
+		return strength;
+	}
+}
@@ -0,0 +1,70 @@
+package com.whooa.blog.user.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/* 비밀번호 해시(BCrypt) 전용 스레드 풀과 강도의 속성을 user.password 속성에 바인딩한다. */
+@ConfigurationProperties(prefix = "user.password")
+public class PasswordHashingProperty {
+	/* 비밀번호를 해시하는 스레드의 개수. 동시에 사용하는 CPU 코어의 최대 개수이다. */
+	private int threads = 2;
+	/* 스레드를 기다리는 해시 작업의 최대 개수. 가득 차면 기다리지 않고 바로 거부한다. */
+	private int queueCapacity = 64;
+	/*
+	 * 해시 강도. 모든 인스턴스가 같은 값을 사용해야 한다. 인스턴스마다 강도가 다르면 강도가 높은 인스턴스에서 다시 해시한 비밀번호를 낮은 인스턴스가 되돌리지 않아서 강도가 가장 높은 인스턴스를 따라간다.
+	 * 0이면 시작할 때 보정한다(인스턴스가 하나일 때만 사용한다).
+	 */
+	private int strength = 10;
+	/* 보정할 때 해시 한 번의 시간이 이 값(밀리초)을 넘지 않는 가장 큰 강도를 고른다. */
+	private long targetLatency = 100;
+	/* 보정할 때 강도의 하한과 상한. */
+	private int minStrength = 10;
+	private int maxStrength = 14;
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public int getStrength() {
+		return strength;
+	}
+
+	public void setStrength(int strength) {
+		this.strength = strength;
+	}
+
+	public long getTargetLatency() {
+		return targetLatency;
+	}
+
+	public void setTargetLatency(long targetLatency) {
+		this.targetLatency = targetLatency;
+	}
+
+	public int getMinStrength() {
+		return minStrength;
+	}
+
+	public void setMinStrength(int minStrength) {
+		this.minStrength = minStrength;
+	}
+
+	public int getMaxStrength() {
+		return maxStrength;
+	}
+
+	public void setMaxStrength(int maxStrength) {
+		this.maxStrength = maxStrength;
+	}
+}
@@ -0,0 +1,59 @@
+package com.whooa.blog.user.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * 로그인 시도 제한(토큰 버킷)의 속성을 user.sign-in-limit 속성에 바인딩한다.
+ * 버킷은 용량만큼 연속으로 시도할 수 있고 보충 간격(밀리초)마다 한 번씩 다시 시도할 수 있다.
+ */
+@ConfigurationProperties(prefix = "user.sign-in-limit")
+public class SignInLimitProperty {
+	/* 클라이언트 IP마다 여러 계정을 대입하는 공격을 막는다. */
+	private long ipCapacity = 20;
+	private long ipRefillInterval = 3000;
+	/* 이메일마다 여러 IP에서 한 계정을 대입하는 공격을 막는다. */
+	private long emailCapacity = 10;
+	private long emailRefillInterval = 30000;
+	/* IP와 이메일 각각 메모리에 두는 버킷의 최대 개수. */
+	private long maximumSize = 100000;
+
+	public long getIpCapacity() {
+		return ipCapacity;
+	}
+
+	public void setIpCapacity(long ipCapacity) {
+		this.ipCapacity = ipCapacity;
+	}
+
+	public long getIpRefillInterval() {
+		return ipRefillInterval;
+	}
+
+	public void setIpRefillInterval(long ipRefillInterval) {
+		this.ipRefillInterval = ipRefillInterval;
+	}
+
+	public long getEmailCapacity() {
+		return emailCapacity;
+	}
+
+	public void setEmailCapacity(long emailCapacity) {
+		this.emailCapacity = emailCapacity;
+	}
+
+	public long getEmailRefillInterval() {
+		return emailRefillInterval;
+	}
+
+	public void setEmailRefillInterval(long emailRefillInterval) {
+		this.emailRefillInterval = emailRefillInterval;
+	}
+
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+}
@@ -0,0 +1,26 @@
+package com.whooa.blog.user.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/* 인증 주체(UserDetailsImpl) 캐시의 최대 항목 개수와 만료 시간(밀리초)을 user.cache 속성에 바인딩한다. */
+@ConfigurationProperties(prefix = "user.cache")
+public class UserCacheProperty {
+	private long maximumSize = 10000;
+	private long expiration = 60000;
+
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	public long getExpiration() {
+		return expiration;
+	}
+
+	public void setExpiration(long expiration) {
+		this.expiration = expiration;
+	}
+}
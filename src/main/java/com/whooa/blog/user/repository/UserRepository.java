@@ -1,10 +1,12 @@
 package com.whooa.blog.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.whooa.blog.user.entity.UserEntity;
 
@@ -13,4 +15,7 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 	public abstract Page<UserEntity> findByActiveTrue(Pageable pageable);
 	public abstract Optional<UserEntity> findByEmailAndActiveTrue(String email);
 	public abstract Optional<UserEntity> findByIdAndActiveTrue(Long id);
+	/* 접근 토큰을 폐기한 적이 있는 사용자의 (아이디, 토큰 버전)만 읽는다. */
+	@Query(value = "SELECT u.id, u.tokenVersion FROM UserEntity u WHERE u.tokenVersion > 0")
+	public abstract List<Object[]> findTokenVersions();
 }
\ No newline at end of file
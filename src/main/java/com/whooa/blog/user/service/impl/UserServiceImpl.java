@@ -4,6 +4,8 @@ import org.springframework.stereotype.Service;
 
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.common.security.jwt.JwtVersionTable;
+import com.whooa.blog.user.cache.UserDetailsCache;
 import com.whooa.blog.user.dto.UserDto.UserCreateRequest;
 import com.whooa.blog.user.dto.UserDto.UserPasswordUpdateRequest;
 import com.whooa.blog.user.dto.UserDto.UserResponse;
@@ -14,18 +16,24 @@ import com.whooa.blog.user.exception.InvalidCredentialsException;
 import com.whooa.blog.user.exception.SamePasswordException;
 import com.whooa.blog.user.exception.UserNotFoundException;
 import com.whooa.blog.user.mapper.UserMapper;
+import com.whooa.blog.user.password.PasswordHasher;
 import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.user.service.UserService;
-import com.whooa.blog.util.PasswordUtil;
 import com.whooa.blog.util.StringUtil;
 import com.whooa.blog.util.UserRoleMapper;
 
 @Service
 public class UserServiceImpl implements UserService {
 	private UserRepository userRepository;
+	private UserDetailsCache userDetailsCache;
+	private JwtVersionTable jwtVersionTable;
+	private PasswordHasher passwordHasher;
 	
-	public UserServiceImpl(UserRepository userRepository) {
+	public UserServiceImpl(UserRepository userRepository, UserDetailsCache userDetailsCache, JwtVersionTable jwtVersionTable, PasswordHasher passwordHasher) {
 		this.userRepository = userRepository;
+		this.userDetailsCache = userDetailsCache;
+		this.jwtVersionTable = jwtVersionTable;
+		this.passwordHasher = passwordHasher;
 	}
 	
 	@Override
@@ -44,7 +52,7 @@ public class UserServiceImpl implements UserService {
 		userEntity = UserMapper.INSTANCE.toEntity(userCreate);
 
 		plainPassword = userEntity.getPassword();
-		hashedPassword = PasswordUtil.hash(plainPassword);
+		hashedPassword = passwordHasher.encode(plainPassword);
 		
 		userEntity.password(hashedPassword).userRole(UserRoleMapper.map(userRole));
 		
@@ -59,9 +67,11 @@ public class UserServiceImpl implements UserService {
 		id = userDetailsImpl.getId();
 		
 		userEntity = userRepository.findByIdAndActiveTrue(id).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"아이디에 해당하는 사용자가 존재하지 않습니다."}));
-		userEntity.active(false);
+		userEntity.active(false).tokenVersion(userEntity.getTokenVersion() + 1);
 		
 		userRepository.save(userEntity);
+		userDetailsCache.invalidate(userEntity.getEmail());
+		jwtVersionTable.update(id, userEntity.getTokenVersion());
 	}
 		
 	@Override
@@ -77,13 +87,16 @@ public class UserServiceImpl implements UserService {
 
 	@Override
 	public UserResponse update(UserUpdateRequest userUpdate, UserDetailsImpl userDetailsImpl) {
-		String email, name;
+		String email, name, previousEmail;
 		Long id;
 		UserEntity userEntity;
+		UserResponse user;
 		
 		id = userDetailsImpl.getId();		
 		userEntity = userRepository.findByIdAndActiveTrue(id).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"아이디에 해당하는 사용자가 존재하지 않습니다."}));
 		
+		/* 캐시의 키는 바꾸기 전의 이메일이다. */
+		previousEmail = userEntity.getEmail();
 		email = userUpdate.getEmail();
 		name = userUpdate.getName();
 
@@ -92,14 +105,19 @@ public class UserServiceImpl implements UserService {
 				throw new DuplicateUserException(Code.CONFLICT, new String[] {"이메일을 사용하는 사용자가 존재합니다."});
 			}
 			
-			userEntity.email(email);
+			/* 접근 토큰의 주체(이메일)가 바뀌기 때문에 이전에 발급한 접근 토큰을 폐기한다. */
+			userEntity.email(email).tokenVersion(userEntity.getTokenVersion() + 1);
 		}
 		
 		if (StringUtil.notEmpty(name)) {
 			userEntity.name(name);
 		}
 		
-		return UserMapper.INSTANCE.toDto(userRepository.save(userEntity));
+		user = UserMapper.INSTANCE.toDto(userRepository.save(userEntity));
+		userDetailsCache.invalidate(previousEmail);
+		jwtVersionTable.update(id, userEntity.getTokenVersion());
+		
+		return user;
 	}
 
 	@Override
@@ -107,6 +125,7 @@ public class UserServiceImpl implements UserService {
 		String newPassword, oldPassword, password;
 		Long id;
 		UserEntity userEntity;
+		UserResponse user;
 		
 		id = userDetailsImpl.getId();		
 		userEntity = userRepository.findByIdAndActiveTrue(id).orElseThrow(() -> new UserNotFoundException(Code.NOT_FOUND, new String[] {"아이디에 해당하는 사용자가 존재하지 않습니다."}));
@@ -115,7 +134,7 @@ public class UserServiceImpl implements UserService {
 		oldPassword = userPasswordUpdate.getOldPassword();
 		password = userEntity.getPassword();
 		
-		if (!PasswordUtil.match(oldPassword, password)) {
+		if (!passwordHasher.matches(oldPassword, password)) {
 			throw new InvalidCredentialsException(Code.BAD_REQUEST, new String[] {"비밀번호가 정확하지 않습니다."});
 		}
 		
@@ -123,8 +142,12 @@ public class UserServiceImpl implements UserService {
 			throw new SamePasswordException(Code.BAD_REQUEST, new String[] {"새 비밀번호는 현재 비밀번호와 달라야 합니다."});
 		}
 		
-		userEntity.password(PasswordUtil.hash(newPassword));
+		userEntity.password(passwordHasher.encode(newPassword)).tokenVersion(userEntity.getTokenVersion() + 1);
 
-		return UserMapper.INSTANCE.toDto(userRepository.save(userEntity));
+		user = UserMapper.INSTANCE.toDto(userRepository.save(userEntity));
+		userDetailsCache.invalidate(userEntity.getEmail());
+		jwtVersionTable.update(id, userEntity.getTokenVersion());
+		
+		return user;
 	}
 }
\ No newline at end of file
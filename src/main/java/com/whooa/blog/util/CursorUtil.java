@@ -0,0 +1,119 @@
+package com.whooa.blog.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.exception.InvalidCursorException;
+
+/*
+ * 키셋 페이지네이션은 OFFSET 대신 (정렬 기준, 아이디) 값을 WHERE 절에 사용해서 다음 페이지의 시작 위치를 찾는다.
+ * OFFSET은 건너뛸 행을 모두 읽어야 하기 때문에 페이지가 깊어질수록 느려지지만 키셋은 인덱스로 바로 시작 위치를 찾는다.
+ * 커서는 마지막(혹은 첫) 행의 키셋 값을 "방향|정렬 기준|정렬 값|아이디" 형식으로 만든 후 Base64 URL로 인코딩한 불투명한 문자열이다.
+ */
+public class CursorUtil {
+	private static final String DELIMITER = "|";
+	private static final String FORWARD = "F";
+	private static final String BACKWARD = "B";
+	private static final String ID = "id";
+
+	/* 커서 모드에서 사용할 수 있는 정렬 기준과 커서의 문자열 값을 원래 타입으로 변환하는 함수. */
+	private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+		ID, Long::valueOf,
+		"createdAt", LocalDateTime::parse,
+		"title", (value) -> value
+	);
+
+	public static boolean supports(String sortBy) {
+		return SORT_KEYS.containsKey(sortBy);
+	}
+
+	public static String encode(KeysetScrollPosition keysetScrollPosition, String sortBy) {
+		Map<String, ?> keys;
+		String payload;
+
+		keys = keysetScrollPosition.getKeys();
+		payload = (keysetScrollPosition.scrollsForward() ? FORWARD : BACKWARD) + DELIMITER + sortBy + DELIMITER + keys.get(sortBy) + DELIMITER + keys.get(ID);
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/* 빈 커서는 첫 페이지를 의미한다. */
+	public static KeysetScrollPosition decode(String cursor, String sortBy) {
+		Map<String, Object> keys;
+		String payload, direction, cursorSortBy, rest, value, id;
+		int index;
+
+		if (!supports(sortBy)) {
+			throw new InvalidCursorException(Code.INVALID_CURSOR, new String[] {"커서 페이지네이션에서 지원하지 않는 정렬 기준입니다."});
+		}
+
+		if (!StringUtil.notEmpty(cursor)) {
+			return ScrollPosition.keyset();
+		}
+
+		try {
+			payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+			direction = payload.substring(0, payload.indexOf(DELIMITER));
+			rest = payload.substring(direction.length() + 1);
+			cursorSortBy = rest.substring(0, rest.indexOf(DELIMITER));
+			rest = rest.substring(cursorSortBy.length() + 1);
+			index = rest.lastIndexOf(DELIMITER);
+			value = rest.substring(0, index);
+			id = rest.substring(index + 1);
+
+			if (!cursorSortBy.equals(sortBy)) {
+				throw new InvalidCursorException(Code.INVALID_CURSOR, new String[] {"커서의 정렬 기준과 요청의 정렬 기준이 일치하지 않습니다."});
+			}
+
+			keys = new LinkedHashMap<String, Object>();
+			keys.put(sortBy, SORT_KEYS.get(sortBy).apply(value));
+			keys.put(ID, Long.valueOf(id));
+		} catch (InvalidCursorException exception) {
+			throw exception;
+		} catch (RuntimeException exception) {
+			throw new InvalidCursorException(Code.INVALID_CURSOR, new String[] {"커서를 해석할 수 없습니다."});
+		}
+
+		return direction.equals(BACKWARD) ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+	}
+
+	/*
+	 * 윈도우의 마지막 행에서 앞으로 진행하는 커서를 만든다.
+	 * 앞으로 진행했는데 다음 행이 없으면 마지막 페이지이므로 null을 반환한다.
+	 */
+	public static String next(Window<?> window, KeysetScrollPosition keysetScrollPosition, String sortBy) {
+		if (window.isEmpty() || isLast(window, keysetScrollPosition)) {
+			return null;
+		}
+
+		return encode(ScrollPosition.forward(((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys()), sortBy);
+	}
+
+	/* 윈도우의 첫 행에서 뒤로 진행하는 커서를 만든다. 첫 페이지이면 null을 반환한다. */
+	public static String prev(Window<?> window, KeysetScrollPosition keysetScrollPosition, String sortBy) {
+		if (window.isEmpty() || isFirst(window, keysetScrollPosition)) {
+			return null;
+		}
+
+		return encode(ScrollPosition.backward(((KeysetScrollPosition) window.positionAt(0)).getKeys()), sortBy);
+	}
+
+	/* 뒤로 진행한 윈도우의 hasNext() 메서드는 더 앞선 행이 있는지를 의미한다. */
+	public static boolean isFirst(Window<?> window, KeysetScrollPosition keysetScrollPosition) {
+		return keysetScrollPosition.scrollsForward() ? keysetScrollPosition.isInitial() : !window.hasNext();
+	}
+
+	public static boolean isLast(Window<?> window, KeysetScrollPosition keysetScrollPosition) {
+		return keysetScrollPosition.scrollsForward() ? !window.hasNext() : false;
+	}
+}
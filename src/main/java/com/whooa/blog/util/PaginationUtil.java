@@ -1,5 +1,7 @@
 package com.whooa.blog.util;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,6 +16,8 @@ public class PaginationUtil {
 	private int pageSize = PAGE_SIZE;
 	private String sortBy = SORT_BY;
 	private String sortDir = SORT_DIR;
+	/* 커서가 null이면 OFFSET 페이지네이션, null이 아니면(빈 문자열은 첫 페이지) 키셋 페이지네이션을 사용한다. */
+	private String cursor;
 	
 	public PaginationUtil(int pageNo, int pageSize, String sortBy, String sortDir) {
 		this.pageNo = pageNo;
@@ -28,6 +32,23 @@ public class PaginationUtil {
 		return PageRequest.of(pageNo, pageSize, setSortDir());
 	}
 	
+	public Sort makeSort() {
+		return setSortDir();
+	}
+	
+	/* 키셋 페이지네이션은 전체 개수를 세지 않고 pageSize + 1개의 행을 읽어서 다음 페이지의 존재 여부를 판단한다. */
+	public KeysetScrollPosition makeScrollPosition() {
+		return CursorUtil.decode(cursor, sortBy);
+	}
+	
+	public Limit makeLimit() {
+		return Limit.of(pageSize);
+	}
+	
+	public boolean isCursorMode() {
+		return cursor != null;
+	}
+	
 	private Sort setSortDir() {
 		return this.sortDir.equalsIgnoreCase(Sort.Direction.ASC.name()) ? Sort.by(this.sortBy).ascending() : Sort.by(this.sortBy).descending();
 	}
@@ -64,9 +85,17 @@ public class PaginationUtil {
 		this.sortDir = sortDir;
 	}
 
+	public String getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(String cursor) {
+		this.cursor = cursor;
+	}
+
 	@Override
 	public String toString() {
 		return "PaginationUtil [pageNo=" + pageNo + ", pageSize=" + pageSize + ", sortBy=" + sortBy + ", sortDir="
-				+ sortDir + "]";
+				+ sortDir + ", cursor=" + cursor + "]";
 	}
 }
\ No newline at end of file
@@ -81,14 +81,17 @@ public class AdminCommentControllerTest {
 					.name("사용자1")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity.setId(1L);
 
 		categoryEntity = new CategoryEntity().name("카테고리");
+		categoryEntity.setId(1L);
 
 		postEntity = new PostEntity()
 				.content("포스트")
 				.title("포스트")
 				.category(categoryEntity)
 				.user(userEntity);		
+		postEntity.setId(1L);
 	}
 	
 	@BeforeEach
@@ -99,6 +102,7 @@ public class AdminCommentControllerTest {
 						.content(content)
 						.parentId(null)
 						.post(postEntity);
+		commentEntity.setId(1L);
 				
 		commentUpdate = new CommentUpdateRequest().content("댓글2");
 		
@@ -80,12 +80,14 @@ public class AdminPostControllerTest {
 				.apply(springSecurity()).build();
 				
 		categoryEntity = new CategoryEntity().name("카테고리");
+		categoryEntity.setId(1L);
 
 		userEntity = new UserEntity()
 					.email("user1@user1.com")
 					.name("사용자1")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);		
+		userEntity.setId(1L);
 	}
 	
 	@BeforeEach
@@ -100,6 +102,7 @@ public class AdminPostControllerTest {
 				.title(title)
 				.category(categoryEntity)
 				.user(userEntity);
+		postEntity.setId(1L);
 		
 		postUpdate = new PostUpdateRequest()
 				.categoryName(categoryEntity.getName())
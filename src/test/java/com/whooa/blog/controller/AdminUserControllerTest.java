@@ -88,6 +88,7 @@ public class AdminUserControllerTest {
 					.name(name)
 					.password(password)
 					.userRole(UserRole.USER);
+		userEntity.setId(1L);
 	
 		user1 = new UserResponse()
 				.email(email)
@@ -39,6 +39,7 @@ import org.springframework.web.filter.CharacterEncodingFilter;
 import com.whooa.blog.category.controller.CategoryController;
 import com.whooa.blog.category.dto.CategoryDto.CategoryCreateRequest;
 import com.whooa.blog.category.dto.CategoryDto.CategoryResponse;
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
 import com.whooa.blog.category.dto.CategoryDto.CategoryUpdateRequest;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
@@ -87,6 +88,7 @@ public class CategoryControllerTest {
 		String name = "카테고리1";
 		
 		categoryEntity = new CategoryEntity().name(name);
+		categoryEntity.setId(1L);
 
 		categoryCreate = new CategoryCreateRequest().name(name);
 		categoryUpdate = new CategoryUpdateRequest().name("카테고리2");
@@ -267,6 +269,26 @@ public class CategoryControllerTest {
 		.andExpect(jsonPath("$.data.content.size()", is(page.getContent().size())));
 	}
 	
+	@DisplayName("카테고리 요약 목록을 조회하는데 성공한다.")
+	@Test
+	public void givenNothing_whenCallGetCategorySummaries_thenReturnCategorySummaries() throws Exception {
+		ResultActions action;
+		
+		given(categoryService.findSummaries()).willReturn(List.of(new CategorySummaryResponse(1L, "카테고리1", 2L, 3L, "포스트3")));
+		
+		action = mockMvc.perform(
+						get("/api/v1/categories/summaries")
+						.characterEncoding(StandardCharsets.UTF_8)
+				);
+		
+		action
+		.andDo(print())
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.data.size()", is(1)))
+		.andExpect(jsonPath("$.data[0].postCount", is(2)))
+		.andExpect(jsonPath("$.data[0].latestPostTitle", is("포스트3")));
+	}
+	
 	@DisplayName("카테고리를 수정하는데 성공한다.")
 	@Test
 	@WithMockCustomAdmin
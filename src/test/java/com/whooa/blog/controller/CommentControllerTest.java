@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -40,11 +41,13 @@ import com.whooa.blog.comment.controller.CommentController;
 import com.whooa.blog.comment.dto.CommentDto.CommentCreateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.dto.CommentDto.CommentThreadResponse;
 import com.whooa.blog.comment.entity.CommentEntity;
 import com.whooa.blog.comment.exception.CommentNotFoundException;
 import com.whooa.blog.comment.mapper.CommentMapper;
 import com.whooa.blog.comment.service.CommentService;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.exception.AllExceptionHandler;
 import com.whooa.blog.common.security.UserDetailsImpl;
@@ -92,14 +95,17 @@ public class CommentControllerTest {
 					.name("사용자1")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity.setId(1L);
 
 		categoryEntity = new CategoryEntity().name("카테고리");
+		categoryEntity.setId(1L);
 
 		postEntity = new PostEntity()
 					.content("포스트")
 					.title("포스트")
 					.category(categoryEntity)
 					.user(userEntity);
+		postEntity.setId(1L);
 		
 		pagination = new PaginationUtil();
 	}
@@ -114,6 +120,7 @@ public class CommentControllerTest {
 						.content(content)
 						.parentId(null)
 						.post(postEntity);
+		commentEntity.setId(1L);
 		
 		commentCreate = new CommentCreateRequest().content(content);
 		commentUpdate = new CommentUpdateRequest().content("댓글2");
@@ -308,6 +315,7 @@ public class CommentControllerTest {
 
 		page = PageResponse.handleResponse(List.of(comment1, comment2), pagination.getPageSize(), pagination.getPageNo(), 2, 1, true, true);
 
+		given(commentService.findVersionByPostId(any(Long.class))).willReturn(new ResourceVersion(LocalDateTime.now(), 2L));
 		given(commentService.findAllByPostId(any(Long.class), any(PaginationUtil.class))).willReturn(page);
 
 		params = new LinkedMultiValueMap<String, String>();
@@ -328,6 +336,31 @@ public class CommentControllerTest {
 		.andExpect(jsonPath("$.data.content.size()", is(page.getContent().size())));
 	}
 	
+	@DisplayName("댓글 스레드를 조회하는데 성공한다.")
+	@Test
+	public void givenPostId_whenCallGetCommentThreadsByPostId_thenReturnCommentTrees() throws Exception {
+		ResultActions action;
+		CommentThreadResponse thread;
+		PageResponse<CommentThreadResponse> page;
+		
+		thread = new CommentThreadResponse(1L, "댓글1", null, 0, 1);
+		thread.getReplies().add(new CommentThreadResponse(2L, "댓글2", 1L, 1, 0));
+
+		page = PageResponse.handleResponse(List.of(thread), pagination.getPageSize(), pagination.getPageNo(), 1, 1, true, true);
+
+		given(commentService.findThreadsByPostId(any(Long.class), any(PaginationUtil.class))).willReturn(page);
+
+		action = mockMvc.perform(
+						get("/api/v1/posts/{post-id}/comments/threads", postEntity.getId())
+						.characterEncoding(StandardCharsets.UTF_8)
+				);
+
+		action
+		.andDo(print())
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.data.content[0].replies.size()", is(1)));
+	}
+	
 	@DisplayName("댓글을 수정하는데 성공한다.")
 	@Test
 	@WithMockCustomUser
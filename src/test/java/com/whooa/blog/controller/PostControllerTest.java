@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -25,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -40,6 +42,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.common.code.Code;
 import com.whooa.blog.common.exception.AllExceptionHandler;
 import com.whooa.blog.common.security.UserDetailsImpl;
@@ -48,6 +51,7 @@ import com.whooa.blog.post.controller.PostController;
 import com.whooa.blog.post.dto.PostDto.PostCreateRequest;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
+import com.whooa.blog.post.dto.PostDto.PostSummaryResponse;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.mapper.PostMapper;
@@ -100,12 +104,14 @@ public class PostControllerTest {
 				.apply(springSecurity()).build();
 				
 		categoryEntity = new CategoryEntity().name("카테고리");
+		categoryEntity.setId(1L);
 
 		userEntity = new UserEntity()
 					.email("user@user.com")
 					.name("사용자")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity.setId(1L);
 		
 		pagination = new PaginationUtil();
 	}
@@ -122,6 +128,7 @@ public class PostControllerTest {
 					.title(title)
 					.category(categoryEntity)
 					.user(userEntity);
+		postEntity.setId(1L);
 				
 		postCreate = new PostCreateRequest()
 					.categoryName(categoryEntity.getName())
@@ -375,6 +382,7 @@ public class PostControllerTest {
 	public void givenId_whenCallGetPost_thenReturnPost() throws Exception {
 		ResultActions action;
 		
+		given(postService.findVersion(any(Long.class))).willReturn(new ResourceVersion(LocalDateTime.now(), 0L));
 		given(postService.find(any(Long.class))).willReturn(post1);
 				
 		action = mockMvc.perform(
@@ -385,6 +393,7 @@ public class PostControllerTest {
 		action
 		.andDo(print())
 		.andExpect(status().isOk())
+		.andExpect(header().exists(HttpHeaders.ETAG))
 		.andExpect(jsonPath("$.data.title", is(post1.getTitle())))
 		.andExpect(jsonPath("$.data.content", is(post1.getContent())));
 	}
@@ -394,7 +403,7 @@ public class PostControllerTest {
 	public void givenId_whenCallGetPost_thenThrowPostNotFoundException() throws Exception {
 		ResultActions action;
 		
-		given(postService.find(any(Long.class))).willThrow(new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
+		given(postService.findVersion(any(Long.class))).willThrow(new PostNotFoundException(Code.NOT_FOUND, new String[] {"포스트가 존재하지 않습니다."}));
 
 		action = mockMvc.perform(
 						get("/api/v1/posts/{id}", 100L)
@@ -407,19 +416,46 @@ public class PostControllerTest {
 		.andExpect(result -> assertTrue(result.getResolvedException() instanceof PostNotFoundException));
 	}	
 	
+	@DisplayName("ETag가 일치하여 포스트를 조회하지 않고 304를 반환한다.")
+	@Test
+	public void givenIfNoneMatch_whenCallGetPost_thenReturnNotModified() throws Exception {
+		ResultActions action;
+		ResourceVersion version;
+		
+		version = new ResourceVersion(LocalDateTime.now(), 0L);
+		
+		given(postService.findVersion(any(Long.class))).willReturn(version);
+		
+		action = mockMvc.perform(
+						get("/api/v1/posts/{id}", postEntity.getId())
+						.header(HttpHeaders.IF_NONE_MATCH, version.getETag())
+						.characterEncoding(StandardCharsets.UTF_8)
+				);
+		
+		action
+		.andDo(print())
+		.andExpect(status().isNotModified());
+		
+		then(postService).should(never()).find(any(Long.class));
+	}
+	
 	@DisplayName("포스트 목록을 조회하는데 성공한다.")
 	@Test
 	public void givenPagination_whenCallGetPosts_thenReturnPosts() throws Exception {
 		ResultActions action;
-		PageResponse<PostResponse> page;
+		PageResponse<PostSummaryResponse> page;
 		MultiValueMap<String, String> params;
-		PostResponse post2;
+		PostSummaryResponse postSummary1, postSummary2;
+		
+		postSummary1 = new PostSummaryResponse()
+				.excerpt(post1.getContent())
+				.title(post1.getTitle());
 		
-		post2 = new PostResponse()
-				.content("실전 내용")
+		postSummary2 = new PostSummaryResponse()
+				.excerpt("실전 내용")
 				.title("실전 제목");
 
-		page = PageResponse.handleResponse(List.of(post1, post2), pagination.getPageSize(), pagination.getPageNo(), 2, 1, false, true);
+		page = PageResponse.handleResponse(List.of(postSummary1, postSummary2), pagination.getPageSize(), pagination.getPageNo(), 2, 1, false, true);
 
 		given(postService.findAll(any(PaginationUtil.class))).willReturn(page);
 		
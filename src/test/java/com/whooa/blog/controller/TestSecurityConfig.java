@@ -17,12 +17,14 @@ import com.whooa.blog.common.security.jwt.JwtAuthenticationFilter;
 import com.whooa.blog.common.security.jwt.JwtUtil;
 import com.whooa.blog.user.type.UserRole;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @Configuration
 public class TestSecurityConfig {
 	@Bean
 	public SecurityFilterChain defaultSecurityFilterChain(HttpSecurity httpSecurity) throws Exception {
 		// TODO: UserRepository 의존성 해결(NoSuchBeanDefinitionException 오류).
-		JwtUtil jwtUtil = new JwtUtil(null);
+		JwtUtil jwtUtil = new JwtUtil(null, new SimpleMeterRegistry());
 		
 		return httpSecurity
 				.csrf((csrf) -> csrf.disable())
@@ -45,7 +47,7 @@ public class TestSecurityConfig {
 							 .anyRequest().permitAll())
 				.exceptionHandling((exception) -> exception.authenticationEntryPoint(new AuthenticationEntryPointImpl()).accessDeniedHandler(new AccessDeniedHandlerImpl()))
 				.addFilterAt(new JsonUsernamePasswordAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
-				.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, null), JsonUsernamePasswordAuthenticationFilter.class)
+				.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, null, null, null), JsonUsernamePasswordAuthenticationFilter.class)
 				.build();
 	}
 }
@@ -25,6 +25,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -48,7 +49,6 @@ import com.whooa.blog.user.exception.UserNotFoundException;
 import com.whooa.blog.user.mapper.UserMapper;
 import com.whooa.blog.user.service.UserService;
 import com.whooa.blog.user.type.UserRole;
-import com.whooa.blog.util.PasswordUtil;
 import com.whooa.blog.util.SerializeDeserializeUtil;
 import com.whooa.blog.util.UserRoleMapper;
 
@@ -94,6 +94,7 @@ public class UserControllerTest {
 					.name(name)
 					.password(password)
 					.userRole(UserRole.USER);
+		userEntity.setId(1L);
 		
 		userCreate = new UserCreateRequest()
 					.email(email)
@@ -120,7 +121,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.create(any(UserCreateRequest.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
 			user = UserMapper.INSTANCE.toDto(userEntity);
 			
 			return user;
@@ -146,7 +147,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.create(any(UserCreateRequest.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
 			user = UserMapper.INSTANCE.toDto(userEntity);
 			
 			return user;
@@ -171,7 +172,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.create(any(UserCreateRequest.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
 			user = UserMapper.INSTANCE.toDto(userEntity);
 			
 			return user;
@@ -196,7 +197,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.create(any(UserCreateRequest.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userCreate.getPassword())).userRole(UserRoleMapper.map(userCreate.getUserRole()));
 			user = UserMapper.INSTANCE.toDto(userEntity);
 			
 			return user;
@@ -468,7 +469,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.updatePassowrd(any(UserPasswordUpdateRequest.class), any(UserDetailsImpl.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userPasswordUpdate.getNewPassword()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userPasswordUpdate.getNewPassword()));
 			user = UserMapper.INSTANCE.toDto(userEntity);			
 
 			return user;
@@ -493,7 +494,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.updatePassowrd(any(UserPasswordUpdateRequest.class), any(UserDetailsImpl.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userPasswordUpdate.getNewPassword()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userPasswordUpdate.getNewPassword()));
 			user = UserMapper.INSTANCE.toDto(userEntity);			
 
 			return user;
@@ -562,7 +563,7 @@ public class UserControllerTest {
 		ResultActions action;
 		
 		given(userService.updatePassowrd(any(UserPasswordUpdateRequest.class), any(UserDetailsImpl.class))).willAnswer((answer) -> {
-			userEntity.password(PasswordUtil.hash(userPasswordUpdate.getNewPassword()));
+			userEntity.password(new BCryptPasswordEncoder().encode(userPasswordUpdate.getNewPassword()));
 			user = UserMapper.INSTANCE.toDto(userEntity);			
 
 			return user;
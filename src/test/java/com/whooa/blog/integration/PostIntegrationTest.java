@@ -2,6 +2,7 @@ package com.whooa.blog.integration;
 
 import static org.hamcrest.CoreMatchers.is;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
@@ -12,6 +13,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.nio.charset.StandardCharsets;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -54,6 +58,8 @@ import com.whooa.blog.user.type.UserRole;
 import com.whooa.blog.util.PaginationUtil;
 import com.whooa.blog.util.SerializeDeserializeUtil;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -68,6 +74,8 @@ public class PostIntegrationTest {
 	private CategoryRepository categoryRepository;
 	@Autowired
 	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
 
 	private CategoryEntity categoryEntity;
 	private UserEntity userEntity;
@@ -394,6 +402,93 @@ public class PostIntegrationTest {
 		.andExpect(jsonPath("$.data.content", is(postCreate.getContent())));
 	}
 	
+	@DisplayName("포스트를 조회하는데 SQL 문장 3개를 실행한다.")
+	@Test
+	public void givenId_whenCallGetPost_thenExecuteThreeStatements() throws Exception {
+		Integer id;
+		MockMultipartFile postCreateFile;
+		MvcResult result;
+		Statistics statistics;
+		
+		postCreateFile = new MockMultipartFile("post", null, MediaType.APPLICATION_JSON_VALUE, SerializeDeserializeUtil.serializeToString(postCreate).getBytes(StandardCharsets.UTF_8));
+		
+		result = mockMvc.perform(
+						multipart(HttpMethod.POST, "/api/v1/posts")
+						.file(postCreateFile)
+						.with(user(userDetailsImpl))
+						.characterEncoding(StandardCharsets.UTF_8)
+						.contentType(MediaType.MULTIPART_FORM_DATA))
+						.andExpect(status().isCreated())
+						.andReturn();
+				
+		id = JsonPath.read(result.getResponse().getContentAsString(), "$.data.id");
+		
+		/* Hibernate 통계로 요청 하나가 준비한 SQL 문장의 개수를 센다. */
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		
+		mockMvc.perform(
+				get("/api/v1/posts/{id}", id)
+				.characterEncoding(StandardCharsets.UTF_8)
+		)
+		.andExpect(status().isOk());
+		
+		statistics.setStatisticsEnabled(false);
+		
+		/* 검증자를 조회하는 문장 하나, 포스트, 카테고리, 파일 목록을 조회하는 문장 하나와 댓글 목록을 조회하는 문장 하나. */
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+	
+	@DisplayName("ETag가 일치하면 검증자만 조회하고 304를 반환한다.")
+	@Test
+	public void givenIfNoneMatch_whenCallGetPost_thenReturnNotModified() throws Exception {
+		Integer id;
+		MockMultipartFile postCreateFile;
+		MvcResult result;
+		String eTag;
+		Statistics statistics;
+		
+		postCreateFile = new MockMultipartFile("post", null, MediaType.APPLICATION_JSON_VALUE, SerializeDeserializeUtil.serializeToString(postCreate).getBytes(StandardCharsets.UTF_8));
+		
+		result = mockMvc.perform(
+						multipart(HttpMethod.POST, "/api/v1/posts")
+						.file(postCreateFile)
+						.with(user(userDetailsImpl))
+						.characterEncoding(StandardCharsets.UTF_8)
+						.contentType(MediaType.MULTIPART_FORM_DATA))
+						.andExpect(status().isCreated())
+						.andReturn();
+				
+		id = JsonPath.read(result.getResponse().getContentAsString(), "$.data.id");
+		
+		eTag = mockMvc.perform(
+						get("/api/v1/posts/{id}", id)
+						.characterEncoding(StandardCharsets.UTF_8)
+				)
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		
+		mockMvc.perform(
+				get("/api/v1/posts/{id}", id)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag)
+				.characterEncoding(StandardCharsets.UTF_8)
+		)
+		.andExpect(status().isNotModified())
+		.andExpect(content().string(""));
+		
+		statistics.setStatisticsEnabled(false);
+		
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+	
 	@DisplayName("포스트가 존재하지 않아 조회하는데 실패한다.")
 	@Test
 	public void givenId_whenCallGetPost_thenThrowPostNotFoundException() throws Exception {
@@ -2,6 +2,7 @@ package com.whooa.blog.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -13,22 +14,36 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.repository.CategoryRepository;
-
+import com.whooa.blog.category.repository.CategorySummaryRepository;
+import com.whooa.blog.post.entity.PostEntity;
+import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.repository.UserRepository;
+import com.whooa.blog.user.type.UserRole;
 import com.whooa.blog.util.PaginationUtil;
 
 @EnableJpaAuditing
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(CategorySummaryRepository.class)
 public class CategoryRepositoryTest {
 	@Autowired
 	private CategoryRepository categoryRepository;
+	@Autowired
+	private CategorySummaryRepository categorySummaryRepository;
+	@Autowired
+	private PostRepository postRepository;
+	@Autowired
+	private UserRepository userRepository;
 	
 	private CategoryEntity categoryEntity1;
 	
@@ -138,4 +153,58 @@ public class CategoryRepositoryTest {
 			categoryRepository.save(null);
 		});		
 	}
+	
+	@DisplayName("포스트를 추가, 이동, 삭제하면 카테고리 요약의 포스트 개수와 최신 포스트가 바뀐다.")
+	@Test
+	public void givenPosts_whenChangePosts_thenReturnCategorySummaries() {
+		CategoryEntity categoryEntity2;
+		PostEntity postEntity1, postEntity2, postEntity3;
+		UserEntity userEntity;
+		
+		categoryEntity1 = categoryRepository.save(categoryEntity1);
+		categoryEntity2 = categoryRepository.save(new CategoryEntity().name("카테고리2"));
+		userEntity = userRepository.save(new UserEntity()
+					.email("user@user.com")
+					.name("사용자")
+					.password("12345678Aa!@#$%")
+					.userRole(UserRole.USER));
+		
+		postEntity1 = postRepository.save(new PostEntity().content("포스트1").title("포스트1").category(categoryEntity1).user(userEntity));
+		postEntity2 = postRepository.save(new PostEntity().content("포스트2").title("포스트2").category(categoryEntity1).user(userEntity));
+		postEntity3 = postRepository.save(new PostEntity().content("포스트3").title("포스트3").category(categoryEntity2).user(userEntity));
+		
+		categorySummaryRepository.addPost(categoryEntity1.getId(), postEntity1.getId(), postEntity1.getTitle());
+		categorySummaryRepository.addPost(categoryEntity1.getId(), postEntity2.getId(), postEntity2.getTitle());
+		categorySummaryRepository.addPost(categoryEntity2.getId(), postEntity3.getId(), postEntity3.getTitle());
+		
+		assertSummary(categoryEntity1.getId(), 2, postEntity2.getId(), "포스트2");
+		
+		/* DELETE 문장을 플러시하기 전이어도 삭제한 포스트는 최신 포스트에서 제외된다. */
+		postRepository.delete(postEntity2);
+		categorySummaryRepository.removePost(categoryEntity1.getId(), postEntity2.getId());
+		
+		assertSummary(categoryEntity1.getId(), 1, postEntity1.getId(), "포스트1");
+		
+		postRepository.flush();
+		categorySummaryRepository.updatePost(categoryEntity1.getId(), categoryEntity2.getId(), postEntity1.getId(), "포스트1");
+		
+		assertSummary(categoryEntity1.getId(), 0, null, null);
+		assertSummary(categoryEntity2.getId(), 2, postEntity3.getId(), "포스트3");
+		
+		categorySummaryRepository.updatePost(categoryEntity2.getId(), categoryEntity2.getId(), postEntity3.getId(), "포스트4");
+		
+		assertSummary(categoryEntity2.getId(), 2, postEntity3.getId(), "포스트4");
+	}
+	
+	private void assertSummary(Long categoryId, long postCount, Long latestPostId, String latestPostTitle) {
+		List<CategorySummaryResponse> categorySummaries;
+		CategorySummaryResponse categorySummary;
+		
+		categorySummaries = categorySummaryRepository.findAll();
+		categorySummary = categorySummaries.stream().filter((summary) -> summary.getId().equals(categoryId)).findFirst().get();
+		
+		assertEquals(postCount, categorySummary.getPostCount());
+		assertEquals(latestPostId, categorySummary.getLatestPostId());
+		assertEquals(latestPostTitle, categorySummary.getLatestPostTitle());
+	}
 }
\ No newline at end of file
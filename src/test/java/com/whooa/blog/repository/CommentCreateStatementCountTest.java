@@ -0,0 +1,134 @@
+package com.whooa.blog.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.whooa.blog.category.entity.CategoryEntity;
+import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.comment.entity.CommentEntity;
+import com.whooa.blog.comment.repository.CommentRepository;
+import com.whooa.blog.post.entity.PostEntity;
+import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.repository.UserRepository;
+import com.whooa.blog.user.type.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/*
+ * 댓글이 10,000개인 포스트에 댓글 하나를 생성할 때 실행하는 SQL 문장 개수를 센다.
+ * 연관관계 편의 메서드가 포스트와 사용자의 댓글 컬렉션을 조회하면 문장 개수가 늘어난다.
+ */
+@EnableJpaAuditing
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class CommentCreateStatementCountTest {
+	private static final int COMMENTS = 10000;
+
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private PostRepository postRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Long postId;
+	private Long userId;
+
+	@BeforeEach
+	public void setUp() {
+		CategoryEntity categoryEntity;
+		PostEntity postEntity;
+		UserEntity userEntity;
+		Timestamp now;
+		List<Object[]> rows;
+
+		categoryEntity = categoryRepository.save(new CategoryEntity().name("카테고리"));
+		userEntity = userRepository.save(new UserEntity()
+					.email("user@user.com")
+					.name("사용자")
+					.password("12345678Aa!@#$%")
+					.userRole(UserRole.USER));
+		postEntity = postRepository.save(new PostEntity()
+					.content("포스트")
+					.title("포스트")
+					.category(categoryEntity)
+					.user(userEntity));
+		testEntityManager.flush();
+
+		postId = postEntity.getId();
+		userId = userEntity.getId();
+		now = Timestamp.valueOf(LocalDateTime.now());
+
+		/* 준비 데이터는 영속성 컨텍스트를 거치지 않고 JDBC 일괄 처리로 삽입한다. */
+		rows = new ArrayList<Object[]>(COMMENTS);
+
+		for (int i = 0; i < COMMENTS; i++) {
+			rows.add(new Object[] {"댓글" + i, postId, userId, now, now});
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO comment (content, post_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)", rows);
+
+		testEntityManager.clear();
+	}
+
+	@DisplayName("댓글을 생성할 때 포스트와 사용자의 댓글 목록을 조회하지 않는다.")
+	@Test
+	public void givenPostWithManyComments_whenCallSaveForCreate_thenExecuteConstantStatements() {
+		CommentEntity commentEntity;
+		PostEntity postEntity;
+		UserEntity userEntity;
+		Statistics statistics;
+		long prepareStatementCount;
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		/* CommentServiceImpl.create() 메서드와 같은 순서로 조회하고 저장한다. */
+		postEntity = postRepository.findById(postId).get();
+		userEntity = userRepository.findById(userId).get();
+		commentEntity = new CommentEntity().content("댓글").post(postEntity).user(userEntity);
+
+		commentRepository.save(commentEntity);
+		testEntityManager.flush();
+
+		prepareStatementCount = statistics.getPrepareStatementCount();
+
+		statistics.setStatisticsEnabled(false);
+
+		/* 포스트 조회, 사용자 조회, merge() 메서드의 댓글 조회(기본 아이디가 -1), 댓글 INSERT. 댓글 개수와 무관하다. */
+		assertEquals(4, prepareStatementCount);
+		assertEquals(0, statistics.getCollectionLoadCount());
+		assertFalse(Hibernate.isInitialized(postEntity.getComments()));
+		assertFalse(Hibernate.isInitialized(userEntity.getComments()));
+		assertEquals(COMMENTS + 1, commentRepository.count());
+	}
+}
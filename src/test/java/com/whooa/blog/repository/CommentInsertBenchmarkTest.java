@@ -0,0 +1,143 @@
+package com.whooa.blog.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.whooa.blog.category.entity.CategoryEntity;
+import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.comment.entity.CommentEntity;
+import com.whooa.blog.comment.repository.CommentRepository;
+import com.whooa.blog.post.entity.PostEntity;
+import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.repository.UserRepository;
+import com.whooa.blog.user.type.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/*
+ * 댓글 10,000개를 IDENTITY 전략과 테이블 기반 pooled-lo 전략으로 각각 삽입하고 시간과 SQL 문장 개수를 출력한다.
+ * ./gradlew benchmark로 실행한다.
+ */
+@Tag("benchmark")
+public class CommentInsertBenchmarkTest {
+	private static final int COMMENTS = 10000;
+	
+	@EnableJpaAuditing
+	@DataJpaTest
+	@AutoConfigureTestDatabase(replace = Replace.NONE)
+	static abstract class CommentInsertBenchmark {
+		@Autowired
+		private CommentRepository commentRepository;
+		@Autowired
+		private CategoryRepository categoryRepository;
+		@Autowired
+		private PostRepository postRepository;
+		@Autowired
+		private UserRepository userRepository;
+		@Autowired
+		private TestEntityManager testEntityManager;
+		@Autowired
+		private EntityManagerFactory entityManagerFactory;
+		
+		protected abstract String name();
+		
+		protected abstract void verify(long prepareStatementCount);
+		
+		@Test
+		public void givenComments_whenCallSaveAll_thenPrintElapsedTime() {
+			CategoryEntity categoryEntity;
+			UserEntity userEntity;
+			PostEntity postEntity;
+			List<CommentEntity> commentEntities;
+			Statistics statistics;
+			long start, elapsed, prepareStatementCount;
+			
+			categoryEntity = categoryRepository.save(new CategoryEntity().name("카테고리"));
+			userEntity = userRepository.save(new UserEntity()
+						.email("user@user.com")
+						.name("사용자")
+						.password("12345678Aa!@#$%")
+						.userRole(UserRole.USER));
+			postEntity = postRepository.save(new PostEntity()
+						.content("포스트")
+						.title("포스트")
+						.category(categoryEntity)
+						.user(userEntity));
+			testEntityManager.flush();
+			
+			/* 아이디가 null이어야 merge() 메서드가 아닌 persist() 메서드로 저장되고 아이디를 조회하는 SELECT 문장이 실행되지 않는다. */
+			commentEntities = new ArrayList<CommentEntity>(COMMENTS);
+			
+			for (int i = 0; i < COMMENTS; i++) {
+				commentEntities.add(new CommentEntity(null, "댓글" + i, null, postEntity, userEntity));
+			}
+			
+			statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			statistics.setStatisticsEnabled(true);
+			statistics.clear();
+			
+			start = System.nanoTime();
+			
+			commentRepository.saveAll(commentEntities);
+			testEntityManager.flush();
+			
+			elapsed = (System.nanoTime() - start) / 1_000_000;
+			prepareStatementCount = statistics.getPrepareStatementCount();
+			
+			statistics.setStatisticsEnabled(false);
+			
+			System.out.printf("[CommentInsertBenchmark] %s: 댓글 %d개, %dms, SQL 문장 %d개%n", name(), COMMENTS, elapsed, prepareStatementCount);
+			
+			assertEquals(COMMENTS, commentRepository.count());
+			verify(prepareStatementCount);
+		}
+	}
+	
+	/* @Tag 어노테이션은 바깥 클래스에서 상속되지 않기 때문에 정적 중첩 클래스마다 지정한다. */
+	@Tag("benchmark")
+	@DisplayName("IDENTITY 전략은 댓글마다 INSERT 문장을 실행한다.")
+	static class IdentityCommentInsertBenchmark extends CommentInsertBenchmark {
+		@Override
+		protected String name() {
+			return "IDENTITY";
+		}
+		
+		@Override
+		protected void verify(long prepareStatementCount) {
+			assertTrue(prepareStatementCount >= COMMENTS);
+		}
+	}
+	
+	@Tag("benchmark")
+	@DisplayName("pooled-lo 전략은 INSERT 문장을 일괄 처리한다.")
+	@ActiveProfiles("pooled-id")
+	static class PooledIdCommentInsertBenchmark extends CommentInsertBenchmark {
+		@Override
+		protected String name() {
+			return "pooled-lo";
+		}
+		
+		/* 일괄 처리 크기(100)마다 INSERT 문장 하나와 할당 크기(100)마다 생성기 테이블 조회와 갱신이 실행된다. */
+		@Override
+		protected void verify(long prepareStatementCount) {
+			assertTrue(prepareStatementCount < COMMENTS / 10);
+		}
+	}
+}
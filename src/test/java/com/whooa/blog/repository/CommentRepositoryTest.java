@@ -1,5 +1,6 @@
 package com.whooa.blog.repository;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -11,6 +12,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +22,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.repository.CategoryRepository;
 import com.whooa.blog.comment.entity.CommentEntity;
+import com.whooa.blog.comment.repository.CommentCountRepository;
 import com.whooa.blog.comment.repository.CommentRepository;
+import com.whooa.blog.common.api.ResourceVersion;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.repository.PostRepository;
 import com.whooa.blog.user.entity.UserEntity;
@@ -32,10 +37,15 @@ import static org.junit.jupiter.api.Assertions.*;
 @EnableJpaAuditing
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(CommentCountRepository.class)
 public class CommentRepositoryTest {
 	@Autowired
 	private CommentRepository commentRepository;
 	@Autowired
+	private CommentCountRepository commentCountRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
 	private CategoryRepository categoryRepository;
 	@Autowired
 	private PostRepository postRepository;
@@ -213,4 +223,87 @@ public class CommentRepositoryTest {
 			commentRepository.save(null);
 		});
 	}
+	
+	@DisplayName("루트 댓글마다 제한된 개수의 대댓글을 조회하는데 성공한다.")
+	@Test
+	public void givenRootIds_whenCallFindRepliesByRootIdIn_thenReturnBoundedReplies() {
+		CommentEntity rootCommentEntity, replyCommentEntity;
+		List<CommentEntity> replyCommentEntities;
+		
+		rootCommentEntity = commentRepository.save(commentEntity1);
+		replyCommentEntity = commentRepository.save(new CommentEntity().content("댓글2").parent(rootCommentEntity).post(postEntity).user(userEntity));
+		commentRepository.save(new CommentEntity().content("댓글3").parent(replyCommentEntity).post(postEntity).user(userEntity));
+		commentRepository.save(new CommentEntity().content("댓글4").parent(rootCommentEntity).post(postEntity).user(userEntity));
+		testEntityManager.flush();
+		
+		replyCommentEntities = commentRepository.findRepliesByRootIdIn(List.of(rootCommentEntity.getId()), 2);
+		
+		assertEquals(2, replyCommentEntities.size());
+		assertEquals(replyCommentEntity.getId(), replyCommentEntities.get(0).getId());
+		assertEquals(2, replyCommentEntities.get(1).getDepth());
+	}
+	
+	@DisplayName("댓글 개수와 대댓글 개수를 다시 세는데 성공한다.")
+	@Test
+	public void givenComments_whenCallRepairCounts_thenReturnRecomputedCounts() {
+		CommentEntity rootCommentEntity;
+		
+		rootCommentEntity = commentRepository.save(commentEntity1);
+		commentRepository.save(new CommentEntity().content("댓글2").parent(rootCommentEntity).post(postEntity).user(userEntity));
+		testEntityManager.flush();
+		
+		commentCountRepository.increaseCommentCount(postEntity.getId(), 10);
+		commentCountRepository.repairCommentCounts(0, commentCountRepository.findMaxPostId());
+		commentCountRepository.repairReplyCounts(0, commentCountRepository.findMaxCommentId());
+		
+		/* JDBC로 변경한 값을 읽기 위해 영속성 컨텍스트를 비운다. */
+		testEntityManager.clear();
+		
+		assertEquals(2, postRepository.findById(postEntity.getId()).get().getCommentCount());
+		assertEquals(1, commentRepository.findById(rootCommentEntity.getId()).get().getReplyCount());
+	}
+	
+	@DisplayName("댓글 개수와 대댓글 개수를 증가시킨 후 포스트와 댓글을 수정해도 개수를 유지하는데 성공한다.")
+	@Test
+	public void givenIncreasedCounts_whenCallSaveForUpdate_thenKeepCounts() {
+		CommentEntity rootCommentEntity;
+		
+		rootCommentEntity = commentRepository.saveAndFlush(commentEntity1);
+		
+		commentCountRepository.increaseCommentCount(postEntity.getId(), 3);
+		commentCountRepository.increaseReplyCount(rootCommentEntity.getId(), 2);
+		
+		/* 영속성 컨텍스트의 포스트와 댓글은 증가시키기 전의 개수(0)를 갖고 있다. */
+		postEntity.setTitle("수정된 제목");
+		postRepository.saveAndFlush(postEntity);
+		rootCommentEntity.setContent("수정된 댓글");
+		commentRepository.saveAndFlush(rootCommentEntity);
+		
+		testEntityManager.clear();
+		
+		assertEquals(3, postRepository.findById(postEntity.getId()).get().getCommentCount());
+		assertEquals(2, commentRepository.findById(rootCommentEntity.getId()).get().getReplyCount());
+	}
+	
+	@DisplayName("댓글을 쓰면 포스트와 댓글 목록의 검증자가 바뀌는데 성공한다.")
+	@Test
+	public void givenCommentWrites_whenCallFindVersionById_thenReturnChangedVersion() {
+		ResourceVersion postVersion, commentVersion;
+		
+		postVersion = postRepository.findVersionById(postEntity.getId()).get();
+		commentVersion = postRepository.findCommentVersionById(postEntity.getId()).get();
+		
+		assertEquals(-1, commentVersion.getLastModified());
+		
+		commentCountRepository.increaseCommentCount(postEntity.getId(), 1);
+		
+		assertNotEquals(postVersion.getETag(), postRepository.findVersionById(postEntity.getId()).get().getETag());
+		assertNotEquals(commentVersion.getETag(), postRepository.findCommentVersionById(postEntity.getId()).get().getETag());
+		
+		commentVersion = postRepository.findCommentVersionById(postEntity.getId()).get();
+		
+		commentCountRepository.touchComments(postEntity.getId());
+		
+		assertEquals(commentVersion.getVersion() + 1, postRepository.findCommentVersionById(postEntity.getId()).get().getVersion());
+	}
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.whooa.blog.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -13,15 +14,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.post.dto.PostDto.PostSummaryResponse;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.post.repository.PostViewCountRepository;
 import com.whooa.blog.user.entity.UserEntity;
 import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.user.type.UserRole;
@@ -43,6 +52,8 @@ import com.whooa.blog.util.PaginationUtil;
 @DataJpaTest
 /* 인 메모리 데이테베이스가 아니라 MySQL을 사용하려면 Replace.NONE으로 설정한다. */
 @AutoConfigureTestDatabase(replace = Replace.NONE)
+/* PostViewCountRepository 클래스는 JdbcTemplate 클래스를 사용하는 일반 빈이기 때문에 직접 가져온다. */
+@Import(PostViewCountRepository.class)
 public class PostRepositoryTest {
 	@Autowired
 	private PostRepository postRepository;
@@ -50,6 +61,10 @@ public class PostRepositoryTest {
 	private CategoryRepository categoryRepository;
 	@Autowired
 	private UserRepository userRepository;
+	@Autowired
+	private PostViewCountRepository postViewCountRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
 	
 	private PostEntity postEntity1;
 	private CategoryEntity categoryEntity1;
@@ -190,6 +205,91 @@ public class PostRepositoryTest {
 		assertEquals(page.getTotalElements(), 1);
 	}
 
+	@DisplayName("포스트 요약 목록을 조회하는데 성공한다.")
+	@Test
+	public void givenPagination_whenCallFindSummaries_thenReturnPostSummaries() {
+		Page<PostSummaryResponse> page;
+		PostSummaryResponse postSummary;
+		
+		postRepository.save(postEntity1);
+		
+		page = postRepository.findSummaries(pageable);
+		postSummary = page.getContent().get(0);
+		
+		assertEquals(1, page.getTotalElements());
+		assertEquals(postSummary.getId(), postEntity1.getId());
+		assertEquals(postSummary.getCategoryName(), categoryEntity1.getName());
+		assertEquals(postSummary.getExcerpt(), postEntity1.getContent());
+		assertEquals(0, postSummary.getCommentCount());
+		assertEquals(0, postSummary.getFileCount());
+	}
+	
+	@DisplayName("포스트 목록을 조회(커서)하는데 성공한다.")
+	@Test
+	public void givenKeysetScrollPosition_whenCallFindAllBy_thenReturnPostEntities() {
+		PostEntity postEntity2, postEntity3;
+		Window<PostEntity> window1, window2;
+		
+		postEntity2 = new PostEntity()
+					.content("포스트2")
+					.title("포스트2")
+					.category(categoryEntity1)
+					.user(userEntity);
+		
+		postEntity3 = new PostEntity()
+					.content("포스트3")
+					.title("포스트3")
+					.category(categoryEntity1)
+					.user(userEntity);
+		
+		postRepository.save(postEntity1);
+		postRepository.save(postEntity2);
+		postRepository.save(postEntity3);
+		
+		window1 = postRepository.findAllBy(ScrollPosition.keyset(), pagination.makeSort(), Limit.of(2));
+		window2 = postRepository.findAllBy(ScrollPosition.forward(((KeysetScrollPosition) window1.positionAt(1)).getKeys()), pagination.makeSort(), Limit.of(2));
+		
+		assertEquals(2, window1.size());
+		assertTrue(window1.hasNext());
+		assertEquals(1, window2.size());
+		assertFalse(window2.hasNext());
+		assertEquals(window2.getContent().get(0).getId(), postEntity3.getId());
+	}
+
+	@DisplayName("포스트의 조회수를 일괄 증가시키는데 성공한다.")
+	@Test
+	public void givenDeltas_whenCallIncreaseViewCounts_thenReturnIncreasedViewCount() {
+		PostEntity savedPostEntity;
+		
+		savedPostEntity = postRepository.saveAndFlush(postEntity1);
+		
+		postViewCountRepository.increaseViewCounts(Map.of(savedPostEntity.getId(), 3L));
+		postViewCountRepository.increaseViewCounts(Map.of(savedPostEntity.getId(), 2L));
+		
+		/* JDBC로 변경한 값을 읽기 위해 영속성 컨텍스트를 비운다. */
+		testEntityManager.clear();
+		
+		assertEquals(5, postRepository.findById(savedPostEntity.getId()).get().getViewCount());
+	}
+
+	@DisplayName("조회수를 반영한 후 이전에 읽은 포스트를 수정해도 조회수를 덮어쓰지 않는다.")
+	@Test
+	public void givenIncreasedViewCount_whenCallSaveForUpdate_thenKeepViewCount() {
+		PostEntity savedPostEntity;
+		
+		savedPostEntity = postRepository.saveAndFlush(postEntity1);
+		
+		postViewCountRepository.increaseViewCounts(Map.of(savedPostEntity.getId(), 5L));
+		
+		/* 영속성 컨텍스트의 포스트는 반영하기 전의 조회수(0)를 갖고 있다. */
+		savedPostEntity.setTitle("수정된 제목");
+		postRepository.saveAndFlush(savedPostEntity);
+		
+		testEntityManager.clear();
+		
+		assertEquals(5, postRepository.findById(savedPostEntity.getId()).get().getViewCount());
+	}
+
 	@DisplayName("포스트를 수정하는데 성공한다.")
 	@Test
 	public void givenPostEntity_whenCallSaveForUpdate_thenReturnUpdatedPost() {		
@@ -21,12 +21,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.whooa.blog.admin.service.impl.AdminCommentServiceImpl;
 import com.whooa.blog.category.entity.CategoryEntity;
+import com.whooa.blog.comment.buffer.CommentBuffer;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.comment.entity.CommentEntity;
 import com.whooa.blog.comment.exception.CommentNotBelongingToPostException;
 import com.whooa.blog.comment.exception.CommentNotFoundException;
+import com.whooa.blog.comment.repository.CommentCountRepository;
 import com.whooa.blog.comment.repository.CommentRepository;
+import com.whooa.blog.post.cache.PostCache;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.repository.PostRepository;
@@ -36,10 +39,16 @@ import com.whooa.blog.user.type.UserRole;
 @ExtendWith(MockitoExtension.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class AdminCommentServiceTest {
+	@Mock
+	private CommentBuffer commentBuffer;
 	@Mock
 	private CommentRepository commentRepository;
 	@Mock
+	private CommentCountRepository commentCountRepository;
+	@Mock
 	private PostRepository postRepository;
+	@Mock
+	private PostCache postCache;
 	
 	@InjectMocks
 	private AdminCommentServiceImpl adminCommentServiceImpl;
@@ -55,18 +64,21 @@ public class AdminCommentServiceTest {
 	@BeforeAll
 	public void setUpAll() {
 		categoryEntity = new CategoryEntity().name("카테고리");
+		categoryEntity.setId(1L);
 		
 		userEntity1 = new UserEntity()
 					.email("user1@user1.com")
 					.name("사용자1")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity1.setId(1L);
 		
 		postEntity1 = new PostEntity()
 					.content("포스트1")
 					.title("포스트1")
 					.category(categoryEntity)
 					.user(userEntity1);	
+		postEntity1.setId(1L);
 	}
 	
 	@BeforeEach
@@ -76,6 +88,7 @@ public class AdminCommentServiceTest {
 						.parentId(null)
 						.post(postEntity1)
 						.user(userEntity1);
+		commentEntity1.setId(1L);
 				
 		commentUpdate = new CommentUpdateRequest().content("댓글2");
 	}
@@ -90,6 +103,7 @@ public class AdminCommentServiceTest {
 		adminCommentServiceImpl.delete(commentEntity1.getId(), postEntity1.getId());
 
 		then(commentRepository).should(times(1)).delete(any(CommentEntity.class));
+		then(commentCountRepository).should(times(1)).increaseCommentCount(postEntity1.getId(), -1);
 		then(commentRepository).should(times(1)).findById(any(Long.class));
 		then(postRepository).should(times(1)).findById(any(Long.class));
 	}
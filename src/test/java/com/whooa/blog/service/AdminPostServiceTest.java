@@ -6,9 +6,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.times;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,27 +20,42 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.whooa.blog.admin.service.impl.AdminPostServiceImpl;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
+import com.whooa.blog.category.registry.CategoryRegistry;
 import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.category.repository.CategorySummaryRepository;
+import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.file.service.FileService;
 import com.whooa.blog.file.value.File;
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.counter.PostViewCounter;
+import com.whooa.blog.post.dto.PostDto.PostImportResponse;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.post.search.PostSearchIndex;
 import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.user.type.UserRole;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+
 @ExtendWith(MockitoExtension.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class AdminPostServiceTest {
@@ -44,8 +63,28 @@ public class AdminPostServiceTest {
 	private PostRepository postRepository;
 	@Mock
 	private CategoryRepository categoryRepository;
+	@Mock
+	private CategoryRegistry categoryRegistry;
+	@Mock
+	private CategorySummaryRepository categorySummaryRepository;
 	@Mock	
 	private FileService fileService;
+	@Mock
+	private PostCache postCache;
+	@Mock
+	private PostViewCounter postViewCounter;
+	@Mock
+	private PostSearchIndex postSearchIndex;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private Validator validator;
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
 	
 	@InjectMocks
 	private AdminPostServiceImpl adminPostServiceImpl;
@@ -63,18 +102,21 @@ public class AdminPostServiceTest {
 	@BeforeEach
 	public void setUpEach() {
 		categoryEntity1 = new CategoryEntity().name("카테고리1");
+		categoryEntity1.setId(1L);
 		
 		userEntity1 = new UserEntity()
 					.email("user1@user1.com")
 					.name("사용자1")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity1.setId(1L);
 		
 		postEntity1 = new PostEntity()
 					.content("포스트1")
 					.title("포스트1")
 					.category(categoryEntity1)
 					.user(userEntity1);
+		postEntity1.setId(1L);
 
 		postUpdate = new PostUpdateRequest()
 					.categoryName("카테고리2")
@@ -99,6 +141,8 @@ public class AdminPostServiceTest {
 
 		then(postRepository).should(times(1)).delete(any(PostEntity.class));				
 		then(postRepository).should(times(1)).findById(any(Long.class));
+		then(categorySummaryRepository).should(times(1)).removePost(categoryEntity1.getId(), postEntity1.getId());
+		then(postViewCounter).should(times(1)).remove(postEntity1.getId());
 	}
 	
 
@@ -130,8 +174,8 @@ public class AdminPostServiceTest {
 					.user(userEntity1);
 			
 		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity2);
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
 
 		post = adminPostServiceImpl.update(postEntity1.getId(), postUpdate, null);
 		
@@ -140,9 +184,9 @@ public class AdminPostServiceTest {
 		assertEquals(post.getContent(), postUpdate.getContent());
 
 		then(postRepository).should(times(1)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("포스트(파일 O)를 수정하는데 성공한다.")
@@ -160,9 +204,9 @@ public class AdminPostServiceTest {
 					.user(userEntity1);
 
 		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity2);
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
-		given(fileService.upload(any(PostEntity.class), any(MultipartFile.class))).willReturn(file);
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(fileService.uploadAll(any(PostEntity.class), any(MultipartFile[].class))).willReturn(List.of(file));
 
 		post = adminPostServiceImpl.update(postEntity1.getId(), postUpdate, uploadFiles);
 		
@@ -171,39 +215,157 @@ public class AdminPostServiceTest {
 		assertEquals(post.getContent(), postUpdate.getContent());
 
 		then(postRepository).should(times(1)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(1)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(1)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("포스트가 존재하지 않아 수정하는데 실패한다.")
 	@Test
 	public void givenPostUpdate_whenCallUpdate_thenThrowPostNotFoundException() {
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.empty());
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.empty());
 
 		assertThrows(PostNotFoundException.class, () -> {
 			adminPostServiceImpl.update(postEntity1.getId(), postUpdate, null);			
 		});
 		
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(0)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(0)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("카테고리가 존재하지 않아 포스트를 수정하는데 실패한다.")
 	@Test
 	public void givenPostUpdate_whenCallUpdate_thenThrowCategoryNotFoundException() {
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.empty());
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.empty());
 		
 		assertThrows(CategoryNotFoundException.class, () -> {
 			adminPostServiceImpl.update(postEntity1.getId(), postUpdate, null);			
 		});
 
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}	
+	
+	@DisplayName("NDJSON 스트림에서 포스트를 가져오고 실패한 줄을 보고하는데 성공한다.")
+	@Test
+	public void givenNdjson_whenCallImportPosts_thenReturnPostImport() {
+		PostImportResponse postImport;
+		String ndjson;
+		
+		ndjson = "{\"categoryName\": \"카테고리1\", \"content\": \"포스트1\", \"title\": \"포스트1\"}\n"
+				+ "{\"categoryName\": \"카테고리1\", \"content\": \n"
+				+ "\n"
+				+ "{\"categoryName\": \"카테고리3\", \"content\": \"포스트3\", \"title\": \"포스트3\"}\n"
+				+ "{\"categoryName\": \"카테고리1\", \"content\": \"포스트4\", \"title\": \"포스트4\"}";
+		
+		given(categoryRepository.findByNameIn(any())).willReturn(List.of(categoryEntity1));
+		given(categoryRepository.getReferenceById(any(Long.class))).willReturn(categoryEntity1);
+		given(userRepository.getReferenceById(any(Long.class))).willReturn(userEntity1);
+		given(postRepository.saveAll(any())).willAnswer((invocation) -> {
+			List<PostEntity> postEntities = invocation.getArgument(0);
+			
+			for (int i = 0; i < postEntities.size(); i++) {
+				postEntities.get(i).setId(i + 1L);
+			}
+			
+			return postEntities;
+		});
+		
+		postImport = adminPostServiceImpl.importPosts(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), new UserDetailsImpl(userEntity1));
+		
+		assertEquals(4, postImport.getTotal());
+		assertEquals(2, postImport.getImported());
+		assertEquals(2, postImport.getFailed());
+		assertEquals(2, postImport.getErrors().get(0).getLine());
+		assertEquals(4, postImport.getErrors().get(1).getLine());
+		
+		then(categoryRepository).should(times(1)).findByNameIn(any());
+		then(categoryRegistry).should(times(0)).findByName(any(String.class));
+		then(postRepository).should(times(1)).saveAll(any());
+		then(categorySummaryRepository).should(times(1)).addPosts(categoryEntity1.getId(), 2, 2L, "포스트4");
+		then(postSearchIndex).should(times(2)).index(any(), any(String.class), any(String.class));
+	}
+	
+	@DisplayName("청크를 저장하면 커밋하기 전에 영속성 컨텍스트를 플러시하고 비운다.")
+	@Test
+	public void givenNdjson_whenCallImportPosts_thenClearPersistenceContextPerChunk() {
+		Set<Object> managed;
+		InOrder inOrder;
+		String ndjson;
+		
+		managed = new HashSet<Object>();
+		ndjson = "{\"categoryName\": \"카테고리1\", \"content\": \"포스트1\", \"title\": \"포스트1\"}\n"
+				+ "{\"categoryName\": \"카테고리1\", \"content\": \"포스트2\", \"title\": \"포스트2\"}";
+		
+		given(categoryRepository.findByNameIn(any())).willReturn(List.of(categoryEntity1));
+		given(categoryRepository.getReferenceById(any(Long.class))).willReturn(categoryEntity1);
+		given(userRepository.getReferenceById(any(Long.class))).willReturn(userEntity1);
+		/* OSIV의 영속성 컨텍스트처럼 저장한 엔티티와 참조한 프록시를 clear() 메서드가 호출될 때까지 보관한다. */
+		given(postRepository.saveAll(any())).willAnswer((invocation) -> {
+			List<PostEntity> postEntities = invocation.getArgument(0);
+			
+			for (int i = 0; i < postEntities.size(); i++) {
+				postEntities.get(i).setId(i + 1L);
+			}
+			
+			managed.addAll(postEntities);
+			managed.add(categoryEntity1);
+			managed.add(userEntity1);
+			
+			return postEntities;
+		});
+		willAnswer((invocation) -> {
+			managed.clear();
+			return null;
+		}).given(entityManager).clear();
+		
+		adminPostServiceImpl.importPosts(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), new UserDetailsImpl(userEntity1));
+		
+		assertTrue(managed.isEmpty());
+		
+		inOrder = inOrder(postRepository, entityManager, transactionManager);
+		then(postRepository).should(inOrder).saveAll(any());
+		then(entityManager).should(inOrder).flush();
+		then(entityManager).should(inOrder).clear();
+		then(transactionManager).should(inOrder).commit(any());
+		then(postSearchIndex).should(times(2)).index(any(), any(String.class), any(String.class));
+	}
+	
+	@DisplayName("NDJSON 스트림에서 너무 긴 줄을 실패로 기록하고 다음 줄을 가져오는데 성공한다.")
+	@Test
+	public void givenTooLongLine_whenCallImportPosts_thenSkipLine() {
+		PostImportResponse postImport;
+		String ndjson;
+		
+		ndjson = "{\"categoryName\": \"카테고리1\", \"content\": \"" + "가".repeat(100_000) + "\", \"title\": \"포스트1\"}\r\n"
+				+ "{\"categoryName\": \"카테고리1\", \"content\": \"포스트2\", \"title\": \"포스트2\"}\r\n";
+		
+		given(categoryRepository.findByNameIn(any())).willReturn(List.of(categoryEntity1));
+		given(categoryRepository.getReferenceById(any(Long.class))).willReturn(categoryEntity1);
+		given(userRepository.getReferenceById(any(Long.class))).willReturn(userEntity1);
+		given(postRepository.saveAll(any())).willAnswer((invocation) -> {
+			List<PostEntity> postEntities = invocation.getArgument(0);
+			
+			for (int i = 0; i < postEntities.size(); i++) {
+				postEntities.get(i).setId(i + 1L);
+			}
+			
+			return postEntities;
+		});
+		
+		postImport = adminPostServiceImpl.importPosts(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), new UserDetailsImpl(userEntity1));
+		
+		assertEquals(2, postImport.getTotal());
+		assertEquals(1, postImport.getImported());
+		assertEquals(1, postImport.getFailed());
+		assertEquals(1, postImport.getErrors().get(0).getLine());
+		
+		then(postRepository).should(times(1)).saveAll(any());
+		then(postSearchIndex).should(times(1)).index(any(), any(String.class), any(String.class));
+	}
 }
\ No newline at end of file
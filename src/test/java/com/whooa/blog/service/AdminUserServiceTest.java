@@ -25,11 +25,14 @@ import org.springframework.data.domain.Pageable;
 
 import com.whooa.blog.admin.service.impl.AdminUserServiceImpl;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.security.jwt.JwtVersionTable;
+import com.whooa.blog.user.cache.UserDetailsCache;
 import com.whooa.blog.user.dto.UserDto.UserAdminUpdateRequest;
 import com.whooa.blog.user.dto.UserDto.UserResponse;
 import com.whooa.blog.user.entity.UserEntity;
 import com.whooa.blog.user.exception.DuplicateUserException;
 import com.whooa.blog.user.exception.UserNotFoundException;
+import com.whooa.blog.user.password.PasswordHasher;
 import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.user.type.UserRole;
 import com.whooa.blog.util.PaginationUtil;
@@ -39,6 +42,12 @@ import com.whooa.blog.util.PaginationUtil;
 public class AdminUserServiceTest {
 	@Mock
 	private UserRepository userRepository;
+	@Mock
+	private UserDetailsCache userDetailsCache;
+	@Mock
+	private JwtVersionTable jwtVersionTable;
+	@Mock
+	private PasswordHasher passwordHasher;
 	
 	@InjectMocks
 	private AdminUserServiceImpl adminUserServiceImpl;
@@ -62,6 +71,7 @@ public class AdminUserServiceTest {
 				.name("사용자1")
 				.password("12345678Aa!@#$%")
 				.userRole(UserRole.USER);
+		userEntity1.setId(1L);
 		
 		userAdminUpdate = new UserAdminUpdateRequest()
 				.email("user2@user2.com")
@@ -81,9 +91,12 @@ public class AdminUserServiceTest {
 		adminUserServiceImpl.delete(userEntity1.getId());
 		
 		assertFalse(userEntity1.getActive());
+		assertEquals(1L, userEntity1.getTokenVersion());
 	
 		then(userRepository).should(times(1)).save(any(UserEntity.class));
 		then(userRepository).should(times(1)).findByIdAndActiveTrue(any(Long.class));
+		then(userDetailsCache).should(times(1)).invalidate("user1@user1.com");
+		then(jwtVersionTable).should(times(1)).update(userEntity1.getId(), 1L);
 	}
 	
 	@DisplayName("사용자를 조회하는데 성공한다.")
@@ -153,6 +166,10 @@ public class AdminUserServiceTest {
 		then(userRepository).should(times(1)).save(any(UserEntity.class));
 		then(userRepository).should(times(1)).existsByEmail(any(String.class));
 		then(userRepository).should(times(1)).findByIdAndActiveTrue(any(Long.class));
+		/* 캐시의 키는 바꾸기 전의 이메일이다. */
+		then(userDetailsCache).should(times(1)).invalidate("user1@user1.com");
+		/* 이메일과 비밀번호가 바뀌었기 때문에 이전에 발급한 접근 토큰을 폐기한다. */
+		then(jwtVersionTable).should(times(1)).update(userEntity1.getId(), 1L);
 	}
 	
 	@DisplayName("이메일을 사용하는 사용자가 이미 존재하여 수정하는데 실패한다.")
@@ -168,6 +185,8 @@ public class AdminUserServiceTest {
 		then(userRepository).should(times(0)).save(any(UserEntity.class));
 		then(userRepository).should(times(1)).existsByEmail(any(String.class));
 		then(userRepository).should(times(1)).findByIdAndActiveTrue(any(Long.class));
+		then(userDetailsCache).shouldHaveNoInteractions();
+		then(jwtVersionTable).shouldHaveNoInteractions();
 	}	
 	
 	@DisplayName("사용자가 존재하지 않아 수정하는데 실패한다.")
@@ -0,0 +1,96 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.whooa.blog.category.entity.CategoryEntity;
+import com.whooa.blog.category.registry.CategoryRegistry;
+import com.whooa.blog.category.repository.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CategoryRegistryTest {
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@InjectMocks
+	private CategoryRegistry categoryRegistry;
+
+	@BeforeEach
+	public void setUpEach() {
+		given(categoryRepository.findAll()).willReturn(List.of(new CategoryEntity(1L, "카테고리1"), new CategoryEntity(2L, "카테고리2")));
+
+		categoryRegistry.refresh();
+	}
+
+	@DisplayName("등록된 카테고리는 데이터베이스를 조회하지 않고 반환한다.")
+	@Test
+	public void givenRegisteredName_whenCallFindByName_thenReturnWithoutQuery() {
+		CategoryEntity categoryEntity;
+
+		categoryEntity = categoryRegistry.findByName("카테고리1").get();
+
+		assertEquals(1L, categoryEntity.getId());
+		assertEquals("카테고리1", categoryEntity.getName());
+
+		then(categoryRepository).should(times(0)).findByName(any(String.class));
+	}
+
+	@DisplayName("등록되지 않은 카테고리는 데이터베이스에서 읽고 등록한다.")
+	@Test
+	public void givenUnregisteredName_whenCallFindByName_thenLoadAndRegister() {
+		given(categoryRepository.findByName("카테고리3")).willReturn(Optional.of(new CategoryEntity(3L, "카테고리3")));
+
+		assertEquals(3L, categoryRegistry.findByName("카테고리3").get().getId());
+		assertEquals(3L, categoryRegistry.findByName("카테고리3").get().getId());
+		assertEquals(3, categoryRegistry.size());
+
+		then(categoryRepository).should(times(1)).findByName("카테고리3");
+	}
+
+	@DisplayName("존재하지 않는 카테고리는 빈 값을 반환한다.")
+	@Test
+	public void givenNonExistentName_whenCallFindByName_thenReturnEmpty() {
+		given(categoryRepository.findByName("카테고리3")).willReturn(Optional.empty());
+
+		assertTrue(categoryRegistry.findByName("카테고리3").isEmpty());
+		assertEquals(2, categoryRegistry.size());
+	}
+
+	@DisplayName("이름을 바꾸면 이전 이름으로 조회되지 않는다.")
+	@Test
+	public void givenRenamedCategory_whenCallPut_thenRemovePreviousName() {
+		given(categoryRepository.findByName("카테고리1")).willReturn(Optional.empty());
+
+		categoryRegistry.put(1L, "카테고리4");
+
+		assertEquals(1L, categoryRegistry.findByName("카테고리4").get().getId());
+		assertTrue(categoryRegistry.findByName("카테고리1").isEmpty());
+		assertEquals("카테고리4", categoryRegistry.findNameById(1L).get());
+	}
+
+	@DisplayName("카테고리를 제거하면 이름과 아이디 모두 조회되지 않는다.")
+	@Test
+	public void givenRegisteredId_whenCallRemove_thenRemoveBothMappings() {
+		categoryRegistry.remove(2L);
+
+		assertTrue(categoryRegistry.findNameById(2L).isEmpty());
+		assertEquals(1, categoryRegistry.size());
+	}
+}
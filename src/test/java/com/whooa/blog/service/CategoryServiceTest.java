@@ -25,11 +25,14 @@ import org.springframework.data.domain.Pageable;
 
 import com.whooa.blog.category.dto.CategoryDto.CategoryCreateRequest;
 import com.whooa.blog.category.dto.CategoryDto.CategoryResponse;
+import com.whooa.blog.category.dto.CategoryDto.CategorySummaryResponse;
 import com.whooa.blog.category.dto.CategoryDto.CategoryUpdateRequest;
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
 import com.whooa.blog.category.exception.DuplicateCategoryException;
+import com.whooa.blog.category.registry.CategoryRegistry;
 import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.category.repository.CategorySummaryRepository;
 import com.whooa.blog.category.service.impl.CategoryServiceImpl;
 import com.whooa.blog.common.api.PageResponse;
 import com.whooa.blog.util.PaginationUtil;
@@ -39,6 +42,10 @@ import com.whooa.blog.util.PaginationUtil;
 public class CategoryServiceTest {
 	@Mock
 	private CategoryRepository categoryRepository;
+	@Mock
+	private CategoryRegistry categoryRegistry;
+	@Mock
+	private CategorySummaryRepository categorySummaryRepository;
 	
 	@InjectMocks
 	private CategoryServiceImpl categoryServiceImpl;
@@ -61,6 +68,7 @@ public class CategoryServiceTest {
 		String name = "카테고리1";
 		
 		categoryEntity1 = new CategoryEntity().name(name);
+		categoryEntity1.setId(1L);
 		categoryCreate = new CategoryCreateRequest().name(name);
 		categoryUpdate = new CategoryUpdateRequest().name("카테고리2");
 	}
@@ -77,6 +85,7 @@ public class CategoryServiceTest {
 
 		then(categoryRepository).should(times(1)).save(any(CategoryEntity.class));
 		then(categoryRepository).should(times(1)).existsByName(any(String.class));
+		then(categoryRegistry).should(times(1)).put(categoryEntity1.getId(), categoryEntity1.getName());
 	}
 	
 	@DisplayName("카테고리를 생성하는데 실패한다.")
@@ -101,6 +110,7 @@ public class CategoryServiceTest {
 		
 		then(categoryRepository).should(times(0)).save(any(CategoryEntity.class));
 		then(categoryRepository).should(times(1)).existsByName(any(String.class));
+		then(categoryRegistry).shouldHaveNoInteractions();
 	}
 	
 	@DisplayName("카테고리를 삭제하는데 성공한다.")
@@ -113,6 +123,8 @@ public class CategoryServiceTest {
 		
 		then(categoryRepository).should(times(1)).delete(any(CategoryEntity.class));
 		then(categoryRepository).should(times(1)).findById(any(Long.class));
+		then(categorySummaryRepository).should(times(1)).deleteByCategoryId(categoryEntity1.getId());
+		then(categoryRegistry).should(times(1)).remove(categoryEntity1.getId());
 	}
 	
 	@DisplayName("카테고리가 존재하지 않아 삭제하는데 실패한다.")
@@ -168,6 +180,22 @@ public class CategoryServiceTest {
 		then(categoryRepository).should(times(1)).findAll(any(Pageable.class));
 	}
 	
+	@DisplayName("카테고리 요약 목록을 조회하는데 성공한다.")
+	@Test
+	public void givenNothing_whenCallFindSummaries_thenReturnCategorySummaries() {
+		List<CategorySummaryResponse> categorySummaries;
+		
+		given(categorySummaryRepository.findAll()).willReturn(List.of(new CategorySummaryResponse(1L, "카테고리1", 2L, 3L, "포스트3"), new CategorySummaryResponse(2L, "카테고리2", 0L, null, null)));
+		
+		categorySummaries = categoryServiceImpl.findSummaries();
+		
+		assertEquals(2, categorySummaries.size());
+		assertEquals("포스트3", categorySummaries.get(0).getLatestPostTitle());
+		
+		then(categorySummaryRepository).should(times(1)).findAll();
+		then(categoryRepository).shouldHaveNoInteractions();
+	}
+	
 	@DisplayName("카테고리를 수정하는데 성공한다.")
 	@Test
 	public void givenCategoryUpdate_whenCallUpdate_thenReturnCategory() {
@@ -184,6 +212,7 @@ public class CategoryServiceTest {
 		
 		then(categoryRepository).should(times(1)).save(any(CategoryEntity.class));
 		then(categoryRepository).should(times(1)).findById(any(Long.class));
+		then(categoryRegistry).should(times(1)).put(categoryEntity2.getId(), categoryEntity2.getName());
 	}
 	
 	@DisplayName("카테고리가 존재하지 않아 수정하는데 실패한다.")
@@ -0,0 +1,238 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.whooa.blog.comment.buffer.CommentBuffer;
+import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.entity.CommentEntity;
+import com.whooa.blog.comment.exception.CommentBufferFullException;
+import com.whooa.blog.comment.property.CommentBufferProperty;
+import com.whooa.blog.comment.repository.CommentBatchRepository;
+import com.whooa.blog.comment.repository.CommentCountRepository;
+import com.whooa.blog.comment.stream.CommentStreamHub;
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.entity.PostEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CommentBufferTest {
+	@Mock
+	private CommentBatchRepository commentBatchRepository;
+	@Mock
+	private CommentCountRepository commentCountRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private PostCache postCache;
+	@Mock
+	private CommentStreamHub commentStreamHub;
+
+	private CommentBufferProperty commentBufferProperty;
+	private MockEnvironment environment;
+	private SimpleMeterRegistry meterRegistry;
+	private PostEntity postEntity;
+	private List<Long> inserted;
+	private long commentCount;
+
+	@BeforeEach
+	public void setUpEach() {
+		commentBufferProperty = new CommentBufferProperty();
+		commentBufferProperty.setEnabled(true);
+		commentBufferProperty.setCapacity(10);
+		commentBufferProperty.setBatchSize(2);
+		commentBufferProperty.setFlushInterval(50);
+		commentBufferProperty.setOfferTimeout(0);
+		environment = new MockEnvironment();
+		meterRegistry = new SimpleMeterRegistry();
+
+		postEntity = new PostEntity().content("포스트").title("포스트");
+		postEntity.setId(1L);
+
+		inserted = new ArrayList<Long>();
+		commentCount = 0;
+
+		given(commentCountRepository.findMaxCommentId()).willReturn(100L);
+		willAnswer((invocation) -> {
+			List<CommentEntity> commentEntities = invocation.getArgument(0);
+
+			commentEntities.forEach((commentEntity) -> inserted.add(commentEntity.getId()));
+			return null;
+		}).given(commentBatchRepository).insertAll(anyList());
+		willAnswer((invocation) -> {
+			Map<Long, Long> deltas = invocation.getArgument(0);
+
+			commentCount += deltas.get(1L);
+			return null;
+		}).given(commentCountRepository).increaseCommentCounts(anyMap());
+	}
+
+	@DisplayName("버퍼가 가득 차면 CommentBufferFullException 예외가 발생한다.")
+	@Test
+	public void givenFullBuffer_whenCallOffer_thenThrowCommentBufferFullException() {
+		CommentBuffer commentBuffer;
+
+		commentBufferProperty.setCapacity(2);
+		/* 전용 스레드를 시작하지 않아서 버퍼가 비워지지 않는다. */
+		commentBuffer = new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+
+		commentBuffer.offer(comment());
+		commentBuffer.offer(comment());
+
+		assertThrows(CommentBufferFullException.class, () -> {
+			commentBuffer.offer(comment());
+		});
+		assertEquals(2, commentBuffer.size());
+	}
+
+	@DisplayName("버퍼에 넣은 댓글은 아이디를 부여받고 반영하기 전까지 조회할 수 있다.")
+	@Test
+	public void givenComment_whenCallOffer_thenAssignIdAndFind() {
+		CommentBuffer commentBuffer;
+		CommentEntity commentEntity;
+
+		commentBuffer = new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+
+		commentEntity = commentBuffer.offer(comment());
+
+		assertEquals(101L, commentEntity.getId());
+		assertNotNull(commentEntity.getCreatedAt());
+		assertSame(commentEntity, commentBuffer.find(101L));
+
+		commentBuffer.stop();
+
+		assertNull(commentBuffer.find(101L));
+	}
+
+	@DisplayName("종료하면 남은 댓글을 일괄 처리 크기 단위로 모두 반영하고 새 댓글을 받지 않는다.")
+	@Test
+	public void givenBufferedComments_whenCallStop_thenDrainAllComments() {
+		CommentBuffer commentBuffer;
+
+		commentBuffer = new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+
+		for (int i = 0; i < 5; i++) {
+			commentBuffer.offer(comment());
+		}
+
+		commentBuffer.stop();
+
+		assertEquals(List.of(101L, 102L, 103L, 104L, 105L), inserted);
+		assertEquals(5, commentCount);
+		assertEquals(0, commentBuffer.size());
+		assertThrows(CommentBufferFullException.class, () -> {
+			commentBuffer.offer(comment());
+		});
+
+		then(commentBatchRepository).should(times(3)).insertAll(anyList());
+		then(postCache).should(times(3)).invalidate(1L);
+	}
+
+	@DisplayName("전용 스레드가 flush-interval 안에 댓글을 반영한다.")
+	@Test
+	public void givenStartedBuffer_whenCallOffer_thenFlushInBackground() {
+		CommentBuffer commentBuffer;
+
+		commentBuffer = new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+		commentBuffer.start();
+
+		commentBuffer.offer(comment());
+
+		then(commentBatchRepository).should(timeout(1000)).insertAll(anyList());
+
+		commentBuffer.stop();
+
+		assertEquals(List.of(101L), inserted);
+	}
+
+	@DisplayName("반영하지 못한 댓글을 max-retries번 다시 시도한 후 버리고 실패 지표를 올린다.")
+	@Test
+	public void givenFailingComment_whenCallStop_thenRetryAndDropComment() {
+		CommentBuffer commentBuffer;
+
+		commentBufferProperty.setMaxRetries(1);
+		willAnswer((invocation) -> {
+			List<CommentEntity> commentEntities = invocation.getArgument(0);
+
+			if (commentEntities.stream().anyMatch((commentEntity) -> commentEntity.getId() == 102L)) {
+				throw new IllegalStateException("외래 키 제약 조건을 위반했습니다.");
+			}
+
+			commentEntities.forEach((commentEntity) -> inserted.add(commentEntity.getId()));
+			return null;
+		}).given(commentBatchRepository).insertAll(anyList());
+
+		commentBuffer = new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+
+		commentBuffer.offer(comment());
+		commentBuffer.offer(comment());
+		commentBuffer.offer(comment());
+
+		commentBuffer.stop();
+
+		assertEquals(List.of(101L, 103L), inserted);
+		assertNull(commentBuffer.find(102L));
+		/* 반영하지 못한 댓글은 구독자에게 발행하지 않는다. */
+		then(commentStreamHub).should(times(2)).publishCommitted(eq(1L), any(CommentResponse.class));
+		assertEquals(2, meterRegistry.get("comment.buffer.failed").counter().count());
+		assertEquals(1, meterRegistry.get("comment.buffer.dropped").counter().count());
+	}
+
+	@DisplayName("반영하기 전의 댓글을 기다리면 버퍼를 반영하고 돌아온다.")
+	@Test
+	public void givenBufferedComment_whenCallAwaitWritten_thenWriteComment() {
+		CommentBuffer commentBuffer;
+
+		/* 전용 스레드를 시작하지 않아서 요청 스레드가 직접 반영한다. */
+		commentBuffer = new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+
+		commentBuffer.offer(comment());
+		commentBuffer.awaitWritten(101L);
+
+		assertEquals(List.of(101L), inserted);
+		assertNull(commentBuffer.find(101L));
+		assertEquals(0, commentBuffer.size());
+	}
+
+	@DisplayName("pooled-id 프로필에서 버퍼 모드를 켜면 시작하지 않는다.")
+	@Test
+	public void givenPooledIdProfile_whenCreateCommentBuffer_thenThrowIllegalStateException() {
+		environment.setActiveProfiles("pooled-id");
+
+		assertThrows(IllegalStateException.class, () -> {
+			new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry);
+		});
+
+		commentBufferProperty.setEnabled(false);
+
+		assertFalse(new CommentBuffer(commentBufferProperty, environment, commentBatchRepository, commentCountRepository, transactionManager, postCache, commentStreamHub, meterRegistry).isEnabled());
+	}
+
+	private CommentEntity comment() {
+		return new CommentEntity().content("댓글").post(postEntity);
+	}
+}
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -20,20 +21,29 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import com.whooa.blog.category.entity.CategoryEntity;
+import com.whooa.blog.comment.buffer.CommentBuffer;
 import com.whooa.blog.comment.dto.CommentDto.CommentCreateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentUpdateRequest;
 import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.dto.CommentDto.CommentThreadResponse;
 import com.whooa.blog.comment.entity.CommentEntity;
 import com.whooa.blog.comment.exception.CommentNotBelongingToPostException;
 import com.whooa.blog.comment.exception.CommentNotFoundException;
+import com.whooa.blog.comment.repository.CommentCountRepository;
 import com.whooa.blog.comment.repository.CommentRepository;
 import com.whooa.blog.comment.service.impl.CommentServiceImpl;
+import com.whooa.blog.comment.stream.CommentStreamHub;
 import com.whooa.blog.common.api.PageResponse;
 import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.post.cache.PostCache;
 import com.whooa.blog.post.entity.PostEntity;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.repository.PostRepository;
@@ -46,12 +56,20 @@ import com.whooa.blog.util.PaginationUtil;
 @ExtendWith(MockitoExtension.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class CommentServiceTest {
+	@Mock
+	private CommentBuffer commentBuffer;
 	@Mock
 	private CommentRepository commentRepository;
 	@Mock
+	private CommentCountRepository commentCountRepository;
+	@Mock
+	private CommentStreamHub commentStreamHub;
+	@Mock
 	private PostRepository postRepository;
 	@Mock
 	private UserRepository userRepository;
+	@Mock
+	private PostCache postCache;
 	
 	@InjectMocks
 	private CommentServiceImpl commentServiceImpl;
@@ -72,18 +90,21 @@ public class CommentServiceTest {
 	@BeforeAll
 	public void setUpAll() {
 		categoryEntity = new CategoryEntity().name("카테고리");
+		categoryEntity.setId(1L);
 		
 		userEntity1 = new UserEntity()
 					.email("user1@user1.com")
 					.name("사용자1")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity1.setId(1L);
 		
 		postEntity1 = new PostEntity()
 					.content("포스트")
 					.title("포스트")
 					.category(categoryEntity)
 					.user(userEntity1);
+		postEntity1.setId(1L);
 		
 		pagination = new PaginationUtil();
 		
@@ -104,6 +125,7 @@ public class CommentServiceTest {
 						.parentId(null)
 						.post(postEntity1)
 						.user(userEntity1);
+		commentEntity1.setId(1L);
 		
 		commentCreate = new CommentCreateRequest().content(content);
 		commentUpdate = new CommentUpdateRequest().content("댓글2");
@@ -121,10 +143,30 @@ public class CommentServiceTest {
 		assertEquals(comment.getContent(), commentEntity1.getContent());
 
 		then(commentRepository).should(times(1)).save(any(CommentEntity.class));
+		then(commentCountRepository).should(times(1)).increaseCommentCount(postEntity1.getId(), 1);
+		then(commentStreamHub).should(times(1)).publish(any(Long.class), any(CommentResponse.class));
 		then(postRepository).should(times(1)).findById(any(Long.class));
 		then(userRepository).should(times(1)).findById(any(Long.class));
 	}
 	
+	@DisplayName("버퍼 모드에서는 댓글을 버퍼에 넣고 저장하지 않는다.")
+	@Test
+	public void givenBufferEnabled_whenCallCreate_thenOfferComment() {
+		given(commentBuffer.isEnabled()).willReturn(true);
+		given(commentBuffer.offer(any(CommentEntity.class))).willReturn(commentEntity1);
+		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(userRepository.findById(any(Long.class))).willReturn(Optional.of(userEntity1));
+
+		comment = commentServiceImpl.create(postEntity1.getId(), commentCreate, userDetailsImpl);
+		
+		assertEquals(commentEntity1.getContent(), comment.getContent());
+
+		then(commentBuffer).should(times(1)).offer(any(CommentEntity.class));
+		then(commentRepository).should(times(0)).save(any(CommentEntity.class));
+		then(commentCountRepository).should(times(0)).increaseCommentCount(any(Long.class), any(Long.class));
+		then(postCache).should(times(0)).invalidate(any(Long.class));
+	}
+	
 	@DisplayName("포스트가 존재하지 않아서 댓글을 생성하는데 실패한다.")
 	@Test
 	public void givenCommentCreate_whenCallCreate_thenThrowPostNotFoundException() {
@@ -164,6 +206,7 @@ public class CommentServiceTest {
 		commentServiceImpl.delete(commentEntity1.getId(), postEntity1.getId(), userDetailsImpl);
 
 		then(commentRepository).should(times(1)).delete(any(CommentEntity.class));
+		then(commentCountRepository).should(times(1)).increaseCommentCount(postEntity1.getId(), -1);
 		then(commentRepository).should(times(1)).findById(any(Long.class));
 		then(postRepository).should(times(1)).findById(any(Long.class));
 	}
@@ -258,16 +301,137 @@ public class CommentServiceTest {
 						.user(userEntity1);
 
 		given(commentRepository.findByPostId(any(Long.class), any(Pageable.class))).willReturn(new PageImpl<CommentEntity>(List.of(commentEntity1, commentEntity2)));
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(postRepository.existsById(any(Long.class))).willReturn(true);
 
 		page = commentServiceImpl.findAllByPostId(postEntity1.getId(), pagination);
 
 		assertEquals(page.getTotalElements(), 2);
 
 		then(commentRepository).should(times(1)).findByPostId(any(Long.class), any(Pageable.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
+		then(postRepository).should(times(1)).existsById(any(Long.class));
+		then(postRepository).should(times(0)).findById(any(Long.class));
+	}
+	
+	@DisplayName("커서로 댓글 목록을 조회하는데 성공한다.")
+	@Test
+	public void givenCursor_whenCallFindAllByPostId_thenReturnWindowOfComments() {
+		CommentEntity commentEntity2;
+		PaginationUtil cursorPagination;
+		PageResponse<CommentResponse> page;
+		
+		commentEntity1.setId(1L);
+		commentEntity2 = new CommentEntity(2L, "댓글2", null, postEntity1, userEntity1);
+		
+		cursorPagination = new PaginationUtil();
+		cursorPagination.setCursor("");
+		
+		given(commentRepository.findByPostId(any(Long.class), any(ScrollPosition.class), any(Sort.class), any(Limit.class))).willReturn(Window.from(List.of(commentEntity1, commentEntity2), (index) -> ScrollPosition.forward(Map.of("id", (long) index + 1)), true));
+
+		page = commentServiceImpl.findAllByPostId(postEntity1.getId(), cursorPagination);
+
+		assertEquals(2, page.getContent().size());
+		assertEquals(-1, page.getTotalElements());
+		assertNotNull(page.getNextCursor());
+
+		then(commentRepository).should(times(0)).findByPostId(any(Long.class), any(Pageable.class));
+		then(postRepository).should(times(0)).existsById(any(Long.class));
 	}
+	
+	@DisplayName("포스트가 존재하지 않아 커서로 댓글 목록을 조회하는데 실패한다.")
+	@Test
+	public void givenCursor_whenCallFindAllByPostId_thenThrowPostNotFoundException() {
+		PaginationUtil cursorPagination;
+		
+		cursorPagination = new PaginationUtil();
+		cursorPagination.setCursor("");
+		
+		given(commentRepository.findByPostId(any(Long.class), any(ScrollPosition.class), any(Sort.class), any(Limit.class))).willReturn(Window.from(List.of(), (index) -> ScrollPosition.forward(Map.of("id", (long) index + 1)), false));
+		given(postRepository.existsById(any(Long.class))).willReturn(false);
 
+		assertThrows(PostNotFoundException.class, () -> {
+			commentServiceImpl.findAllByPostId(postEntity1.getId(), cursorPagination);
+		});
+	}
+
+	@DisplayName("댓글 스레드를 조회하는데 성공한다.")
+	@Test
+	public void givenPostId_whenCallFindThreadsByPostId_thenReturnCommentTrees() {
+		CommentEntity rootCommentEntity, replyCommentEntity1, replyCommentEntity2;
+		PageResponse<CommentThreadResponse> page;
+		CommentThreadResponse thread;
+		
+		rootCommentEntity = new CommentEntity(1L, "댓글1", null, postEntity1, userEntity1);
+		replyCommentEntity1 = new CommentEntity(2L, "댓글2", null, postEntity1, userEntity1).parent(rootCommentEntity);
+		replyCommentEntity2 = new CommentEntity(3L, "댓글3", null, postEntity1, userEntity1).parent(replyCommentEntity1);
+
+		given(postRepository.existsById(any(Long.class))).willReturn(true);
+		given(commentRepository.findByPostIdAndParentIdIsNull(any(Long.class), any(Pageable.class))).willReturn(new PageImpl<CommentEntity>(List.of(rootCommentEntity)));
+		given(commentRepository.findRepliesByRootIdIn(anyList(), anyInt())).willReturn(List.of(replyCommentEntity1, replyCommentEntity2));
+
+		page = commentServiceImpl.findThreadsByPostId(postEntity1.getId(), pagination);
+		thread = page.getContent().get(0);
+
+		assertEquals(1, page.getContent().size());
+		assertEquals(replyCommentEntity1.getId(), thread.getReplies().get(0).getId());
+		assertEquals(replyCommentEntity2.getId(), thread.getReplies().get(0).getReplies().get(0).getId());
+		assertEquals(2, thread.getReplies().get(0).getReplies().get(0).getDepth());
+		assertFalse(thread.isMoreReplies());
+
+		then(commentRepository).should(times(1)).findByPostIdAndParentIdIsNull(any(Long.class), any(Pageable.class));
+		then(commentRepository).should(times(1)).findRepliesByRootIdIn(anyList(), anyInt());
+		then(postRepository).should(times(0)).findById(any(Long.class));
+	}
+	
+	@DisplayName("포스트가 존재하지 않아 댓글 스레드를 조회하는데 실패한다.")
+	@Test
+	public void givenPostId_whenCallFindThreadsByPostId_thenThrowPostNotFoundException() {
+		given(postRepository.existsById(any(Long.class))).willReturn(false);
+
+		assertThrows(PostNotFoundException.class, () -> {
+			commentServiceImpl.findThreadsByPostId(postEntity1.getId(), pagination);
+		});
+
+		then(commentRepository).should(times(0)).findByPostIdAndParentIdIsNull(any(Long.class), any(Pageable.class));
+	}
+	
+	@DisplayName("대댓글 목록을 조회하는데 성공한다.")
+	@Test
+	public void givenId_whenCallFindRepliesById_thenReturnReplyTrees() {
+		CommentEntity rootCommentEntity, replyCommentEntity1, replyCommentEntity2;
+		PageResponse<CommentThreadResponse> page;
+		
+		rootCommentEntity = new CommentEntity(1L, "댓글1", null, postEntity1, userEntity1);
+		replyCommentEntity1 = new CommentEntity(2L, "댓글2", null, postEntity1, userEntity1).parent(rootCommentEntity);
+		replyCommentEntity2 = new CommentEntity(3L, "댓글3", null, postEntity1, userEntity1).parent(replyCommentEntity1);
+
+		given(commentRepository.findById(any(Long.class))).willReturn(Optional.of(rootCommentEntity));
+		given(commentRepository.findByPathStartingWith(any(String.class), any(Pageable.class))).willReturn(new PageImpl<CommentEntity>(List.of(replyCommentEntity1, replyCommentEntity2)));
+
+		page = commentServiceImpl.findRepliesById(rootCommentEntity.getId(), postEntity1.getId(), pagination);
+
+		assertEquals(1, page.getContent().size());
+		assertEquals(1, page.getContent().get(0).getReplies().size());
+
+		then(commentRepository).should(times(1)).findByPathStartingWith("/1/", pagination.makePageable());
+		then(postRepository).should(times(0)).findById(any(Long.class));
+	}
+	
+	@DisplayName("댓글이 포스트에 속하지 않아 대댓글 목록을 조회하는데 실패한다.")
+	@Test
+	public void givenId_whenCallFindRepliesById_thenThrowCommentNotBelongingToPostException() {
+		CommentEntity rootCommentEntity;
+		
+		rootCommentEntity = new CommentEntity(1L, "댓글1", null, postEntity1, userEntity1);
+
+		given(commentRepository.findById(any(Long.class))).willReturn(Optional.of(rootCommentEntity));
+
+		assertThrows(CommentNotBelongingToPostException.class, () -> {
+			commentServiceImpl.findRepliesById(rootCommentEntity.getId(), postEntity1.getId() + 1, pagination);
+		});
+
+		then(commentRepository).should(times(0)).findByPathStartingWith(any(String.class), any(Pageable.class));
+	}
+	
 	@DisplayName("댓글에 답하는데 성공한다.")
 	@Test
 	public void givenCommentCreate_whenCallReply_thenReturnComment() {
@@ -376,6 +540,20 @@ public class CommentServiceTest {
 		then(postRepository).should(times(1)).findById(any(Long.class));
 	}
 	
+	@DisplayName("버퍼 모드에서는 버퍼에 남은 댓글을 반영한 후 댓글을 수정한다.")
+	@Test
+	public void givenBufferEnabled_whenCallUpdate_thenAwaitWrittenBeforeFind() {
+		given(commentBuffer.isEnabled()).willReturn(true);
+		given(commentRepository.save(any(CommentEntity.class))).willReturn(commentEntity1);
+		given(commentRepository.findById(any(Long.class))).willReturn(Optional.of(commentEntity1));
+		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
+
+		commentServiceImpl.update(commentEntity1.getId(), postEntity1.getId(), commentUpdate, userDetailsImpl);
+
+		then(commentBuffer).should(times(1)).awaitWritten(commentEntity1.getId());
+		then(commentRepository).should(times(1)).findById(any(Long.class));
+	}
+	
 	@DisplayName("포스트가 존재하지 않아 댓글을 수정하는데 실패한다.")
 	@Test
 	public void givenCommentUpdate_whenCallUpdate_thenThrowPostNotFoundException() {	
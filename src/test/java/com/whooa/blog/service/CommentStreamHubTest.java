@@ -0,0 +1,185 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.whooa.blog.comment.dto.CommentDto.CommentResponse;
+import com.whooa.blog.comment.property.CommentStreamProperty;
+import com.whooa.blog.comment.stream.CommentStreamEvent;
+import com.whooa.blog.comment.stream.CommentStreamHub;
+import com.whooa.blog.comment.stream.CommentStreamSubscriber;
+
+public class CommentStreamHubTest {
+	private static final int SUBSCRIBERS = 100;
+
+	private CommentStreamProperty commentStreamProperty;
+	private ObjectMapper objectMapper;
+	private CommentStreamHub commentStreamHub;
+
+	@BeforeEach
+	public void setUpEach() {
+		commentStreamProperty = new CommentStreamProperty();
+		objectMapper = spy(new ObjectMapper());
+		commentStreamHub = new CommentStreamHub(commentStreamProperty, objectMapper);
+	}
+
+	@AfterEach
+	public void tearDownEach() {
+		commentStreamHub.destroy();
+	}
+
+	@DisplayName("구독자가 여러 명이어도 댓글을 한 번만 직렬화한다.")
+	@Test
+	public void givenSubscribers_whenCallPublish_thenSerializeOnce() throws Exception {
+		for (int i = 0; i < SUBSCRIBERS; i++) {
+			commentStreamHub.subscribe(1L);
+		}
+
+		commentStreamHub.publish(1L, new CommentResponse().content("댓글"));
+
+		assertEquals(SUBSCRIBERS, commentStreamHub.count(1L));
+
+		then(objectMapper).should(times(1)).writeValueAsString(any(CommentResponse.class));
+	}
+
+	@DisplayName("구독자가 없는 포스트의 댓글은 직렬화하지 않는다.")
+	@Test
+	public void givenNoSubscriber_whenCallPublish_thenDoNothing() throws Exception {
+		commentStreamHub.subscribe(1L);
+
+		commentStreamHub.publish(2L, new CommentResponse().content("댓글"));
+
+		assertEquals(0, commentStreamHub.count(2L));
+
+		then(objectMapper).should(times(0)).writeValueAsString(any(CommentResponse.class));
+	}
+
+	@DisplayName("구독자의 큐가 가득 차면 이벤트를 넣지 않는다.")
+	@Test
+	public void givenFullQueue_whenCallOffer_thenReturnFalse() {
+		CommentStreamSubscriber subscriber;
+
+		subscriber = new CommentStreamSubscriber(1L, new SseEmitter(), 2);
+
+		assertTrue(subscriber.offer(new CommentStreamEvent(1L, "{}")));
+		assertTrue(subscriber.offer(new CommentStreamEvent(2L, "{}")));
+		assertFalse(subscriber.offer(new CommentStreamEvent(3L, "{}")));
+	}
+
+	@DisplayName("큐를 비우는 작업은 한 번에 하나만 예약되고 모든 이벤트를 순서대로 전송한다.")
+	@Test
+	public void givenEvents_whenCallDrain_thenSendAllInOrder() throws Exception {
+		List<SseEventBuilder> sent;
+		CommentStreamSubscriber subscriber;
+
+		sent = new ArrayList<SseEventBuilder>();
+		subscriber = new CommentStreamSubscriber(1L, new SseEmitter() {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				sent.add(builder);
+			}
+		}, 8);
+
+		subscriber.offer(new CommentStreamEvent(1L, "{}"));
+		subscriber.offer(new CommentStreamEvent(2L, "{}"));
+
+		assertTrue(subscriber.schedule());
+		assertFalse(subscriber.schedule());
+		assertFalse(subscriber.drain());
+		assertEquals(2, sent.size());
+		assertTrue(subscriber.schedule());
+	}
+
+	@DisplayName("전송이 send-timeout보다 오래 걸리는 구독자를 한 번만 멈춘 구독자로 표시하고 닫으면 이벤트를 받지 않는다.")
+	@Test
+	public void givenBlockedSend_whenCallMarkStalled_thenMarkOnceAndClose() throws Exception {
+		CountDownLatch sending, release;
+		CommentStreamSubscriber subscriber;
+		Thread drainer;
+
+		sending = new CountDownLatch(1);
+		release = new CountDownLatch(1);
+		/* 소켓 버퍼가 가득 찬 클라이언트처럼 전송이 블로킹된다. */
+		subscriber = new CommentStreamSubscriber(1L, new SseEmitter() {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				sending.countDown();
+
+				try {
+					release.await();
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, 8);
+
+		subscriber.offer(new CommentStreamEvent(1L, "{}"));
+		subscriber.offer(new CommentStreamEvent(2L, "{}"));
+		subscriber.schedule();
+
+		drainer = new Thread(() -> {
+			try {
+				subscriber.drain();
+			} catch (IOException exception) {
+			}
+		});
+		drainer.start();
+		sending.await();
+
+		assertFalse(subscriber.markStalled(System.nanoTime(), TimeUnit.SECONDS.toNanos(10)));
+		assertTrue(subscriber.markStalled(System.nanoTime() + TimeUnit.SECONDS.toNanos(11), TimeUnit.SECONDS.toNanos(10)));
+		assertFalse(subscriber.markStalled(System.nanoTime() + TimeUnit.SECONDS.toNanos(11), TimeUnit.SECONDS.toNanos(10)));
+
+		subscriber.close();
+
+		assertFalse(subscriber.offer(new CommentStreamEvent(3L, "{}")));
+
+		release.countDown();
+		drainer.join();
+
+		/* 닫힌 구독자는 남은 이벤트(2번)를 전송하지 않는다. */
+		assertFalse(subscriber.markStalled(System.nanoTime() + TimeUnit.SECONDS.toNanos(11), TimeUnit.SECONDS.toNanos(10)));
+		assertTrue(subscriber.clearStalled());
+		assertTrue(subscriber.isClosed());
+	}
+
+	@DisplayName("연결이 끊긴 구독자에게 전송하면 IOException 예외가 발생한다.")
+	@Test
+	public void givenClosedConnection_whenCallDrain_thenThrowIOException() {
+		CommentStreamSubscriber subscriber;
+
+		subscriber = new CommentStreamSubscriber(1L, new SseEmitter() {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				throw new IOException("연결이 끊겼습니다.");
+			}
+		}, 8);
+
+		subscriber.offer(new CommentStreamEvent(1L, "{}"));
+		subscriber.schedule();
+
+		assertThrows(IOException.class, () -> {
+			subscriber.drain();
+		});
+		assertTrue(subscriber.schedule());
+	}
+}
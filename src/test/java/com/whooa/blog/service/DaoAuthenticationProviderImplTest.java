@@ -0,0 +1,101 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.whooa.blog.common.code.Code;
+import com.whooa.blog.common.security.DaoAuthenticationProviderImpl;
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.common.security.UserDetailsServiceImpl;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
+import com.whooa.blog.user.password.PasswordHasher;
+import com.whooa.blog.user.type.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DaoAuthenticationProviderImplTest {
+	private static final String EMAIL = "user1@user1.com";
+	private static final String PASSWORD = "12345678Aa!@#$%";
+	private static final String WEAK_HASH = "$2a$04$weak";
+
+	@Mock
+	private PasswordHasher passwordHasher;
+
+	@Mock
+	private UserDetailsServiceImpl userDetailsServiceImpl;
+
+	private DaoAuthenticationProviderImpl daoAuthenticationProviderImpl;
+	private SimpleMeterRegistry meterRegistry;
+	private UserDetailsImpl userDetailsImpl;
+
+	@BeforeEach
+	public void setUpEach() {
+		meterRegistry = new SimpleMeterRegistry();
+
+		daoAuthenticationProviderImpl = new DaoAuthenticationProviderImpl(meterRegistry);
+		daoAuthenticationProviderImpl.setUserDetailsService(userDetailsServiceImpl);
+		daoAuthenticationProviderImpl.setPasswordEncoder(passwordHasher);
+		daoAuthenticationProviderImpl.setUserDetailsPasswordService(userDetailsServiceImpl);
+
+		userDetailsImpl = new UserDetailsImpl(new UserEntity()
+						.email(EMAIL)
+						.name("사용자1")
+						.password(WEAK_HASH)
+						.userRole(UserRole.USER));
+
+		given(userDetailsServiceImpl.loadUserByUsername(EMAIL)).willReturn(userDetailsImpl);
+		given(passwordHasher.matches(PASSWORD, WEAK_HASH)).willReturn(true);
+		given(passwordHasher.upgradeEncoding(WEAK_HASH)).willReturn(true);
+	}
+
+	@DisplayName("비밀번호를 다시 해시하는 작업이 거부되면 다시 해시하지 않고 로그인에 성공한다.")
+	@Test
+	public void givenBusyHasher_whenCallAuthenticate_thenSkipUpgrade() {
+		Authentication authentication;
+
+		/* 사용자가 존재하지 않을 때를 대비한 해시(타이밍 공격 방지)는 통과시키고 다시 해시하는 작업만 거부한다. */
+		given(passwordHasher.encode(any())).willAnswer((invocation) -> {
+			if (PASSWORD.contentEquals((CharSequence) invocation.getArgument(0))) {
+				throw new PasswordHashingBusyException(Code.PASSWORD_HASHING_BUSY, new String[] {"잠시 후 다시 시도하세요."});
+			}
+
+			return "$2a$10$notfound";
+		});
+
+		authentication = daoAuthenticationProviderImpl.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+
+		assertTrue(authentication.isAuthenticated());
+		assertSame(userDetailsImpl, authentication.getPrincipal());
+		assertEquals(1, meterRegistry.get("user.password.upgrade.skipped").counter().count());
+
+		then(userDetailsServiceImpl).should(never()).updatePassword(any(), any());
+	}
+
+	@DisplayName("해시 스레드 풀에 여유가 있으면 로그인에 성공한 비밀번호를 다시 해시해서 저장한다.")
+	@Test
+	public void givenIdleHasher_whenCallAuthenticate_thenUpgradePassword() {
+		given(passwordHasher.encode(any())).willReturn("$2a$10$strong");
+		given(userDetailsServiceImpl.updatePassword(userDetailsImpl, "$2a$10$strong")).willReturn(userDetailsImpl);
+
+		assertTrue(daoAuthenticationProviderImpl.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD)).isAuthenticated());
+		assertEquals(0, meterRegistry.get("user.password.upgrade.skipped").counter().count());
+
+		then(userDetailsServiceImpl).should(times(1)).updatePassword(userDetailsImpl, "$2a$10$strong");
+	}
+}
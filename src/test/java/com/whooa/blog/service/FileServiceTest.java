@@ -0,0 +1,167 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.whooa.blog.file.exception.FileNotSavedException;
+import com.whooa.blog.file.exception.InvalidFilePathException;
+import com.whooa.blog.file.property.FileProperty;
+import com.whooa.blog.file.service.impl.FileServiceImpl;
+import com.whooa.blog.file.value.File;
+import com.whooa.blog.post.entity.PostEntity;
+
+public class FileServiceTest {
+	@TempDir
+	private Path directory;
+	
+	private FileServiceImpl fileServiceImpl;
+	private PostEntity postEntity;
+	
+	@BeforeEach
+	public void setUpEach() {
+		FileProperty fileProperty;
+		
+		fileProperty = new FileProperty();
+		fileProperty.setPath(directory.toString());
+		
+		fileServiceImpl = new FileServiceImpl(fileProperty);
+		fileServiceImpl.initialize();
+		
+		postEntity = new PostEntity().content("포스트").title("포스트");
+		postEntity.setId(1L);
+	}
+	
+	@AfterEach
+	public void tearDownEach() {
+		fileServiceImpl.destroy();
+	}
+	
+	@DisplayName("첨부 파일들을 병렬로 저장하는데 성공한다.")
+	@Test
+	public void givenUploadFiles_whenCallUploadAll_thenReturnFiles() throws IOException {
+		List<File> files;
+		
+		files = fileServiceImpl.uploadAll(postEntity, uploadFiles(4, 1024));
+		
+		assertEquals(4, files.size());
+		assertEquals(4, postEntity.getFiles().size());
+		assertEquals(4, count());
+		assertEquals(4, files.stream().map(File::getName).distinct().count());
+	}
+	
+	@DisplayName("첨부 파일 하나가 유효하지 않아 저장하는데 실패하고 저장한 파일을 삭제한다.")
+	@Test
+	public void givenInvalidUploadFile_whenCallUploadAll_thenThrowInvalidFilePathExceptionAndCleanUp() throws IOException {
+		MultipartFile[] uploadFiles;
+		
+		uploadFiles = uploadFiles(4, 1024);
+		uploadFiles[2] = new MockMultipartFile("files", "../test.txt", "text/plain", new byte[1024]);
+		
+		assertThrows(InvalidFilePathException.class, () -> {
+			fileServiceImpl.uploadAll(postEntity, uploadFiles);
+		});
+		
+		assertEquals(0, postEntity.getFiles().size());
+		assertEquals(0, count());
+	}
+	
+	@DisplayName("첨부 파일을 복사하는 도중에 실패하고 일부만 쓴 파일을 남기지 않는다.")
+	@Test
+	public void givenFailingUploadFile_whenCallUpload_thenThrowFileNotSavedExceptionAndCleanUp() throws IOException {
+		MultipartFile uploadFile;
+		
+		/* 1024바이트를 읽은 후 실패하는 입력 스트림. */
+		uploadFile = new MockMultipartFile("files", "test.txt", "text/plain", new byte[0]) {
+			@Override
+			public InputStream getInputStream() {
+				return new InputStream() {
+					private int read = 0;
+					
+					@Override
+					public int read() throws IOException {
+						if (read++ == 1024) {
+							throw new IOException("연결이 끊어졌습니다.");
+						}
+						
+						return 0;
+					}
+				};
+			}
+		};
+		
+		assertThrows(FileNotSavedException.class, () -> {
+			fileServiceImpl.upload(postEntity, uploadFile);
+		});
+		
+		assertEquals(0, postEntity.getFiles().size());
+		assertEquals(0, count());
+	}
+	
+	/* 8MB 파일 8개를 순차적으로 저장한 시간과 병렬로 저장한 시간을 출력한다. ./gradlew benchmark로 실행한다. */
+	@Tag("benchmark")
+	@DisplayName("첨부 파일을 순차적으로 저장할 때와 병렬로 저장할 때의 시간을 비교한다.")
+	@Test
+	public void givenLargeUploadFiles_whenCallUploadAndUploadAll_thenPrintElapsedTime() {
+		MultipartFile[] uploadFiles;
+		long start, sequential, parallel;
+		
+		uploadFiles = uploadFiles(8, 8 * 1024 * 1024);
+		
+		/* 예열. */
+		fileServiceImpl.uploadAll(new PostEntity(), uploadFiles);
+		
+		start = System.nanoTime();
+		
+		for (MultipartFile uploadFile : uploadFiles) {
+			fileServiceImpl.upload(new PostEntity(), uploadFile);
+		}
+		
+		sequential = (System.nanoTime() - start) / 1_000_000;
+		
+		start = System.nanoTime();
+		fileServiceImpl.uploadAll(new PostEntity(), uploadFiles);
+		parallel = (System.nanoTime() - start) / 1_000_000;
+		
+		System.out.printf("[FileUploadBenchmark] 파일 %d개, 순차 %dms, 병렬 %dms%n", uploadFiles.length, sequential, parallel);
+	}
+	
+	private MultipartFile[] uploadFiles(int count, int size) {
+		MultipartFile[] uploadFiles;
+		byte[] content;
+		Random random;
+		
+		uploadFiles = new MultipartFile[count];
+		content = new byte[size];
+		random = new Random(0);
+		random.nextBytes(content);
+		
+		for (int i = 0; i < count; i++) {
+			uploadFiles[i] = new MockMultipartFile("files", "test" + i + ".txt", "text/plain", content);
+		}
+		
+		return uploadFiles;
+	}
+	
+	private long count() throws IOException {
+		try (Stream<Path> paths = Files.list(directory)) {
+			return paths.count();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.util.StreamUtils;
+
+import com.sun.management.ThreadMXBean;
+import com.whooa.blog.common.security.JsonUsernamePasswordAuthenticationFilter;
+import com.whooa.blog.util.SerializeDeserializeUtil;
+
+/*
+ * 로그인 요청 하나를 구문 분석하는 동안 현재 스레드가 할당한 바이트를 비교한다.
+ * 1. 이전: 본문 전체를 문자열로 복사하고 SerializeDeserializeUtil 클래스의 ObjectMapper로 구문 분석한다.
+ * 2. 현재: 최대 크기까지만 스트리밍 파서로 읽는다.
+ * 정상 요청(약 60바이트)과 Content-Length 헤더 없이 보낸 1MB 요청을 측정한다. ./gradlew benchmark로 실행한다.
+ */
+@Tag("benchmark")
+public class JsonUsernamePasswordAuthenticationFilterBenchmarkTest {
+	private static final String SIGN_IN = "{\"email\":\"user1@user1.com\",\"password\":\"12345678Aa!@#$%\"}";
+	private static final int WARMUP = 20000;
+	private static final int REQUESTS = 20000;
+
+	private ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@DisplayName("스트리밍 파서로 최대 크기까지만 읽으면 요청마다 할당하는 바이트가 줄어든다.")
+	@Test
+	public void givenSignInBody_whenParsePerRequest_thenPrintAllocatedBytes() {
+		JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordAuthenticationFilter;
+		byte[] small, large;
+
+		jsonUsernamePasswordAuthenticationFilter = new JsonUsernamePasswordAuthenticationFilter();
+		jsonUsernamePasswordAuthenticationFilter.setAuthenticationManager((authentication) -> authentication);
+
+		small = SIGN_IN.getBytes(StandardCharsets.UTF_8);
+		large = ("{\"email\":\"user1@user1.com\",\"password\":\"" + "a".repeat(1024 * 1024) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+		assertTrue(threadMXBean.isThreadAllocatedMemorySupported());
+
+		for (byte[] body : new byte[][] {small, large}) {
+			long before, after;
+			int scale;
+
+			/* 1MB 요청은 이전 방식이 요청마다 본문 전체를 복사하기 때문에 횟수를 줄인다. */
+			scale = body == small ? 1 : 100;
+
+			run(() -> before(body), WARMUP / scale);
+			run(() -> after(jsonUsernamePasswordAuthenticationFilter, body), WARMUP / scale);
+
+			before = run(() -> before(body), REQUESTS / scale);
+			after = run(() -> after(jsonUsernamePasswordAuthenticationFilter, body), REQUESTS / scale);
+
+			System.out.printf("[JsonUsernamePasswordAuthenticationFilterBenchmark] 본문 %d바이트 - 이전: %d바이트/요청, 현재: %d바이트/요청%n", body.length, before, after);
+
+			assertTrue(after < before);
+		}
+	}
+
+	/* 이전 attemptAuthentication() 메서드가 본문을 읽은 방식과 같다. */
+	private void before(byte[] body) throws IOException {
+		Map<?, ?> signIn;
+
+		signIn = SerializeDeserializeUtil.deserializeFromJson(StreamUtils.copyToString(request(body).getInputStream(), StandardCharsets.UTF_8), Map.class);
+
+		assertNotNull(signIn.get("email"));
+	}
+
+	/* 1MB 요청은 최대 크기를 넘어서 거부되는 것이 정상이다. */
+	private void after(JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordAuthenticationFilter, byte[] body) throws Exception {
+		try {
+			assertNotNull(jsonUsernamePasswordAuthenticationFilter.attemptAuthentication(request(body), new MockHttpServletResponse()).getPrincipal());
+		} catch (AuthenticationException exception) {
+			assertTrue(body.length > JsonUsernamePasswordAuthenticationFilter.DEFAULT_MAX_BODY_SIZE);
+		}
+	}
+
+	/* Content-Length 헤더가 없는 요청으로 만들어서 스트림의 크기 제한까지 측정한다. 요청 객체를 만드는 할당은 두 방식에 똑같이 포함된다. */
+	private MockHttpServletRequest request(byte[] body) {
+		MockHttpServletRequest mockHttpServletRequest;
+
+		mockHttpServletRequest = new MockHttpServletRequest("POST", "/api/v1/auth/sign-in") {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+		};
+		mockHttpServletRequest.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		mockHttpServletRequest.setContent(body);
+
+		return mockHttpServletRequest;
+	}
+
+	/* 요청 하나당 평균 할당 바이트를 반환한다. */
+	private long run(Request request, int count) {
+		long threadId, start;
+
+		threadId = Thread.currentThread().getId();
+		start = threadMXBean.getThreadAllocatedBytes(threadId);
+
+		try {
+			for (int i = 0; i < count; i++) {
+				request.run();
+			}
+		} catch (Exception exception) {
+			fail(exception);
+		}
+
+		return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / count;
+	}
+
+	@FunctionalInterface
+	private interface Request {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,115 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+
+import com.whooa.blog.common.security.JsonUsernamePasswordAuthenticationFilter;
+import com.whooa.blog.common.security.exception.InvalidSignInRequestException;
+
+public class JsonUsernamePasswordAuthenticationFilterTest {
+	private JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordAuthenticationFilter;
+
+	@BeforeEach
+	public void setUpEach() {
+		jsonUsernamePasswordAuthenticationFilter = new JsonUsernamePasswordAuthenticationFilter();
+		/* 인증하지 않고 필터가 만든 토큰을 그대로 반환한다. */
+		jsonUsernamePasswordAuthenticationFilter.setAuthenticationManager((authentication) -> authentication);
+	}
+
+	@DisplayName("이메일과 비밀번호를 읽고 다른 필드는 건너뛴다.")
+	@Test
+	public void givenSignInBody_whenCallAttemptAuthentication_thenReturnToken() throws Exception {
+		Authentication authentication;
+
+		authentication = attempt(request("{\"extra\":{\"a\":[1,2,{\"b\":null}]},\"email\":\"user1@user1.com\",\"password\":\"12345678Aa!@#$%\"}"));
+
+		assertEquals("user1@user1.com", authentication.getPrincipal());
+		assertEquals("12345678Aa!@#$%", authentication.getCredentials());
+	}
+
+	@DisplayName("Content-Length 헤더가 최대 크기를 넘으면 본문을 읽지 않고 거부한다.")
+	@Test
+	public void givenOversizedContentLength_whenCallAttemptAuthentication_thenThrowInvalidSignInRequestException() {
+		jsonUsernamePasswordAuthenticationFilter.setMaxBodySize(64);
+
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(request("{\"email\":\"user1@user1.com\",\"password\":\"" + "a".repeat(64) + "\"}"));
+		});
+	}
+
+	@DisplayName("Content-Length 헤더가 없어도 최대 크기를 넘는 본문은 거부한다.")
+	@Test
+	public void givenOversizedChunkedBody_whenCallAttemptAuthentication_thenThrowInvalidSignInRequestException() {
+		MockHttpServletRequest mockHttpServletRequest;
+
+		mockHttpServletRequest = new MockHttpServletRequest() {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+		};
+		mockHttpServletRequest.setMethod("POST");
+		mockHttpServletRequest.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		mockHttpServletRequest.setContent(("{\"email\":\"user1@user1.com\",\"password\":\"" + "a".repeat(64) + "\"}").getBytes(StandardCharsets.UTF_8));
+
+		jsonUsernamePasswordAuthenticationFilter.setMaxBodySize(64);
+
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(mockHttpServletRequest);
+		});
+	}
+
+	@DisplayName("이메일이 문자열이 아니면 거부한다.")
+	@Test
+	public void givenNonStringEmail_whenCallAttemptAuthentication_thenThrowInvalidSignInRequestException() {
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(request("{\"email\":{\"$ne\":null},\"password\":\"12345678Aa!@#$%\"}"));
+		});
+	}
+
+	@DisplayName("비밀번호가 없으면 거부한다.")
+	@Test
+	public void givenMissingPassword_whenCallAttemptAuthentication_thenThrowInvalidSignInRequestException() {
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(request("{\"email\":\"user1@user1.com\"}"));
+		});
+	}
+
+	@DisplayName("JSON 객체가 아니거나 유효한 JSON이 아니면 거부한다.")
+	@Test
+	public void givenMalformedBody_whenCallAttemptAuthentication_thenThrowInvalidSignInRequestException() {
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(request("[\"user1@user1.com\",\"12345678Aa!@#$%\"]"));
+		});
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(request("{\"email\":\"user1@user1.com\",\"password\":"));
+		});
+		assertThrows(InvalidSignInRequestException.class, () -> {
+			attempt(request(""));
+		});
+	}
+
+	private Authentication attempt(MockHttpServletRequest mockHttpServletRequest) throws Exception {
+		return jsonUsernamePasswordAuthenticationFilter.attemptAuthentication(mockHttpServletRequest, new MockHttpServletResponse());
+	}
+
+	private MockHttpServletRequest request(String body) {
+		MockHttpServletRequest mockHttpServletRequest;
+
+		mockHttpServletRequest = new MockHttpServletRequest("POST", "/api/v1/auth/sign-in");
+		mockHttpServletRequest.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		mockHttpServletRequest.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+		return mockHttpServletRequest;
+	}
+}
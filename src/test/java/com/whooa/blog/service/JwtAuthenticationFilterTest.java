@@ -0,0 +1,148 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.common.security.UserDetailsServiceImpl;
+import com.whooa.blog.common.security.jwt.JwtAuthenticationFilter;
+import com.whooa.blog.common.security.jwt.JwtType;
+import com.whooa.blog.common.security.jwt.JwtUtil;
+import com.whooa.blog.common.security.jwt.JwtVersionTable;
+import com.whooa.blog.user.cache.UserDetailsCache;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.property.UserCacheProperty;
+import com.whooa.blog.user.repository.UserRepository;
+import com.whooa.blog.user.type.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class JwtAuthenticationFilterTest {
+	private static final String SECRET = "d00928033e0288ff7f810733c98d38ed904f613cacfbe6c5677899aaa60e71a0";
+
+	@Mock
+	private UserDetailsServiceImpl userDetailsServiceImpl;
+
+	@Mock
+	private UserRepository userRepository;
+
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+	private JwtUtil jwtUtil;
+	private JwtVersionTable jwtVersionTable;
+	private UserEntity userEntity;
+
+	@BeforeEach
+	public void setUpEach() {
+		SimpleMeterRegistry meterRegistry;
+
+		meterRegistry = new SimpleMeterRegistry();
+
+		jwtUtil = new JwtUtil(null, meterRegistry);
+		ReflectionTestUtils.setField(jwtUtil, "JWT_SECRET", SECRET);
+		jwtUtil.init();
+
+		jwtVersionTable = new JwtVersionTable(userRepository);
+
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsServiceImpl, new UserDetailsCache(new UserCacheProperty(), meterRegistry), jwtVersionTable);
+		ReflectionTestUtils.setField(jwtAuthenticationFilter, "stateless", true);
+
+		userEntity = new UserEntity()
+					.email("user1@user1.com")
+					.name("사용자1")
+					.password("12345678Aa!@#$%")
+					.tokenVersion(1L)
+					.userRole(UserRole.ADMIN);
+		userEntity.setId(1L);
+	}
+
+	@AfterEach
+	public void tearDownEach() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@DisplayName("무상태 모드에서는 사용자를 조회하지 않고 클레임으로 인증 주체를 만든다.")
+	@Test
+	public void givenStatelessAccessToken_whenCallDoFilter_thenAuthenticateFromClaims() throws Exception {
+		Authentication authentication;
+		UserDetailsImpl userDetailsImpl;
+
+		doFilter(jwtUtil.issue(userEntity).getAccessToken());
+
+		authentication = SecurityContextHolder.getContext().getAuthentication();
+		userDetailsImpl = (UserDetailsImpl) authentication.getPrincipal();
+
+		assertEquals(1L, userDetailsImpl.getId());
+		assertEquals("user1@user1.com", userDetailsImpl.getUsername());
+		assertEquals(UserRole.ADMIN, userDetailsImpl.getUserRole());
+		assertTrue(authentication.getAuthorities().stream().anyMatch((authority) -> authority.getAuthority().equals(UserRole.ADMIN.getRole())));
+
+		then(userDetailsServiceImpl).shouldHaveNoInteractions();
+	}
+
+	@DisplayName("무상태 모드에서 현재 토큰 버전보다 낮은 접근 토큰은 인증하지 않는다.")
+	@Test
+	public void givenRevokedAccessToken_whenCallDoFilter_thenNotAuthenticate() throws Exception {
+		String accessToken;
+
+		accessToken = jwtUtil.issue(userEntity).getAccessToken();
+		jwtVersionTable.update(1L, 2L);
+
+		doFilter(accessToken);
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+		then(userDetailsServiceImpl).shouldHaveNoInteractions();
+	}
+
+	@DisplayName("무상태 모드에서 아이디 클레임이 없는 접근 토큰은 사용자를 조회해서 인증한다.")
+	@Test
+	public void givenAccessTokenWithoutId_whenCallDoFilter_thenLoadUser() throws Exception {
+		UserEntity savedUserEntity;
+
+		savedUserEntity = new UserEntity()
+						.email("user1@user1.com")
+						.name("사용자1")
+						.password("12345678Aa!@#$%")
+						.userRole(UserRole.USER);
+		savedUserEntity.setId(1L);
+		userEntity.setId(null);
+
+		given(userDetailsServiceImpl.loadUserByUsername("user1@user1.com")).willReturn(new UserDetailsImpl(savedUserEntity));
+
+		doFilter(jwtUtil.issue(userEntity).getAccessToken());
+
+		assertEquals(UserRole.USER, ((UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUserRole());
+
+		then(userDetailsServiceImpl).should(times(1)).loadUserByUsername("user1@user1.com");
+	}
+
+	private void doFilter(String accessToken) throws Exception {
+		MockHttpServletRequest mockHttpServletRequest;
+
+		mockHttpServletRequest = new MockHttpServletRequest("GET", "/api/v1/users");
+		mockHttpServletRequest.setCookies(new Cookie(JwtType.ACCESS_TOKEN.getType(), accessToken));
+
+		jwtAuthenticationFilter.doFilter(mockHttpServletRequest, new MockHttpServletResponse(), new MockFilterChain());
+	}
+}
@@ -0,0 +1,85 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.whooa.blog.common.security.jwt.JwtUtil;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.type.UserRole;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * 요청 하나의 접근 토큰 처리 비용을 비교한다.
+ * 1. 이전: 검증과 이메일 추출마다 비밀 키와 파서를 새로 만들고 같은 토큰을 두 번 구문 분석한다.
+ * 2. 현재: 재사용하는 파서로 한 번 검증하고 같은 토큰은 캐시한 클레임을 반환한다.
+ * ./gradlew benchmark로 실행한다.
+ */
+@Tag("benchmark")
+public class JwtUtilBenchmarkTest {
+	private static final String SECRET = "d00928033e0288ff7f810733c98d38ed904f613cacfbe6c5677899aaa60e71a0";
+	private static final int WARMUP = 20000;
+	private static final int REQUESTS = 100000;
+
+	@DisplayName("파서를 재사용하고 클레임을 캐시하면 요청마다 토큰을 처리하는 시간이 줄어든다.")
+	@Test
+	public void givenAccessToken_whenVerifyPerRequest_thenPrintElapsedTime() {
+		JwtUtil jwtUtil;
+		UserEntity userEntity;
+		String accessToken;
+		long before, after;
+
+		jwtUtil = new JwtUtil(null, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtUtil, "JWT_SECRET", SECRET);
+		jwtUtil.init();
+
+		userEntity = new UserEntity()
+					.email("user1@user1.com")
+					.userRole(UserRole.USER);
+		userEntity.setId(1L);
+		accessToken = jwtUtil.issue(userEntity).getAccessToken();
+
+		run(() -> before(accessToken), WARMUP);
+		run(() -> jwtUtil.verifyAndParse(accessToken).get().getSubject(), WARMUP);
+
+		before = run(() -> before(accessToken), REQUESTS);
+		after = run(() -> jwtUtil.verifyAndParse(accessToken).get().getSubject(), REQUESTS);
+
+		System.out.printf("[JwtUtilBenchmark] 이전: %dns/요청, 현재: %dns/요청%n", before / REQUESTS, after / REQUESTS);
+
+		assertTrue(after < before);
+	}
+
+	/* 이전 JwtUtil 클래스의 verify() 메서드와 parseEmail() 메서드를 차례로 호출한 것과 같다. */
+	private String before(String accessToken) {
+		Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET))).build().parse(accessToken);
+
+		return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET))).build().parseClaimsJws(accessToken).getBody().getSubject();
+	}
+
+	private long run(Supplier<String> request, int count) {
+		long start;
+		int length;
+
+		length = 0;
+		start = System.nanoTime();
+
+		for (int i = 0; i < count; i++) {
+			length += request.get().length();
+		}
+
+		assertTrue(length > 0);
+
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,101 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.whooa.blog.common.security.jwt.JwtBundle;
+import com.whooa.blog.common.security.jwt.JwtUtil;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.type.UserRole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JwtUtilTest {
+	private static final String SECRET = "d00928033e0288ff7f810733c98d38ed904f613cacfbe6c5677899aaa60e71a0";
+
+	private JwtUtil jwtUtil;
+	private UserEntity userEntity;
+
+	@BeforeEach
+	public void setUpEach() {
+		jwtUtil = new JwtUtil(null, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtUtil, "JWT_SECRET", SECRET);
+		jwtUtil.init();
+
+		userEntity = new UserEntity()
+					.email("user1@user1.com")
+					.name("사용자1")
+					.password("12345678Aa!@#$%")
+					.tokenVersion(2L)
+					.userRole(UserRole.USER);
+		userEntity.setId(1L);
+	}
+
+	@DisplayName("접근 토큰을 검증하고 아이디, 역할, 토큰 버전 클레임을 반환한다.")
+	@Test
+	public void givenAccessToken_whenCallVerifyAndParse_thenReturnClaims() {
+		JwtBundle jwt;
+		Claims claims;
+
+		jwt = jwtUtil.issue(userEntity);
+		claims = jwtUtil.verifyAndParse(jwt.getAccessToken()).get();
+
+		assertEquals("user1@user1.com", claims.getSubject());
+		assertEquals(1L, claims.get(JwtUtil.ID_CLAIM, Long.class));
+		assertEquals("USER", claims.get(JwtUtil.ROLE_CLAIM, String.class));
+		assertEquals(2L, claims.get(JwtUtil.VERSION_CLAIM, Long.class));
+		assertNull(jwtUtil.verifyAndParse(jwt.getRefreshToken()).get().get(JwtUtil.ID_CLAIM));
+	}
+
+	@DisplayName("같은 토큰은 캐시한 클레임을 반환한다.")
+	@Test
+	public void givenSameToken_whenCallVerifyAndParse_thenReturnCachedClaims() {
+		String accessToken;
+
+		accessToken = jwtUtil.issue(userEntity).getAccessToken();
+
+		assertSame(jwtUtil.verifyAndParse(accessToken).get(), jwtUtil.verifyAndParse(accessToken).get());
+	}
+
+	@DisplayName("서명을 바꾼 토큰은 검증에 실패한다.")
+	@Test
+	public void givenTamperedToken_whenCallVerifyAndParse_thenReturnEmpty() {
+		String accessToken, tamperedToken;
+
+		accessToken = jwtUtil.issue(userEntity).getAccessToken();
+		tamperedToken = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+		assertTrue(jwtUtil.verifyAndParse(accessToken).isPresent());
+		assertTrue(jwtUtil.verifyAndParse(tamperedToken).isEmpty());
+	}
+
+	@DisplayName("캐시에 있어도 만료 시간이 지난 토큰은 검증에 실패한다.")
+	@Test
+	public void givenExpiredCachedToken_whenCallVerifyAndParse_thenReturnEmpty() throws InterruptedException {
+		String jwt;
+
+		jwt = Jwts.builder()
+				.setSubject("user1@user1.com")
+				.setExpiration(new Date(System.currentTimeMillis() + 1000))
+				.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+				.compact();
+
+		assertTrue(jwtUtil.verifyAndParse(jwt).isPresent());
+
+		Thread.sleep(1100);
+
+		assertTrue(jwtUtil.verifyAndParse(jwt).isEmpty());
+	}
+}
@@ -0,0 +1,61 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.whooa.blog.common.security.jwt.JwtVersionTable;
+import com.whooa.blog.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class JwtVersionTableTest {
+	@Mock
+	private UserRepository userRepository;
+
+	@InjectMocks
+	private JwtVersionTable jwtVersionTable;
+
+	@BeforeEach
+	public void setUpEach() {
+		given(userRepository.findTokenVersions()).willReturn(List.<Object[]>of(new Object[] {1L, 2L}));
+
+		jwtVersionTable.load();
+	}
+
+	@DisplayName("데이터베이스의 토큰 버전보다 낮은 접근 토큰은 폐기된 토큰이다.")
+	@Test
+	public void givenLoadedVersion_whenCallIsRevoked_thenCompareWithVersion() {
+		assertTrue(jwtVersionTable.isRevoked(1L, 1L));
+		assertFalse(jwtVersionTable.isRevoked(1L, 2L));
+	}
+
+	@DisplayName("토큰 버전을 올린 적이 없는 사용자의 접근 토큰은 폐기되지 않는다.")
+	@Test
+	public void givenUnknownUser_whenCallIsRevoked_thenReturnFalse() {
+		assertEquals(0L, jwtVersionTable.current(2L));
+		assertFalse(jwtVersionTable.isRevoked(2L, 0L));
+	}
+
+	@DisplayName("토큰 버전은 더 낮은 값으로 되돌아가지 않는다.")
+	@Test
+	public void givenLowerVersion_whenCallUpdate_thenKeepHigherVersion() {
+		jwtVersionTable.update(3L, 3L);
+		jwtVersionTable.update(3L, 1L);
+
+		assertEquals(3L, jwtVersionTable.current(3L));
+		assertTrue(jwtVersionTable.isRevoked(3L, 2L));
+	}
+}
@@ -0,0 +1,106 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.whooa.blog.user.exception.PasswordHashingBusyException;
+import com.whooa.blog.user.password.PasswordHasher;
+import com.whooa.blog.user.property.PasswordHashingProperty;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PasswordHasherTest {
+	private static final String PASSWORD = "12345678Aa!@#$%";
+
+	@DisplayName("보정한 강도는 하한과 상한 사이이고 해시한 비밀번호와 일치한다.")
+	@Test
+	public void givenPassword_whenCallEncode_thenMatch() {
+		PasswordHasher passwordHasher;
+		String hashedPassword;
+
+		passwordHasher = new PasswordHasher(property(4, 6, 1, 8), new SimpleMeterRegistry());
+		hashedPassword = passwordHasher.encode(PASSWORD);
+
+		assertTrue(passwordHasher.getStrength() >= 4 && passwordHasher.getStrength() <= 6);
+		assertTrue(passwordHasher.matches(PASSWORD, hashedPassword));
+		assertFalse(passwordHasher.matches("87654321Aa!@#$%", hashedPassword));
+
+		passwordHasher.destroy();
+	}
+
+	@DisplayName("강도를 설정하면 보정하지 않고 설정한 강도로 해시한다.")
+	@Test
+	public void givenPinnedStrength_whenCallEncode_thenUsePinnedStrength() {
+		PasswordHasher passwordHasher;
+		PasswordHashingProperty passwordHashingProperty;
+
+		passwordHashingProperty = property(4, 6, 1, 8);
+		passwordHashingProperty.setStrength(5);
+		passwordHasher = new PasswordHasher(passwordHashingProperty, new SimpleMeterRegistry());
+
+		assertEquals(5, passwordHasher.getStrength());
+		assertTrue(passwordHasher.encode(PASSWORD).startsWith("$2a$05$"));
+
+		passwordHasher.destroy();
+	}
+
+	@DisplayName("현재 강도보다 낮은 강도로 저장된 비밀번호만 다시 해시한다.")
+	@Test
+	public void givenWeakerHash_whenCallUpgradeEncoding_thenReturnTrue() {
+		PasswordHasher weakPasswordHasher, passwordHasher;
+
+		weakPasswordHasher = new PasswordHasher(property(4, 4, 1, 8), new SimpleMeterRegistry());
+		passwordHasher = new PasswordHasher(property(5, 5, 1, 8), new SimpleMeterRegistry());
+
+		assertTrue(passwordHasher.upgradeEncoding(weakPasswordHasher.encode(PASSWORD)));
+		assertFalse(passwordHasher.upgradeEncoding(passwordHasher.encode(PASSWORD)));
+
+		weakPasswordHasher.destroy();
+		passwordHasher.destroy();
+	}
+
+	@DisplayName("스레드와 큐가 모두 사용 중이면 기다리지 않고 거부한다.")
+	@Test
+	public void givenSaturatedPool_whenCallEncode_thenThrowPasswordHashingBusyException() throws Exception {
+		PasswordHasher passwordHasher;
+		SimpleMeterRegistry meterRegistry;
+		CompletableFuture<String> running, queued;
+
+		meterRegistry = new SimpleMeterRegistry();
+		/* 강도 14는 해시 한 번에 1초 안팎이 걸리기 때문에 세 번째 요청이 들어올 때 스레드와 큐는 사용 중이다. */
+		passwordHasher = new PasswordHasher(property(14, 14, 1, 1), meterRegistry);
+
+		running = CompletableFuture.supplyAsync(() -> passwordHasher.encode(PASSWORD));
+		Thread.sleep(100);
+		queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode(PASSWORD));
+		Thread.sleep(100);
+
+		assertThrows(PasswordHashingBusyException.class, () -> {
+			passwordHasher.encode(PASSWORD);
+		});
+		assertEquals(1, meterRegistry.get("user.password.hashing.rejected").counter().count());
+
+		assertNotNull(running.get());
+		assertNotNull(queued.get());
+
+		passwordHasher.destroy();
+	}
+
+	private PasswordHashingProperty property(int minStrength, int maxStrength, int threads, int queueCapacity) {
+		PasswordHashingProperty passwordHashingProperty;
+
+		passwordHashingProperty = new PasswordHashingProperty();
+		passwordHashingProperty.setStrength(0);
+		passwordHashingProperty.setMinStrength(minStrength);
+		passwordHashingProperty.setMaxStrength(maxStrength);
+		passwordHashingProperty.setThreads(threads);
+		passwordHashingProperty.setQueueCapacity(queueCapacity);
+		passwordHashingProperty.setTargetLatency(5);
+
+		return passwordHashingProperty;
+	}
+}
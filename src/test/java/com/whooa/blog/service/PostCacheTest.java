@@ -0,0 +1,104 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.dto.PostDto.PostResponse;
+import com.whooa.blog.post.property.PostCacheProperty;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PostCacheTest {
+	private PostCache postCache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	public void setUpEach() {
+		postCache = new PostCache(new PostCacheProperty(), new SimpleMeterRegistry());
+		loads = new AtomicInteger();
+	}
+
+	@DisplayName("조회하는 도중 같은 포스트가 무효화되면 조회한 포스트를 캐시에 넣지 않는다.")
+	@Test
+	public void givenInvalidationOfSameIdDuringLoad_whenCallGet_thenNotCache() {
+		postCache.get(1L, () -> {
+			postCache.invalidate(1L);
+			return load(1L);
+		});
+		postCache.get(1L, () -> load(1L));
+
+		assertEquals(2, loads.get());
+	}
+
+	@DisplayName("조회하는 도중 다른 포스트가 무효화되어도 조회한 포스트를 캐시에 넣는다.")
+	@Test
+	public void givenInvalidationOfOtherIdDuringLoad_whenCallGet_thenCache() {
+		postCache.get(1L, () -> {
+			postCache.invalidate(2L);
+			return load(1L);
+		});
+		postCache.get(1L, () -> load(1L));
+
+		assertEquals(1, loads.get());
+		assertEquals(1, postCache.stats().hitCount());
+	}
+
+	@DisplayName("트랜잭션 안에서 무효화한 뒤 커밋하기 전에 조회해서 넣은 포스트는 커밋한 후에 제거한다.")
+	@Test
+	public void givenLoadBeforeCommit_whenCallInvalidateInTransaction_thenEvictAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+			postCache.get(1L, () -> load(1L));
+			postCache.invalidate(1L);
+			/* 커밋하기 전에 다른 요청이 이전 값을 읽어서 캐시에 넣는다. */
+			postCache.get(1L, () -> load(1L));
+			postCache.get(1L, () -> load(1L));
+
+			assertEquals(2, loads.get());
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		postCache.get(1L, () -> load(1L));
+
+		assertEquals(3, loads.get());
+	}
+
+	@DisplayName("조회가 예외로 끝나면 캐시에 넣지 않고 다음 조회는 캐시에 넣는다.")
+	@Test
+	public void givenFailedLoad_whenCallGet_thenCacheNextLoad() {
+		assertThrows(IllegalStateException.class, () -> {
+			postCache.get(1L, () -> {
+				throw new IllegalStateException();
+			});
+		});
+
+		postCache.get(1L, () -> load(1L));
+		postCache.get(1L, () -> load(1L));
+
+		assertEquals(1, loads.get());
+	}
+
+	private PostResponse load(Long id) {
+		PostResponse post;
+
+		loads.incrementAndGet();
+
+		post = new PostResponse().title("포스트" + id);
+		post.setId(id);
+
+		return post;
+	}
+}
@@ -0,0 +1,104 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import org.springframework.data.domain.Page;
+
+import com.whooa.blog.post.search.PostSearchIndex;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PostSearchIndexTest {
+	private PostSearchIndex postSearchIndex;
+	
+	@BeforeEach
+	public void setUpEach() {
+		postSearchIndex = new PostSearchIndex();
+		
+		postSearchIndex.index(1L, "스프링 부트 시작하기", "스프링 부트로 블로그를 만든다.");
+		postSearchIndex.index(2L, "자바 스트림", "자바 스트림과 람다를 정리한다. Spring은 나오지 않는다.");
+		postSearchIndex.index(3L, "JPA 성능", "스프링 데이터 JPA에서 N+1 문제를 해결한다.");
+	}
+	
+	@DisplayName("초기 색인의 스냅숏은 먼저 반영된 수정과 삭제를 덮어쓰지 않는다.")
+	@Test
+	public void givenWritesDuringLoad_whenCallLoad_thenKeepNewerWrites() {
+		postSearchIndex.remove(2L);
+		postSearchIndex.index(3L, "하이버네이트 캐시", "2차 캐시를 설정한다.");
+		
+		postSearchIndex.load(2L, "자바 스트림", "자바 스트림과 람다를 정리한다.");
+		postSearchIndex.load(3L, "JPA 성능", "스프링 데이터 JPA에서 N+1 문제를 해결한다.");
+		postSearchIndex.load(4L, "자바 레코드", "레코드 클래스를 정리한다.");
+		postSearchIndex.finishLoad();
+		
+		assertEquals(3, postSearchIndex.size());
+		assertEquals(List.of(4L), postSearchIndex.search("자바", 0, 10).getContent());
+		assertEquals(0, postSearchIndex.search("JPA", 0, 10).getTotalElements());
+		assertEquals(List.of(3L), postSearchIndex.search("캐시", 0, 10).getContent());
+	}
+	
+	@DisplayName("한글은 음절 바이그램으로, 영문은 소문자 단어로 토큰화하는데 성공한다.")
+	@Test
+	public void givenText_whenCallTokenize_thenReturnTokens() {
+		assertEquals(List.of("스프", "프링", "부트", "jpa", "n", "1"), PostSearchIndex.tokenize("스프링 부트, JPA N+1"));
+		assertEquals(List.of("글"), PostSearchIndex.tokenize("글"));
+		assertTrue(PostSearchIndex.tokenize(null).isEmpty());
+	}
+	
+	@DisplayName("조사가 붙은 검색어로 포스트를 검색하는데 성공한다.")
+	@Test
+	public void givenQueryWithParticle_whenCallSearch_thenReturnMatchedPosts() {
+		Page<Long> page;
+		
+		page = postSearchIndex.search("스프링을", 0, 10);
+		
+		assertEquals(2, page.getTotalElements());
+		assertTrue(page.getContent().containsAll(List.of(1L, 3L)));
+	}
+	
+	@DisplayName("제목에 검색어가 있는 포스트를 먼저 반환한다.")
+	@Test
+	public void givenQuery_whenCallSearch_thenRankTitleMatchFirst() {
+		Page<Long> page;
+		
+		page = postSearchIndex.search("JPA", 0, 10);
+		
+		assertEquals(3L, page.getContent().get(0));
+		
+		page = postSearchIndex.search("스프링 부트", 0, 10);
+		
+		assertEquals(1L, page.getContent().get(0));
+	}
+	
+	@DisplayName("검색 결과를 페이지로 나누는데 성공한다.")
+	@Test
+	public void givenPage_whenCallSearch_thenReturnPage() {
+		Page<Long> page;
+		
+		page = postSearchIndex.search("스프링", 1, 1);
+		
+		assertEquals(1, page.getContent().size());
+		assertEquals(2, page.getTotalElements());
+		assertTrue(page.isLast());
+	}
+	
+	@DisplayName("수정하거나 삭제한 포스트를 색인에 반영하는데 성공한다.")
+	@Test
+	public void givenUpdateAndRemove_whenCallSearch_thenReflectChanges() {
+		postSearchIndex.index(2L, "자바 스트림", "스프링 배치에서 스트림을 사용한다.");
+		
+		assertEquals(3, postSearchIndex.search("스프링", 0, 10).getTotalElements());
+		assertEquals(0, postSearchIndex.search("람다", 0, 10).getTotalElements());
+		
+		postSearchIndex.remove(1L);
+		
+		assertEquals(2, postSearchIndex.search("스프링", 0, 10).getTotalElements());
+		assertEquals(2, postSearchIndex.size());
+	}
+}
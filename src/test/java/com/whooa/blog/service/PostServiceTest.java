@@ -10,6 +10,8 @@ import java.nio.charset.StandardCharsets;
 
 import java.util.Optional;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,26 +20,41 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.whooa.blog.category.entity.CategoryEntity;
 import com.whooa.blog.category.exception.CategoryNotFoundException;
-import com.whooa.blog.category.repository.CategoryRepository;
+import com.whooa.blog.category.registry.CategoryRegistry;
+import com.whooa.blog.category.repository.CategorySummaryRepository;
 import com.whooa.blog.common.api.PageResponse;
+import com.whooa.blog.common.exception.InvalidCursorException;
 import com.whooa.blog.common.security.UserDetailsImpl;
 import com.whooa.blog.file.service.FileService;
 import com.whooa.blog.file.value.File;
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.counter.PostViewCounter;
 import com.whooa.blog.post.dto.PostDto.PostCreateRequest;
 import com.whooa.blog.post.dto.PostDto.PostUpdateRequest;
 import com.whooa.blog.post.dto.PostDto.PostResponse;
+import com.whooa.blog.post.dto.PostDto.PostSummaryResponse;
 import com.whooa.blog.post.entity.PostEntity;
+import com.whooa.blog.post.property.PostCacheProperty;
+import com.whooa.blog.post.search.PostSearchIndex;
 import com.whooa.blog.post.exception.PostNotFoundException;
 import com.whooa.blog.post.repository.PostRepository;
 import com.whooa.blog.post.service.impl.PostServiceImpl;
@@ -47,6 +64,8 @@ import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.user.type.UserRole;
 import com.whooa.blog.util.PaginationUtil;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /* Mockito 클래스를 확장해서 의존성을 모의하기 위해 주석을 사용하는 것을 이해한다. */
 @ExtendWith(MockitoExtension.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -58,12 +77,22 @@ public class PostServiceTest {
 	@Mock
 	private PostRepository postRepository;
 	@Mock
-	private CategoryRepository categoryRepository;
+	private CategoryRegistry categoryRegistry;
+	@Mock
+	private CategorySummaryRepository categorySummaryRepository;
 	@Mock
 	private UserRepository userRepository;
 	
 	@Mock	
 	private FileService fileService;
+	@Mock
+	private PostCache postCache;
+	@Mock
+	private PostViewCounter postViewCounter;
+	@Mock
+	private PostSearchIndex postSearchIndex;
+	@Mock
+	private PlatformTransactionManager transactionManager;
 
 	/*
 	 * @InjectMocks 어노테이션을 사용하여 모의 객체를 다른 모의 객체에 주입한다. 
@@ -113,18 +142,21 @@ public class PostServiceTest {
 		content = "포스트1";
 		
 		categoryEntity1 = new CategoryEntity().name("카테고리1");
+		categoryEntity1.setId(1L);
 		
 		userEntity1 = new UserEntity()
 					.email("user2@user2.com")
 					.name("사용자2 이름")
 					.password("12345678Aa!@#$%")
 					.userRole(UserRole.USER);
+		userEntity1.setId(1L);
 			
 		postEntity1 = new PostEntity()
 					.content(content)
 					.title(title)
 					.category(categoryEntity1)
 					.user(userEntity1);
+		postEntity1.setId(1L);
 
 		postCreate = new PostCreateRequest()
 					.categoryName(categoryEntity1.getName())
@@ -154,7 +186,7 @@ public class PostServiceTest {
 		 * BDDMockito.lenient().when(postRepository.save(any(PostEntity.class))).thenReturn(postEntity); 
 		 */
 		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity1);
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
 		given(userRepository.findById(any(Long.class))).willReturn(Optional.of(userEntity1));
 		
 		post = postServiceImpl.create(postCreate, null, userDetailsImpl);
@@ -163,18 +195,19 @@ public class PostServiceTest {
 		assertEquals(post.getTitle(), postEntity1.getTitle());
 
 		then(postRepository).should(times(1)).save(any(PostEntity.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
 		then(userRepository).should(times(1)).findById(any(Long.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(categorySummaryRepository).should(times(1)).addPost(categoryEntity1.getId(), postEntity1.getId(), postEntity1.getTitle());
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("포스트(파일 O)를 생성하는데 성공한다.")
 	@Test
 	public void givenPostCreate_whenCallCreate_thenReturnPostWithFiles() {
 		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity1);
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
 		given(userRepository.findById(any(Long.class))).willReturn(Optional.of(userEntity1));
-		given(fileService.upload(any(PostEntity.class), any(MultipartFile.class))).willReturn(file);
+		given(fileService.uploadAll(any(PostEntity.class), any(MultipartFile[].class))).willReturn(List.of(file));
 		
 		post = postServiceImpl.create(postCreate, uploadFiles, userDetailsImpl);
 			
@@ -183,24 +216,51 @@ public class PostServiceTest {
 		assertEquals(post.getTitle(), postEntity1.getTitle());
 
 		then(postRepository).should(times(1)).save(any(PostEntity.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
 		then(userRepository).should(times(1)).findById(any(Long.class));
-		then(fileService).should(times(1)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(fileService).should(times(1)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}	
+	
+	@DisplayName("첨부 파일을 트랜잭션 밖에서 저장하고 커밋에 실패하면 첨부 파일을 삭제한다.")
+	@Test
+	public void givenCommitFailure_whenCallCreate_thenDeleteFilesUploadedOutsideTransaction() {
+		PlatformTransactionManager failingTransactionManager;
+		PostServiceImpl failingPostServiceImpl;
+		InOrder inOrder;
+		
+		failingTransactionManager = mock(PlatformTransactionManager.class);
+		failingPostServiceImpl = new PostServiceImpl(categoryRegistry, categorySummaryRepository, postRepository, userRepository, fileService, postCache, postViewCounter, postSearchIndex, failingTransactionManager);
+		inOrder = inOrder(fileService, failingTransactionManager);
+		
+		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity1);
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(userRepository.findById(any(Long.class))).willReturn(Optional.of(userEntity1));
+		given(fileService.uploadAll(any(PostEntity.class), any(MultipartFile[].class))).willReturn(List.of(file));
+		willThrow(new TransactionSystemException("커밋에 실패했습니다.")).given(failingTransactionManager).commit(any());
+		
+		assertThrows(TransactionSystemException.class, () -> {
+			failingPostServiceImpl.create(postCreate, uploadFiles, userDetailsImpl);
+		});
+		
+		then(fileService).should(inOrder).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
+		then(failingTransactionManager).should(inOrder).getTransaction(any());
+		then(fileService).should(inOrder).deleteAll(List.of(file));
+		then(postSearchIndex).should(times(0)).index(any(), any(String.class), any(String.class));
+	}
 
 	@DisplayName("카테고리가 존재하지 않아 포스트를 생성하는데 실패한다.")
 	@Test
 	public void givenPostCreate_whenCallCreate_thenThrowCategoryNotFoundException() {
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.empty());
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.empty());
 
 		assertThrows(CategoryNotFoundException.class, () -> {
 			postServiceImpl.create(postCreate, uploadFiles, userDetailsImpl);	
 		});
 		
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
 		then(userRepository).should(times(0)).findById(any(Long.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));		
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));		
 	}
 	
 	@DisplayName("포스트를 생성하는데 실패한다.")
@@ -211,9 +271,9 @@ public class PostServiceTest {
 		});
 		
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(categoryRepository).should(times(0)).findByName(any(String.class));
+		then(categoryRegistry).should(times(0)).findByName(any(String.class));
 		then(userRepository).should(times(0)).findById(any(Long.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));		
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));		
 	}	
 
 	@DisplayName("포스트를 삭제하는데 성공한다.")
@@ -226,6 +286,10 @@ public class PostServiceTest {
 		postServiceImpl.delete(postEntity1.getId(), userDetailsImpl);
 
 		then(postRepository).should(times(1)).delete(any(PostEntity.class));				
+		then(categorySummaryRepository).should(times(1)).removePost(categoryEntity1.getId(), postEntity1.getId());
+		then(postCache).should(times(1)).invalidate(any(Long.class));
+		then(postViewCounter).should(times(1)).remove(any());
+		then(postSearchIndex).should(times(1)).remove(any());
 		then(postRepository).should(times(1)).findById(any(Long.class));
 	}
 
@@ -267,72 +331,184 @@ public class PostServiceTest {
 	@DisplayName("포스트를 조회하는데 성공한다.")
 	@Test
 	public void givenId_whenCallFind_thenReturnPost() {
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(postCache.get(any(Long.class), any())).willAnswer((invocation) -> invocation.getArgument(1, Supplier.class).get());
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(postViewCounter.increment(any(Long.class))).willReturn(1L);
 
 		post = postServiceImpl.find(postEntity1.getId());
 		
 		assertEquals(post.getId(), postEntity1.getId());
+		assertEquals(1, post.getViewCount());
 		
-		then(postRepository).should(times(1)).findById(any(Long.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+	}
+	
+	@DisplayName("캐시에 있는 포스트를 조회하는데 성공한다.")
+	@Test
+	public void givenCachedId_whenCallFind_thenReturnPostWithoutRepository() {
+		PostServiceImpl cachedPostServiceImpl;
+		
+		cachedPostServiceImpl = new PostServiceImpl(categoryRegistry, categorySummaryRepository, postRepository, userRepository, fileService, new PostCache(new PostCacheProperty(), new SimpleMeterRegistry()), postViewCounter, postSearchIndex, transactionManager);
+		
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+
+		cachedPostServiceImpl.find(postEntity1.getId());
+		post = cachedPostServiceImpl.find(postEntity1.getId());
+		
+		assertEquals(post.getId(), postEntity1.getId());
+		
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
 	}
 	
 	@DisplayName("포스트를 조회하는데 실패한다.")
 	@Test
 	public void givenId_whenCallFind_thenThrowPostNotFoundException() {
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.empty());
+		given(postCache.get(any(Long.class), any())).willAnswer((invocation) -> invocation.getArgument(1, Supplier.class).get());
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.empty());
 		
 		assertThrows(PostNotFoundException.class, () -> {
 			postServiceImpl.find(postEntity1.getId());
 		});
 		
-		then(postRepository).should(times(1)).findById(any(Long.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
 	}
 	
 	@DisplayName("포스트 목록을 조회하는데 성공한다.")
 	@Test
 	public void givenPagination_whenCallFindAll_thenReturnPosts() {
-		PageResponse<PostResponse> page;
-		PostEntity postEntity2;
+		PageResponse<PostSummaryResponse> page;
+		PostSummaryResponse postSummary1, postSummary2;
 		
-		postEntity2 = new PostEntity()
-					.content("포스트2")
-					.title("포스트2")
-					.category(new CategoryEntity().name("카테고리2"))
-					.user(userEntity1);
+		postSummary1 = new PostSummaryResponse()
+					.categoryName(categoryEntity1.getName())
+					.excerpt(postEntity1.getContent())
+					.title(postEntity1.getTitle());
+		
+		postSummary2 = new PostSummaryResponse()
+					.categoryName("카테고리2")
+					.excerpt("포스트2")
+					.title("포스트2");
 
-		given(postRepository.findAll(any(Pageable.class))).willReturn(new PageImpl<PostEntity>(List.of(postEntity1, postEntity2)));
+		given(postRepository.findSummaries(any(Pageable.class))).willReturn(new PageImpl<PostSummaryResponse>(List.of(postSummary1, postSummary2)));
 
 		page = postServiceImpl.findAll(pagination);
 					
 		assertEquals(page.getTotalElements(), 2);
 		
-		then(postRepository).should(times(1)).findAll(any(Pageable.class));
+		then(postRepository).should(times(1)).findSummaries(any(Pageable.class));
 	}
 	
 	@DisplayName("포스트 목록을 조회(카테고리 아이디)하는데 성공한다.")
 	@Test
 	public void givenPagination_whenCallFindAllByCategoryId_thenReturnPosts() {
 		CategoryEntity categoryEntity2;
-		PageResponse<PostResponse> page;
-		PostEntity postEntity2;
+		PageResponse<PostSummaryResponse> page;
+		PostSummaryResponse postSummary2;
 		
 		categoryEntity2 = new CategoryEntity().name("카테고리2");
 		
-		postEntity2 = new PostEntity()
-					.content("포스트2")
-					.title("포스트2")
-					.category(categoryEntity2)
-					.user(userEntity1);
+		postSummary2 = new PostSummaryResponse()
+					.categoryName(categoryEntity2.getName())
+					.excerpt("포스트2")
+					.title("포스트2");
 			
-		given(postRepository.findByCategoryId(any(Long.class), any(Pageable.class))).willReturn(new PageImpl<PostEntity>(List.of(postEntity2)));
+		given(postRepository.findSummariesByCategoryId(any(Long.class), any(Pageable.class))).willReturn(new PageImpl<PostSummaryResponse>(List.of(postSummary2)));
 		//given(categoryRepository.findById(any(Long.class))).willReturn(Optional.of(categoryEntity1));
 
 		page = postServiceImpl.findAllByCategoryId(categoryEntity2.getId(), pagination);
 					
 		assertEquals(page.getTotalElements(), 1);
 		
-		then(postRepository).should(times(1)).findByCategoryId(any(Long.class), any(Pageable.class));
-		//then(categoryRepository).should(times(1)).findById(any(Long.class));
+		then(postRepository).should(times(1)).findSummariesByCategoryId(any(Long.class), any(Pageable.class));
+		//then(categoryRegistry).should(times(1)).findById(any(Long.class));
+	}
+	
+	@DisplayName("포스트 목록을 조회(커서)하는데 성공한다.")
+	@Test
+	public void givenCursorPagination_whenCallFindAll_thenReturnPostsWithNextCursor() {
+		PageResponse<PostSummaryResponse> page;
+		PaginationUtil cursorPagination;
+		PostEntity postEntity2;
+		
+		postEntity1.setId(1L);
+		
+		postEntity2 = new PostEntity()
+					.content("포스트2")
+					.title("포스트2")
+					.category(categoryEntity1)
+					.user(userEntity1);
+		postEntity2.setId(2L);
+		
+		cursorPagination = new PaginationUtil();
+		cursorPagination.setCursor("");
+		
+		given(postRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class))).willReturn(Window.from(List.of(postEntity1, postEntity2), (index) -> ScrollPosition.forward(Map.of("id", (long) index + 1)), true));
+		given(postRepository.findSummariesByIdIn(any())).willReturn(List.of(
+			new PostSummaryResponse(2L, categoryEntity1.getName(), 0, null, "포스트2", 0, "포스트2"),
+			new PostSummaryResponse(1L, categoryEntity1.getName(), 0, null, "포스트1", 0, "포스트1")
+		));
+
+		page = postServiceImpl.findAll(cursorPagination);
+		
+		assertEquals(2, page.getContent().size());
+		assertEquals(1L, page.getContent().get(0).getId());
+		assertTrue(page.isFirst());
+		assertFalse(page.isLast());
+		assertNull(page.getPrevCursor());
+		assertNotNull(page.getNextCursor());
+		
+		then(postRepository).should(times(1)).findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class));
+		then(postRepository).should(times(0)).findAll(any(Pageable.class));
+	}
+	
+	@DisplayName("커서가 유효하지 않아 포스트 목록을 조회하는데 실패한다.")
+	@Test
+	public void givenInvalidCursor_whenCallFindAll_thenThrowInvalidCursorException() {
+		PaginationUtil cursorPagination;
+		
+		cursorPagination = new PaginationUtil();
+		cursorPagination.setCursor("유효하지 않은 커서");
+		
+		assertThrows(InvalidCursorException.class, () -> {
+			postServiceImpl.findAll(cursorPagination);
+		});
+		
+		then(postRepository).should(times(0)).findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class));
+	}
+	
+	@DisplayName("포스트를 검색하는데 성공한다.")
+	@Test
+	public void givenQuery_whenCallSearch_thenReturnPostsInRankOrder() {
+		PageResponse<PostSummaryResponse> page;
+		
+		given(postSearchIndex.search(any(String.class), anyInt(), anyInt())).willReturn(new PageImpl<Long>(List.of(2L, 1L), PageRequest.of(0, 10), 2));
+		given(postRepository.findSummariesByIdIn(any())).willReturn(List.of(
+			new PostSummaryResponse(1L, categoryEntity1.getName(), 0, null, "포스트1", 0, "포스트1"),
+			new PostSummaryResponse(2L, categoryEntity1.getName(), 0, null, "포스트2", 0, "포스트2")
+		));
+		
+		page = postServiceImpl.search("포스트", pagination);
+		
+		assertEquals(2, page.getContent().size());
+		assertEquals(2L, page.getContent().get(0).getId());
+		assertEquals(2, page.getTotalElements());
+		
+		then(postSearchIndex).should(times(1)).search(any(String.class), anyInt(), anyInt());
+		then(postRepository).should(times(1)).findSummariesByIdIn(any());
+	}
+	
+	@DisplayName("검색 결과가 없으면 포스트를 조회하지 않는다.")
+	@Test
+	public void givenUnmatchedQuery_whenCallSearch_thenReturnEmptyPage() {
+		PageResponse<PostSummaryResponse> page;
+		
+		given(postSearchIndex.search(any(String.class), anyInt(), anyInt())).willReturn(new PageImpl<Long>(List.of(), PageRequest.of(0, 10), 0));
+		
+		page = postServiceImpl.search("없는 검색어", pagination);
+		
+		assertEquals(0, page.getContent().size());
+		
+		then(postRepository).should(times(0)).findSummariesByIdIn(any());
 	}
 	
 	@DisplayName("포스트(파일 X)를 수정하는데 성공한다.")
@@ -350,8 +526,8 @@ public class PostServiceTest {
 					.user(userEntity1);
 		
 		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity2);
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
 
 		post = postServiceImpl.update(postEntity1.getId(), postUpdate, null, userDetailsImpl);
 		
@@ -360,9 +536,11 @@ public class PostServiceTest {
 		assertEquals(post.getContent(), postUpdate.getContent());
 
 		then(postRepository).should(times(1)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(categorySummaryRepository).should(times(1)).updatePost(categoryEntity1.getId(), categoryEntity1.getId(), postEntity1.getId(), postUpdate.getTitle());
+		then(postCache).should(times(1)).invalidate(any(Long.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("포스트(파일 O)를 수정하는데 성공한다.")
@@ -380,9 +558,9 @@ public class PostServiceTest {
 					.user(userEntity1);
 
 		given(postRepository.save(any(PostEntity.class))).willReturn(postEntity2);
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
-		given(fileService.upload(any(PostEntity.class), any(MultipartFile.class))).willReturn(file);
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(fileService.uploadAll(any(PostEntity.class), any(MultipartFile[].class))).willReturn(List.of(file));
 
 		post = postServiceImpl.update(postEntity1.getId(), postUpdate, uploadFiles, userDetailsImpl);
 		
@@ -391,40 +569,40 @@ public class PostServiceTest {
 		assertEquals(post.getContent(), postUpdate.getContent());
 
 		then(postRepository).should(times(1)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(1)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(1)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("포스트가 존재하지 않아 수정하는데 실패한다.")
 	@Test
 	public void givenPostUpdate_whenCallUpdate_thenThrowPostNotFoundException() {
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.empty());
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.empty());
 
 		assertThrows(PostNotFoundException.class, () -> {
 			postServiceImpl.update(postEntity1.getId(), postUpdate, null, userDetailsImpl);			
 		});
 		
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(0)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(0)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("카테고리가 존재하지 않아 포스트를 수정하는데 실패한다.")
 	@Test
 	public void givenPostUpdate_whenCallUpdate_thenThrowCategoryNotFoundException() {
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.empty());
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.empty());
 		
 		assertThrows(CategoryNotFoundException.class, () -> {
 			postServiceImpl.update(postEntity1.getId(), postUpdate, null, userDetailsImpl);			
 		});
 
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}
 	
 	@DisplayName("포스트를 생성한 사용자와 일치하지 않아 수정하는데 실패한다.")
@@ -439,16 +617,16 @@ public class PostServiceTest {
 				.userRole(UserRole.USER);
 		userEntity2.setId(2L);
 		
-		given(postRepository.findById(any(Long.class))).willReturn(Optional.of(postEntity1));
-		given(categoryRepository.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
+		given(postRepository.findDetailById(any(Long.class))).willReturn(Optional.of(postEntity1));
+		given(categoryRegistry.findByName(any(String.class))).willReturn(Optional.of(categoryEntity1));
 
 		assertThrows(UserNotMatchedException.class, () -> {
 			postServiceImpl.update(postEntity1.getId(), postUpdate, null, new UserDetailsImpl(userEntity2));			
 		});
 
 		then(postRepository).should(times(0)).save(any(PostEntity.class));
-		then(postRepository).should(times(1)).findById(any(Long.class));
-		then(categoryRepository).should(times(1)).findByName(any(String.class));
-		then(fileService).should(times(0)).upload(any(PostEntity.class), any(MultipartFile.class));
+		then(postRepository).should(times(1)).findDetailById(any(Long.class));
+		then(categoryRegistry).should(times(1)).findByName(any(String.class));
+		then(fileService).should(times(0)).uploadAll(any(PostEntity.class), any(MultipartFile[].class));
 	}	
 }
\ No newline at end of file
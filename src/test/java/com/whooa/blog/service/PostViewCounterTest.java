@@ -0,0 +1,208 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.whooa.blog.post.cache.PostCache;
+import com.whooa.blog.post.counter.PostViewCounter;
+import com.whooa.blog.post.property.PostCacheProperty;
+import com.whooa.blog.post.repository.PostViewCountRepository;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PostViewCounterTest {
+	private static final int THREADS = 16;
+	private static final int VIEWS_PER_THREAD = 10000;
+	
+	@Mock
+	private PostViewCountRepository postViewCountRepository;
+	@Mock
+	private PostCache postCache;
+	/* 모의 객체의 만료 시간은 0이기 때문에 반영을 마친 항목은 반영할 때마다 제거되어 증가와 경쟁한다. */
+	@Mock
+	private PostCacheProperty postCacheProperty;
+	
+	@InjectMocks
+	private PostViewCounter postViewCounter;
+	
+	private AtomicLong flushed;
+	
+	@BeforeEach
+	public void setUpEach() {
+		flushed = new AtomicLong();
+	}
+	
+	@DisplayName("여러 스레드가 같은 포스트를 조회하는 동안 반영해도 조회수를 잃지 않는다.")
+	@Test
+	public void givenConcurrentViews_whenCallFlush_thenFlushAllViews() throws Exception {
+		ExecutorService executorService;
+		CountDownLatch start;
+		AtomicBoolean running;
+		List<Future<?>> futures;
+		Thread flusher;
+		
+		willAnswer((invocation) -> {
+			Map<Long, Long> deltas = invocation.getArgument(0);
+			
+			flushed.addAndGet(deltas.get(1L));
+			return null;
+		}).given(postViewCountRepository).increaseViewCounts(anyMap());
+		
+		executorService = Executors.newFixedThreadPool(THREADS);
+		start = new CountDownLatch(1);
+		running = new AtomicBoolean(true);
+		futures = new ArrayList<Future<?>>();
+		
+		/* 조회와 동시에 반영을 반복해서 sumThenReset() 메서드와 increment() 메서드가 경쟁하도록 한다. */
+		flusher = new Thread(() -> {
+			while (running.get()) {
+				postViewCounter.flush();
+			}
+		});
+		flusher.start();
+		
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executorService.submit(() -> {
+				start.await();
+				
+				for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+					postViewCounter.increment(1L);
+				}
+				
+				return null;
+			}));
+		}
+		
+		start.countDown();
+		
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		
+		running.set(false);
+		flusher.join();
+		executorService.shutdown();
+		
+		postViewCounter.flush();
+		
+		assertEquals((long) THREADS * VIEWS_PER_THREAD, flushed.get());
+		assertEquals(0, postViewCounter.pending(1L));
+	}
+	
+	@DisplayName("조회수를 반영하는데 실패하면 증가분을 보존한다.")
+	@Test
+	public void givenRepositoryFailure_whenCallFlush_thenKeepPendingViews() {
+		willThrow(new DataAccessResourceFailureException("연결 실패")).given(postViewCountRepository).increaseViewCounts(anyMap());
+		
+		postViewCounter.increment(2L);
+		postViewCounter.increment(2L);
+		postViewCounter.flush();
+		
+		assertEquals(2, postViewCounter.pending(2L));
+		
+		assertEquals(0, postViewCounter.flushed(2L));
+		
+		then(postViewCountRepository).should(times(1)).increaseViewCounts(anyMap());
+	}
+	
+	@DisplayName("반영한 후에도 센 조회수는 줄어들지 않고 반영한 조회수를 기록한다.")
+	@Test
+	public void givenFlushedViews_whenCallIncrement_thenKeepCountingFromTotal() {
+		PostViewCounter counter;
+		
+		/* 다른 테스트의 스텁(예외)에 영향을 받지 않도록 새로 만든다. */
+		counter = new PostViewCounter(mock(PostViewCountRepository.class), mock(PostCache.class), new PostCacheProperty());
+		
+		counter.increment(3L);
+		counter.increment(3L);
+		counter.flush();
+		
+		assertEquals(0, counter.pending(3L));
+		assertEquals(2, counter.flushed(3L));
+		assertEquals(3, counter.increment(3L));
+	}
+	
+	@DisplayName("반영을 마치고 조회되지 않은 항목은 제거하고 포스트 캐시를 무효화한다.")
+	@Test
+	public void givenIdleFlushedViews_whenCallFlush_thenEvictEntry() {
+		PostViewCounter counter;
+		PostCache cache;
+		PostCacheProperty property;
+		
+		cache = mock(PostCache.class);
+		property = new PostCacheProperty();
+		property.setExpiration(0);
+		counter = new PostViewCounter(mock(PostViewCountRepository.class), cache, property);
+		
+		counter.increment(4L);
+		counter.flush();
+		
+		assertEquals(0, counter.size());
+		assertEquals(0, counter.flushed(4L));
+		assertEquals(1, counter.increment(4L));
+		
+		then(cache).should(times(1)).invalidate(4L);
+	}
+	
+	@DisplayName("반영하지 못한 항목과 만료 시간 안에 조회된 항목은 제거하지 않는다.")
+	@Test
+	public void givenPendingOrRecentViews_whenCallFlush_thenKeepEntry() {
+		PostViewCounter counter;
+		PostViewCountRepository repository;
+		
+		repository = mock(PostViewCountRepository.class);
+		counter = new PostViewCounter(repository, mock(PostCache.class), new PostCacheProperty());
+		
+		counter.increment(5L);
+		counter.flush();
+		
+		assertEquals(1, counter.size());
+		
+		willThrow(new DataAccessResourceFailureException("연결 실패")).given(repository).increaseViewCounts(anyMap());
+		counter.increment(6L);
+		counter.flush();
+		
+		assertEquals(2, counter.size());
+		assertEquals(1, counter.pending(6L));
+	}
+	
+	@DisplayName("삭제한 포스트의 항목을 제거한다.")
+	@Test
+	public void givenDeletedPost_whenCallRemove_thenRemoveEntry() {
+		PostViewCounter counter;
+		
+		counter = new PostViewCounter(mock(PostViewCountRepository.class), mock(PostCache.class), new PostCacheProperty());
+		
+		counter.increment(7L);
+		counter.remove(7L);
+		
+		assertEquals(0, counter.size());
+		assertEquals(0, counter.pending(7L));
+	}
+}
@@ -0,0 +1,162 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.whooa.blog.reaction.counter.ReactionCounter;
+import com.whooa.blog.reaction.counter.ReactionKey;
+import com.whooa.blog.reaction.repository.ReactionCountRepository;
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReactionCounterTest {
+	private static final int THREADS = 16;
+	private static final int REACTIONS_PER_THREAD = 10000;
+
+	@Mock
+	private ReactionCountRepository reactionCountRepository;
+
+	@InjectMocks
+	private ReactionCounter reactionCounter;
+
+	private ReactionKey key;
+	private AtomicLong flushed;
+
+	@BeforeEach
+	public void setUpEach() {
+		key = new ReactionKey(ReactionTarget.POST, 1L, ReactionType.LIKE);
+		flushed = new AtomicLong();
+	}
+
+	@DisplayName("여러 스레드가 같은 대상에 반응하는 동안 반영해도 반응 개수를 잃지 않는다.")
+	@Test
+	public void givenConcurrentReactions_whenCallFlush_thenFlushAllReactions() throws Exception {
+		ExecutorService executorService;
+		CountDownLatch start;
+		AtomicBoolean running;
+		List<Future<?>> futures;
+		Thread flusher;
+
+		willAnswer((invocation) -> {
+			Map<ReactionKey, Long> deltas = invocation.getArgument(0);
+
+			flushed.addAndGet(deltas.get(key));
+			return null;
+		}).given(reactionCountRepository).increaseCounts(anyMap());
+
+		executorService = Executors.newFixedThreadPool(THREADS);
+		start = new CountDownLatch(1);
+		running = new AtomicBoolean(true);
+		futures = new ArrayList<Future<?>>();
+
+		flusher = new Thread(() -> {
+			while (running.get()) {
+				reactionCounter.flush();
+			}
+		});
+
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executorService.submit(() -> {
+				start.await();
+
+				/* 반응과 취소를 번갈아 하고 마지막에 한 번 더 반응해서 스레드마다 1을 남긴다. */
+				for (int j = 0; j < REACTIONS_PER_THREAD; j++) {
+					reactionCounter.add(key, 1);
+					reactionCounter.add(key, -1);
+				}
+
+				reactionCounter.add(key, 1);
+				return null;
+			}));
+		}
+
+		flusher.start();
+		start.countDown();
+
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+
+		running.set(false);
+		flusher.join();
+		executorService.shutdown();
+
+		reactionCounter.flush();
+
+		assertEquals(THREADS, flushed.get());
+		assertEquals(0, reactionCounter.pending(key));
+		assertEquals(0, reactionCounter.size());
+	}
+
+	@DisplayName("반영에 성공하면 증가분이 0인 항목을 제거한다.")
+	@Test
+	public void givenFlushedReactions_whenCallFlush_thenRemoveEmptyEntries() {
+		ReactionKey canceledKey;
+
+		canceledKey = new ReactionKey(ReactionTarget.COMMENT, 2L, ReactionType.SAD);
+
+		reactionCounter.add(key, 3);
+		reactionCounter.add(canceledKey, 1);
+		reactionCounter.add(canceledKey, -1);
+
+		assertEquals(2, reactionCounter.size());
+
+		reactionCounter.flush();
+
+		assertEquals(0, reactionCounter.size());
+
+		reactionCounter.add(key, 1);
+
+		assertEquals(1, reactionCounter.pending(key));
+
+		then(reactionCountRepository).should(times(1)).increaseCounts(Map.of(key, 3L));
+	}
+
+	@DisplayName("반영에 실패하면 증가분을 유지해서 다음 반영에서 재시도한다.")
+	@Test
+	public void givenRepositoryFailure_whenCallFlush_thenKeepDeltas() {
+		willThrow(new DataAccessResourceFailureException("연결 실패")).willDoNothing().given(reactionCountRepository).increaseCounts(anyMap());
+
+		reactionCounter.add(key, 3);
+		reactionCounter.add(new ReactionKey(ReactionTarget.COMMENT, 2L, ReactionType.SAD), -1);
+
+		reactionCounter.flush();
+
+		assertEquals(3, reactionCounter.pending(key));
+		assertEquals(2, reactionCounter.size());
+
+		reactionCounter.flush();
+
+		assertEquals(0, reactionCounter.pending(key));
+
+		then(reactionCountRepository).should(times(2)).increaseCounts(Map.of(key, 3L, new ReactionKey(ReactionTarget.COMMENT, 2L, ReactionType.SAD), -1L));
+	}
+}
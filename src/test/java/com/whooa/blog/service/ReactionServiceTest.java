@@ -0,0 +1,214 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.times;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.whooa.blog.comment.exception.CommentNotFoundException;
+import com.whooa.blog.comment.repository.CommentRepository;
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.post.exception.PostNotFoundException;
+import com.whooa.blog.post.repository.PostRepository;
+import com.whooa.blog.reaction.counter.ReactionCounter;
+import com.whooa.blog.reaction.counter.ReactionKey;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionRequest;
+import com.whooa.blog.reaction.dto.ReactionDto.ReactionResponse;
+import com.whooa.blog.reaction.repository.ReactionCountRepository;
+import com.whooa.blog.reaction.repository.ReactionRepository;
+import com.whooa.blog.reaction.service.impl.ReactionServiceImpl;
+import com.whooa.blog.reaction.type.ReactionTarget;
+import com.whooa.blog.reaction.type.ReactionType;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.type.UserRole;
+
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReactionServiceTest {
+	@Mock
+	private ReactionRepository reactionRepository;
+	@Mock
+	private ReactionCountRepository reactionCountRepository;
+	@Mock
+	private ReactionCounter reactionCounter;
+	@Mock
+	private PostRepository postRepository;
+	@Mock
+	private CommentRepository commentRepository;
+
+	@InjectMocks
+	private ReactionServiceImpl reactionServiceImpl;
+
+	private Long postId;
+	private Long commentId;
+	private Long userId;
+	private ReactionRequest reaction;
+	private UserDetailsImpl userDetailsImpl;
+
+	@BeforeEach
+	public void setUpEach() {
+		UserEntity userEntity;
+
+		postId = 1L;
+		commentId = 2L;
+		userId = 3L;
+
+		userEntity = new UserEntity()
+					.email("user1@user1.com")
+					.name("사용자1")
+					.password("12345678Aa!@#$%")
+					.userRole(UserRole.USER);
+		userEntity.setId(userId);
+
+		reaction = new ReactionRequest().type(ReactionType.LIKE);
+		userDetailsImpl = new UserDetailsImpl(userEntity);
+	}
+
+	@DisplayName("반응하지 않은 포스트에 반응하면 반응을 저장하고 개수를 1 증가시킨다.")
+	@Test
+	public void givenNoReaction_whenCallReactToPost_thenInsertAndIncreaseCount() {
+		Map<ReactionType, Long> stored;
+		ReactionResponse response;
+
+		stored = new EnumMap<ReactionType, Long>(ReactionType.class);
+		stored.put(ReactionType.LIKE, 10L);
+
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(reactionRepository.findType(ReactionTarget.POST, postId, userId)).willReturn(null);
+		given(reactionRepository.insert(ReactionTarget.POST, postId, userId, ReactionType.LIKE)).willReturn(true);
+		given(reactionCountRepository.findCounts(ReactionTarget.POST, postId)).willReturn(stored);
+		given(reactionCounter.pending(any(ReactionKey.class))).willAnswer((invocation) -> {
+			ReactionKey key = invocation.getArgument(0);
+			
+			return key.getType() == ReactionType.LIKE ? 1L : 0L;
+		});
+
+		response = reactionServiceImpl.reactToPost(postId, reaction, userDetailsImpl);
+
+		assertEquals(ReactionType.LIKE, response.getType());
+		assertEquals(11L, response.getCounts().get(ReactionType.LIKE));
+		assertEquals(0L, response.getCounts().get(ReactionType.SAD));
+
+		then(reactionCounter).should(times(1)).add(new ReactionKey(ReactionTarget.POST, postId, ReactionType.LIKE), 1);
+	}
+
+	@DisplayName("같은 종류로 다시 반응하면 개수를 바꾸지 않는다.")
+	@Test
+	public void givenSameReaction_whenCallReactToPost_thenDoNothing() {
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(reactionRepository.findType(ReactionTarget.POST, postId, userId)).willReturn(ReactionType.LIKE);
+		given(reactionCountRepository.findCounts(ReactionTarget.POST, postId)).willReturn(new EnumMap<ReactionType, Long>(ReactionType.class));
+
+		reactionServiceImpl.reactToPost(postId, reaction, userDetailsImpl);
+
+		then(reactionRepository).should(times(0)).insert(any(ReactionTarget.class), anyLong(), anyLong(), any(ReactionType.class));
+		then(reactionCounter).should(times(0)).add(any(ReactionKey.class), anyLong());
+	}
+
+	@DisplayName("다른 종류로 반응하면 이전 종류의 개수를 감소시키고 새 종류의 개수를 증가시킨다.")
+	@Test
+	public void givenOtherReaction_whenCallReactToComment_thenUpdateTypeAndMoveCount() {
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(commentRepository.existsByIdAndPostId(commentId, postId)).willReturn(true);
+		given(reactionRepository.findType(ReactionTarget.COMMENT, commentId, userId)).willReturn(ReactionType.SAD);
+		given(reactionRepository.updateType(ReactionTarget.COMMENT, commentId, userId, ReactionType.SAD, ReactionType.LIKE)).willReturn(true);
+		given(reactionCountRepository.findCounts(ReactionTarget.COMMENT, commentId)).willReturn(new EnumMap<ReactionType, Long>(ReactionType.class));
+
+		reactionServiceImpl.reactToComment(commentId, postId, reaction, userDetailsImpl);
+
+		then(reactionCounter).should(times(1)).add(new ReactionKey(ReactionTarget.COMMENT, commentId, ReactionType.SAD), -1);
+		then(reactionCounter).should(times(1)).add(new ReactionKey(ReactionTarget.COMMENT, commentId, ReactionType.LIKE), 1);
+	}
+
+	@DisplayName("동시 요청에 밀려 삽입에 실패하면 반응을 다시 읽고 재시도한다.")
+	@Test
+	public void givenConcurrentInsert_whenCallReactToPost_thenRetry() {
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(reactionRepository.findType(ReactionTarget.POST, postId, userId)).willReturn(null, ReactionType.SAD);
+		given(reactionRepository.insert(ReactionTarget.POST, postId, userId, ReactionType.LIKE)).willReturn(false);
+		given(reactionRepository.updateType(ReactionTarget.POST, postId, userId, ReactionType.SAD, ReactionType.LIKE)).willReturn(true);
+		given(reactionCountRepository.findCounts(ReactionTarget.POST, postId)).willReturn(new EnumMap<ReactionType, Long>(ReactionType.class));
+
+		reactionServiceImpl.reactToPost(postId, reaction, userDetailsImpl);
+
+		then(reactionCounter).should(times(1)).add(new ReactionKey(ReactionTarget.POST, postId, ReactionType.SAD), -1);
+		then(reactionCounter).should(times(1)).add(new ReactionKey(ReactionTarget.POST, postId, ReactionType.LIKE), 1);
+	}
+
+	@DisplayName("반응을 취소하면 반응을 삭제하고 개수를 1 감소시킨다.")
+	@Test
+	public void givenReaction_whenCallUnreactToPost_thenDeleteAndDecreaseCount() {
+		ReactionResponse response;
+
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(reactionRepository.findType(ReactionTarget.POST, postId, userId)).willReturn(ReactionType.LIKE);
+		given(reactionRepository.delete(ReactionTarget.POST, postId, userId, ReactionType.LIKE)).willReturn(true);
+		given(reactionCountRepository.findCounts(ReactionTarget.POST, postId)).willReturn(new EnumMap<ReactionType, Long>(ReactionType.class));
+
+		response = reactionServiceImpl.unreactToPost(postId, userDetailsImpl);
+
+		assertNull(response.getType());
+
+		then(reactionCounter).should(times(1)).add(new ReactionKey(ReactionTarget.POST, postId, ReactionType.LIKE), -1);
+	}
+
+	@DisplayName("반응 개수를 조회할 때 reaction 테이블을 읽지 않는다.")
+	@Test
+	public void givenPostId_whenCallFindByPostId_thenReadCountsOnly() {
+		Map<ReactionType, Long> stored;
+		ReactionResponse response;
+
+		stored = new EnumMap<ReactionType, Long>(ReactionType.class);
+		stored.put(ReactionType.LOVE, 5L);
+
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(reactionCountRepository.findCounts(ReactionTarget.POST, postId)).willReturn(stored);
+
+		response = reactionServiceImpl.findByPostId(postId);
+
+		assertEquals(5L, response.getCounts().get(ReactionType.LOVE));
+		assertEquals(ReactionType.values().length, response.getCounts().size());
+
+		then(reactionRepository).shouldHaveNoInteractions();
+	}
+
+	@DisplayName("포스트가 존재하지 않아 반응하는데 실패한다.")
+	@Test
+	public void givenNonExistentPost_whenCallReactToPost_thenThrowPostNotFoundException() {
+		given(postRepository.existsById(postId)).willReturn(false);
+
+		assertThrows(PostNotFoundException.class, () -> {
+			reactionServiceImpl.reactToPost(postId, reaction, userDetailsImpl);
+		});
+
+		then(reactionRepository).shouldHaveNoInteractions();
+	}
+
+	@DisplayName("댓글이 포스트에 속하지 않아 반응하는데 실패한다.")
+	@Test
+	public void givenCommentNotInPost_whenCallReactToComment_thenThrowCommentNotFoundException() {
+		given(postRepository.existsById(postId)).willReturn(true);
+		given(commentRepository.existsByIdAndPostId(commentId, postId)).willReturn(false);
+
+		assertThrows(CommentNotFoundException.class, () -> {
+			reactionServiceImpl.reactToComment(commentId, postId, reaction, userDetailsImpl);
+		});
+
+		then(reactionRepository).shouldHaveNoInteractions();
+	}
+}
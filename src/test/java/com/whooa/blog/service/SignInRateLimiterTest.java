@@ -0,0 +1,84 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.whooa.blog.user.limit.SignInRateLimiter;
+import com.whooa.blog.user.limit.TokenBucket;
+import com.whooa.blog.user.property.SignInLimitProperty;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SignInRateLimiterTest {
+	private SimpleMeterRegistry meterRegistry;
+	private SignInRateLimiter signInRateLimiter;
+
+	@BeforeEach
+	public void setUpEach() {
+		SignInLimitProperty signInLimitProperty;
+
+		signInLimitProperty = new SignInLimitProperty();
+		signInLimitProperty.setIpCapacity(3);
+		signInLimitProperty.setIpRefillInterval(60000);
+		signInLimitProperty.setEmailCapacity(2);
+		signInLimitProperty.setEmailRefillInterval(60000);
+
+		meterRegistry = new SimpleMeterRegistry();
+		signInRateLimiter = new SignInRateLimiter(signInLimitProperty, meterRegistry);
+	}
+
+	@DisplayName("버킷은 용량만큼 허용하고 보충 간격이 지나면 한 번 더 허용한다.")
+	@Test
+	public void givenEmptyBucket_whenCallTryAcquire_thenWaitForRefill() {
+		TokenBucket tokenBucket;
+
+		tokenBucket = new TokenBucket(2, 1000);
+
+		assertEquals(0, tokenBucket.tryAcquire(10000));
+		assertEquals(0, tokenBucket.tryAcquire(10000));
+		assertEquals(1000, tokenBucket.tryAcquire(10000));
+		assertEquals(500, tokenBucket.tryAcquire(10500));
+		assertEquals(0, tokenBucket.tryAcquire(11000));
+		assertEquals(1000, tokenBucket.tryAcquire(11000));
+	}
+
+	@DisplayName("현재 시각이 음수여도 새 버킷은 가득 찬 상태에서 시작한다.")
+	@Test
+	public void givenNegativeClock_whenCallTryAcquire_thenStartFull() {
+		TokenBucket tokenBucket;
+
+		tokenBucket = new TokenBucket(2, 1000);
+
+		assertEquals(0, tokenBucket.tryAcquire(-10000));
+		assertEquals(0, tokenBucket.tryAcquire(-10000));
+		assertEquals(1000, tokenBucket.tryAcquire(-10000));
+		assertEquals(0, tokenBucket.tryAcquire(-9000));
+		assertEquals(0, new TokenBucket(2, 1000).tryAcquire(Long.MIN_VALUE / 2));
+	}
+
+	@DisplayName("IP마다 제한을 넘은 시도를 거부하고 지표를 기록한다.")
+	@Test
+	public void givenTooManyAttempts_whenCallAcquireByIp_thenReject() {
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, signInRateLimiter.acquireByIp("127.0.0.1"));
+		}
+
+		assertTrue(signInRateLimiter.acquireByIp("127.0.0.1") > 0);
+		assertEquals(0, signInRateLimiter.acquireByIp("127.0.0.2"));
+		assertEquals(1, meterRegistry.get("user.sign-in.limited").tag("key", "ip").counter().count());
+		assertEquals(3, meterRegistry.get("user.sign-in.limit.capacity").tag("key", "ip").gauge().value());
+	}
+
+	@DisplayName("대소문자만 다른 이메일은 같은 버킷을 사용한다.")
+	@Test
+	public void givenSameEmailInDifferentCase_whenCallAcquireByEmail_thenShareBucket() {
+		assertEquals(0, signInRateLimiter.acquireByEmail("user1@user1.com"));
+		assertEquals(0, signInRateLimiter.acquireByEmail("USER1@user1.com"));
+
+		assertTrue(signInRateLimiter.acquireByEmail(" User1@User1.com ") > 0);
+		assertEquals(1, meterRegistry.get("user.sign-in.limited").tag("key", "email").counter().count());
+	}
+}
@@ -0,0 +1,135 @@
+package com.whooa.blog.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.user.cache.UserDetailsCache;
+import com.whooa.blog.user.entity.UserEntity;
+import com.whooa.blog.user.property.UserCacheProperty;
+import com.whooa.blog.user.type.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UserDetailsCacheTest {
+	private static final String EMAIL = "user1@user1.com";
+
+	private SimpleMeterRegistry meterRegistry;
+	private UserDetailsCache userDetailsCache;
+	private UserDetailsImpl userDetailsImpl;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	public void setUpEach() {
+		meterRegistry = new SimpleMeterRegistry();
+		userDetailsCache = new UserDetailsCache(new UserCacheProperty(), meterRegistry);
+		userDetailsImpl = new UserDetailsImpl(new UserEntity()
+						.email(EMAIL)
+						.name("사용자1")
+						.password("12345678Aa!@#$%")
+						.userRole(UserRole.USER));
+		loads = new AtomicInteger();
+	}
+
+	@DisplayName("캐시에 있는 인증 주체는 다시 조회하지 않고 적중 지표를 기록한다.")
+	@Test
+	public void givenCachedUser_whenCallGet_thenLoadOnce() {
+		userDetailsCache.get(EMAIL, this::load);
+		userDetailsCache.get(EMAIL, this::load);
+		userDetailsCache.get(EMAIL, this::load);
+
+		assertEquals(1, loads.get());
+		assertEquals(2, userDetailsCache.stats().hitCount());
+		assertEquals(1, meterRegistry.get("user.details.load").timer().count());
+		assertNotNull(meterRegistry.get("user.details.cache.saved").counter());
+	}
+
+	@DisplayName("평균 조회 시간이 줄어들어도 절약 시간 지표는 줄어들지 않는다.")
+	@Test
+	public void givenFasterReload_whenCallGet_thenNotDecreaseSaved() {
+		double saved;
+
+		userDetailsCache.get(EMAIL, () -> {
+			sleep();
+			return load();
+		});
+		userDetailsCache.get(EMAIL, this::load);
+		saved = meterRegistry.get("user.details.cache.saved").counter().count();
+
+		userDetailsCache.invalidate(EMAIL);
+		userDetailsCache.get(EMAIL, this::load);
+		userDetailsCache.get(EMAIL, this::load);
+
+		assertTrue(saved > 0);
+
+		assertTrue(meterRegistry.get("user.details.cache.saved").counter().count() >= saved);
+	}
+
+	@DisplayName("다른 사용자를 무효화해도 조회한 인증 주체는 캐시에 넣는다.")
+	@Test
+	public void givenOtherInvalidationDuringLoad_whenCallGet_thenCache() {
+		userDetailsCache.get(EMAIL, () -> {
+			userDetailsCache.invalidate("user2@user2.com");
+			return load();
+		});
+		userDetailsCache.get(EMAIL, this::load);
+
+		assertEquals(1, loads.get());
+	}
+
+	@DisplayName("무효화한 인증 주체는 다음 요청에서 다시 조회한다.")
+	@Test
+	public void givenInvalidatedUser_whenCallGet_thenReload() {
+		userDetailsCache.get(EMAIL, this::load);
+		userDetailsCache.invalidate(EMAIL);
+		userDetailsCache.get(EMAIL, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@DisplayName("조회하는 도중 무효화되면 조회한 인증 주체를 캐시에 넣지 않는다.")
+	@Test
+	public void givenInvalidationDuringLoad_whenCallGet_thenNotCache() {
+		userDetailsCache.get(EMAIL, () -> {
+			userDetailsCache.invalidate(EMAIL);
+			return load();
+		});
+		userDetailsCache.get(EMAIL, this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@DisplayName("사용자가 존재하지 않으면 예외를 전파하고 캐시에 넣지 않는다.")
+	@Test
+	public void givenNonExistentUser_whenCallGet_thenThrowUsernameNotFoundException() {
+		assertThrows(UsernameNotFoundException.class, () -> {
+			userDetailsCache.get(EMAIL, () -> {
+				throw new UsernameNotFoundException("이메일과 일치하는 사용자가 존재하지 않습니다.");
+			});
+		});
+
+		userDetailsCache.get(EMAIL, this::load);
+
+		assertEquals(1, loads.get());
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(10);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private UserDetailsImpl load() {
+		loads.incrementAndGet();
+		return userDetailsImpl;
+	}
+}
@@ -19,11 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.whooa.blog.common.security.UserDetailsImpl;
+import com.whooa.blog.common.security.jwt.JwtVersionTable;
+import com.whooa.blog.user.cache.UserDetailsCache;
 import com.whooa.blog.user.dto.UserDto.UserCreateRequest;
 import com.whooa.blog.user.dto.UserDto.UserResponse;
 import com.whooa.blog.user.entity.UserEntity;
 import com.whooa.blog.user.exception.DuplicateUserException;
 import com.whooa.blog.user.exception.UserNotFoundException;
+import com.whooa.blog.user.password.PasswordHasher;
 import com.whooa.blog.user.repository.UserRepository;
 import com.whooa.blog.user.service.impl.UserServiceImpl;
 import com.whooa.blog.user.type.UserRole;
@@ -33,6 +36,12 @@ import com.whooa.blog.user.type.UserRole;
 public class UserServiceTest {
 	@Mock
 	private UserRepository userRepository;
+	@Mock
+	private UserDetailsCache userDetailsCache;
+	@Mock
+	private JwtVersionTable jwtVersionTable;
+	@Mock
+	private PasswordHasher passwordHasher;
 
 	@InjectMocks
 	private UserServiceImpl userServiceImpl;
@@ -58,6 +67,7 @@ public class UserServiceTest {
 					.name(name)
 					.password(password)
 					.userRole(UserRole.USER);
+		userEntity1.setId(1L);
 		
 		userCreate = new UserCreateRequest()
 					.email(email)
@@ -80,6 +90,7 @@ public class UserServiceTest {
 
 		then(userRepository).should(times(1)).save(any(UserEntity.class));
 		then(userRepository).should(times(1)).existsByEmail(any(String.class));
+		then(passwordHasher).should(times(1)).encode(userCreate.getPassword());
 	}
 	
 	@DisplayName("사용자가 이미 존재하여 회원가입에 실패한다.")
@@ -115,9 +126,12 @@ public class UserServiceTest {
 		userServiceImpl.delete(userDetailsImpl);
 		
 		assertFalse(userEntity1.getActive());
+		assertEquals(1L, userEntity1.getTokenVersion());
 	
 		then(userRepository).should(times(1)).save(any(UserEntity.class));
 		then(userRepository).should(times(1)).findByIdAndActiveTrue(any(Long.class));
+		then(userDetailsCache).should(times(1)).invalidate(userEntity1.getEmail());
+		then(jwtVersionTable).should(times(1)).update(userEntity1.getId(), 1L);
 	}
 	
 	@DisplayName("사용자가 존재하지 않아 회원탈퇴에 실패한다.")
@@ -131,6 +145,8 @@ public class UserServiceTest {
 
 		then(userRepository).should(times(0)).save(any(UserEntity.class));
 		then(userRepository).should(times(1)).findByIdAndActiveTrue(any(Long.class));
+		then(userDetailsCache).shouldHaveNoInteractions();
+		then(jwtVersionTable).shouldHaveNoInteractions();
 	}
 		
 	@DisplayName("회원조회에 성공한다.")